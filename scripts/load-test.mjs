@@ -0,0 +1,118 @@
+#!/usr/bin/env node
+
+/**
+ * Load Test Script for Rocket Engine Backend
+ *
+ * Drives a fixed number of concurrent clients against read endpoints for a fixed
+ * duration and reports throughput, latency percentiles and 429 (backpressure) counts.
+ * Run it once per execution mode to compare platform and virtual threads:
+ *
+ *   SPRING_THREADS_VIRTUAL_ENABLED=false ./gradlew bootRun   # then: npm run loadtest:local
+ *   SPRING_THREADS_VIRTUAL_ENABLED=true  ./gradlew bootRun   # then: npm run loadtest:local
+ *
+ * Usage:
+ *   npm run loadtest                                  # Production URL
+ *   npm run loadtest -- --local                       # Use localhost:8080
+ *   npm run loadtest -- --local --concurrency=400 --duration=60
+ *   npm run loadtest -- --local --path=/api/engines   # Single endpoint
+ */
+
+const PROD_URL = 'https://rocket-engine-backend.onrender.com';
+const LOCAL_URL = 'http://localhost:8080';
+
+const DEFAULT_PATHS = [
+  '/api/engines',
+  '/api/countries',
+  '/api/missions',
+  '/api/launch-sites',
+  '/api/analytics/launches-per-year',
+  '/api/rankings',
+];
+
+function parseArgs() {
+  const args = process.argv.slice(2);
+  const option = (name, fallback) => {
+    const arg = args.find((a) => a.startsWith(`--${name}=`));
+    return arg ? arg.split('=').slice(1).join('=') : fallback;
+  };
+  const paths = args.filter((a) => a.startsWith('--path=')).map((a) => a.slice('--path='.length));
+
+  return {
+    baseUrl: args.includes('--local') ? LOCAL_URL : PROD_URL,
+    concurrency: parseInt(option('concurrency', '200'), 10),
+    durationSeconds: parseInt(option('duration', '30'), 10),
+    paths: paths.length > 0 ? paths : DEFAULT_PATHS,
+  };
+}
+
+function percentile(sorted, p) {
+  if (sorted.length === 0) return 0;
+  const index = Math.min(sorted.length - 1, Math.ceil((p / 100) * sorted.length) - 1);
+  return sorted[Math.max(0, index)];
+}
+
+async function worker(id, config, deadline, stats) {
+  let i = id;
+  while (Date.now() < deadline) {
+    const path = config.paths[i++ % config.paths.length];
+    const started = performance.now();
+    try {
+      const response = await fetch(`${config.baseUrl}${path}`);
+      await response.arrayBuffer();
+      const elapsed = performance.now() - started;
+
+      if (response.status === 429) {
+        stats.rejected++;
+        // Honour backpressure the way a well-behaved client would
+        const retryAfter = parseInt(response.headers.get('retry-after') || '1', 10);
+        await new Promise((resolve) => setTimeout(resolve, retryAfter * 1000));
+      } else if (response.ok) {
+        stats.ok++;
+        stats.latencies.push(elapsed);
+      } else {
+        stats.failed++;
+      }
+    } catch (error) {
+      stats.failed++;
+    }
+  }
+}
+
+async function runLoadTest() {
+  const config = parseArgs();
+
+  console.log('🔥 Rocket Engine Backend - Load Test');
+  console.log('━'.repeat(50));
+  console.log(`📡 Target:      ${config.baseUrl}`);
+  console.log(`👥 Concurrency: ${config.concurrency}`);
+  console.log(`⏱️  Duration:    ${config.durationSeconds}s`);
+  console.log(`🛣️  Endpoints:   ${config.paths.join(', ')}`);
+  console.log('');
+
+  const stats = { ok: 0, rejected: 0, failed: 0, latencies: [] };
+  const started = Date.now();
+  const deadline = started + config.durationSeconds * 1000;
+
+  await Promise.all(
+    Array.from({ length: config.concurrency }, (_, id) => worker(id, config, deadline, stats))
+  );
+
+  const seconds = (Date.now() - started) / 1000;
+  const sorted = stats.latencies.sort((a, b) => a - b);
+
+  console.log('📊 Results:');
+  console.log(`   ✅ Successful:   ${stats.ok} (${(stats.ok / seconds).toFixed(1)} req/s)`);
+  console.log(`   ⏳ Rejected 429: ${stats.rejected}`);
+  console.log(`   ❌ Failed:       ${stats.failed}`);
+  console.log(`   📈 Latency p50:  ${percentile(sorted, 50).toFixed(1)} ms`);
+  console.log(`   📈 Latency p95:  ${percentile(sorted, 95).toFixed(1)} ms`);
+  console.log(`   📈 Latency p99:  ${percentile(sorted, 99).toFixed(1)} ms`);
+  console.log('');
+  console.log('💡 Compare runs with spring.threads.virtual.enabled=true/false (Java 21+).');
+
+  if (stats.ok === 0) {
+    process.exit(1);
+  }
+}
+
+runLoadTest();
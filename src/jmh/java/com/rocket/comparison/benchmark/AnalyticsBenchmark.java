@@ -0,0 +1,55 @@
+package com.rocket.comparison.benchmark;
+
+import com.rocket.comparison.entity.Country;
+import com.rocket.comparison.entity.SpaceMission;
+import com.rocket.comparison.repository.*;
+import com.rocket.comparison.service.AnalyticsService;
+import com.rocket.comparison.service.MissionColumnStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Country/year aggregation in {@link AnalyticsService#getLaunchesPerYear()} over the
+ * {@link MissionColumnStore}. The store is loaded during setup, so only the grouping
+ * pass is measured.
+ */
+@State(Scope.Benchmark)
+public class AnalyticsBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private AnalyticsService analyticsService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int currentYear = LocalDate.now().getYear();
+        List<Country> countries = SyntheticData.countries(SyntheticData.COUNTRY_POOL_SIZE);
+        List<SpaceMission> missions = SyntheticData.missions(rows, countries, currentYear - 5, currentYear);
+        SpaceMissionRepository spaceMissionRepository = mock(SpaceMissionRepository.class);
+        when(spaceMissionRepository.findAnalyticsColumns()).thenReturn(SyntheticData.missionColumns(missions));
+
+        MissionColumnStore missionColumnStore = new MissionColumnStore(spaceMissionRepository, mock(CountryRepository.class));
+        analyticsService = new AnalyticsService(
+            mock(CountryRepository.class),
+            mock(EngineRepository.class),
+            mock(SatelliteRepository.class),
+            mock(LaunchSiteRepository.class),
+            spaceMissionRepository,
+            mock(SpaceMilestoneRepository.class),
+            mock(CapabilityScoreRepository.class),
+            missionColumnStore);
+        missionColumnStore.size();
+    }
+
+    @Benchmark
+    public Map<String, Object> getLaunchesPerYear() {
+        return analyticsService.getLaunchesPerYear();
+    }
+}
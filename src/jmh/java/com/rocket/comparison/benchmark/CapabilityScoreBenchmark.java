@@ -0,0 +1,75 @@
+package com.rocket.comparison.benchmark;
+
+import com.rocket.comparison.entity.Country;
+import com.rocket.comparison.entity.Engine;
+import com.rocket.comparison.repository.CapabilityScoreRepository;
+import com.rocket.comparison.repository.CountryRepository;
+import com.rocket.comparison.repository.EngineRepository;
+import com.rocket.comparison.service.CapabilityRankingService;
+import com.rocket.comparison.service.CapabilityScoreService;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link CapabilityScoreService#calculateAllScores()} over a whole country table. The bulk
+ * loads are stubbed with synthetic rows, so the measured work is the in-memory pass: engine
+ * grouping, the parallel per-category scoring and building the score rows. The mocks are
+ * stub-only so invocation recording does not dominate the loop.
+ */
+@State(Scope.Benchmark)
+public class CapabilityScoreBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    @Mock(stubOnly = true)
+    private CountryRepository countryRepository;
+
+    @Mock(stubOnly = true)
+    private EngineRepository engineRepository;
+
+    @Mock(stubOnly = true)
+    private CapabilityScoreRepository scoreRepository;
+
+    @Mock(stubOnly = true)
+    private CapabilityRankingService rankingService;
+
+    @Mock(stubOnly = true)
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private CapabilityScoreService capabilityScoreService;
+
+    private AutoCloseable mocks;
+    private List<Country> countries;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mocks = MockitoAnnotations.openMocks(this);
+
+        countries = SyntheticData.countries(rows);
+        List<Engine> engines = SyntheticData.engines(rows, countries);
+        when(countryRepository.findAll()).thenReturn(countries);
+        when(engineRepository.findAllWithCountry()).thenReturn(engines);
+        // No stored rows: every score is built fresh, the path of a first full recalculation
+        when(scoreRepository.findAll()).thenReturn(List.of());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        mocks.close();
+    }
+
+    @Benchmark
+    public double calculateAllScores() {
+        capabilityScoreService.calculateAllScores();
+        return countries.get(countries.size() - 1).getOverallCapabilityScore();
+    }
+}
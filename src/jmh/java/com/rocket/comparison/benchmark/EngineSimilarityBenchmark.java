@@ -0,0 +1,68 @@
+package com.rocket.comparison.benchmark;
+
+import com.rocket.comparison.entity.Engine;
+import com.rocket.comparison.repository.*;
+import com.rocket.comparison.service.ComparisonService;
+import com.rocket.comparison.service.EngineSimilarityIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Nearest-neighbour search over the engine catalog, both on the raw index and through
+ * {@link ComparisonService#findSimilarEngines}, plus the cost of rebuilding the index
+ * after a bulk invalidation.
+ */
+@State(Scope.Benchmark)
+public class EngineSimilarityBenchmark {
+
+    private static final int LIMIT = 10;
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private EngineSimilarityIndex index;
+    private ComparisonService comparisonService;
+    private long referenceId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Engine> engines = SyntheticData.engines(rows, SyntheticData.countries(SyntheticData.COUNTRY_POOL_SIZE));
+        EngineRepository engineRepository = mock(EngineRepository.class);
+        when(engineRepository.findAllWithCountry()).thenReturn(engines);
+
+        index = new EngineSimilarityIndex(engineRepository);
+        comparisonService = new ComparisonService(
+            mock(CountryRepository.class),
+            engineRepository,
+            mock(SatelliteRepository.class),
+            mock(LaunchSiteRepository.class),
+            mock(SpaceMissionRepository.class),
+            mock(SpaceMilestoneRepository.class),
+            index);
+        referenceId = engines.get(rows / 2).getId();
+
+        // Load outside the measurement so the search benchmarks only see the scan
+        index.size();
+    }
+
+    @Benchmark
+    public List<EngineSimilarityIndex.Neighbour> findNearest() {
+        return index.findNearest(referenceId, LIMIT);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> findSimilarEngines() {
+        return comparisonService.findSimilarEngines(referenceId, LIMIT);
+    }
+
+    @Benchmark
+    public int rebuildIndex() {
+        index.invalidate();
+        return index.size();
+    }
+}
@@ -0,0 +1,54 @@
+package com.rocket.comparison.benchmark;
+
+import com.rocket.comparison.api.dto.CountrySummaryDto;
+import com.rocket.comparison.api.dto.EngineSummaryDto;
+import com.rocket.comparison.api.dto.MissionSummaryDto;
+import com.rocket.comparison.api.mapper.CountryMapStructMapper;
+import com.rocket.comparison.api.mapper.EngineMapStructMapper;
+import com.rocket.comparison.entity.Country;
+import com.rocket.comparison.entity.Engine;
+import com.rocket.comparison.entity.SpaceMission;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+
+/**
+ * Entity-to-DTO list mapping through the generated MapStruct implementations.
+ */
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private final EngineMapStructMapper engineMapper = Mappers.getMapper(EngineMapStructMapper.class);
+    private final CountryMapStructMapper countryMapper = Mappers.getMapper(CountryMapStructMapper.class);
+
+    private List<Engine> engines;
+    private List<Country> countries;
+    private List<SpaceMission> missions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Country> countryPool = SyntheticData.countries(SyntheticData.COUNTRY_POOL_SIZE);
+        engines = SyntheticData.engines(rows, countryPool);
+        countries = SyntheticData.countries(rows);
+        missions = SyntheticData.missions(rows, countryPool, 1957, 2025);
+    }
+
+    @Benchmark
+    public List<EngineSummaryDto> engineSummaries() {
+        return engineMapper.toSummaryDtoList(engines);
+    }
+
+    @Benchmark
+    public List<CountrySummaryDto> countrySummaries() {
+        return countryMapper.toSummaryDtoList(countries);
+    }
+
+    @Benchmark
+    public List<MissionSummaryDto> missionSummaries() {
+        return countryMapper.toMissionSummaryDtoList(missions);
+    }
+}
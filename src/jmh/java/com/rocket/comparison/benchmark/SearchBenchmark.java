@@ -0,0 +1,116 @@
+package com.rocket.comparison.benchmark;
+
+import com.rocket.comparison.api.dto.SearchResultDto;
+import com.rocket.comparison.service.SearchService;
+import com.rocket.comparison.service.SearchService.SearchType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Unified search against a real PostgreSQL (Testcontainers) holding a synthetic satellite
+ * catalog, indexed by the V5 migration itself so the benchmark breaks if the service's
+ * expressions drift from the indexes.
+ *
+ * Latency percentiles need sample mode: {@code ./gradlew jmh -PjmhIncludes=Search -PjmhMode=sample}
+ * reports p0.99 per query shape. Requires Docker.
+ */
+@State(Scope.Benchmark)
+public class SearchBenchmark {
+
+    private static final int LIMIT = 20;
+    private static final Set<SearchType> SATELLITES = Set.of(SearchType.SATELLITE);
+
+    @Param({"100000", "1000000"})
+    public int rows;
+
+    private PostgreSQLContainer<?> postgres;
+    private SearchService searchService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+        postgres.start();
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+        // Only the columns search reads; Hibernate owns the real schema
+        jdbc.execute("CREATE TABLE satellites (id bigint PRIMARY KEY, name varchar(255), alternate_name varchar(255), "
+            + "norad_id varchar(255), cospar_id varchar(255), operator varchar(255), constellation varchar(255))");
+        jdbc.execute("CREATE TABLE space_missions (id bigint PRIMARY KEY, name varchar(255), mission_designation varchar(255), "
+            + "alternate_name varchar(255), crew_names varchar(255), commander varchar(255), operator varchar(255))");
+        jdbc.execute("CREATE TABLE launch_sites (id bigint PRIMARY KEY, name varchar(255), short_name varchar(255), "
+            + "alternate_name varchar(255), operator varchar(255), region varchar(255))");
+        jdbc.execute("CREATE TABLE engines (id bigint PRIMARY KEY, name varchar(255), family varchar(255), "
+            + "designer varchar(255), vehicle varchar(255), origin varchar(255))");
+
+        jdbc.update("""
+            INSERT INTO satellites
+            SELECT i,
+                   (ARRAY['Starlink','OneWeb','Iridium','Galileo','GPS IIF','Cosmos','Sentinel','Landsat','Intelsat','Beidou'])[1 + i % 10]
+                       || '-' || i,
+                   NULL,
+                   lpad(i::text, 5, '0'),
+                   (1957 + i % 68) || '-' || lpad((i % 999)::text, 3, '0') || 'A',
+                   (ARRAY['SpaceX','OneWeb','Iridium Communications','ESA','US Space Force','Roscosmos','Copernicus','NASA','Intelsat','CNSA'])[1 + i % 10],
+                   (ARRAY['Starlink','OneWeb','Iridium NEXT','Galileo','GPS','Cosmos','Sentinel','Landsat','Intelsat','Beidou'])[1 + i % 10]
+            FROM generate_series(1, ?) AS i
+            """, rows);
+
+        for (String statement : migration("db/migration/V5__add_search_indexes.sql")) {
+            jdbc.execute(statement);
+        }
+        jdbc.execute("ANALYZE");
+
+        searchService = new SearchService(new NamedParameterJdbcTemplate(dataSource));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        postgres.stop();
+    }
+
+    @Benchmark
+    public List<SearchResultDto> rankedSearch() {
+        return searchService.search("starlink 4521", SATELLITES, LIMIT);
+    }
+
+    @Benchmark
+    public List<SearchResultDto> misspelledSearch() {
+        return searchService.search("sentinle-77", SATELLITES, LIMIT);
+    }
+
+    @Benchmark
+    public List<SearchResultDto> typeAhead() {
+        return searchService.suggest("onew", SATELLITES, LIMIT);
+    }
+
+    @Benchmark
+    public List<SearchResultDto> allTypes() {
+        return searchService.search("galileo", Set.of(), LIMIT);
+    }
+
+    private static List<String> migration(String resource) throws IOException {
+        try (InputStream in = SearchBenchmark.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing migration " + resource);
+            }
+            String sql = new String(in.readAllBytes(), StandardCharsets.UTF_8).lines()
+                .filter(line -> !line.startsWith("--"))
+                .collect(Collectors.joining("\n"));
+            return Arrays.stream(sql.split(";")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.rocket.comparison.benchmark;
+
+import com.rocket.comparison.entity.Country;
+import com.rocket.comparison.entity.Engine;
+import com.rocket.comparison.entity.MissionStatus;
+import com.rocket.comparison.entity.MissionType;
+import com.rocket.comparison.entity.OrbitType;
+import com.rocket.comparison.entity.SatelliteStatus;
+import com.rocket.comparison.entity.SpaceMission;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic datasets for the benchmarks.
+ *
+ * Every generator is seeded, so two runs of the same benchmark see identical rows and
+ * results stay comparable across commits. Distributions are loosely shaped after the
+ * seeded catalog: a few dozen countries, a handful of propellants and power cycles,
+ * and thrust/mass spread over several orders of magnitude.
+ */
+final class SyntheticData {
+
+    static final int COUNTRY_POOL_SIZE = 40;
+
+    private static final long SEED = 20251017L;
+
+    private static final String[] PROPELLANTS = {
+        "RP-1 / LOX", "CH4 / LOX", "LH2 / LOX", "UDMH / N2O4", "Solid (HTPB/AP)", "Hydrazine"
+    };
+    private static final String[] POWER_CYCLES = {
+        "Gas generator", "Staged combustion", "Full-flow staged combustion", "Expander", "Pressure-fed", "Electric pump"
+    };
+    private static final String[] ENGINE_STATUSES = {"Active", "Development", "Retired"};
+
+    private static final MissionType[] MISSION_TYPES = MissionType.values();
+    private static final MissionStatus[] MISSION_STATUSES = MissionStatus.values();
+
+    private SyntheticData() {
+    }
+
+    static List<Country> countries(int count) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<Country> countries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Country country = new Country();
+            country.setId((long) i + 1);
+            country.setName("Country " + i);
+            country.setIsoCode(String.format("C%02d", i % 100));
+            country.setAnnualBudgetUsd(BigDecimal.valueOf(random.nextLong(10_000_000L, 30_000_000_000L)));
+            country.setTotalLaunches(random.nextInt(0, 2_500));
+            country.setLaunchSuccessRate(random.nextDouble(60, 100));
+            country.setActiveAstronauts(random.nextInt(0, 50));
+            country.setTotalSpaceAgencyEmployees(random.nextInt(100, 20_000));
+            country.setIndependentLaunchCapable(random.nextInt(3) > 0);
+            country.setHumanSpaceflightCapable(random.nextInt(4) == 0);
+            country.setReusableRocketCapable(random.nextInt(6) == 0);
+            country.setDeepSpaceCapable(random.nextInt(3) == 0);
+            country.setSpaceStationCapable(random.nextInt(5) == 0);
+            country.setLunarLandingCapable(random.nextInt(5) == 0);
+            country.setMarsLandingCapable(random.nextInt(8) == 0);
+            countries.add(country);
+        }
+        return countries;
+    }
+
+    static List<Engine> engines(int count, List<Country> countryPool) {
+        SplittableRandom random = new SplittableRandom(SEED + 1);
+        List<Engine> engines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Engine engine = new Engine();
+            engine.setId((long) i + 1);
+            engine.setName("Engine " + i);
+            engine.setDesigner("Designer " + (i % 250));
+            engine.setCountry(countryPool.get(random.nextInt(countryPool.size())));
+            engine.setPropellant(PROPELLANTS[random.nextInt(PROPELLANTS.length)]);
+            // Roughly one engine in ten has no published cycle
+            engine.setPowerCycle(random.nextInt(10) == 0 ? null : POWER_CYCLES[random.nextInt(POWER_CYCLES.length)]);
+            engine.setStatus(ENGINE_STATUSES[random.nextInt(ENGINE_STATUSES.length)]);
+            engine.setThrustN((long) Math.pow(10, random.nextDouble(2, 7.5)));
+            engine.setIsp_s(random.nextDouble(200, 460));
+            engine.setChamberPressureBar(random.nextInt(4) == 0 ? null : random.nextDouble(5, 350));
+            engine.setMassKg(Math.pow(10, random.nextDouble(0.5, 4)));
+            engine.setOfRatio(random.nextInt(5) == 0 ? null : random.nextDouble(1.5, 6.5));
+            engines.add(engine);
+        }
+        return engines;
+    }
+
+    static List<SpaceMission> missions(int count, List<Country> countryPool, int fromYear, int toYear) {
+        SplittableRandom random = new SplittableRandom(SEED + 2);
+        List<SpaceMission> missions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            SpaceMission mission = new SpaceMission();
+            mission.setId((long) i + 1);
+            mission.setName("Mission " + i);
+            // A small share of rows lack a country, as imported launches sometimes do
+            mission.setCountry(random.nextInt(50) == 0 ? null : countryPool.get(random.nextInt(countryPool.size())));
+            mission.setMissionType(MISSION_TYPES[random.nextInt(MISSION_TYPES.length)]);
+            mission.setStatus(MISSION_STATUSES[random.nextInt(MISSION_STATUSES.length)]);
+            mission.setLaunchDate(LocalDate.of(random.nextInt(fromYear, toYear + 1), random.nextInt(1, 13), random.nextInt(1, 29)));
+            mission.updateDerivedFields();
+            missions.add(mission);
+        }
+        return missions;
+    }
+
+    /** The rows {@code SpaceMissionRepository.findAnalyticsColumns()} would return for these missions. */
+    static List<Object[]> missionColumns(List<SpaceMission> missions) {
+        List<Object[]> rows = new ArrayList<>(missions.size());
+        for (SpaceMission mission : missions) {
+            Country country = mission.getCountry();
+            rows.add(new Object[] {
+                mission.getId(), mission.getLaunchYear(),
+                country != null ? country.getId() : null,
+                country != null ? country.getName() : null,
+                country != null ? country.getIsoCode() : null,
+                mission.getStatus(), mission.getMissionType(), mission.getDestination(),
+                mission.getCrewed(), mission.getIsHistoricFirst()
+            });
+        }
+        return rows;
+    }
+
+    /**
+     * Rows {@code SatelliteRepository.findOrbitColumns()} would return: dense LEO constellation
+     * shells, a GNSS belt, a GEO ring and a tail of elliptical orbits, like the public catalog.
+     */
+    static List<Object[]> satelliteOrbitColumns(int count) {
+        SplittableRandom random = new SplittableRandom(SEED + 3);
+        double[] constellationShells = {340, 550, 570, 1110, 1200, 1325};
+        double[] constellationInclinations = {53, 53, 70, 87.9, 87.9, 97.6};
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int kind = random.nextInt(100);
+            Double altitude = null;
+            Double perigee = null;
+            Double apogee = null;
+            double inclination;
+            OrbitType orbitType;
+            if (kind < 70) {
+                int shell = random.nextInt(constellationShells.length);
+                perigee = constellationShells[shell] + random.nextDouble(-5, 5);
+                apogee = perigee + random.nextDouble(0, 4);
+                inclination = constellationInclinations[shell] + random.nextDouble(-0.2, 0.2);
+                orbitType = OrbitType.LEO;
+            } else if (kind < 85) {
+                altitude = random.nextDouble(300, 2000);
+                inclination = random.nextDouble(0, 100);
+                orbitType = OrbitType.LEO;
+            } else if (kind < 90) {
+                altitude = random.nextDouble(19100, 23300);
+                inclination = random.nextDouble(55, 65);
+                orbitType = OrbitType.NAVIGATION_MEO;
+            } else if (kind < 97) {
+                perigee = random.nextDouble(35770, 35790);
+                apogee = perigee + random.nextDouble(0, 15);
+                inclination = random.nextDouble(0, 5);
+                orbitType = OrbitType.GEO;
+            } else {
+                perigee = random.nextDouble(250, 1000);
+                apogee = random.nextDouble(20000, 40000);
+                inclination = random.nextDouble(0, 65);
+                orbitType = OrbitType.HEO;
+            }
+            rows.add(new Object[] {
+                (long) i + 1, "Satellite " + i, String.valueOf(10000 + i), SatelliteStatus.OPERATIONAL, orbitType,
+                altitude, perigee, apogee, inclination, altitude != null ? random.nextDouble(0, 0.01) : null
+            });
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,67 @@
+package com.rocket.comparison.benchmark;
+
+import com.rocket.comparison.entity.Country;
+import com.rocket.comparison.entity.SpaceMission;
+import com.rocket.comparison.repository.*;
+import com.rocket.comparison.service.LaunchSiteSpatialIndex;
+import com.rocket.comparison.service.MissionColumnStore;
+import com.rocket.comparison.service.VisualizationService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * The year/country/type groupings in {@link VisualizationService#getMissionTimeline}
+ * over the full space-age range, plus a full reload of the {@link MissionColumnStore}
+ * as after a bulk sync.
+ */
+@State(Scope.Benchmark)
+public class VisualizationBenchmark {
+
+    private static final int FIRST_YEAR = 1957;
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private MissionColumnStore missionColumnStore;
+    private VisualizationService visualizationService;
+    private int lastYear;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        lastYear = LocalDate.now().getYear();
+        List<Country> countries = SyntheticData.countries(SyntheticData.COUNTRY_POOL_SIZE);
+        List<SpaceMission> missions = SyntheticData.missions(rows, countries, FIRST_YEAR, lastYear);
+        SpaceMissionRepository missionRepository = mock(SpaceMissionRepository.class);
+        when(missionRepository.findAnalyticsColumns()).thenReturn(SyntheticData.missionColumns(missions));
+
+        missionColumnStore = new MissionColumnStore(missionRepository, mock(CountryRepository.class));
+        visualizationService = new VisualizationService(
+            mock(CountryRepository.class),
+            mock(EngineRepository.class),
+            missionRepository,
+            mock(SpaceMilestoneRepository.class),
+            mock(SatelliteRepository.class),
+            mock(LaunchSiteRepository.class),
+            mock(CapabilityScoreRepository.class),
+            missionColumnStore,
+            mock(LaunchSiteSpatialIndex.class));
+        missionColumnStore.size();
+    }
+
+    @Benchmark
+    public Map<String, Object> getMissionTimeline() {
+        return visualizationService.getMissionTimeline(FIRST_YEAR, lastYear);
+    }
+
+    @Benchmark
+    public int rebuildStore() {
+        missionColumnStore.invalidate();
+        return missionColumnStore.size();
+    }
+}
@@ -0,0 +1,21 @@
+package com.rocket.comparison.api.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated list endpoint (BE-001).
+ * Pass {@code nextCursor} back as {@code ?cursor=} to fetch the following page;
+ * it is null on the last page.
+ */
+public record CursorPage<T>(
+    List<T> items,
+    int limit,
+    String nextCursor,
+    boolean hasNext
+) {
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(items.stream().<R>map(mapper).toList(), limit, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,15 @@
+package com.rocket.comparison.api.dto;
+
+import com.rocket.comparison.service.SearchService.SearchType;
+
+/**
+ * One hit of the unified search endpoint. {@code score} is only comparable between
+ * hits of the same response.
+ */
+public record SearchResultDto(
+    SearchType type,
+    Long id,
+    String name,
+    String subtitle,
+    double score
+) {}
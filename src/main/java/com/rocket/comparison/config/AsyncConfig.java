@@ -1,16 +1,25 @@
 package com.rocket.comparison.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * Async configuration for background tasks (Step 2.3)
  * Prevents sync operations from blocking HTTP request threads
+ *
+ * With {@code spring.threads.virtual.enabled=true} on Java 21+, Spring Boot serves requests
+ * on virtual threads and the sync executor below switches to virtual threads as well.
+ * Either way sync tasks are bounded and rejected with a {@code TaskRejectedException}
+ * (mapped to HTTP 429) once the limit is reached, instead of being dropped silently.
  */
 @Configuration
 @EnableAsync
@@ -22,7 +31,18 @@ public class AsyncConfig {
      * Separate from the HTTP request thread pool to prevent resource starvation.
      */
     @Bean(name = "syncTaskExecutor")
-    public Executor syncTaskExecutor() {
+    public Executor syncTaskExecutor(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            // Virtual threads are cheap; the concurrency limit is what protects the database
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("sync-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(4);
+            executor.setRejectTasksWhenLimitReached(true);
+            executor.setTaskTerminationTimeout(60_000);
+            log.info("Initialized virtual-thread sync task executor: concurrencyLimit={}", executor.getConcurrencyLimit());
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2);      // Minimum threads
         executor.setMaxPoolSize(4);       // Maximum threads
@@ -30,8 +50,7 @@ public class AsyncConfig {
         executor.setThreadNamePrefix("sync-");
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(60);
-        executor.setRejectedExecutionHandler((r, e) ->
-            log.warn("Sync task rejected - queue full. Consider increasing capacity."));
+        // Default AbortPolicy: callers get a TaskRejectedException and the API answers 429
         executor.initialize();
 
         log.info("Initialized sync task executor: core={}, max={}, queue={}",
@@ -39,4 +58,85 @@ public class AsyncConfig {
 
         return executor;
     }
+
+    /**
+     * Small pool that re-warms cache entries after they were invalidated by an entity write.
+     * Re-warms are best-effort: when the queue is full the task is dropped and the next
+     * read loads the entry instead.
+     */
+    @Bean(name = "cacheWarmExecutor")
+    public Executor cacheWarmExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("cache-warm-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Single worker for capability score recalculations triggered by entity writes.
+     * Requests are coalesced per country before they reach the queue; when the queue is
+     * full the recalculation is dropped and the next full recalculation catches up.
+     */
+    @Bean(name = "scoreRecalculationExecutor")
+    public Executor scoreRecalculationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("score-recalc-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Background revalidation of stale Truth Ledger fact snapshots. Revalidations are
+     * best-effort: when the queue is full the stale snapshot keeps being served and the
+     * next cache refresh tries again.
+     */
+    @Bean(name = "factRevalidationExecutor")
+    public Executor factRevalidationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("fact-revalidate-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Pool for concurrent TheSpaceDevs page downloads. Throughput is governed by the
+     * {@code spacedevs} rate limiter; the pool only needs enough threads to keep that
+     * budget busy while earlier pages are being written. When the queue is full the
+     * caller fetches the page itself.
+     */
+    @Bean(name = "spaceDevsFetchExecutor")
+    public Executor spaceDevsFetchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("spacedevs-fetch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Threads that write {@code StreamingResponseBody} responses (e.g. streaming exports),
+     * so long downloads do not occupy servlet request threads.
+     */
+    @Bean(name = "streamingTaskExecutor")
+    public ThreadPoolTaskExecutor streamingTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(20);
+        executor.setThreadNamePrefix("stream-");
+        executor.initialize();
+        return executor;
+    }
 }
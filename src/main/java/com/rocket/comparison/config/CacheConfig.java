@@ -1,38 +1,130 @@
 package com.rocket.comparison.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.CacheResolver;
+import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.concurrent.TimeUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Cache configuration using Caffeine (BE-055)
- * Provides in-memory caching for analytics and expensive queries
+ * Provides in-memory caching for analytics and expensive queries.
+ *
+ * Each cache gets its own size/weight, TTL and refresh-ahead policy from
+ * {@link CachePolicyProperties}. Statistics are recorded on every cache so that
+ * Actuator binds them to Micrometer ({@code cache.gets}, {@code cache.evictions},
+ * {@code cache.load.duration}, ...).
+ *
+ * Refreshes repeat the cached method call through the bean's proxy; the
+ * {@link RefreshAheadCacheResolver} installed below records those calls.
  */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CachePolicyProperties.class)
+@Slf4j
 public class CacheConfig {
 
     public static final String ANALYTICS_CACHE = "analytics";
     public static final String STATISTICS_CACHE = "statistics";
     public static final String RANKINGS_CACHE = "rankings";
+    public static final String ENGINE_FACTS_CACHE = "engineFacts";
+    public static final String ENGINE_FIELD_FACT_CACHE = "engineFieldFact";
+
+    public static final List<String> CACHE_NAMES = List.of(
+            ANALYTICS_CACHE,
+            STATISTICS_CACHE,
+            RANKINGS_CACHE,
+            ENGINE_FACTS_CACHE,
+            ENGINE_FIELD_FACT_CACHE
+    );
 
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .maximumSize(100)
-                .expireAfterWrite(5, TimeUnit.MINUTES)
-                .recordStats());
-        cacheManager.setCacheNames(java.util.List.of(
-                ANALYTICS_CACHE,
-                STATISTICS_CACHE,
-                RANKINGS_CACHE
-        ));
+    public CacheManager cacheManager(CachePolicyProperties properties, BeanFactory beanFactory) {
+        Function<Class<?>, Object> beans = beanFactory::getBean;
+
+        List<Cache> caches = new ArrayList<>();
+        for (String name : CACHE_NAMES) {
+            CachePolicyProperties.Policy policy = properties.policyFor(name);
+            caches.add(buildCache(name, policy, beans));
+            log.info("Configured cache '{}': maximumSize={}, maximumWeight={}, expireAfterWrite={}, refreshAfterWrite={}",
+                    name, policy.getMaximumSize(), policy.getMaximumWeight(),
+                    policy.getExpireAfterWrite(), policy.getRefreshAfterWrite());
+        }
+
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(caches);
         return cacheManager;
     }
+
+    @Bean
+    public CachingConfigurer refreshAheadCachingConfigurer(ObjectProvider<CacheManager> cacheManager) {
+        return new CachingConfigurer() {
+            @Override
+            public CacheResolver cacheResolver() {
+                return new RefreshAheadCacheResolver(cacheManager.getObject());
+            }
+        };
+    }
+
+    private RefreshAheadCaffeineCache buildCache(String name, CachePolicyProperties.Policy policy, Function<Class<?>, Object> beans) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+
+        if (policy.getMaximumWeight() != null) {
+            builder.maximumWeight(policy.getMaximumWeight())
+                    .weigher((key, value) -> weigh(value));
+        } else if (policy.getMaximumSize() != null) {
+            builder.maximumSize(policy.getMaximumSize());
+        }
+
+        if (policy.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(policy.getExpireAfterWrite());
+        }
+
+        if (policy.getRefreshAfterWrite() != null) {
+            if (policy.getExpireAfterWrite() != null
+                    && policy.getRefreshAfterWrite().compareTo(policy.getExpireAfterWrite()) >= 0) {
+                throw new IllegalStateException("Cache '" + name + "': refresh-after-write must be shorter than expire-after-write");
+            }
+            builder.refreshAfterWrite(policy.getRefreshAfterWrite());
+        }
+
+        Map<Object, RefreshAheadCaffeineCache.CachedInvocation> invocations = RefreshAheadCaffeineCache.newInvocationRegistry();
+        builder.evictionListener((key, value, cause) -> {
+            if (key != null) {
+                invocations.remove(key);
+            }
+        });
+
+        return new RefreshAheadCaffeineCache(name,
+                builder.build(new RefreshAheadCaffeineCache.InvocationReplayer(name, invocations, beans)),
+                invocations);
+    }
+
+    /**
+     * Approximate weight of a cached value: collections and maps weigh their size,
+     * everything else weighs one.
+     */
+    private static int weigh(Object value) {
+        if (value instanceof Collection<?> collection) {
+            return Math.max(1, collection.size());
+        }
+        if (value instanceof Map<?, ?> map) {
+            return Math.max(1, map.size());
+        }
+        return 1;
+    }
 }
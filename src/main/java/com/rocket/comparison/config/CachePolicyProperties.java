@@ -0,0 +1,51 @@
+package com.rocket.comparison.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-cache Caffeine policies, bound from {@code cache.policies.<cacheName>.*}.
+ * Any cache without an explicit entry falls back to {@link #defaults}.
+ *
+ * Example:
+ * <pre>
+ * cache.policies.analytics.maximum-size=50
+ * cache.policies.analytics.expire-after-write=15m
+ * cache.policies.analytics.refresh-after-write=4m
+ * </pre>
+ */
+@Data
+@ConfigurationProperties(prefix = "cache")
+public class CachePolicyProperties {
+
+    private Policy defaults = new Policy();
+
+    private Map<String, Policy> policies = new LinkedHashMap<>();
+
+    public Policy policyFor(String cacheName) {
+        return policies.getOrDefault(cacheName, defaults);
+    }
+
+    @Data
+    public static class Policy {
+
+        /** Maximum number of entries. Ignored when {@link #maximumWeight} is set. */
+        private Long maximumSize = 100L;
+
+        /** Maximum total weight, where a collection or map weighs its element count. */
+        private Long maximumWeight;
+
+        /** Hard expiry; entries older than this are never served. */
+        private Duration expireAfterWrite = Duration.ofMinutes(5);
+
+        /**
+         * Refresh-ahead interval. After this age the next read returns the cached value
+         * and reloads it asynchronously. Must be shorter than {@link #expireAfterWrite}.
+         */
+        private Duration refreshAfterWrite;
+    }
+}
@@ -0,0 +1,104 @@
+package com.rocket.comparison.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds the number of API requests processed at once.
+ *
+ * Nearly every API request needs a Hikari connection, so letting more requests in than
+ * the pool can serve only moves the queue into Hikari's 30s connection timeout; with
+ * virtual threads the number of waiting requests is effectively unbounded. Requests that
+ * cannot get a permit within {@code app.concurrency.acquire-timeout} are answered with
+ * HTTP 429 and a {@code Retry-After} header so clients back off instead of piling up.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final Semaphore permits;
+    private final int maxInFlight;
+    private final long acquireTimeoutMillis;
+    private final long retryAfterSeconds;
+    private final Counter rejections;
+
+    public ConcurrencyLimitFilter(@Value("${app.concurrency.enabled:true}") boolean enabled,
+                                  @Value("${app.concurrency.max-in-flight-requests:40}") int maxInFlight,
+                                  @Value("${app.concurrency.acquire-timeout:500ms}") Duration acquireTimeout,
+                                  @Value("${app.concurrency.retry-after:1s}") Duration retryAfter,
+                                  MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxInFlight = maxInFlight;
+        this.permits = new Semaphore(maxInFlight, true);
+        this.acquireTimeoutMillis = acquireTimeout.toMillis();
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+        this.rejections = Counter.builder("http.server.requests.rejected")
+            .description("API requests rejected with 429 because the concurrency limit was reached")
+            .register(meterRegistry);
+        Gauge.builder("http.server.requests.in.flight", permits, p -> maxInFlight - p.availablePermits())
+            .description("API requests currently holding a concurrency permit")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            rejections.increment();
+            log.debug("Rejecting {} {} - {} requests in flight", request.getMethod(), request.getRequestURI(), maxInFlight);
+            writeTooManyRequests(response);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void writeTooManyRequests(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"timestamp\":\"" + LocalDateTime.now() + "\",\"status\":429," +
+            "\"error\":\"Too Many Requests\",\"message\":\"Server is at capacity, retry after " +
+            retryAfterSeconds + "s\"}");
+    }
+}
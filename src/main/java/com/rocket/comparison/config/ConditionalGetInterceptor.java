@@ -0,0 +1,74 @@
+package com.rocket.comparison.config;
+
+import com.rocket.comparison.event.DataVersion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.List;
+
+/**
+ * Answers conditional GETs on read endpoints from the global {@link DataVersion}.
+ *
+ * Every GET/HEAD gets a strong {@code ETag}, {@code Last-Modified} and {@code Cache-Control: no-cache},
+ * so browsers revalidate each poll instead of trusting heuristic freshness. A matching
+ * {@code If-None-Match} (or {@code If-Modified-Since}) is answered with 304 before the
+ * handler runs, so no service code, cache lookup or serialization happens.
+ *
+ * Endpoints whose content changes without a local write (live Truth Ledger facts, sync
+ * status, timestamped exports) are listed in {@code app.etag.excluded-paths}.
+ */
+@Component
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private static final String NO_CACHE = CacheControl.noCache().getHeaderValue();
+
+    private final DataVersion dataVersion;
+    private final boolean enabled;
+    private final List<String> excludedPaths;
+    private final Counter notModified;
+
+    public ConditionalGetInterceptor(DataVersion dataVersion,
+                                     @Value("${app.etag.enabled:true}") boolean enabled,
+                                     @Value("${app.etag.excluded-paths:/api/engines/*/facts/**,/api/engines/*/conflicts,"
+                                         + "/api/engines/*/verified,/api/truth-ledger/**,/api/sync/**,/api/export/**}")
+                                     List<String> excludedPaths,
+                                     MeterRegistry meterRegistry) {
+        this.dataVersion = dataVersion;
+        this.enabled = enabled;
+        this.excludedPaths = List.copyOf(excludedPaths);
+        this.notModified = Counter.builder("http.server.requests.not.modified")
+            .description("Conditional API requests answered with 304 from the data version")
+            .register(meterRegistry);
+    }
+
+    public List<String> getExcludedPaths() {
+        return excludedPaths;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String method = request.getMethod();
+        if (!enabled || !(HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method))) {
+            return true;
+        }
+
+        if (!response.containsHeader(HttpHeaders.CACHE_CONTROL)) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, NO_CACHE);
+        }
+        // Sets ETag/Last-Modified on the response, and the 304 status when the client copy is current
+        if (new ServletWebRequest(request, response).checkNotModified(dataVersion.etag(), dataVersion.lastModifiedMillis())) {
+            notModified.increment();
+            return false;
+        }
+        return true;
+    }
+}
@@ -1,6 +1,7 @@
 package com.rocket.comparison.config;
 
-import com.rocket.comparison.config.seeder.*;
+import com.rocket.comparison.config.seeder.EntitySeeder;
+import com.rocket.comparison.config.seeder.SeedRunner;
 import com.rocket.comparison.integration.spacedevs.SpaceDevsSyncService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,14 +9,25 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 /**
  * Orchestrates database seeding on application startup.
  * Delegates to individual EntitySeeder implementations for each entity type.
  * Only seeds data when the database is empty.
+ *
+ * Seeders run as a dependency graph (see {@link EntitySeeder#dependsOn()}): countries first,
+ * then the independent seeders in parallel, each in its own transaction.
  */
 @Component
 @RequiredArgsConstructor
@@ -23,15 +35,9 @@ import java.util.Map;
 @Order(1)  // Run before other CommandLineRunners
 public class DataSeeder implements CommandLineRunner {
 
-    // Entity seeders (ordered by dependency)
-    private final CountrySeeder countrySeeder;
-    private final EngineSeeder engineSeeder;
-    private final LaunchVehicleSeeder launchVehicleSeeder;
-    private final SpaceMilestoneSeeder spaceMilestoneSeeder;
-    private final SpaceMissionSeeder spaceMissionSeeder;
-    private final SatelliteSeeder satelliteSeeder;
-    private final LaunchSiteSeeder launchSiteSeeder;
-    private final CapabilityScoreSeeder capabilityScoreSeeder;
+    // Entity seeders; execution order comes from their declared dependencies
+    private final List<EntitySeeder> seeders;
+    private final PlatformTransactionManager transactionManager;
 
     // External API sync
     private final SpaceDevsSyncService spaceDevsSyncService;
@@ -46,32 +52,33 @@ public class DataSeeder implements CommandLineRunner {
     @Value("${sync.external.sites-limit:100}")
     private int sitesLimit;
 
+    // Seeders running at once; each holds one connection for its transaction
+    @Value("${app.seed.parallelism:4}")
+    private int parallelism;
+
     @Override
-    @Transactional
     public void run(String... args) {
         log.info("Checking database for missing seed data...");
+        long start = System.nanoTime();
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, parallelism), seedThreadFactory());
+        Map<String, Duration> timings;
+        try {
+            timings = new SeedRunner(seeders, executor)
+                .run(seeder -> transaction.executeWithoutResult(status -> seeder.seedIfEmpty()));
+        } finally {
+            executor.shutdown();
+        }
 
-        // Seed each entity type independently if missing
-        // Countries must be seeded first as other entities depend on them
-        countrySeeder.seedIfEmpty();
-        engineSeeder.seedIfEmpty();
-        launchVehicleSeeder.seedIfEmpty();
-        spaceMilestoneSeeder.seedIfEmpty();
-        spaceMissionSeeder.seedIfEmpty();
-        satelliteSeeder.seedIfEmpty();
-        launchSiteSeeder.seedIfEmpty();
-        capabilityScoreSeeder.seedIfEmpty();
-
-        log.info("Database check completed!");
-        log.info("Current counts: {} countries, {} engines, {} launch vehicles, {} milestones, {} missions, {} satellites, {} launch sites",
-            countrySeeder.count(),
-            engineSeeder.count(),
-            launchVehicleSeeder.count(),
-            spaceMilestoneSeeder.count(),
-            spaceMissionSeeder.count(),
-            satelliteSeeder.count(),
-            launchSiteSeeder.count()
-        );
+        log.info("Database check completed in {} ms (per seeder: {})",
+            Duration.ofNanos(System.nanoTime() - start).toMillis(),
+            timings.entrySet().stream()
+                .map(timing -> timing.getKey() + "=" + timing.getValue().toMillis() + "ms")
+                .collect(Collectors.joining(", ")));
+        log.info("Current counts: {}", seeders.stream()
+            .map(seeder -> seeder.count() + " " + seeder.getEntityName())
+            .collect(Collectors.joining(", ")));
 
         // Sync real data from TheSpaceDevs API after seeding
         syncFromExternalApi();
@@ -129,4 +136,13 @@ public class DataSeeder implements CommandLineRunner {
         }
         return 0;
     }
+
+    private static ThreadFactory seedThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "seed-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
 }
@@ -0,0 +1,111 @@
+package com.rocket.comparison.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import jakarta.persistence.Entity;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.collection.spi.AbstractPersistentCollection;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Guards JSON serialization of JPA entities with open-in-view disabled.
+ *
+ * Responses are written after the service transaction has closed, so an association
+ * the read path did not fetch can no longer be loaded. Instead of surfacing as a
+ * LazyInitializationException halfway through the response, it is handled by mode:
+ * FAIL names the entity property so a missing fetch plan shows up in development and
+ * tests, OMIT writes null and logs the property once.
+ */
+@Configuration
+@Slf4j
+public class LazyAssociationGuardConfig {
+
+    public enum Mode {
+        FAIL,
+        OMIT
+    }
+
+    @Bean
+    public Module lazyAssociationGuardModule(@Value("${app.jpa.unloaded-associations:FAIL}") Mode mode) {
+        SimpleModule module = new SimpleModule("LazyAssociationGuard");
+        module.setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc,
+                                                             List<BeanPropertyWriter> properties) {
+                if (!beanDesc.getBeanClass().isAnnotationPresent(Entity.class)) {
+                    return properties;
+                }
+                return properties.stream()
+                    .map(writer -> (BeanPropertyWriter) new GuardedPropertyWriter(writer, mode))
+                    .toList();
+            }
+        });
+        return module;
+    }
+
+    /**
+     * True for a lazy proxy or collection that was never loaded and whose session is gone.
+     */
+    static boolean isUnloadable(Object value) {
+        if (value instanceof HibernateProxy proxy) {
+            LazyInitializer initializer = proxy.getHibernateLazyInitializer();
+            return initializer.isUninitialized() && !isOpen(initializer.getSession());
+        }
+        if (value instanceof AbstractPersistentCollection<?> collection) {
+            return !collection.wasInitialized() && !isOpen(collection.getSession());
+        }
+        return false;
+    }
+
+    private static boolean isOpen(SharedSessionContractImplementor session) {
+        return session != null && session.isOpen() && session.isConnected();
+    }
+
+    static final class GuardedPropertyWriter extends BeanPropertyWriter {
+
+        private static final Set<String> reported = ConcurrentHashMap.newKeySet();
+
+        private final Mode mode;
+
+        GuardedPropertyWriter(BeanPropertyWriter base, Mode mode) {
+            super(base);
+            this.mode = mode;
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+            Object value = get(bean);
+            if (value == null || !isUnloadable(value)) {
+                super.serializeAsField(bean, gen, prov);
+                return;
+            }
+
+            String property = bean.getClass().getSimpleName() + "." + getName();
+            if (mode == Mode.FAIL) {
+                throw JsonMappingException.from(prov,
+                    "Association " + property + " was not fetched by the read path; add it to the query's entity graph");
+            }
+            if (reported.add(property)) {
+                log.warn("Association {} was not fetched by the read path and is serialized as null", property);
+            }
+            gen.writeFieldName(_name);
+            gen.writeNull();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.rocket.comparison.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-downstream HTTP client pools and timeouts, bound from {@code app.http-clients.clients.<name>.*}.
+ * Any client without an explicit entry falls back to {@link #defaults}.
+ *
+ * Example:
+ * <pre>
+ * app.http-clients.clients.truthledger.max-connections=10
+ * app.http-clients.clients.truthledger.response-timeout=5s
+ * </pre>
+ */
+@Data
+@ConfigurationProperties(prefix = "app.http-clients")
+public class OutboundHttpProperties {
+
+    private Client defaults = new Client();
+
+    private Map<String, Client> clients = new LinkedHashMap<>();
+
+    public Client clientFor(String name) {
+        return clients.getOrDefault(name, defaults);
+    }
+
+    @Data
+    public static class Client {
+
+        /** Pooled connections across all routes. */
+        private int maxConnections = 20;
+
+        /** Pooled connections to one host; keep at or above the downstream's bulkhead. */
+        private int maxConnectionsPerRoute = 10;
+
+        private Duration connectTimeout = Duration.ofSeconds(5);
+
+        /** Maximum wait for response data (socket timeout). */
+        private Duration responseTimeout = Duration.ofSeconds(30);
+
+        /** Maximum wait for a free pooled connection before the call fails. */
+        private Duration connectionRequestTimeout = Duration.ofSeconds(2);
+
+        /** Connections idle for longer are closed in the background. */
+        private Duration idleTimeout = Duration.ofSeconds(30);
+
+        /** Connections are not reused after this age, so DNS and load balancer changes are picked up. */
+        private Duration timeToLive = Duration.ofMinutes(5);
+
+        /** Idle time after which a pooled connection is checked before it is reused. */
+        private Duration validateAfterInactivity = Duration.ofSeconds(2);
+    }
+}
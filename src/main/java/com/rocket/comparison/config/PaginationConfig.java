@@ -6,11 +6,18 @@ import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 
 /**
  * Global pagination configuration (BE-001)
  * Enforces consistent pagination limits across all endpoints
+ *
+ * Offset pages ({@code ?page=&size=}) are resolved by Spring Data; keyset pages
+ * ({@code ?cursor=&limit=}) share the limits and the cursor format defined here.
  */
 @Configuration
 public class PaginationConfig implements WebMvcConfigurer {
@@ -25,4 +32,48 @@ public class PaginationConfig implements WebMvcConfigurer {
         resolver.setMaxPageSize(MAX_PAGE_SIZE);
         resolvers.add(resolver);
     }
+
+    /**
+     * Page size for keyset endpoints: defaults to {@link #DEFAULT_PAGE_SIZE} and is
+     * clamped to {@link #MAX_PAGE_SIZE}.
+     */
+    public static int resolveLimit(Integer limit) {
+        if (limit == null || limit < 1) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Keyset position after the last row of a page: the row's sort date (null when the
+     * list is keyed by id only, or the row has no date) and its id. Clients only see the
+     * opaque URL-safe encoding.
+     */
+    public record Cursor(LocalDate date, long id) {
+
+        private static final char SEPARATOR = '|';
+
+        public String encode() {
+            String raw = (date != null ? date.toString() : "") + SEPARATOR + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Decodes a cursor token; a null or blank token means "first page" and yields null.
+         */
+        public static Cursor decode(String token) {
+            if (token == null || token.isBlank()) {
+                return null;
+            }
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf(SEPARATOR);
+                String datePart = raw.substring(0, separator);
+                return new Cursor(datePart.isEmpty() ? null : LocalDate.parse(datePart),
+                    Long.parseLong(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+        }
+    }
 }
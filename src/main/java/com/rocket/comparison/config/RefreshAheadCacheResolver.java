@@ -0,0 +1,36 @@
+package com.rocket.comparison.config;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.CacheOperationInvocationContext;
+import org.springframework.cache.interceptor.CacheableOperation;
+import org.springframework.cache.interceptor.SimpleCacheResolver;
+
+import java.util.Collection;
+
+/**
+ * Resolves caches by name like {@link SimpleCacheResolver}, but gives {@code @Cacheable}
+ * calls a view of each {@link RefreshAheadCaffeineCache} bound to the intercepted call,
+ * so the cache can repeat it through the bean's proxy when the entry is refreshed.
+ */
+public class RefreshAheadCacheResolver extends SimpleCacheResolver {
+
+    public RefreshAheadCacheResolver(CacheManager cacheManager) {
+        super(cacheManager);
+    }
+
+    @Override
+    public Collection<? extends Cache> resolveCaches(CacheOperationInvocationContext<?> context) {
+        Collection<? extends Cache> caches = super.resolveCaches(context);
+        if (!(context.getOperation() instanceof CacheableOperation)) {
+            return caches;
+        }
+
+        RefreshAheadCaffeineCache.CachedInvocation invocation = new RefreshAheadCaffeineCache.CachedInvocation(
+            AopUtils.getTargetClass(context.getTarget()), context.getMethod(), context.getArgs());
+        return caches.stream()
+            .map(cache -> cache instanceof RefreshAheadCaffeineCache refreshable ? refreshable.forInvocation(invocation) : cache)
+            .toList();
+    }
+}
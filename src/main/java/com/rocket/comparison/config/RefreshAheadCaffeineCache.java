@@ -0,0 +1,315 @@
+package com.rocket.comparison.config;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.NullValue;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Caffeine-backed Spring cache that supports {@code refreshAfterWrite} for
+ * {@code @Cacheable(sync = true)} methods.
+ *
+ * Caffeine can only refresh an entry if it knows how to recompute it from the key, which
+ * Spring's annotation-driven caches do not provide. {@link RefreshAheadCacheResolver} hands
+ * each cached call a view of this cache bound to the intercepted {@link CachedInvocation};
+ * the view remembers it per key, and {@link InvocationReplayer} repeats the call through the
+ * bean's proxy when Caffeine schedules an asynchronous reload, or when an entry is invalidated
+ * and re-warmed via {@link #rewarm(Object)}. The repeated call runs the bean's whole
+ * interceptor chain (transactions included) like any other caller; when it reaches this cache
+ * again the value is computed directly instead of through Caffeine.
+ * Entries written through plain {@code put} have no invocation and simply age out.
+ *
+ * Hits and misses on the calling thread are added to the current {@link RequestWorkload}.
+ */
+@Slf4j
+public class RefreshAheadCaffeineCache extends CaffeineCache {
+
+    /** A cached method call: the bean it was made on, and enough to repeat it through the bean's proxy. */
+    public record CachedInvocation(Class<?> beanType, Method method, Object[] args) {}
+
+    // Refresh running on this thread; its repeated call computes the value without going through Caffeine
+    private static final ThreadLocal<Refresh> REFRESHING = new ThreadLocal<>();
+
+    private final LoadingCache<Object, Object> loadingCache;
+    private final Map<Object, CachedInvocation> invocations;
+
+    public RefreshAheadCaffeineCache(String name,
+                                     LoadingCache<Object, Object> cache,
+                                     Map<Object, CachedInvocation> invocations) {
+        super(name, cache, true);
+        this.loadingCache = cache;
+        this.invocations = invocations;
+    }
+
+    /**
+     * View of this cache for one intercepted call; loading a key through it makes the entry refreshable.
+     */
+    public Cache forInvocation(CachedInvocation invocation) {
+        return new InvocationBoundCache(invocation);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Refresh refresh = REFRESHING.get();
+        if (refresh != null && refresh.isFor(getName(), key)) {
+            return refresh.compute(valueLoader);
+        }
+
+        boolean[] loaded = new boolean[1];
+        T value = super.get(key, () -> {
+            loaded[0] = true;
+            return valueLoader.call();
+        });
+        if (loaded[0]) {
+            RequestWorkload.cacheMiss();
+        } else {
+            RequestWorkload.cacheHit();
+        }
+        return value;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = super.lookup(key);
+        if (value != null) {
+            RequestWorkload.cacheHit();
+        } else {
+            RequestWorkload.cacheMiss();
+        }
+        return value;
+    }
+
+    @Override
+    public void evict(Object key) {
+        invocations.remove(key);
+        super.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        invocations.remove(key);
+        return super.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        invocations.clear();
+        super.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        invocations.clear();
+        return super.invalidate();
+    }
+
+    /**
+     * Evicts a single key but keeps its remembered invocation, so the entry can be
+     * recomputed afterwards with {@link #rewarm(Object)}.
+     *
+     * @return true if an invocation is known for the key
+     */
+    public boolean evictForRewarm(Object key) {
+        boolean rewarmable = invocations.containsKey(key);
+        loadingCache.invalidate(key);
+        return rewarmable;
+    }
+
+    /**
+     * Recomputes an entry from its remembered invocation. Readers arriving meanwhile
+     * wait on this load instead of starting their own.
+     */
+    public void rewarm(Object key) {
+        if (!invocations.containsKey(key)) {
+            return;
+        }
+        try {
+            loadingCache.get(key);
+        } catch (RuntimeException e) {
+            log.warn("Failed to re-warm cache entry {}::{}: {}", getName(), key, e.getMessage());
+        }
+    }
+
+    static Map<Object, CachedInvocation> newInvocationRegistry() {
+        return new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Value computed by the repeated call of one refresh.
+     */
+    private static final class Refresh {
+
+        private final String cacheName;
+        private final Object key;
+        private Object value;
+        private boolean computed;
+
+        private Refresh(String cacheName, Object key) {
+            this.cacheName = cacheName;
+            this.key = key;
+        }
+
+        private boolean isFor(String cacheName, Object key) {
+            return this.cacheName.equals(cacheName) && this.key.equals(key);
+        }
+
+        private <T> T compute(Callable<T> valueLoader) {
+            try {
+                T loaded = valueLoader.call();
+                value = loaded;
+                computed = true;
+                return loaded;
+            } catch (Exception e) {
+                throw new Cache.ValueRetrievalException(key, valueLoader, e);
+            }
+        }
+    }
+
+    /**
+     * Caffeine loader that repeats the remembered invocation on the bean's proxy, so refreshed
+     * methods run through the same interceptors as on a request thread. Keys without a
+     * remembered invocation keep their current value until hard expiry.
+     */
+    static class InvocationReplayer implements CacheLoader<Object, Object> {
+
+        private final String cacheName;
+        private final Map<Object, CachedInvocation> invocations;
+        private final Function<Class<?>, Object> beans;
+
+        InvocationReplayer(String cacheName,
+                           Map<Object, CachedInvocation> invocations,
+                           Function<Class<?>, Object> beans) {
+            this.cacheName = cacheName;
+            this.invocations = invocations;
+            this.beans = beans;
+        }
+
+        @Override
+        public Object load(Object key) {
+            CachedInvocation invocation = invocations.get(key);
+            return invocation != null ? replay(key, invocation) : null;
+        }
+
+        @Override
+        public Object reload(Object key, Object oldValue) {
+            CachedInvocation invocation = invocations.get(key);
+            if (invocation == null) {
+                return oldValue;
+            }
+            log.debug("Refreshing cache entry {}::{}", cacheName, key);
+            return replay(key, invocation);
+        }
+
+        private Object replay(Object key, CachedInvocation invocation) {
+            Refresh refresh = new Refresh(cacheName, key);
+            Refresh outer = REFRESHING.get();
+            REFRESHING.set(refresh);
+            try {
+                AopUtils.invokeJoinpointUsingReflection(
+                    beans.apply(invocation.beanType()), invocation.method(), invocation.args());
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to refresh cache entry " + cacheName + "::" + key, e);
+            } finally {
+                if (outer != null) {
+                    REFRESHING.set(outer);
+                } else {
+                    REFRESHING.remove();
+                }
+            }
+            if (!refresh.computed) {
+                throw new IllegalStateException("Refresh of cache entry " + cacheName + "::" + key
+                    + " did not reach the cache; is " + invocation.method() + " still cached?");
+            }
+            return refresh.value != null ? refresh.value : NullValue.INSTANCE;
+        }
+    }
+
+    /**
+     * This cache as seen by one intercepted call: loads remember the call for later refreshes.
+     */
+    private final class InvocationBoundCache implements Cache {
+
+        private final CachedInvocation invocation;
+
+        private InvocationBoundCache(CachedInvocation invocation) {
+            this.invocation = invocation;
+        }
+
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            invocations.put(key, invocation);
+            return RefreshAheadCaffeineCache.this.get(key, valueLoader);
+        }
+
+        @Override
+        public String getName() {
+            return RefreshAheadCaffeineCache.this.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return RefreshAheadCaffeineCache.this.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            return RefreshAheadCaffeineCache.this.get(key);
+        }
+
+        @Override
+        public <T> T get(Object key, Class<T> type) {
+            return RefreshAheadCaffeineCache.this.get(key, type);
+        }
+
+        @Override
+        public CompletableFuture<?> retrieve(Object key) {
+            return RefreshAheadCaffeineCache.this.retrieve(key);
+        }
+
+        @Override
+        public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+            return RefreshAheadCaffeineCache.this.retrieve(key, valueLoader);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            RefreshAheadCaffeineCache.this.put(key, value);
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            return RefreshAheadCaffeineCache.this.putIfAbsent(key, value);
+        }
+
+        @Override
+        public void evict(Object key) {
+            RefreshAheadCaffeineCache.this.evict(key);
+        }
+
+        @Override
+        public boolean evictIfPresent(Object key) {
+            return RefreshAheadCaffeineCache.this.evictIfPresent(key);
+        }
+
+        @Override
+        public void clear() {
+            RefreshAheadCaffeineCache.this.clear();
+        }
+
+        @Override
+        public boolean invalidate() {
+            return RefreshAheadCaffeineCache.this.invalidate();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.rocket.comparison.config;
+
+/**
+ * Per-request tally of database and cache work, kept in a thread local.
+ *
+ * {@link RequestWorkloadFilter} opens a tally for each API request; the Hibernate hooks in
+ * {@link RequestWorkloadConfig} and {@link RefreshAheadCaffeineCache} add to it. Work done on
+ * other threads (async executors, streaming responses, cache refreshes) is not attributed to
+ * the request, and recording outside a request is a no-op.
+ */
+public final class RequestWorkload {
+
+    public record Snapshot(int statements, int entityLoads, int cacheHits, int cacheMisses) {}
+
+    private static final ThreadLocal<int[]> CURRENT = new ThreadLocal<>();
+
+    private static final int STATEMENTS = 0;
+    private static final int ENTITY_LOADS = 1;
+    private static final int CACHE_HITS = 2;
+    private static final int CACHE_MISSES = 3;
+
+    private RequestWorkload() {
+    }
+
+    static void begin() {
+        CURRENT.set(new int[4]);
+    }
+
+    /**
+     * Closes the current tally and returns it; null if none was open.
+     */
+    static Snapshot end() {
+        int[] counts = CURRENT.get();
+        CURRENT.remove();
+        return counts != null ? toSnapshot(counts) : null;
+    }
+
+    /**
+     * The tally so far, or null outside a request.
+     */
+    public static Snapshot current() {
+        int[] counts = CURRENT.get();
+        return counts != null ? toSnapshot(counts) : null;
+    }
+
+    static void statementPrepared() {
+        increment(STATEMENTS);
+    }
+
+    static void entityLoaded() {
+        increment(ENTITY_LOADS);
+    }
+
+    static void cacheHit() {
+        increment(CACHE_HITS);
+    }
+
+    static void cacheMiss() {
+        increment(CACHE_MISSES);
+    }
+
+    private static void increment(int counter) {
+        int[] counts = CURRENT.get();
+        if (counts != null) {
+            counts[counter]++;
+        }
+    }
+
+    private static Snapshot toSnapshot(int[] counts) {
+        return new Snapshot(counts[STATEMENTS], counts[ENTITY_LOADS], counts[CACHE_HITS], counts[CACHE_MISSES]);
+    }
+}
@@ -0,0 +1,41 @@
+package com.rocket.comparison.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate hooks feeding {@link RequestWorkload}: a statement inspector that sees every
+ * SQL statement Hibernate prepares, and a post-load listener that sees every entity it
+ * materializes (including lazy associations initialized later in the request).
+ */
+@Configuration
+@EnableConfigurationProperties(RequestWorkloadProperties.class)
+public class RequestWorkloadConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer requestWorkloadStatementInspector() {
+        StatementInspector inspector = sql -> {
+            RequestWorkload.statementPrepared();
+            return sql;
+        };
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+
+    @Bean
+    public SmartInitializingSingleton requestWorkloadEntityLoadListener(EntityManagerFactory entityManagerFactory) {
+        return () -> entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class)
+            .appendListeners(EventType.POST_LOAD, (PostLoadEventListener) event -> RequestWorkload.entityLoaded());
+    }
+}
@@ -0,0 +1,140 @@
+package com.rocket.comparison.config;
+
+import com.rocket.comparison.config.RequestWorkload.Snapshot;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements, entity loads and cache lookups of each API request and
+ * publishes them per handler as percentile histograms:
+ * {@code http.server.requests.jdbc.statements}, {@code http.server.requests.entity.loads}
+ * and {@code http.server.requests.cache.gets} (tag {@code result=hit|miss}).
+ *
+ * Requests over the statement or entity-load threshold are logged with their handler, which
+ * is how N+1 access patterns show up. With {@code app.request-workload.enforce=true} a request
+ * over its statement budget fails instead, so integration tests can pin query counts. Enforcing
+ * buffers each response body until the check has run, because controllers write their body
+ * before the filter regains control; an overrun discards the buffer before anything is sent.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@Slf4j
+public class RequestWorkloadFilter extends OncePerRequestFilter {
+
+    private final RequestWorkloadProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public RequestWorkloadFilter(RequestWorkloadProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        // Streaming responses finish on an async dispatch, which is where a buffered body is released
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (isAsyncDispatch(request)) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                ContentCachingResponseWrapper buffered =
+                    WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+                if (buffered != null && !request.isAsyncStarted()) {
+                    buffered.copyBodyToResponse();
+                }
+            }
+            return;
+        }
+
+        ContentCachingResponseWrapper buffered = properties.isEnforce() ? new ContentCachingResponseWrapper(response) : null;
+        RequestWorkload.begin();
+        Snapshot workload;
+        try {
+            filterChain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            workload = RequestWorkload.end();
+        }
+
+        String handler = handlerName(request);
+        if (handler != null && workload != null) {
+            record(handler, workload);
+            check(handler, workload, buffered);
+        }
+        if (buffered != null && !request.isAsyncStarted()) {
+            buffered.copyBodyToResponse();
+        }
+    }
+
+    private void record(String handler, Snapshot workload) {
+        summary("http.server.requests.jdbc.statements", "SQL statements prepared per request",
+            Tags.of("handler", handler)).record(workload.statements());
+        summary("http.server.requests.entity.loads", "JPA entities loaded per request",
+            Tags.of("handler", handler)).record(workload.entityLoads());
+        summary("http.server.requests.cache.gets", "Cache lookups per request",
+            Tags.of("handler", handler, "result", "hit")).record(workload.cacheHits());
+        summary("http.server.requests.cache.gets", "Cache lookups per request",
+            Tags.of("handler", handler, "result", "miss")).record(workload.cacheMisses());
+    }
+
+    private DistributionSummary summary(String name, String description, Tags tags) {
+        return DistributionSummary.builder(name)
+            .description(description)
+            .tags(tags)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    /**
+     * Logs a request over its thresholds, or fails it when enforcing ({@code buffered} is set).
+     */
+    private void check(String handler, Snapshot workload, ContentCachingResponseWrapper buffered) {
+        int budget = properties.statementBudgetFor(handler);
+        if (workload.statements() > budget && buffered != null) {
+            buffered.resetBuffer();
+            throw new IllegalStateException(String.format(
+                "%s prepared %d SQL statements, budget is %d (%d entity loads)",
+                handler, workload.statements(), budget, workload.entityLoads()));
+        }
+        if (workload.statements() > budget || workload.entityLoads() > properties.getMaxEntityLoads()) {
+            log.warn("{} prepared {} SQL statements and loaded {} entities (cache: {} hits, {} misses); likely N+1 access",
+                handler, workload.statements(), workload.entityLoads(), workload.cacheHits(), workload.cacheMisses());
+        }
+    }
+
+    /**
+     * {@code ControllerSimpleName.method} of the handler that served the request, or null if none matched.
+     */
+    static String handlerName(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod method) {
+            return method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,41 @@
+package com.rocket.comparison.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Thresholds for {@link RequestWorkloadFilter}, bound from {@code app.request-workload.*}.
+ * Handlers are named {@code <ControllerSimpleName>.<method>}, e.g.
+ * <pre>
+ * app.request-workload.statement-budgets[GlobalStatisticsController.getCountryStatistics]=5
+ * </pre>
+ */
+@Data
+@ConfigurationProperties(prefix = "app.request-workload")
+public class RequestWorkloadProperties {
+
+    private boolean enabled = true;
+
+    /** Requests preparing more SQL statements than this are logged. */
+    private int maxStatements = 50;
+
+    /** Requests loading more entities than this are logged. */
+    private int maxEntityLoads = 1000;
+
+    /** Per-handler statement limits, overriding {@link #maxStatements}. */
+    private Map<String, Integer> statementBudgets = new LinkedHashMap<>();
+
+    /**
+     * Fail requests over their statement budget instead of logging them. Meant for
+     * integration tests, where the exception fails the MockMvc call; response bodies are
+     * buffered in memory until the check has run, so leave it off in production.
+     */
+    private boolean enforce = false;
+
+    public int statementBudgetFor(String handler) {
+        return statementBudgets.getOrDefault(handler, maxStatements);
+    }
+}
@@ -1,20 +1,88 @@
 package com.rocket.comparison.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.Duration;
-
+/**
+ * One pooled Apache HttpClient per downstream, each behind its own {@link RestTemplate}.
+ *
+ * Pools keep connections alive between calls (bounded by idle timeout and time-to-live),
+ * responses compressed with gzip/deflate are decoded transparently, and pool usage is
+ * exported as {@code httpcomponents.httpclient.pool.*} tagged {@code httpclient=<name>}.
+ * Limits and timeouts come from {@link OutboundHttpProperties}.
+ */
 @Configuration
+@EnableConfigurationProperties(OutboundHttpProperties.class)
+@Slf4j
 public class RestClientConfig {
 
+    public static final String SPACE_DEVS = "spacedevs";
+    public static final String TRUTH_LEDGER = "truthledger";
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient spaceDevsHttpClient(OutboundHttpProperties properties, MeterRegistry meterRegistry) {
+        return pooledHttpClient(SPACE_DEVS, properties.clientFor(SPACE_DEVS), meterRegistry);
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient truthLedgerHttpClient(OutboundHttpProperties properties, MeterRegistry meterRegistry) {
+        return pooledHttpClient(TRUTH_LEDGER, properties.clientFor(TRUTH_LEDGER), meterRegistry);
+    }
+
+    @Bean
+    public RestTemplate spaceDevsRestTemplate(RestTemplateBuilder builder,
+                                              @Qualifier("spaceDevsHttpClient") CloseableHttpClient httpClient) {
+        return builder.requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient)).build();
+    }
+
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        return builder
-            .connectTimeout(Duration.ofSeconds(10))
-            .readTimeout(Duration.ofSeconds(30))
+    public RestTemplate truthLedgerRestTemplate(RestTemplateBuilder builder,
+                                                @Qualifier("truthLedgerHttpClient") CloseableHttpClient httpClient) {
+        return builder.requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient)).build();
+    }
+
+    static CloseableHttpClient pooledHttpClient(String name, OutboundHttpProperties.Client policy, MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(policy.getMaxConnections())
+            .setMaxConnPerRoute(policy.getMaxConnectionsPerRoute())
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(policy.getConnectTimeout()))
+                .setSocketTimeout(Timeout.of(policy.getResponseTimeout()))
+                .setTimeToLive(TimeValue.of(policy.getTimeToLive()))
+                .setValidateAfterInactivity(TimeValue.of(policy.getValidateAfterInactivity()))
+                .build())
+            .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name).bindTo(meterRegistry);
+
+        log.info("Configured HTTP client '{}': maxConnections={}, perRoute={}, connectTimeout={}, responseTimeout={}",
+            name, policy.getMaxConnections(), policy.getMaxConnectionsPerRoute(),
+            policy.getConnectTimeout(), policy.getResponseTimeout());
+
+        // Content compression (Accept-Encoding + transparent decoding) is on by default
+        return HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(policy.getConnectionRequestTimeout()))
+                .setResponseTimeout(Timeout.of(policy.getResponseTimeout()))
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.of(policy.getIdleTimeout()))
             .build();
     }
 }
@@ -1,7 +1,9 @@
 package com.rocket.comparison.config;
 
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -9,14 +11,31 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
  * Web MVC configuration
  */
 @Configuration
-@RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    private final ConditionalGetInterceptor conditionalGetInterceptor;
     private final DeprecationInterceptor deprecationInterceptor;
+    private final AsyncTaskExecutor streamingTaskExecutor;
+
+    public WebMvcConfig(ConditionalGetInterceptor conditionalGetInterceptor,
+                        DeprecationInterceptor deprecationInterceptor,
+                        @Qualifier("streamingTaskExecutor") AsyncTaskExecutor streamingTaskExecutor) {
+        this.conditionalGetInterceptor = conditionalGetInterceptor;
+        this.deprecationInterceptor = deprecationInterceptor;
+        this.streamingTaskExecutor = streamingTaskExecutor;
+    }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(conditionalGetInterceptor)
+                .addPathPatterns("/api/**")
+                .excludePathPatterns(conditionalGetInterceptor.getExcludedPaths());
         registry.addInterceptor(deprecationInterceptor)
                 .addPathPatterns("/api/**");
     }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamingTaskExecutor);
+    }
 }
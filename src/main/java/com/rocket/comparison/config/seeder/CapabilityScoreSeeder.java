@@ -9,6 +9,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Seeds CapabilityScore entities with initial data.
@@ -40,6 +41,11 @@ public class CapabilityScoreSeeder implements EntitySeeder {
         return capabilityScoreRepository.count();
     }
 
+    @Override
+    public Set<Class<? extends EntitySeeder>> dependsOn() {
+        return Set.of(CountrySeeder.class);
+    }
+
     private Map<String, Country> getCountryMap() {
         return countrySeeder.getCountryMap();
     }
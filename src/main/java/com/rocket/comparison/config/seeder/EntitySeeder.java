@@ -1,5 +1,7 @@
 package com.rocket.comparison.config.seeder;
 
+import java.util.Set;
+
 /**
  * Interface for entity seeders.
  * Each seeder is responsible for seeding a specific entity type.
@@ -20,4 +22,12 @@ public interface EntitySeeder {
      * Returns the current count of entities.
      */
     long count();
+
+    /**
+     * Seeders whose data this seeder references; they run to completion before it starts.
+     * Seeders without dependencies on each other run in parallel.
+     */
+    default Set<Class<? extends EntitySeeder>> dependsOn() {
+        return Set.of();
+    }
 }
@@ -9,6 +9,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Seeds LaunchSite entities with initial data.
@@ -40,6 +41,11 @@ public class LaunchSiteSeeder implements EntitySeeder {
         return launchSiteRepository.count();
     }
 
+    @Override
+    public Set<Class<? extends EntitySeeder>> dependsOn() {
+        return Set.of(CountrySeeder.class);
+    }
+
     private Map<String, Country> getCountryMap() {
         return countrySeeder.getCountryMap();
     }
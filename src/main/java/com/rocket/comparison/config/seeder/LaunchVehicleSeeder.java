@@ -9,6 +9,7 @@ import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Seeds LaunchVehicle entities with initial data.
@@ -41,6 +42,11 @@ public class LaunchVehicleSeeder implements EntitySeeder {
         return launchVehicleRepository.count();
     }
 
+    @Override
+    public Set<Class<? extends EntitySeeder>> dependsOn() {
+        return Set.of(CountrySeeder.class);
+    }
+
     private Map<String, Country> getCountryMap() {
         return countrySeeder.getCountryMap();
     }
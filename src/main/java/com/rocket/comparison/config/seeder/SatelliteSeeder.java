@@ -8,6 +8,7 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Seeds Satellite entities with initial data.
@@ -39,6 +40,11 @@ public class SatelliteSeeder implements EntitySeeder {
         return satelliteRepository.count();
     }
 
+    @Override
+    public Set<Class<? extends EntitySeeder>> dependsOn() {
+        return Set.of(CountrySeeder.class);
+    }
+
     private Map<String, Country> getCountryMap() {
         return countrySeeder.getCountryMap();
     }
@@ -0,0 +1,84 @@
+package com.rocket.comparison.config.seeder;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Runs seeders as a dependency graph: each seeder starts as soon as the seeders it
+ * {@linkplain EntitySeeder#dependsOn() depends on} have finished, so independent seeders
+ * run in parallel. A failed seeder skips its dependents and fails the whole run.
+ */
+@Slf4j
+public final class SeedRunner {
+
+    private final Map<Class<?>, EntitySeeder> seeders = new LinkedHashMap<>();
+    private final Executor executor;
+
+    public SeedRunner(List<? extends EntitySeeder> seeders, Executor executor) {
+        for (EntitySeeder seeder : seeders) {
+            this.seeders.put(ClassUtils.getUserClass(seeder), seeder);
+        }
+        this.executor = executor;
+    }
+
+    /**
+     * Runs {@code step} for every seeder and returns how long each took, in completion order.
+     *
+     * @throws IllegalStateException if the dependencies are cyclic or unknown, or a seeder failed
+     */
+    public Map<String, Duration> run(Consumer<EntitySeeder> step) {
+        Map<String, Duration> timings = Collections.synchronizedMap(new LinkedHashMap<>());
+        Map<Class<?>, CompletableFuture<Void>> scheduled = new HashMap<>();
+        for (Class<?> type : seeders.keySet()) {
+            schedule(type, step, timings, scheduled, new LinkedHashSet<>());
+        }
+
+        try {
+            CompletableFuture.allOf(scheduled.values().toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Seeding failed: " + e.getCause().getMessage(), e.getCause());
+        }
+        return timings;
+    }
+
+    private CompletableFuture<Void> schedule(Class<?> type, Consumer<EntitySeeder> step, Map<String, Duration> timings,
+                                             Map<Class<?>, CompletableFuture<Void>> scheduled, Set<Class<?>> path) {
+        CompletableFuture<Void> existing = scheduled.get(type);
+        if (existing != null) {
+            return existing;
+        }
+        EntitySeeder seeder = seeders.get(type);
+        if (seeder == null) {
+            throw new IllegalStateException("Unknown seeder dependency " + type.getSimpleName() + " (required by " + names(path) + ")");
+        }
+        if (!path.add(type)) {
+            throw new IllegalStateException("Cyclic seeder dependencies: " + names(path) + " -> " + type.getSimpleName());
+        }
+
+        CompletableFuture<?>[] dependencies = seeder.dependsOn().stream()
+            .map(dependency -> schedule(dependency, step, timings, scheduled, path))
+            .toArray(CompletableFuture[]::new);
+        path.remove(type);
+
+        CompletableFuture<Void> future = CompletableFuture.allOf(dependencies).thenRunAsync(() -> {
+            long start = System.nanoTime();
+            step.accept(seeder);
+            Duration took = Duration.ofNanos(System.nanoTime() - start);
+            timings.put(seeder.getEntityName(), took);
+            log.info("Seed step for {} finished in {} ms", seeder.getEntityName(), took.toMillis());
+        }, executor);
+        scheduled.put(type, future);
+        return future;
+    }
+
+    private static String names(Set<Class<?>> path) {
+        return path.stream().map(Class::getSimpleName).toList().toString();
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Seeds SpaceMilestone entities with initial data.
@@ -41,6 +42,11 @@ public class SpaceMilestoneSeeder implements EntitySeeder {
         return spaceMilestoneRepository.count();
     }
 
+    @Override
+    public Set<Class<? extends EntitySeeder>> dependsOn() {
+        return Set.of(CountrySeeder.class);
+    }
+
     private Map<String, Country> getCountryMap() {
         return countrySeeder.getCountryMap();
     }
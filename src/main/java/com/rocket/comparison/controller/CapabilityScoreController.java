@@ -2,6 +2,8 @@ package com.rocket.comparison.controller;
 
 import com.rocket.comparison.entity.CapabilityCategory;
 import com.rocket.comparison.entity.CapabilityScore;
+import com.rocket.comparison.repository.CapabilityScoreRepository.RankingView;
+import com.rocket.comparison.service.CapabilityRankingService;
 import com.rocket.comparison.service.CapabilityScoreService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +17,7 @@ import java.util.*;
 public class CapabilityScoreController {
 
     private final CapabilityScoreService scoreService;
+    private final CapabilityRankingService rankingService;
 
     // ==================== Score Retrieval ====================
 
@@ -52,16 +55,16 @@ public class CapabilityScoreController {
     @GetMapping("/rankings")
     public ResponseEntity<List<RankingEntry>> getOverallRankings() {
         // Get rankings from any category and use overall score
-        List<CapabilityScore> scores = scoreService.getRankingsByCategory(CapabilityCategory.LAUNCH_CAPABILITY);
+        List<RankingView> scores = scoreService.getRankingViewsByCategory(CapabilityCategory.LAUNCH_CAPABILITY);
 
         List<RankingEntry> rankings = scores.stream()
                 .map(s -> new RankingEntry(
                         s.getRanking(),
-                        s.getCountry().getId(),
-                        s.getCountry().getName(),
-                        s.getCountry().getIsoCode(),
-                        s.getCountry().getSpaceAgencyAcronym(),
-                        s.getCountry().getOverallCapabilityScore()
+                        s.getCountryId(),
+                        s.getCountryName(),
+                        s.getIsoCode(),
+                        s.getAgencyAcronym(),
+                        s.getOverallScore()
                 ))
                 .sorted(Comparator.comparing(RankingEntry::score, Comparator.nullsLast(Comparator.reverseOrder())))
                 .toList();
@@ -82,16 +85,16 @@ public class CapabilityScoreController {
      */
     @GetMapping("/rankings/by-category/{category}")
     public ResponseEntity<CategoryRankingResponse> getRankingsByCategory(@PathVariable CapabilityCategory category) {
-        List<CapabilityScore> scores = scoreService.getRankingsByCategory(category);
+        List<RankingView> scores = scoreService.getRankingViewsByCategory(category);
         Double average = scoreService.getAverageScoreByCategory(category);
 
         List<RankingEntry> rankings = scores.stream()
                 .map(s -> new RankingEntry(
                         s.getRanking(),
-                        s.getCountry().getId(),
-                        s.getCountry().getName(),
-                        s.getCountry().getIsoCode(),
-                        s.getCountry().getSpaceAgencyAcronym(),
+                        s.getCountryId(),
+                        s.getCountryName(),
+                        s.getIsoCode(),
+                        s.getAgencyAcronym(),
                         s.getScore()
                 ))
                 .toList();
@@ -133,6 +136,19 @@ public class CapabilityScoreController {
         ));
     }
 
+    /**
+     * Re-rank all categories and report which countries moved.
+     * Mode is COMPETITION (1, 2, 2, 4) or DENSE (1, 2, 2, 3); defaults to the configured mode.
+     */
+    @PostMapping("/rankings/refresh")
+    public ResponseEntity<CapabilityRankingService.RankingRefresh> refreshRankings(
+            @RequestParam(required = false) String mode) {
+        CapabilityRankingService.RankingRefresh refresh = mode != null
+                ? rankingService.refreshRankings(CapabilityRankingService.RankingMode.fromString(mode))
+                : rankingService.refreshRankings();
+        return ResponseEntity.ok(refresh);
+    }
+
     // ==================== Comparison ====================
 
     /**
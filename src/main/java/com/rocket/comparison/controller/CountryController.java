@@ -1,8 +1,14 @@
 package com.rocket.comparison.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rocket.comparison.api.dto.CountryDetailDto;
 import com.rocket.comparison.api.dto.CountryDetailsDto;
 import com.rocket.comparison.api.dto.CountrySummaryDto;
+import com.rocket.comparison.api.dto.CursorPage;
+import com.rocket.comparison.api.dto.EngineSummaryDto;
+import com.rocket.comparison.api.dto.LaunchVehicleSummaryDto;
+import com.rocket.comparison.api.dto.MilestoneSummaryDto;
+import com.rocket.comparison.api.dto.MissionSummaryDto;
 import com.rocket.comparison.api.mapper.CountryMapper;
 import com.rocket.comparison.api.mapper.EngineMapper;
 import com.rocket.comparison.entity.Country;
@@ -15,6 +21,7 @@ import com.rocket.comparison.service.EngineService;
 import com.rocket.comparison.service.LaunchVehicleService;
 import com.rocket.comparison.service.SpaceMilestoneService;
 import com.rocket.comparison.service.SpaceMissionService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -42,6 +49,7 @@ public class CountryController {
     private final SpaceMilestoneService spaceMilestoneService;
     private final CountryMapper countryMapper;
     private final EngineMapper engineMapper;
+    private final ObjectMapper objectMapper;
 
     // ==================== Basic CRUD ====================
 
@@ -51,10 +59,11 @@ public class CountryController {
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "name") String sortBy,
             @RequestParam(defaultValue = "asc") String sortDir,
-            @RequestParam(required = false) Boolean unpaged) {
-        // If unpaged=true, return simple list (for frontend compatibility)
-        if (Boolean.TRUE.equals(unpaged)) {
-            return ResponseEntity.ok(countryMapper.toSummaryDtoList(countryService.getAllCountries()));
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        if (cursor != null) {
+            CursorPage<CountrySummaryDto> countries = countryService.getCountriesPage(cursor, limit).map(countryMapper::toSummaryDto);
+            return ResponseEntity.ok(countries);
         }
         Sort sort = sortDir.equalsIgnoreCase("desc")
             ? Sort.by(sortBy).descending()
@@ -64,8 +73,21 @@ public class CountryController {
     }
 
     @GetMapping({"/all", "/list"})
-    public ResponseEntity<List<CountrySummaryDto>> getAllCountriesUnpaged() {
-        return ResponseEntity.ok(countryMapper.toSummaryDtoList(countryService.getAllCountries()));
+    public void getAllCountriesUnpaged(HttpServletResponse response) {
+        writeAllCountries(response);
+    }
+
+    /**
+     * Legacy {@code ?unpaged=true} form of {@link #getAllCountriesUnpaged}, kept for frontend compatibility.
+     */
+    @GetMapping(params = "unpaged=true")
+    public void getAllCountriesUnpagedLegacy(HttpServletResponse response) {
+        writeAllCountries(response);
+    }
+
+    private void writeAllCountries(HttpServletResponse response) {
+        JsonArrayWriter.<CountrySummaryDto>write(response, objectMapper,
+            page -> countryService.forEachCountryPage(countries -> page.accept(countryMapper.toSummaryDtoList(countries))));
     }
 
     @GetMapping("/{idOrCode}")
@@ -155,39 +177,39 @@ public class CountryController {
     }
 
     @GetMapping("/{idOrCode}/engines")
-    public ResponseEntity<List<Engine>> getCountryEngines(@PathVariable String idOrCode) {
+    public ResponseEntity<List<EngineSummaryDto>> getCountryEngines(@PathVariable String idOrCode) {
         String isoCode = resolveToIsoCode(idOrCode);
         if (isoCode == null) {
             return ResponseEntity.notFound().build();
         }
-        return ResponseEntity.ok(engineService.getEnginesByCountryCode(isoCode));
+        return ResponseEntity.ok(engineMapper.toSummaryDtoList(engineService.getEnginesByCountryCode(isoCode)));
     }
 
     @GetMapping("/{idOrCode}/launch-vehicles")
-    public ResponseEntity<List<LaunchVehicle>> getCountryLaunchVehicles(@PathVariable String idOrCode) {
+    public ResponseEntity<List<LaunchVehicleSummaryDto>> getCountryLaunchVehicles(@PathVariable String idOrCode) {
         String isoCode = resolveToIsoCode(idOrCode);
         if (isoCode == null) {
             return ResponseEntity.notFound().build();
         }
-        return ResponseEntity.ok(launchVehicleService.getLaunchVehiclesByCountryCode(isoCode));
+        return ResponseEntity.ok(countryMapper.toLaunchVehicleSummaryDtoList(launchVehicleService.getLaunchVehiclesByCountryCode(isoCode)));
     }
 
     @GetMapping("/{idOrCode}/missions")
-    public ResponseEntity<List<SpaceMission>> getCountryMissions(@PathVariable String idOrCode) {
+    public ResponseEntity<List<MissionSummaryDto>> getCountryMissions(@PathVariable String idOrCode) {
         String isoCode = resolveToIsoCode(idOrCode);
         if (isoCode == null) {
             return ResponseEntity.notFound().build();
         }
-        return ResponseEntity.ok(spaceMissionService.getMissionsByCountryCode(isoCode));
+        return ResponseEntity.ok(countryMapper.toMissionSummaryDtoList(spaceMissionService.getMissionsByCountryCode(isoCode)));
     }
 
     @GetMapping("/{idOrCode}/milestones")
-    public ResponseEntity<List<SpaceMilestone>> getCountryMilestones(@PathVariable String idOrCode) {
+    public ResponseEntity<List<MilestoneSummaryDto>> getCountryMilestones(@PathVariable String idOrCode) {
         String isoCode = resolveToIsoCode(idOrCode);
         if (isoCode == null) {
             return ResponseEntity.notFound().build();
         }
-        return ResponseEntity.ok(spaceMilestoneService.getMilestonesByCountryCode(isoCode));
+        return ResponseEntity.ok(countryMapper.toMilestoneSummaryDtoList(spaceMilestoneService.getMilestonesByCountryCode(isoCode)));
     }
 
     /**
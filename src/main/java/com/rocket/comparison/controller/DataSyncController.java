@@ -1,12 +1,15 @@
 package com.rocket.comparison.controller;
 
 import com.rocket.comparison.config.seeder.*;
+import com.rocket.comparison.event.DomainEntity;
+import com.rocket.comparison.event.EntityChangedEvent;
 import com.rocket.comparison.integration.spacedevs.SpaceDevsSyncService;
 import com.rocket.comparison.integration.truthledger.TruthLedgerSyncService;
 import com.rocket.comparison.repository.EngineRepository;
 import com.rocket.comparison.repository.LaunchVehicleRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
@@ -31,6 +34,7 @@ public class DataSyncController {
     // Repositories for clearing data
     private final EngineRepository engineRepository;
     private final LaunchVehicleRepository launchVehicleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // Seeders for reseeding
     private final EngineSeeder engineSeeder;
@@ -44,53 +48,63 @@ public class DataSyncController {
 
     /**
      * Trigger a full sync from TheSpaceDevs API.
-     * Syncs launch sites and recent missions.
+     * Syncs launch sites and recent missions; only what changed since the last sync unless forced.
      *
-     * POST /api/sync/full
+     * POST /api/sync/full?force=false
      */
     @PostMapping("/full")
-    public ResponseEntity<Map<String, Object>> fullSync() {
-        log.info("Manual full sync triggered");
-        Map<String, Object> results = syncService.fullSync();
+    public ResponseEntity<Map<String, Object>> fullSync(
+            @RequestParam(defaultValue = "false") boolean force) {
+        log.info("Manual full sync triggered (force={})", force);
+        Map<String, Object> results = force ? syncService.fullSync(false) : syncService.fullSync();
         return ResponseEntity.ok(results);
     }
 
     /**
      * Sync recent launches/missions only.
      *
-     * POST /api/sync/missions?limit=100
+     * POST /api/sync/missions?limit=100&force=false
      */
     @PostMapping("/missions")
     public ResponseEntity<Map<String, Object>> syncMissions(
-            @RequestParam(defaultValue = "100") int limit) {
-        log.info("Manual mission sync triggered with limit: {}", limit);
-        Map<String, Object> results = syncService.syncRecentLaunches(limit);
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(defaultValue = "false") boolean force) {
+        log.info("Manual mission sync triggered with limit: {} (force={})", limit, force);
+        Map<String, Object> results = force
+            ? syncService.syncRecentLaunches(limit, false)
+            : syncService.syncRecentLaunches(limit);
         return ResponseEntity.ok(results);
     }
 
     /**
      * Sync upcoming launches/missions.
      *
-     * POST /api/sync/upcoming?limit=50
+     * POST /api/sync/upcoming?limit=50&force=false
      */
     @PostMapping("/upcoming")
     public ResponseEntity<Map<String, Object>> syncUpcoming(
-            @RequestParam(defaultValue = "50") int limit) {
-        log.info("Manual upcoming launch sync triggered with limit: {}", limit);
-        Map<String, Object> results = syncService.syncUpcomingLaunches(limit);
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(defaultValue = "false") boolean force) {
+        log.info("Manual upcoming launch sync triggered with limit: {} (force={})", limit, force);
+        Map<String, Object> results = force
+            ? syncService.syncUpcomingLaunches(limit, false)
+            : syncService.syncUpcomingLaunches(limit);
         return ResponseEntity.ok(results);
     }
 
     /**
      * Sync launch sites from pads.
      *
-     * POST /api/sync/launch-sites?limit=100
+     * POST /api/sync/launch-sites?limit=100&force=false
      */
     @PostMapping("/launch-sites")
     public ResponseEntity<Map<String, Object>> syncLaunchSites(
-            @RequestParam(defaultValue = "100") int limit) {
-        log.info("Manual launch site sync triggered with limit: {}", limit);
-        Map<String, Object> results = syncService.syncLaunchSites(limit);
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(defaultValue = "false") boolean force) {
+        log.info("Manual launch site sync triggered with limit: {} (force={})", limit, force);
+        Map<String, Object> results = force
+            ? syncService.syncLaunchSites(limit, false)
+            : syncService.syncLaunchSites(limit);
         return ResponseEntity.ok(results);
     }
 
@@ -102,10 +116,10 @@ public class DataSyncController {
     @GetMapping
     public ResponseEntity<Map<String, Object>> getSyncInfo() {
         Map<String, String> endpoints = new HashMap<>();
-        endpoints.put("POST /api/sync/full", "Full sync (missions + launch sites)");
-        endpoints.put("POST /api/sync/missions", "Sync recent missions (param: limit)");
-        endpoints.put("POST /api/sync/upcoming", "Sync upcoming launches (param: limit)");
-        endpoints.put("POST /api/sync/launch-sites", "Sync launch sites (param: limit)");
+        endpoints.put("POST /api/sync/full", "Full sync (missions + launch sites, param: force)");
+        endpoints.put("POST /api/sync/missions", "Sync recent missions (params: limit, force)");
+        endpoints.put("POST /api/sync/upcoming", "Sync upcoming launches (params: limit, force)");
+        endpoints.put("POST /api/sync/launch-sites", "Sync launch sites (params: limit, force)");
         endpoints.put("POST /api/sync/reseed/engines", "Clear and reseed all engines");
         endpoints.put("POST /api/sync/reseed/launch-vehicles", "Clear and reseed launch vehicles");
         endpoints.put("POST /api/sync/reseed/all", "Clear and reseed all seed data");
@@ -119,7 +133,8 @@ public class DataSyncController {
             "description", "Data synchronization and seeding management",
             "source", "https://thespacedevs.com/llapi",
             "endpoints", endpoints,
-            "note", "Reseed endpoints will clear and re-import data"
+            "note", "Syncs only fetch and write changes since the last sync unless force=true; "
+                + "reseed endpoints will clear and re-import data"
         ));
     }
 
@@ -141,6 +156,7 @@ public class DataSyncController {
         log.info("Deleted {} existing engines", deletedCount);
 
         engineSeeder.seedIfEmpty();
+        eventPublisher.publishEvent(EntityChangedEvent.bulk(DomainEntity.ENGINE));
         long newCount = engineRepository.count();
 
         return ResponseEntity.ok(Map.of(
@@ -167,6 +183,7 @@ public class DataSyncController {
         log.info("Deleted {} existing launch vehicles", deletedCount);
 
         launchVehicleSeeder.seedIfEmpty();
+        eventPublisher.publishEvent(EntityChangedEvent.bulk(DomainEntity.LAUNCH_VEHICLE));
         long newCount = launchVehicleRepository.count();
 
         return ResponseEntity.ok(Map.of(
@@ -209,6 +226,9 @@ public class DataSyncController {
         satelliteSeeder.seedIfEmpty();
         launchSiteSeeder.seedIfEmpty();
         capabilityScoreSeeder.seedIfEmpty();
+        for (DomainEntity entity : DomainEntity.values()) {
+            eventPublisher.publishEvent(EntityChangedEvent.bulk(entity));
+        }
 
         results.put("status", "success");
         results.put("message", "Full reseed completed");
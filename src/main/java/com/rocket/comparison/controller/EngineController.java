@@ -1,5 +1,7 @@
 package com.rocket.comparison.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rocket.comparison.api.dto.CursorPage;
 import com.rocket.comparison.api.dto.EngineSummaryDto;
 import com.rocket.comparison.api.mapper.EngineMapper;
 import com.rocket.comparison.entity.Engine;
@@ -9,6 +11,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -30,6 +33,7 @@ public class EngineController {
 
     private final EngineService engineService;
     private final EngineMapper engineMapper;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "Get all engines", description = "Returns a paginated list of rocket engines with optional sorting")
     @ApiResponses({
@@ -41,10 +45,11 @@ public class EngineController {
             @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size,
             @Parameter(description = "Sort field") @RequestParam(defaultValue = "id") String sortBy,
             @Parameter(description = "Sort direction (asc/desc)") @RequestParam(defaultValue = "asc") String sortDir,
-            @Parameter(description = "Return all without pagination") @RequestParam(required = false) Boolean unpaged) {
-        // If unpaged=true, return simple list (for frontend compatibility)
-        if (Boolean.TRUE.equals(unpaged)) {
-            return ResponseEntity.ok(engineMapper.toSummaryDtoList(engineService.getAllEngines()));
+            @Parameter(description = "Keyset cursor; pass empty for the first page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Keyset page size (max 100)") @RequestParam(required = false) Integer limit) {
+        if (cursor != null) {
+            CursorPage<EngineSummaryDto> engines = engineService.getEnginesPage(cursor, limit).map(engineMapper::toSummaryDto);
+            return ResponseEntity.ok(engines);
         }
         Sort sort = sortDir.equalsIgnoreCase("desc")
             ? Sort.by(sortBy).descending()
@@ -54,8 +59,21 @@ public class EngineController {
     }
 
     @GetMapping({"/all", "/list"})
-    public ResponseEntity<List<EngineSummaryDto>> getAllEnginesUnpaged() {
-        return ResponseEntity.ok(engineMapper.toSummaryDtoList(engineService.getAllEngines()));
+    public void getAllEnginesUnpaged(HttpServletResponse response) {
+        writeAllEngines(response);
+    }
+
+    /**
+     * Legacy {@code ?unpaged=true} form of {@link #getAllEnginesUnpaged}, kept for frontend compatibility.
+     */
+    @GetMapping(params = "unpaged=true")
+    public void getAllEnginesUnpagedLegacy(HttpServletResponse response) {
+        writeAllEngines(response);
+    }
+
+    private void writeAllEngines(HttpServletResponse response) {
+        JsonArrayWriter.<EngineSummaryDto>write(response, objectMapper,
+            page -> engineService.forEachEnginePage(engines -> page.accept(engineMapper.toSummaryDtoList(engines))));
     }
 
     @Operation(summary = "Get engine by ID", description = "Returns a single engine with full details")
@@ -2,6 +2,8 @@ package com.rocket.comparison.controller;
 
 import com.rocket.comparison.dto.ExportDto;
 import com.rocket.comparison.service.ExportService;
+import com.rocket.comparison.service.ExportService.ExportEntity;
+import com.rocket.comparison.service.ExportService.ExportFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,9 +15,14 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Controller for data export functionality (BE-004).
@@ -82,6 +89,57 @@ public class ExportController {
                 .body(exportData);
     }
 
+    @Operation(
+        summary = "Stream export as NDJSON or CSV",
+        description = "Streams entities straight to the response without building the export in memory. " +
+                      "NDJSON emits one {\"entity\", \"data\"} object per line and can include several types; " +
+                      "CSV requires exactly one type. The response is gzip-encoded when the client accepts gzip."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Export stream started"),
+        @ApiResponse(responseCode = "400", description = "Unknown format or entity type")
+    })
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamExport(
+            @Parameter(description = "Output format: ndjson or csv") @RequestParam(defaultValue = "ndjson") String format,
+            @Parameter(description = "Entity types to include, e.g. engines,satellites (default: all)")
+            @RequestParam(required = false) List<String> types,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        ExportFormat exportFormat = ExportFormat.fromString(format);
+        List<ExportEntity> entities = types == null || types.isEmpty()
+                ? Arrays.asList(ExportEntity.values())
+                : types.stream().map(ExportEntity::fromKey).toList();
+        if (exportFormat == ExportFormat.CSV && entities.size() != 1) {
+            throw new IllegalArgumentException("CSV export supports exactly one entity type");
+        }
+
+        boolean gzip = acceptsGzip(acceptEncoding);
+        log.info("Export request received: stream {} {} (gzip={})", exportFormat, entities, gzip);
+
+        StreamingResponseBody body = outputStream -> {
+            OutputStream target = gzip ? new GZIPOutputStream(outputStream, 8192) : outputStream;
+            exportService.streamExport(exportFormat, entities, target);
+            if (target instanceof GZIPOutputStream gzipStream) {
+                gzipStream.finish();
+            }
+        };
+
+        String extension = exportFormat == ExportFormat.CSV ? "csv" : "ndjson";
+        String suffix = entities.size() == 1 ? "-" + entities.get(0).getKey() : "";
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(exportFormat == ExportFormat.CSV
+                        ? new MediaType("text", "csv")
+                        : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"rocket-data-export" + suffix + "-" + getCurrentTimestamp() + "." + extension + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
     @Operation(
         summary = "Get export metadata only",
         description = "Returns only the counts and metadata without the actual data. Useful for checking data size before downloading."
@@ -89,8 +147,20 @@ public class ExportController {
     @GetMapping("/metadata")
     public ResponseEntity<ExportDto.ExportMetadata> getExportMetadata() {
         log.info("Export metadata request received");
-        ExportDto exportData = exportService.exportAllData();
-        return ResponseEntity.ok(exportData.getMetadata());
+        return ResponseEntity.ok(exportService.getExportMetadata());
+    }
+
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
     }
 
     private String getCurrentTimestamp() {
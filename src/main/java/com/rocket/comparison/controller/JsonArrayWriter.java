@@ -0,0 +1,45 @@
+package com.rocket.comparison.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Writes unpaged list responses as a JSON array one page at a time (BE-001), so the
+ * full result is never held in memory as a single list.
+ */
+final class JsonArrayWriter {
+
+    private JsonArrayWriter() {
+    }
+
+    /**
+     * @param pages walks the source, handing each page of rows to the given consumer
+     */
+    static <T> void write(HttpServletResponse response, ObjectMapper objectMapper,
+                          Consumer<Consumer<List<T>>> pages) {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        try (SequenceWriter array = objectMapper.writer().writeValuesAsArray(response.getOutputStream())) {
+            pages.accept(page -> {
+                try {
+                    array.writeAll(page);
+                    array.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.rocket.comparison.controller;
 
+import com.rocket.comparison.api.dto.CursorPage;
 import com.rocket.comparison.entity.LaunchSite;
 import com.rocket.comparison.entity.LaunchSiteStatus;
 import com.rocket.comparison.service.LaunchSiteService;
+import com.rocket.comparison.service.LaunchSiteSpatialIndex.SiteDistance;
+import com.rocket.comparison.service.LaunchSiteSpatialIndex.SiteLocation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -21,8 +24,10 @@ public class LaunchSiteController {
     // ==================== Basic CRUD ====================
 
     @GetMapping
-    public ResponseEntity<List<LaunchSite>> getAllLaunchSites() {
-        return ResponseEntity.ok(launchSiteService.getAllLaunchSites());
+    public ResponseEntity<CursorPage<LaunchSite>> getAllLaunchSites(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(launchSiteService.getLaunchSitesPage(cursor, limit));
     }
 
     @GetMapping("/{id}")
@@ -98,8 +103,10 @@ public class LaunchSiteController {
     }
 
     @GetMapping("/active")
-    public ResponseEntity<List<LaunchSite>> getActiveLaunchSites() {
-        return ResponseEntity.ok(launchSiteService.getActiveLaunchSites());
+    public ResponseEntity<CursorPage<LaunchSite>> getActiveLaunchSites(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(launchSiteService.getActiveLaunchSitesPage(cursor, limit));
     }
 
     @GetMapping("/active/count")
@@ -143,6 +150,40 @@ public class LaunchSiteController {
         return ResponseEntity.ok(launchSiteService.getLaunchSitesByLatitudeRange(minLatitude, maxLatitude));
     }
 
+    /**
+     * Closest sites to a point, closest first
+     */
+    @GetMapping("/nearest")
+    public ResponseEntity<List<SiteDistance>> getNearestLaunchSites(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(launchSiteService.getNearestLaunchSites(latitude, longitude, limit));
+    }
+
+    /**
+     * Sites within a great-circle radius of a point, closest first
+     */
+    @GetMapping("/within-radius")
+    public ResponseEntity<List<SiteDistance>> getLaunchSitesWithinRadius(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam double radiusKm) {
+        return ResponseEntity.ok(launchSiteService.getLaunchSitesWithinRadius(latitude, longitude, radiusKm));
+    }
+
+    /**
+     * Sites inside a bounding box; {@code west > east} crosses the antimeridian
+     */
+    @GetMapping("/within-bounds")
+    public ResponseEntity<List<SiteLocation>> getLaunchSitesWithinBounds(
+            @RequestParam double south,
+            @RequestParam double west,
+            @RequestParam double north,
+            @RequestParam double east) {
+        return ResponseEntity.ok(launchSiteService.getLaunchSitesWithinBounds(south, west, north, east));
+    }
+
     @GetMapping("/by-region/{region}")
     public ResponseEntity<List<LaunchSite>> getLaunchSitesByRegion(@PathVariable String region) {
         return ResponseEntity.ok(launchSiteService.getLaunchSitesByRegion(region));
@@ -1,6 +1,8 @@
 package com.rocket.comparison.controller;
 
+import com.rocket.comparison.api.dto.CursorPage;
 import com.rocket.comparison.entity.*;
+import com.rocket.comparison.service.SatelliteOrbitIndex;
 import com.rocket.comparison.service.SatelliteService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -20,8 +22,10 @@ public class SatelliteController {
     // ==================== Basic CRUD ====================
 
     @GetMapping
-    public ResponseEntity<List<Satellite>> getAllSatellites() {
-        return ResponseEntity.ok(satelliteService.getAllSatellites());
+    public ResponseEntity<CursorPage<Satellite>> getAllSatellites(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(satelliteService.getSatellitesPage(cursor, limit));
     }
 
     @GetMapping("/{id}")
@@ -104,8 +108,10 @@ public class SatelliteController {
     }
 
     @GetMapping("/active")
-    public ResponseEntity<List<Satellite>> getActiveSatellites() {
-        return ResponseEntity.ok(satelliteService.getActiveSatellites());
+    public ResponseEntity<CursorPage<Satellite>> getActiveSatellites(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(satelliteService.getActiveSatellitesPage(cursor, limit));
     }
 
     @GetMapping("/active/count")
@@ -116,8 +122,11 @@ public class SatelliteController {
     // ==================== By Type ====================
 
     @GetMapping("/by-type/{type}")
-    public ResponseEntity<List<Satellite>> getSatellitesByType(@PathVariable SatelliteType type) {
-        return ResponseEntity.ok(satelliteService.getSatellitesByType(type));
+    public ResponseEntity<CursorPage<Satellite>> getSatellitesByType(
+            @PathVariable SatelliteType type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(satelliteService.getSatellitesByTypePage(type, cursor, limit));
     }
 
     // ==================== By Orbit ====================
@@ -134,6 +143,31 @@ public class SatelliteController {
         return ResponseEntity.ok(satelliteService.getSatellitesByAltitudeRange(minAltitude, maxAltitude));
     }
 
+    /**
+     * Satellites whose perigee-apogee shells overlap this satellite's shell widened by marginKm
+     */
+    @GetMapping("/{id}/shell-mates")
+    public ResponseEntity<List<SatelliteOrbitIndex.ShellMate>> getSatellitesSharingShell(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") double marginKm,
+            @RequestParam(required = false) Double maxInclinationDelta,
+            @RequestParam(required = false) Integer limit) {
+        return satelliteService.getSatellitesSharingShell(id, marginKm, maxInclinationDelta, limit)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Catalog-wide conjunction candidate pairs (apogee/perigee filter), deepest shell overlap first
+     */
+    @GetMapping("/conjunction-candidates")
+    public ResponseEntity<SatelliteOrbitIndex.Screening> getConjunctionCandidates(
+            @RequestParam(defaultValue = "10") double marginKm,
+            @RequestParam(required = false) Double maxInclinationDelta,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(satelliteService.getConjunctionCandidates(marginKm, maxInclinationDelta, limit));
+    }
+
     @GetMapping("/geostationary")
     public ResponseEntity<List<Satellite>> getGeostationarySatellites() {
         return ResponseEntity.ok(satelliteService.getGeostationarySatellites());
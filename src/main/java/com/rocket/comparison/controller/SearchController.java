@@ -0,0 +1,54 @@
+package com.rocket.comparison.controller;
+
+import com.rocket.comparison.api.dto.SearchResultDto;
+import com.rocket.comparison.service.SearchService;
+import com.rocket.comparison.service.SearchService.SearchType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Unified search over satellites, missions, launch sites and engines.
+ * Narrow with {@code ?types=satellite,engine}; all types are searched by default.
+ */
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    /**
+     * Ranked matches; word prefixes and misspelled names match too
+     */
+    @GetMapping
+    public ResponseEntity<List<SearchResultDto>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) List<String> types,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(searchService.search(q, parseTypes(types), limit));
+    }
+
+    /**
+     * Type-ahead name completions
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SearchResultDto>> suggest(
+            @RequestParam String q,
+            @RequestParam(required = false) List<String> types,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(searchService.suggest(q, parseTypes(types), limit));
+    }
+
+    private static Set<SearchType> parseTypes(List<String> types) {
+        Set<SearchType> parsed = EnumSet.noneOf(SearchType.class);
+        if (types != null) {
+            types.stream().filter(type -> !type.isBlank()).map(SearchType::fromString).forEach(parsed::add);
+        }
+        return parsed;
+    }
+}
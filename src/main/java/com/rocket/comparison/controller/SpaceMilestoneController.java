@@ -1,5 +1,6 @@
 package com.rocket.comparison.controller;
 
+import com.rocket.comparison.api.dto.CursorPage;
 import com.rocket.comparison.entity.MilestoneType;
 import com.rocket.comparison.entity.SpaceMilestone;
 import com.rocket.comparison.service.SpaceMilestoneService;
@@ -21,8 +22,10 @@ public class SpaceMilestoneController {
     // ==================== Basic CRUD ====================
 
     @GetMapping
-    public ResponseEntity<List<SpaceMilestone>> getAllMilestones() {
-        return ResponseEntity.ok(milestoneService.getAllMilestones());
+    public ResponseEntity<CursorPage<SpaceMilestone>> getAllMilestones(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(milestoneService.getMilestonesPage(cursor, limit));
     }
 
     @GetMapping("/{id}")
@@ -1,5 +1,6 @@
 package com.rocket.comparison.controller;
 
+import com.rocket.comparison.api.dto.CursorPage;
 import com.rocket.comparison.entity.Destination;
 import com.rocket.comparison.entity.MissionStatus;
 import com.rocket.comparison.entity.MissionType;
@@ -23,8 +24,10 @@ public class SpaceMissionController {
     // ==================== Basic CRUD ====================
 
     @GetMapping
-    public ResponseEntity<List<SpaceMission>> getAllMissions() {
-        return ResponseEntity.ok(missionService.getAllMissions());
+    public ResponseEntity<CursorPage<SpaceMission>> getAllMissions(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(missionService.getMissionsPage(cursor, limit));
     }
 
     @GetMapping("/{id}")
@@ -93,8 +96,10 @@ public class SpaceMissionController {
     }
 
     @GetMapping("/active")
-    public ResponseEntity<List<SpaceMission>> getActiveMissions() {
-        return ResponseEntity.ok(missionService.getActiveMissions());
+    public ResponseEntity<CursorPage<SpaceMission>> getActiveMissions(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(missionService.getActiveMissionsPage(cursor, limit));
     }
 
     @GetMapping("/upcoming")
@@ -110,8 +115,11 @@ public class SpaceMissionController {
     // ==================== By Mission Type ====================
 
     @GetMapping("/by-type/{type}")
-    public ResponseEntity<List<SpaceMission>> getMissionsByType(@PathVariable MissionType type) {
-        return ResponseEntity.ok(missionService.getMissionsByType(type));
+    public ResponseEntity<CursorPage<SpaceMission>> getMissionsByType(
+            @PathVariable MissionType type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(missionService.getMissionsByTypePage(type, cursor, limit));
     }
 
     @GetMapping("/by-category/{category}")
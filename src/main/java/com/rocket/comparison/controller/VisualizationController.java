@@ -32,11 +32,16 @@ public class VisualizationController {
 
     /**
      * Get launch site markers for map
-     * Returns: launch sites with coordinates and status for map markers
+     * Returns: launch sites with coordinates and status for map markers,
+     * limited to the viewport when south/west/north/east are given
      */
     @GetMapping("/map/launch-sites")
-    public ResponseEntity<List<Map<String, Object>>> getLaunchSiteMapData() {
-        return ResponseEntity.ok(visualizationService.getLaunchSiteMapData());
+    public ResponseEntity<List<Map<String, Object>>> getLaunchSiteMapData(
+            @RequestParam(required = false) Double south,
+            @RequestParam(required = false) Double west,
+            @RequestParam(required = false) Double north,
+            @RequestParam(required = false) Double east) {
+        return ResponseEntity.ok(visualizationService.getLaunchSiteMapData(south, west, north, east));
     }
 
     // ==================== Timeline Data ====================
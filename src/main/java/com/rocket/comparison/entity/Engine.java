@@ -46,11 +46,11 @@ public class Engine {
     // Self-referential relationship for parent/variant hierarchy
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parent_id")
-    @JsonIgnoreProperties({"variants", "parent", "hibernateLazyInitializer", "handler"})
+    @JsonIgnoreProperties({"variants", "parent", "country", "hibernateLazyInitializer", "handler"})
     private Engine parent;
 
     @OneToMany(mappedBy = "parent", fetch = FetchType.LAZY)
-    @JsonIgnoreProperties({"parent", "variants", "hibernateLazyInitializer", "handler"})
+    @JsonIgnoreProperties({"parent", "variants", "country", "hibernateLazyInitializer", "handler"})
     private List<Engine> variants = new ArrayList<>();
 
     @Column(nullable = true)
@@ -53,11 +53,11 @@ public class LaunchVehicle {
     // Self-referential relationship for parent/variant hierarchy
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parent_id")
-    @JsonIgnoreProperties({"variants", "parent", "hibernateLazyInitializer", "handler"})
+    @JsonIgnoreProperties({"variants", "parent", "country", "hibernateLazyInitializer", "handler"})
     private LaunchVehicle parent;
 
     @OneToMany(mappedBy = "parent", fetch = FetchType.LAZY)
-    @JsonIgnoreProperties({"parent", "variants", "hibernateLazyInitializer", "handler"})
+    @JsonIgnoreProperties({"parent", "variants", "country", "hibernateLazyInitializer", "handler"})
     private List<LaunchVehicle> variants = new ArrayList<>();
 
     @Column
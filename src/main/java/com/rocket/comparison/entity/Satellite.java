@@ -19,7 +19,8 @@ import java.time.LocalDate;
     @Index(name = "idx_satellite_status", columnList = "status"),
     @Index(name = "idx_satellite_orbit_type", columnList = "orbitType"),
     @Index(name = "idx_satellite_launch_year", columnList = "launchYear"),
-    @Index(name = "idx_satellite_constellation", columnList = "constellation")
+    @Index(name = "idx_satellite_constellation", columnList = "constellation"),
+    @Index(name = "idx_satellite_launch_date_id", columnList = "launchDate, id")
 })
 @Data
 @NoArgsConstructor
@@ -253,7 +254,7 @@ public class Satellite {
      */
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "launch_mission_id")
-    @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+    @JsonIgnoreProperties({"country", "milestone", "hibernateLazyInitializer", "handler"})
     private SpaceMission launchMission;
 
     // ==================== Capabilities ====================
@@ -20,7 +20,8 @@ import java.time.LocalDate;
     @Index(name = "idx_milestone_date", columnList = "dateAchieved"),
     @Index(name = "idx_milestone_year", columnList = "year"),
     @Index(name = "idx_milestone_decade", columnList = "decade"),
-    @Index(name = "idx_milestone_global_first", columnList = "isGlobalFirst")
+    @Index(name = "idx_milestone_global_first", columnList = "isGlobalFirst"),
+    @Index(name = "idx_milestone_date_id", columnList = "dateAchieved, id")
 })
 @Data
 @NoArgsConstructor
@@ -21,7 +21,8 @@ import java.time.LocalDate;
     @Index(name = "idx_mission_launch_year", columnList = "launchYear"),
     @Index(name = "idx_mission_status", columnList = "status"),
     @Index(name = "idx_mission_type", columnList = "missionType"),
-    @Index(name = "idx_mission_destination", columnList = "destination")
+    @Index(name = "idx_mission_destination", columnList = "destination"),
+    @Index(name = "idx_mission_launch_date_id", columnList = "launchDate, id")
 })
 @Data
 @NoArgsConstructor
@@ -205,7 +206,7 @@ public class SpaceMission {
      */
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "milestone_id")
-    @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+    @JsonIgnoreProperties({"country", "hibernateLazyInitializer", "handler"})
     private SpaceMilestone milestone;
 
     // ==================== Mission Content ====================
@@ -0,0 +1,42 @@
+package com.rocket.comparison.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Hash of the last synced payload of one item from an external source, keyed by the source's own id
+ */
+@Entity
+@Table(name = "sync_content_hashes")
+@IdClass(SyncContentHash.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncContentHash {
+
+    @Id
+    @Column(length = 50)
+    private String source; // e.g., "spacedevs_launches"
+
+    @Id
+    private String externalId; // e.g., launch UUID or pad location name
+
+    @Column(nullable = false, length = 64)
+    private String contentHash; // SHA-256, hex
+
+    @Column(nullable = false)
+    private LocalDateTime syncedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String source;
+        private String externalId;
+    }
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 
 /**
@@ -40,6 +41,8 @@ public class SyncStatus {
 
     private String sourceApi; // e.g., "TheSpaceDevs"
 
+    private Instant highWaterMark; // Latest source last_updated covered by this sync, if it tracks one
+
     public enum SyncState {
         IN_PROGRESS,
         SUCCESS,
@@ -63,6 +66,12 @@ public class SyncStatus {
         this.completedAt = LocalDateTime.now();
     }
 
+    // Mark as successful, recording how far the source was read
+    public void markSuccess(int recordsSynced, Instant highWaterMark) {
+        markSuccess(recordsSynced);
+        this.highWaterMark = highWaterMark;
+    }
+
     // Mark as failed
     public void markFailed(String errorMessage) {
         this.state = SyncState.FAILED;
@@ -0,0 +1,33 @@
+package com.rocket.comparison.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Last facts resolved from Truth Ledger for one engine, stored as the ledger's JSON response
+ */
+@Entity
+@Table(name = "truth_ledger_fact_snapshots")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TruthLedgerFactSnapshot {
+
+    @Id
+    private Long engineId;
+
+    @Column(nullable = false, length = 100)
+    private String entityId; // Truth Ledger entity UUID
+
+    private String canonicalName;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload; // EntityFactsResponseDto as JSON
+
+    @Column(nullable = false)
+    private LocalDateTime fetchedAt;
+}
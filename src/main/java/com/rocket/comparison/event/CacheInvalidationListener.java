@@ -0,0 +1,124 @@
+package com.rocket.comparison.event;
+
+import com.rocket.comparison.config.RefreshAheadCaffeineCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static com.rocket.comparison.config.CacheConfig.*;
+import static com.rocket.comparison.event.DomainEntity.*;
+
+/**
+ * Evicts the cache entries that depend on a changed entity type once the write has
+ * committed, and re-warms them in the background so the next dashboard poll is a hit.
+ *
+ * Cached methods are keyed by method name (see {@code @Cacheable(key = "#root.methodName")}),
+ * so the dependency table below lists, per cache entry, the entity types it reads. Reads of
+ * {@code Country.overallCapabilityScore} count as CAPABILITY_SCORE, since score writes only
+ * publish that type.
+ */
+@Component
+@Slf4j
+public class CacheInvalidationListener {
+
+    private record CacheEntry(String cacheName, String key) {}
+
+    private static final Map<DomainEntity, List<CacheEntry>> DEPENDENTS = buildDependents();
+
+    private final CacheManager cacheManager;
+    private final Executor cacheWarmExecutor;
+
+    // Entries with a re-warm queued but not yet started; further commits only need to evict
+    private final Set<CacheEntry> queuedRewarms = ConcurrentHashMap.newKeySet();
+
+    public CacheInvalidationListener(CacheManager cacheManager,
+                                     @Qualifier("cacheWarmExecutor") Executor cacheWarmExecutor) {
+        this.cacheManager = cacheManager;
+        this.cacheWarmExecutor = cacheWarmExecutor;
+    }
+
+    @Order(DataVersion.ORDER - 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        List<CacheEntry> entries = DEPENDENTS.getOrDefault(event.entity(), List.of());
+        int rewarmed = 0;
+
+        for (CacheEntry entry : entries) {
+            Cache cache = cacheManager.getCache(entry.cacheName());
+            if (cache instanceof RefreshAheadCaffeineCache refreshable) {
+                if (refreshable.evictForRewarm(entry.key()) && scheduleRewarm(refreshable, entry)) {
+                    rewarmed++;
+                }
+            } else if (cache != null) {
+                cache.evictIfPresent(entry.key());
+            }
+        }
+
+        log.debug("{} {} change: evicted {} cache entries, re-warming {}",
+            event.changeType(), event.entity(), entries.size(), rewarmed);
+    }
+
+    private boolean scheduleRewarm(RefreshAheadCaffeineCache cache, CacheEntry entry) {
+        if (!queuedRewarms.add(entry)) {
+            return false;
+        }
+        try {
+            cacheWarmExecutor.execute(() -> {
+                queuedRewarms.remove(entry);
+                cache.rewarm(entry.key());
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            queuedRewarms.remove(entry);
+            log.debug("Re-warm of {}::{} rejected, next read will load it", entry.cacheName(), entry.key());
+            return false;
+        }
+    }
+
+    private static Map<DomainEntity, List<CacheEntry>> buildDependents() {
+        Map<CacheEntry, Set<DomainEntity>> dependencies = new LinkedHashMap<>();
+
+        // AnalyticsService
+        dependencies.put(new CacheEntry(ANALYTICS_CACHE, "getBudgetTrends"), EnumSet.of(COUNTRY, CAPABILITY_SCORE));
+        dependencies.put(new CacheEntry(ANALYTICS_CACHE, "getLaunchesPerYear"), EnumSet.of(SPACE_MISSION));
+        dependencies.put(new CacheEntry(ANALYTICS_CACHE, "getLaunchesPerYearByCountry"), EnumSet.of(SPACE_MISSION, COUNTRY));
+        dependencies.put(new CacheEntry(ANALYTICS_CACHE, "getEmergingNations"),
+            EnumSet.of(COUNTRY, SPACE_MISSION, SPACE_MILESTONE, CAPABILITY_SCORE));
+        dependencies.put(new CacheEntry(ANALYTICS_CACHE, "getTechnologyTrends"),
+            EnumSet.of(ENGINE, COUNTRY, SATELLITE, LAUNCH_SITE));
+        dependencies.put(new CacheEntry(ANALYTICS_CACHE, "getAnalyticsSummary"),
+            EnumSet.of(SPACE_MISSION, ENGINE, COUNTRY, SATELLITE, LAUNCH_SITE, SPACE_MILESTONE, CAPABILITY_SCORE));
+        dependencies.put(new CacheEntry(RANKINGS_CACHE, "getRecords"),
+            EnumSet.of(ENGINE, COUNTRY, CAPABILITY_SCORE, SPACE_MILESTONE, SPACE_MISSION, SATELLITE));
+
+        // ComparisonService
+        dependencies.put(new CacheEntry(RANKINGS_CACHE, "getCountryRankings"), EnumSet.of(COUNTRY, CAPABILITY_SCORE));
+
+        // GlobalStatisticsService
+        dependencies.put(new CacheEntry(STATISTICS_CACHE, "getGlobalOverview"), EnumSet.allOf(DomainEntity.class));
+        dependencies.put(new CacheEntry(STATISTICS_CACHE, "getEntityCounts"), EnumSet.allOf(DomainEntity.class));
+        dependencies.put(new CacheEntry(STATISTICS_CACHE, "getCountryStatistics"),
+            EnumSet.of(COUNTRY, ENGINE, SATELLITE, LAUNCH_SITE, SPACE_MISSION, SPACE_MILESTONE, CAPABILITY_SCORE));
+        dependencies.put(new CacheEntry(STATISTICS_CACHE, "getEngineTechnologyStats"), EnumSet.of(ENGINE));
+        dependencies.put(new CacheEntry(STATISTICS_CACHE, "getSatelliteTechnologyStats"), EnumSet.of(SATELLITE));
+        dependencies.put(new CacheEntry(STATISTICS_CACHE, "getLaunchInfrastructureStats"), EnumSet.of(LAUNCH_SITE));
+        dependencies.put(new CacheEntry(STATISTICS_CACHE, "getMissionStats"), EnumSet.of(SPACE_MISSION));
+        dependencies.put(new CacheEntry(STATISTICS_CACHE, "getMissionSuccessRatesByCountry"), EnumSet.of(COUNTRY, SPACE_MISSION));
+        dependencies.put(new CacheEntry(STATISTICS_CACHE, "getStatsByDecade"), EnumSet.of(SPACE_MISSION, SPACE_MILESTONE));
+        dependencies.put(new CacheEntry(STATISTICS_CACHE, "getYearOverYearGrowth"), EnumSet.of(SPACE_MISSION, SATELLITE));
+
+        Map<DomainEntity, List<CacheEntry>> dependents = new EnumMap<>(DomainEntity.class);
+        dependencies.forEach((entry, entities) ->
+            entities.forEach(entity -> dependents.computeIfAbsent(entity, e -> new ArrayList<>()).add(entry)));
+        return dependents;
+    }
+}
@@ -0,0 +1,116 @@
+package com.rocket.comparison.event;
+
+import com.rocket.comparison.entity.CapabilityCategory;
+import com.rocket.comparison.service.CapabilityScoreService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps capability scores current after committed entity writes by recomputing only the
+ * categories that read the changed entity type, for the owning country only.
+ *
+ * Requests for the same country are merged while a recalculation is queued, so a burst
+ * of engine edits costs one recalculation. A row moved between countries recalculates both. Changes without a known country (deletes,
+ * bulk syncs) fall back to a full recalculation, which is likewise queued at most once.
+ */
+@Component
+@Slf4j
+public class CapabilityScoreRecalculationListener {
+
+    private final CapabilityScoreService scoreService;
+    private final Executor scoreRecalculationExecutor;
+    private final boolean enabled;
+
+    // Countries with a recalculation queued but not yet started, and the categories to recompute
+    private final Map<Long, Set<CapabilityCategory>> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean fullRecalculationQueued = new AtomicBoolean();
+
+    public CapabilityScoreRecalculationListener(CapabilityScoreService scoreService,
+                                                @Qualifier("scoreRecalculationExecutor") Executor scoreRecalculationExecutor,
+                                                @Value("${capability.scores.recalculate-on-change:true}") boolean enabled) {
+        this.scoreService = scoreService;
+        this.scoreRecalculationExecutor = scoreRecalculationExecutor;
+        this.enabled = enabled;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        Set<CapabilityCategory> categories = CapabilityScoreService.categoriesAffectedBy(event.entity());
+        if (categories.isEmpty()) {
+            return;
+        }
+
+        if (event.countryId() == null) {
+            scheduleFullRecalculation();
+            return;
+        }
+        scheduleCountry(event.countryId(), categories);
+        if (event.previousCountryId() != null) {
+            // The row moved: the country it left loses it from its inputs
+            scheduleCountry(event.previousCountryId(), categories);
+        }
+    }
+
+    private void scheduleCountry(Long countryId, Set<CapabilityCategory> categories) {
+        AtomicBoolean queued = new AtomicBoolean();
+        pending.compute(countryId, (id, queuedCategories) -> {
+            if (queuedCategories == null) {
+                queued.set(true);
+                return EnumSet.copyOf(categories);
+            }
+            queuedCategories.addAll(categories);
+            return queuedCategories;
+        });
+        if (!queued.get()) {
+            return;
+        }
+
+        try {
+            scoreRecalculationExecutor.execute(() -> {
+                Set<CapabilityCategory> toRecalculate = pending.remove(countryId);
+                try {
+                    scoreService.recalculateCategories(countryId, toRecalculate);
+                    log.debug("Recalculated {} for country {}", toRecalculate, countryId);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to recalculate capability scores for country {}: {}", countryId, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(countryId);
+            log.debug("Score recalculation for country {} rejected, next full recalculation will cover it", countryId);
+        }
+    }
+
+    private void scheduleFullRecalculation() {
+        if (!fullRecalculationQueued.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            scoreRecalculationExecutor.execute(() -> {
+                fullRecalculationQueued.set(false);
+                try {
+                    scoreService.calculateAllScores();
+                } catch (RuntimeException e) {
+                    log.warn("Failed to recalculate capability scores: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            fullRecalculationQueued.set(false);
+            log.debug("Full score recalculation rejected");
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.rocket.comparison.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Global version of the catalog data, bumped after every committed entity write or sync.
+ *
+ * Read endpoints derive their validators from it (see {@code ConditionalGetInterceptor}):
+ * the ETag combines the boot epoch, so tags never survive a restart that reseeded the
+ * database, the version counter, and the current UTC day, because several endpoints
+ * default their year range to "this year".
+ *
+ * The listener runs last so caches and in-memory stores have already dropped stale data
+ * when a client first sees the new tag.
+ */
+@Component
+@Slf4j
+public class DataVersion {
+
+    /**
+     * Listeners that serve reads must be ordered before this to be invalidated ahead of the bump.
+     */
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE;
+
+    private record Stamp(long version, long modifiedAtMillis) {}
+
+    private final Clock clock;
+    private final String epoch;
+    private final AtomicReference<Stamp> stamp;
+
+    public DataVersion() {
+        this(Clock.systemUTC());
+    }
+
+    DataVersion(Clock clock) {
+        this.clock = clock;
+        long bootMillis = clock.millis();
+        this.epoch = Long.toString(bootMillis, 36);
+        this.stamp = new AtomicReference<>(new Stamp(0, bootMillis));
+    }
+
+    @Order(ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        long now = clock.millis();
+        Stamp bumped = stamp.updateAndGet(s -> new Stamp(s.version() + 1, Math.max(now, s.modifiedAtMillis())));
+        log.trace("Data version {} after {} {} change", bumped.version(), event.changeType(), event.entity());
+    }
+
+    public long version() {
+        return stamp.get().version();
+    }
+
+    /**
+     * Strong entity tag for the current data, including quotes.
+     */
+    public String etag() {
+        return "\"" + epoch + "-" + stamp.get().version() + "-" + today().toEpochDay() + "\"";
+    }
+
+    /**
+     * Time of the last change, never earlier than the start of the current UTC day.
+     */
+    public long lastModifiedMillis() {
+        long startOfDay = today().toEpochDay() * 86_400_000L;
+        return Math.max(stamp.get().modifiedAtMillis(), startOfDay);
+    }
+
+    private LocalDate today() {
+        return LocalDate.now(clock);
+    }
+}
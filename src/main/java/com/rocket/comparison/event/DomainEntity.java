@@ -0,0 +1,15 @@
+package com.rocket.comparison.event;
+
+/**
+ * Entity types whose changes are broadcast as {@link EntityChangedEvent}s.
+ */
+public enum DomainEntity {
+    COUNTRY,
+    ENGINE,
+    LAUNCH_VEHICLE,
+    SATELLITE,
+    LAUNCH_SITE,
+    SPACE_MISSION,
+    SPACE_MILESTONE,
+    CAPABILITY_SCORE
+}
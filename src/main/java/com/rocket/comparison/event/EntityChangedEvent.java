@@ -0,0 +1,58 @@
+package com.rocket.comparison.event;
+
+import com.rocket.comparison.entity.Country;
+
+import java.util.Objects;
+
+/**
+ * Published after entity writes in services and sync services.
+ * Listeners use {@code @TransactionalEventListener} so they only observe committed data.
+ *
+ * @param entity     type of entity that changed
+ * @param changeType kind of change
+ * @param entityId   id of the changed row, or null for bulk changes
+ * @param countryId  owning country of the changed row, or null if unknown
+ * @param previousCountryId owning country before the write, when the write moved the row to another country
+ */
+public record EntityChangedEvent(
+    DomainEntity entity,
+    ChangeType changeType,
+    Long entityId,
+    Long countryId,
+    Long previousCountryId
+) {
+
+    public enum ChangeType {
+        SAVED,
+        DELETED,
+        BULK
+    }
+
+    public static EntityChangedEvent saved(DomainEntity entity, Long entityId, Country country) {
+        return new EntityChangedEvent(entity, ChangeType.SAVED, entityId, idOf(country), null);
+    }
+
+    /**
+     * A row was saved and may have moved from {@code previousCountryId} to {@code country}.
+     */
+    public static EntityChangedEvent saved(DomainEntity entity, Long entityId, Country country, Long previousCountryId) {
+        Long countryId = idOf(country);
+        return new EntityChangedEvent(entity, ChangeType.SAVED, entityId, countryId,
+            Objects.equals(previousCountryId, countryId) ? null : previousCountryId);
+    }
+
+    public static EntityChangedEvent deleted(DomainEntity entity, Long entityId) {
+        return new EntityChangedEvent(entity, ChangeType.DELETED, entityId, null, null);
+    }
+
+    /**
+     * A batch of rows changed, e.g. during an external sync or a score recalculation.
+     */
+    public static EntityChangedEvent bulk(DomainEntity entity) {
+        return new EntityChangedEvent(entity, ChangeType.BULK, null, null, null);
+    }
+
+    private static Long idOf(Country country) {
+        return country != null ? country.getId() : null;
+    }
+}
@@ -1,12 +1,17 @@
 package com.rocket.comparison.exception;
 
+import io.github.resilience4j.bulkhead.BulkheadFullException;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -19,6 +24,9 @@ import java.util.Map;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    @Value("${app.concurrency.retry-after:1s}")
+    private Duration retryAfter = Duration.ofSeconds(1);
+
     /**
      * Handles validation errors from @Valid on @RequestBody
      */
@@ -80,4 +88,21 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity.badRequest().body(response);
     }
+
+    /**
+     * Handles saturated executors and bulkheads: the work was not started, so the client
+     * should retry later rather than treat it as a server error.
+     */
+    @ExceptionHandler({TaskRejectedException.class, BulkheadFullException.class})
+    public ResponseEntity<Map<String, Object>> handleCapacityExceeded(RuntimeException ex) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("timestamp", LocalDateTime.now().toString());
+        response.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+        response.put("error", "Too Many Requests");
+        response.put("message", "Server is at capacity, retry later");
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.toSeconds())))
+                .body(response);
+    }
 }
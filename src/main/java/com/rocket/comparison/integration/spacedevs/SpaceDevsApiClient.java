@@ -1,11 +1,13 @@
 package com.rocket.comparison.integration.spacedevs;
 
 import com.rocket.comparison.integration.spacedevs.dto.*;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import io.github.resilience4j.retry.annotation.Retry;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
@@ -21,23 +23,41 @@ import java.util.List;
  * - Circuit Breaker: Prevents cascading failures when API is down
  * - Retry: Handles transient failures with exponential backoff
  * - Rate Limiter: Respects API rate limits (15 req/s for free tier)
+ * - Bulkhead: Caps concurrent in-flight calls (shared by concurrent page fetches)
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class SpaceDevsApiClient {
 
     private static final String BASE_URL = "https://ll.thespacedevs.com/2.2.0";
     private static final String RESILIENCE_CONFIG = "spacedevs";
 
+    // Collection URLs for paged fetching; limit/offset are added per page
+    static final String PREVIOUS_LAUNCHES_URL = BASE_URL + "/launch/previous/?ordering=-net";
+    static final String UPCOMING_LAUNCHES_URL = BASE_URL + "/launch/upcoming/";
+    static final String PADS_URL = BASE_URL + "/pad/";
+    static final String LAUNCHER_CONFIGS_URL = BASE_URL + "/config/launcher/";
+
+    static final ParameterizedTypeReference<SpaceDevsPageResponse<LaunchDto>> LAUNCH_PAGE =
+        new ParameterizedTypeReference<>() {};
+    static final ParameterizedTypeReference<SpaceDevsPageResponse<PadDto>> PAD_PAGE =
+        new ParameterizedTypeReference<>() {};
+    static final ParameterizedTypeReference<SpaceDevsPageResponse<LauncherConfigDto>> LAUNCHER_CONFIG_PAGE =
+        new ParameterizedTypeReference<>() {};
+
     private final RestTemplate restTemplate;
 
+    public SpaceDevsApiClient(@Qualifier("spaceDevsRestTemplate") RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
+    }
+
     /**
      * Fetch agencies with pagination
      */
     @CircuitBreaker(name = RESILIENCE_CONFIG, fallbackMethod = "fetchAgenciesFallback")
     @Retry(name = RESILIENCE_CONFIG)
     @RateLimiter(name = RESILIENCE_CONFIG)
+    @Bulkhead(name = RESILIENCE_CONFIG)
     public List<AgencyDto> fetchAgencies(int limit) {
         String url = BASE_URL + "/agencies/?limit=" + limit + "&type=Government";
         log.info("Fetching agencies from: {}", url);
@@ -63,6 +83,7 @@ public class SpaceDevsApiClient {
     @CircuitBreaker(name = RESILIENCE_CONFIG, fallbackMethod = "fetchLaunchesFallback")
     @Retry(name = RESILIENCE_CONFIG)
     @RateLimiter(name = RESILIENCE_CONFIG)
+    @Bulkhead(name = RESILIENCE_CONFIG)
     public List<LaunchDto> fetchLaunches(int limit) {
         String url = BASE_URL + "/launch/previous/?limit=" + limit + "&ordering=-net";
         log.info("Fetching previous launches from: {}", url);
@@ -88,6 +109,7 @@ public class SpaceDevsApiClient {
     @CircuitBreaker(name = RESILIENCE_CONFIG, fallbackMethod = "fetchLaunchesByYearFallback")
     @Retry(name = RESILIENCE_CONFIG)
     @RateLimiter(name = RESILIENCE_CONFIG)
+    @Bulkhead(name = RESILIENCE_CONFIG)
     public List<LaunchDto> fetchLaunchesByYear(int year, int limit) {
         String url = BASE_URL + "/launch/?limit=" + limit + "&net__gte=" + year + "-01-01&net__lte=" + year + "-12-31";
         log.info("Fetching launches for year {} from: {}", year, url);
@@ -113,6 +135,7 @@ public class SpaceDevsApiClient {
     @CircuitBreaker(name = RESILIENCE_CONFIG, fallbackMethod = "fetchLauncherConfigsFallback")
     @Retry(name = RESILIENCE_CONFIG)
     @RateLimiter(name = RESILIENCE_CONFIG)
+    @Bulkhead(name = RESILIENCE_CONFIG)
     public List<LauncherConfigDto> fetchLauncherConfigs(int limit) {
         String url = BASE_URL + "/config/launcher/?limit=" + limit;
         log.info("Fetching launcher configs from: {}", url);
@@ -138,6 +161,7 @@ public class SpaceDevsApiClient {
     @CircuitBreaker(name = RESILIENCE_CONFIG, fallbackMethod = "fetchPadsFallback")
     @Retry(name = RESILIENCE_CONFIG)
     @RateLimiter(name = RESILIENCE_CONFIG)
+    @Bulkhead(name = RESILIENCE_CONFIG)
     public List<PadDto> fetchPads(int limit) {
         String url = BASE_URL + "/pad/?limit=" + limit;
         log.info("Fetching pads from: {}", url);
@@ -163,6 +187,7 @@ public class SpaceDevsApiClient {
     @CircuitBreaker(name = RESILIENCE_CONFIG, fallbackMethod = "fetchUpcomingLaunchesFallback")
     @Retry(name = RESILIENCE_CONFIG)
     @RateLimiter(name = RESILIENCE_CONFIG)
+    @Bulkhead(name = RESILIENCE_CONFIG)
     public List<LaunchDto> fetchUpcomingLaunches(int limit) {
         String url = BASE_URL + "/launch/upcoming/?limit=" + limit;
         log.info("Fetching upcoming launches from: {}", url);
@@ -182,8 +207,32 @@ public class SpaceDevsApiClient {
         return new ArrayList<>();
     }
 
+    /**
+     * Fetch a single page by absolute URL (used by {@link SpaceDevsPagedFetcher}).
+     * Goes through the same circuit breaker, retry and rate limiter as the other calls,
+     * so concurrent page fetches share the API budget.
+     */
+    @CircuitBreaker(name = RESILIENCE_CONFIG, fallbackMethod = "fetchPageFallback")
+    @Retry(name = RESILIENCE_CONFIG)
+    @RateLimiter(name = RESILIENCE_CONFIG)
+    @Bulkhead(name = RESILIENCE_CONFIG)
+    public <T> SpaceDevsPageResponse<T> fetchPage(String url, ParameterizedTypeReference<SpaceDevsPageResponse<T>> type) {
+        log.debug("Fetching page from: {}", url);
+
+        ResponseEntity<SpaceDevsPageResponse<T>> response = restTemplate.exchange(
+            url,
+            HttpMethod.GET,
+            null,
+            type
+        );
+
+        return response.getBody() != null ? response.getBody() : new SpaceDevsPageResponse<>();
+    }
+
     // ==================== Fallback Methods ====================
     // These are called when circuit breaker is open or all retries are exhausted
+    // A full bulkhead is backpressure, not a failure: each fallback has an overload that rethrows
+    // BulkheadFullException so it reaches GlobalExceptionHandler as 429 instead of an empty result
 
     @SuppressWarnings("unused")
     private List<AgencyDto> fetchAgenciesFallback(int limit, Exception e) {
@@ -191,33 +240,78 @@ public class SpaceDevsApiClient {
         return new ArrayList<>();
     }
 
+    @SuppressWarnings("unused")
+    private List<AgencyDto> fetchAgenciesFallback(int limit, BulkheadFullException e) {
+        throw e;
+    }
+
     @SuppressWarnings("unused")
     private List<LaunchDto> fetchLaunchesFallback(int limit, Exception e) {
         log.warn("Circuit breaker triggered for fetchLaunches. Returning empty list. Error: {}", e.getMessage());
         return new ArrayList<>();
     }
 
+    @SuppressWarnings("unused")
+    private List<LaunchDto> fetchLaunchesFallback(int limit, BulkheadFullException e) {
+        throw e;
+    }
+
     @SuppressWarnings("unused")
     private List<LaunchDto> fetchLaunchesByYearFallback(int year, int limit, Exception e) {
         log.warn("Circuit breaker triggered for fetchLaunchesByYear({}). Returning empty list. Error: {}", year, e.getMessage());
         return new ArrayList<>();
     }
 
+    @SuppressWarnings("unused")
+    private List<LaunchDto> fetchLaunchesByYearFallback(int year, int limit, BulkheadFullException e) {
+        throw e;
+    }
+
     @SuppressWarnings("unused")
     private List<LauncherConfigDto> fetchLauncherConfigsFallback(int limit, Exception e) {
         log.warn("Circuit breaker triggered for fetchLauncherConfigs. Returning empty list. Error: {}", e.getMessage());
         return new ArrayList<>();
     }
 
+    @SuppressWarnings("unused")
+    private List<LauncherConfigDto> fetchLauncherConfigsFallback(int limit, BulkheadFullException e) {
+        throw e;
+    }
+
     @SuppressWarnings("unused")
     private List<PadDto> fetchPadsFallback(int limit, Exception e) {
         log.warn("Circuit breaker triggered for fetchPads. Returning empty list. Error: {}", e.getMessage());
         return new ArrayList<>();
     }
 
+    @SuppressWarnings("unused")
+    private List<PadDto> fetchPadsFallback(int limit, BulkheadFullException e) {
+        throw e;
+    }
+
+    @SuppressWarnings("unused")
+    private <T> SpaceDevsPageResponse<T> fetchPageFallback(String url,
+                                                           ParameterizedTypeReference<SpaceDevsPageResponse<T>> type,
+                                                           Exception e) {
+        log.warn("Circuit breaker triggered for fetchPage({}). Returning empty page. Error: {}", url, e.getMessage());
+        return new SpaceDevsPageResponse<>();
+    }
+
+    @SuppressWarnings("unused")
+    private <T> SpaceDevsPageResponse<T> fetchPageFallback(String url,
+                                                           ParameterizedTypeReference<SpaceDevsPageResponse<T>> type,
+                                                           BulkheadFullException e) {
+        throw e;
+    }
+
     @SuppressWarnings("unused")
     private List<LaunchDto> fetchUpcomingLaunchesFallback(int limit, Exception e) {
         log.warn("Circuit breaker triggered for fetchUpcomingLaunches. Returning empty list. Error: {}", e.getMessage());
         return new ArrayList<>();
     }
+
+    @SuppressWarnings("unused")
+    private List<LaunchDto> fetchUpcomingLaunchesFallback(int limit, BulkheadFullException e) {
+        throw e;
+    }
 }
@@ -0,0 +1,172 @@
+package com.rocket.comparison.integration.spacedevs;
+
+import com.rocket.comparison.integration.spacedevs.dto.LaunchDto;
+import com.rocket.comparison.integration.spacedevs.dto.LauncherConfigDto;
+import com.rocket.comparison.integration.spacedevs.dto.PadDto;
+import com.rocket.comparison.integration.spacedevs.dto.SpaceDevsPageResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+/**
+ * Fetches multi-page collections from TheSpaceDevs API concurrently.
+ *
+ * The first page is fetched synchronously; its {@code count} and {@code next} link tell us
+ * every remaining offset, so those pages are requested in parallel on the
+ * {@code spaceDevsFetchExecutor}. Each request goes through
+ * {@link SpaceDevsApiClient#fetchPage}, so the shared {@code spacedevs} rate limiter, not
+ * the number of round trips, bounds a full fetch.
+ *
+ * Pages are handed to the consumer on the calling thread as they complete (not in API
+ * order), so callers can write each page inside their own transaction while later pages
+ * are still downloading.
+ *
+ * Launch collections can be restricted to launches updated since a high-water mark; they are
+ * then ordered by {@code last_updated}, so a fetch cut short by its limit resumes where it stopped.
+ */
+@Component
+@Slf4j
+public class SpaceDevsPagedFetcher {
+
+    /**
+     * Outcome of a paged fetch. Incomplete when a page failed, so not everything available was delivered.
+     */
+    public record PageFetch(int delivered, int available) {
+        public boolean complete() {
+            return delivered >= available;
+        }
+    }
+
+    private final SpaceDevsApiClient apiClient;
+    private final Executor fetchExecutor;
+
+    // TheSpaceDevs caps limit at 100 per request
+    @Value("${spacedevs.fetch.page-size:100}")
+    private int pageSize;
+
+    public SpaceDevsPagedFetcher(SpaceDevsApiClient apiClient,
+                                 @Qualifier("spaceDevsFetchExecutor") Executor fetchExecutor) {
+        this.apiClient = apiClient;
+        this.fetchExecutor = fetchExecutor;
+    }
+
+    /**
+     * Fetch up to {@code limit} past launches updated at or after {@code updatedSince}, oldest
+     * update first; newest launches first when {@code updatedSince} is null.
+     */
+    public PageFetch fetchLaunches(int limit, Instant updatedSince, Consumer<List<LaunchDto>> pageConsumer) {
+        return fetch(updatedSince(SpaceDevsApiClient.PREVIOUS_LAUNCHES_URL, updatedSince), limit,
+            SpaceDevsApiClient.LAUNCH_PAGE, pageConsumer);
+    }
+
+    /**
+     * Fetch up to {@code limit} upcoming launches updated at or after {@code updatedSince}, oldest
+     * update first; in launch order when {@code updatedSince} is null.
+     */
+    public PageFetch fetchUpcomingLaunches(int limit, Instant updatedSince, Consumer<List<LaunchDto>> pageConsumer) {
+        return fetch(updatedSince(SpaceDevsApiClient.UPCOMING_LAUNCHES_URL, updatedSince), limit,
+            SpaceDevsApiClient.LAUNCH_PAGE, pageConsumer);
+    }
+
+    /**
+     * Fetch up to {@code limit} launch pads.
+     * @return number of pads handed to the consumer
+     */
+    public int fetchPads(int limit, Consumer<List<PadDto>> pageConsumer) {
+        return fetchAll(SpaceDevsApiClient.PADS_URL, limit, SpaceDevsApiClient.PAD_PAGE, pageConsumer);
+    }
+
+    /**
+     * Fetch up to {@code limit} launcher configurations.
+     * @return number of configurations handed to the consumer
+     */
+    public int fetchLauncherConfigs(int limit, Consumer<List<LauncherConfigDto>> pageConsumer) {
+        return fetchAll(SpaceDevsApiClient.LAUNCHER_CONFIGS_URL, limit, SpaceDevsApiClient.LAUNCHER_CONFIG_PAGE, pageConsumer);
+    }
+
+    <T> int fetchAll(String url,
+                     int limit,
+                     ParameterizedTypeReference<SpaceDevsPageResponse<T>> type,
+                     Consumer<List<T>> pageConsumer) {
+        return fetch(url, limit, type, pageConsumer).delivered();
+    }
+
+    <T> PageFetch fetch(String url,
+                        int limit,
+                        ParameterizedTypeReference<SpaceDevsPageResponse<T>> type,
+                        Consumer<List<T>> pageConsumer) {
+        if (limit <= 0) {
+            return new PageFetch(0, 0);
+        }
+        int size = Math.max(1, pageSize);
+        int firstLimit = Math.min(limit, size);
+
+        SpaceDevsPageResponse<T> first = apiClient.fetchPage(withPaging(url, firstLimit, 0), type);
+        int available = first.getCount() != null ? Math.min(limit, first.getCount()) : limit;
+
+        // Queue the remaining pages before handing over the first one, so downloads overlap its processing
+        CompletionService<SpaceDevsPageResponse<T>> completion = new ExecutorCompletionService<>(fetchExecutor);
+        List<Future<SpaceDevsPageResponse<T>>> pending = new ArrayList<>();
+        if (first.getNext() != null) {
+            for (int offset = firstLimit; offset < available; offset += size) {
+                String pageUrl = withPaging(first.getNext(), Math.min(size, available - offset), offset);
+                pending.add(completion.submit(() -> apiClient.fetchPage(pageUrl, type)));
+            }
+        }
+        log.info("Fetching {} items from {} in {} pages", available, url, pending.size() + 1);
+
+        int delivered = deliver(first, pageConsumer);
+        try {
+            for (int i = 0; i < pending.size(); i++) {
+                try {
+                    delivered += deliver(completion.take().get(), pageConsumer);
+                } catch (ExecutionException e) {
+                    log.warn("Failed to fetch page from {}: {}", url, e.getCause().getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while fetching pages from {}", url);
+        } finally {
+            // Stop outstanding downloads if the consumer failed or we were interrupted
+            pending.forEach(future -> future.cancel(true));
+        }
+        return new PageFetch(delivered, available);
+    }
+
+    private <T> int deliver(SpaceDevsPageResponse<T> page, Consumer<List<T>> pageConsumer) {
+        if (page == null || page.getResults() == null || page.getResults().isEmpty()) {
+            return 0;
+        }
+        pageConsumer.accept(page.getResults());
+        return page.getResults().size();
+    }
+
+    private static String updatedSince(String url, Instant since) {
+        if (since == null) {
+            return url;
+        }
+        return UriComponentsBuilder.fromUriString(url)
+            .replaceQueryParam("ordering", "last_updated")
+            .replaceQueryParam("last_updated__gte", since.toString())
+            .build(true)
+            .toUriString();
+    }
+
+    private static String withPaging(String url, int limit, int offset) {
+        return UriComponentsBuilder.fromUriString(url)
+            .replaceQueryParam("limit", limit)
+            .replaceQueryParam("offset", offset)
+            .build(true)
+            .toUriString();
+    }
+}
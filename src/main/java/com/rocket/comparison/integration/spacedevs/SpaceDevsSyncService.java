@@ -1,35 +1,69 @@
 package com.rocket.comparison.integration.spacedevs;
 
 import com.rocket.comparison.entity.*;
+import com.rocket.comparison.event.DomainEntity;
+import com.rocket.comparison.event.EntityChangedEvent;
 import com.rocket.comparison.integration.spacedevs.dto.*;
 import com.rocket.comparison.repository.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.concurrent.CompletableFuture;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
  * Service for synchronizing data from TheSpaceDevs API to our database.
  * Handles mapping, deduplication, and updates.
+ *
+ * Syncs are incremental by default: launch syncs only request launches updated since the
+ * high-water mark of the last successful run (recorded in {@code sync_status}), and every
+ * launch or launch site whose payload hashes the same as when it was last written is skipped.
+ * A non-incremental sync re-reads the newest launches and rewrites everything it fetched.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class SpaceDevsSyncService {
 
-    private final SpaceDevsApiClient apiClient;
+    private final SpaceDevsPagedFetcher pagedFetcher;
     private final CountryRepository countryRepository;
     private final SpaceMissionRepository spaceMissionRepository;
     private final LaunchSiteRepository launchSiteRepository;
+    private final SyncStatusRepository syncStatusRepository;
+    private final SyncContentHashStore hashStore;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // sync_status types, also used as content hash sources
+    static final String LAUNCHES_SYNC = "spacedevs_launches";
+    static final String UPCOMING_LAUNCHES_SYNC = "spacedevs_upcoming_launches";
+    static final String LAUNCH_SITES_SYNC = "spacedevs_launch_sites";
+    private static final String SOURCE_API = "TheSpaceDevs";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Launches written per flush; keep in step with hibernate.jdbc.batch_size
+    @Value("${sync.external.chunk-size:50}")
+    private int chunkSize;
+
+    @Value("${sync.external.incremental:true}")
+    private boolean incremental;
 
     // Country code to Country entity cache (thread-safe)
     private final Map<String, Country> countryCache = new ConcurrentHashMap<>();
@@ -39,6 +73,15 @@ public class SpaceDevsSyncService {
      */
     @Transactional
     public Map<String, Object> fullSync() {
+        return fullSync(incremental);
+    }
+
+    /**
+     * Full sync - fetches and updates all data types
+     * @param incremental only fetch and write what changed since the last sync
+     */
+    @Transactional
+    public Map<String, Object> fullSync(boolean incremental) {
         log.info("Starting full sync from TheSpaceDevs API");
         Map<String, Object> results = new LinkedHashMap<>();
 
@@ -46,10 +89,10 @@ public class SpaceDevsSyncService {
         loadCountryCache();
 
         // Sync launch sites first (from pads)
-        results.put("launchSites", syncLaunchSites(100));
+        results.put("launchSites", syncLaunchSites(100, incremental));
 
         // Sync recent launches (missions)
-        results.put("missions", syncRecentLaunches(200));
+        results.put("missions", syncRecentLaunches(200, incremental));
 
         results.put("syncedAt", LocalDate.now().toString());
         log.info("Full sync completed: {}", results);
@@ -62,34 +105,17 @@ public class SpaceDevsSyncService {
      */
     @Transactional
     public Map<String, Object> syncRecentLaunches(int limit) {
-        log.info("Syncing recent {} launches", limit);
-        loadCountryCache();
-
-        List<LaunchDto> launches = apiClient.fetchLaunches(limit);
-        int created = 0;
-        int updated = 0;
-        int skipped = 0;
-
-        for (LaunchDto launch : launches) {
-            try {
-                SyncResult result = syncLaunch(launch);
-                switch (result) {
-                    case CREATED -> created++;
-                    case UPDATED -> updated++;
-                    case SKIPPED -> skipped++;
-                }
-            } catch (Exception e) {
-                log.warn("Error syncing launch {}: {}", launch.getName(), e.getMessage());
-                skipped++;
-            }
-        }
-
-        Map<String, Object> stats = new LinkedHashMap<>();
-        stats.put("fetched", launches.size());
-        stats.put("created", created);
-        stats.put("updated", updated);
-        stats.put("skipped", skipped);
+        return syncRecentLaunches(limit, incremental);
+    }
 
+    /**
+     * Sync only recent launches (missions)
+     * @param incremental only fetch launches updated since the last sync and skip unchanged ones
+     */
+    @Transactional
+    public Map<String, Object> syncRecentLaunches(int limit, boolean incremental) {
+        log.info("Syncing recent {} launches{}", limit, incremental ? " (incremental)" : "");
+        Map<String, Object> stats = syncLaunchFeed(LAUNCHES_SYNC, "launch", limit, incremental, pagedFetcher::fetchLaunches);
         log.info("Launch sync completed: {}", stats);
         return stats;
     }
@@ -99,39 +125,84 @@ public class SpaceDevsSyncService {
      */
     @Transactional
     public Map<String, Object> syncLaunchSites(int limit) {
-        log.info("Syncing launch sites (pads)");
+        return syncLaunchSites(limit, incremental);
+    }
+
+    /**
+     * Sync launch sites from pads endpoint. Pads carry no modification time to filter on, so
+     * they are always fetched; locations whose pads are unchanged are skipped when incremental.
+     */
+    @Transactional
+    public Map<String, Object> syncLaunchSites(int limit, boolean incremental) {
+        log.info("Syncing launch sites (pads){}", incremental ? " (incremental)" : "");
         loadCountryCache();
+        SyncStatus status = SyncStatus.startSync(LAUNCH_SITES_SYNC, SOURCE_API);
 
-        List<PadDto> pads = apiClient.fetchPads(limit);
+        // Pads of one location can span pages, so collect them all before grouping
+        List<PadDto> pads = new ArrayList<>();
+        pagedFetcher.fetchPads(limit, pads::addAll);
         int created = 0;
         int updated = 0;
+        int unchanged = 0;
         int skipped = 0;
 
         // Group pads by location to create launch sites
         Map<String, List<PadDto>> padsByLocation = pads.stream()
-            .filter(p -> p.getLocation() != null)
+            .filter(p -> p.getLocation() != null && p.getLocation().getName() != null)
             .collect(Collectors.groupingBy(p -> p.getLocation().getName()));
 
+        // Pads arrive in page completion order; hash each location's pads in id order
+        SyncContentHashStore.Hashes hashes = hashStore.load(LAUNCH_SITES_SYNC, padsByLocation.keySet());
+        Map<String, String> changed = new LinkedHashMap<>();
         for (Map.Entry<String, List<PadDto>> entry : padsByLocation.entrySet()) {
+            entry.getValue().sort(Comparator.comparing(PadDto::getId, Comparator.nullsLast(Comparator.naturalOrder())));
+            String hash = SyncContentHashStore.hash(entry.getValue());
+            if (incremental && hashes.unchanged(entry.getKey(), hash)) {
+                unchanged++;
+            } else {
+                changed.put(entry.getKey(), hash);
+            }
+        }
+
+        Map<String, LaunchSite> existingSites = new HashMap<>();
+        if (!changed.isEmpty()) {
+            Set<String> names = changed.keySet().stream()
+                .map(String::toLowerCase)
+                .collect(Collectors.toSet());
+            launchSiteRepository.findByLowerNameIn(names)
+                .forEach(ls -> existingSites.putIfAbsent(ls.getName().toLowerCase(), ls));
+        }
+
+        for (Map.Entry<String, String> entry : changed.entrySet()) {
             try {
-                SyncResult result = syncLaunchSite(entry.getKey(), entry.getValue());
+                SyncResult result = syncLaunchSite(entry.getKey(), padsByLocation.get(entry.getKey()), existingSites);
                 switch (result) {
                     case CREATED -> created++;
                     case UPDATED -> updated++;
                     case SKIPPED -> skipped++;
                 }
+                if (result != SyncResult.SKIPPED) {
+                    hashes.put(entry.getKey(), entry.getValue());
+                }
             } catch (Exception e) {
                 log.warn("Error syncing launch site {}: {}", entry.getKey(), e.getMessage());
                 skipped++;
             }
         }
 
+        status.markSuccess(created + updated);
+        syncStatusRepository.save(status);
+
         Map<String, Object> stats = new LinkedHashMap<>();
         stats.put("fetched", padsByLocation.size());
         stats.put("created", created);
         stats.put("updated", updated);
+        stats.put("unchanged", unchanged);
         stats.put("skipped", skipped);
 
+        if (created + updated > 0) {
+            eventPublisher.publishEvent(EntityChangedEvent.bulk(DomainEntity.LAUNCH_SITE));
+        }
         log.info("Launch site sync completed: {}", stats);
         return stats;
     }
@@ -174,49 +245,169 @@ public class SpaceDevsSyncService {
      */
     @Transactional
     public Map<String, Object> syncUpcomingLaunches(int limit) {
-        log.info("Syncing upcoming {} launches", limit);
-        loadCountryCache();
+        return syncUpcomingLaunches(limit, incremental);
+    }
 
-        List<LaunchDto> launches = apiClient.fetchUpcomingLaunches(limit);
-        int created = 0;
-        int updated = 0;
-        int skipped = 0;
+    /**
+     * Sync upcoming launches
+     * @param incremental only fetch launches updated since the last sync and skip unchanged ones
+     */
+    @Transactional
+    public Map<String, Object> syncUpcomingLaunches(int limit, boolean incremental) {
+        log.info("Syncing upcoming {} launches{}", limit, incremental ? " (incremental)" : "");
+        Map<String, Object> stats = syncLaunchFeed(UPCOMING_LAUNCHES_SYNC, "upcoming launch", limit, incremental,
+            pagedFetcher::fetchUpcomingLaunches);
+        log.info("Upcoming launch sync completed: {}", stats);
+        return stats;
+    }
 
-        for (LaunchDto launch : launches) {
-            try {
-                SyncResult result = syncLaunch(launch);
-                switch (result) {
-                    case CREATED -> created++;
-                    case UPDATED -> updated++;
-                    case SKIPPED -> skipped++;
-                }
-            } catch (Exception e) {
-                log.warn("Error syncing upcoming launch {}: {}", launch.getName(), e.getMessage());
-                skipped++;
-            }
-        }
+    // ==================== Private Sync Methods ====================
+
+    /**
+     * One launch collection of {@link SpaceDevsPagedFetcher}, optionally restricted to updates since a time.
+     */
+    @FunctionalInterface
+    private interface LaunchFeed {
+        SpaceDevsPagedFetcher.PageFetch fetch(int limit, Instant updatedSince, Consumer<List<LaunchDto>> pageConsumer);
+    }
+
+    /**
+     * Syncs one launch collection and records the run in {@code sync_status}, in the sync's own
+     * transaction. Incremental runs read in {@code last_updated} order from the high-water mark, or
+     * from the epoch before the first mark, and advance it to the latest {@code last_updated} they
+     * fetched once every page arrived. The mark never passes a launch that was skipped or failed, so
+     * the next run requests it again. A non-incremental run reads the newest launches, which says
+     * nothing about older updates it did not see, so it records the previous mark unchanged.
+     */
+    private Map<String, Object> syncLaunchFeed(String syncType, String label, int limit, boolean incremental, LaunchFeed feed) {
+        loadCountryCache();
+        SyncStatus status = SyncStatus.startSync(syncType, SOURCE_API);
+        Instant mark = syncStatusRepository.findHighWaterMark(syncType).orElse(null);
+        Instant since = incremental ? Objects.requireNonNullElse(mark, Instant.EPOCH) : null;
+
+        // Pages are written as they arrive while the remaining ones download
+        Map<SyncResult, Integer> results = newResults();
+        AtomicReference<FeedMarks> marks = new AtomicReference<>(FeedMarks.NONE);
+        SpaceDevsPagedFetcher.PageFetch fetch = feed.fetch(limit, since, page ->
+            marks.accumulateAndGet(syncLaunches(page, label, syncType, incremental, results), FeedMarks::merge));
+        int created = results.get(SyncResult.CREATED);
+        int updated = results.get(SyncResult.UPDATED);
+
+        Instant highWaterMark = since != null && fetch.complete() ? marks.get().advance(since) : mark;
+        status.markSuccess(created + updated, highWaterMark);
+        syncStatusRepository.save(status);
 
         Map<String, Object> stats = new LinkedHashMap<>();
-        stats.put("fetched", launches.size());
+        stats.put("fetched", fetch.delivered());
         stats.put("created", created);
         stats.put("updated", updated);
-        stats.put("skipped", skipped);
+        stats.put("unchanged", results.get(SyncResult.UNCHANGED));
+        stats.put("skipped", results.get(SyncResult.SKIPPED));
+        if (since != null) {
+            stats.put("updatedSince", since.toString());
+        }
 
-        log.info("Upcoming launch sync completed: {}", stats);
+        if (created + updated > 0) {
+            eventPublisher.publishEvent(EntityChangedEvent.bulk(DomainEntity.SPACE_MISSION));
+        }
         return stats;
     }
 
-    // ==================== Private Sync Methods ====================
+    /**
+     * Upserts a page of launches chunk by chunk, adding the outcomes to {@code results}. When
+     * incremental, launches whose payload hash matches the stored one are counted as unchanged
+     * before any other lookup. Existing missions for the rest of a chunk are resolved
+     * with a single lower(name) IN (...) query, new missions are written with saveAll, and
+     * the persistence context is flushed and cleared after each chunk so memory stays flat.
+     * @return the latest {@code last_updated} on the page and the earliest among its skipped launches
+     */
+    private FeedMarks syncLaunches(List<LaunchDto> launches, String label, String source, boolean incremental,
+                                   Map<SyncResult, Integer> results) {
+        Instant latest = null;
+        Instant earliestSkipped = null;
+        int size = Math.max(1, chunkSize);
+        for (int from = 0; from < launches.size(); from += size) {
+            List<LaunchDto> chunk = launches.subList(from, Math.min(from + size, launches.size()));
+
+            Set<String> ids = chunk.stream()
+                .map(LaunchDto::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+            SyncContentHashStore.Hashes hashes = hashStore.load(source, ids);
+
+            List<LaunchDto> changed = new ArrayList<>();
+            List<String> changedHashes = new ArrayList<>();
+            for (LaunchDto launch : chunk) {
+                latest = later(latest, parseInstant(launch.getLastUpdated()));
+                String hash = SyncContentHashStore.hash(launch);
+                if (incremental && hashes.unchanged(launch.getId(), hash)) {
+                    results.merge(SyncResult.UNCHANGED, 1, Integer::sum);
+                } else {
+                    changed.add(launch);
+                    changedHashes.add(hash);
+                }
+            }
+
+            Set<String> names = changed.stream()
+                .map(LaunchDto::getName)
+                .filter(Objects::nonNull)
+                .map(String::toLowerCase)
+                .collect(Collectors.toSet());
+            Map<String, SpaceMission> existingMissions = new HashMap<>();
+            if (!names.isEmpty()) {
+                spaceMissionRepository.findByLowerNameIn(names)
+                    .forEach(m -> existingMissions.putIfAbsent(m.getName().toLowerCase(), m));
+            }
+
+            List<SpaceMission> newMissions = new ArrayList<>();
+            for (int i = 0; i < changed.size(); i++) {
+                LaunchDto launch = changed.get(i);
+                try {
+                    SyncResult result = syncLaunch(launch, existingMissions, newMissions);
+                    results.merge(result, 1, Integer::sum);
+                    // Skipped launches keep no hash and hold the high-water mark, so the next run retries them
+                    if (result != SyncResult.SKIPPED) {
+                        hashes.put(launch.getId(), changedHashes.get(i));
+                    } else {
+                        earliestSkipped = earlier(earliestSkipped, parseInstant(launch.getLastUpdated()));
+                    }
+                } catch (Exception e) {
+                    log.warn("Error syncing {} {}: {}", label, launch.getName(), e.getMessage());
+                    results.merge(SyncResult.SKIPPED, 1, Integer::sum);
+                    earliestSkipped = earlier(earliestSkipped, parseInstant(launch.getLastUpdated()));
+                }
+            }
 
-    private SyncResult syncLaunch(LaunchDto launch) {
+            spaceMissionRepository.saveAll(newMissions);
+            entityManager.flush();
+            entityManager.clear();
+        }
+        return new FeedMarks(latest, earliestSkipped);
+    }
+
+    private static Map<SyncResult, Integer> newResults() {
+        Map<SyncResult, Integer> results = new EnumMap<>(SyncResult.class);
+        for (SyncResult result : SyncResult.values()) {
+            results.put(result, 0);
+        }
+        return results;
+    }
+
+    /**
+     * Maps one launch onto its mission. New missions are registered in {@code existingMissions}
+     * so a repeated name later in the chunk updates the same row, and collected in
+     * {@code newMissions} for the chunk's saveAll; existing missions are managed and flushed.
+     */
+    private SyncResult syncLaunch(LaunchDto launch,
+                                  Map<String, SpaceMission> existingMissions,
+                                  List<SpaceMission> newMissions) {
         if (launch.getName() == null || launch.getLaunchServiceProvider() == null) {
             return SyncResult.SKIPPED;
         }
 
         // Try to find existing mission by name
-        Optional<SpaceMission> existingOpt = spaceMissionRepository.findAll().stream()
-            .filter(m -> m.getName().equalsIgnoreCase(launch.getName()))
-            .findFirst();
+        Optional<SpaceMission> existingOpt =
+            Optional.ofNullable(existingMissions.get(launch.getName().toLowerCase()));
 
         // Try multiple ways to resolve country
         Country country = resolveCountry(launch.getLaunchServiceProvider().getCountryCode());
@@ -255,7 +446,10 @@ public class SpaceDevsSyncService {
         // Map launch data to mission
         mapLaunchToMission(launch, mission, country);
 
-        spaceMissionRepository.save(mission);
+        if (isNew) {
+            existingMissions.put(launch.getName().toLowerCase(), mission);
+            newMissions.add(mission);
+        }
 
         return isNew ? SyncResult.CREATED : SyncResult.UPDATED;
     }
@@ -409,7 +603,7 @@ public class SpaceDevsSyncService {
         };
     }
 
-    private SyncResult syncLaunchSite(String locationName, List<PadDto> pads) {
+    private SyncResult syncLaunchSite(String locationName, List<PadDto> pads, Map<String, LaunchSite> existingSites) {
         if (locationName == null || pads.isEmpty()) {
             return SyncResult.SKIPPED;
         }
@@ -420,9 +614,7 @@ public class SpaceDevsSyncService {
         }
 
         // Try to find existing launch site by name
-        Optional<LaunchSite> existingOpt = launchSiteRepository.findAll().stream()
-            .filter(ls -> ls.getName().equalsIgnoreCase(locationName))
-            .findFirst();
+        Optional<LaunchSite> existingOpt = Optional.ofNullable(existingSites.get(locationName.toLowerCase()));
 
         Country country = resolveCountry(firstPad.getLocation().getCountryCode());
         if (country == null) {
@@ -515,6 +707,28 @@ public class SpaceDevsSyncService {
 
     // ==================== Helper Methods ====================
 
+    private static Instant parseInstant(String timestamp) {
+        if (timestamp == null) return null;
+        try {
+            return OffsetDateTime.parse(timestamp).toInstant();
+        } catch (DateTimeParseException e) {
+            log.debug("Could not parse timestamp: {}", timestamp);
+            return null;
+        }
+    }
+
+    private static Instant later(Instant a, Instant b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static Instant earlier(Instant a, Instant b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.isBefore(b) ? a : b;
+    }
+
     private void loadCountryCache() {
         if (countryCache.isEmpty()) {
             countryRepository.findAll().forEach(c -> {
@@ -633,6 +847,28 @@ public class SpaceDevsSyncService {
     }
 
     private enum SyncResult {
-        CREATED, UPDATED, SKIPPED
+        CREATED, UPDATED, UNCHANGED, SKIPPED
+    }
+
+    /**
+     * {@code last_updated} bounds seen while syncing a feed: the latest fetched, and the earliest
+     * among launches that were skipped or failed. Either is null when no such launch had one.
+     */
+    private record FeedMarks(Instant latest, Instant earliestSkipped) {
+
+        static final FeedMarks NONE = new FeedMarks(null, null);
+
+        FeedMarks merge(FeedMarks other) {
+            return new FeedMarks(later(latest, other.latest), earlier(earliestSkipped, other.earliestSkipped));
+        }
+
+        /**
+         * The mark after a complete incremental read from {@code since}. Reads use {@code last_updated >= mark},
+         * so stopping at the earliest skipped launch requests it again.
+         */
+        Instant advance(Instant since) {
+            Instant advanced = later(since, latest);
+            return earliestSkipped != null ? earlier(advanced, later(since, earliestSkipped)) : advanced;
+        }
     }
 }
@@ -0,0 +1,107 @@
+package com.rocket.comparison.integration.spacedevs;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.rocket.comparison.entity.SyncContentHash;
+import com.rocket.comparison.repository.SyncContentHashRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * Content hashes of synced external items, so a sync can skip items whose payload has not
+ * changed since they were last written.
+ *
+ * Hashes are written in the caller's transaction: they only stick if the rows they describe do.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SyncContentHashStore {
+
+    // Own mapper with a fixed property order, so hashes don't depend on the web serialization setup
+    private static final ObjectMapper HASH_MAPPER = JsonMapper.builder()
+        .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+        .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+        .build();
+
+    private final SyncContentHashRepository repository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * SHA-256 of the item's JSON form, or null if it cannot be serialized (such items are always synced).
+     */
+    public static String hash(Object content) {
+        try {
+            byte[] json = HASH_MAPPER.writeValueAsBytes(content);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json));
+        } catch (JsonProcessingException e) {
+            log.debug("Could not hash {}: {}", content.getClass().getSimpleName(), e.getMessage());
+            return null;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Loads the stored hashes of one batch of items with a single query.
+     */
+    public Hashes load(String source, Collection<String> externalIds) {
+        Map<String, SyncContentHash> stored = new HashMap<>();
+        if (!externalIds.isEmpty()) {
+            repository.findBySourceAndExternalIdIn(source, externalIds)
+                .forEach(row -> stored.put(row.getExternalId(), row));
+        }
+        return new Hashes(source, stored);
+    }
+
+    /**
+     * Stored hashes of one batch; {@link #put} must be called before the persistence context is cleared.
+     */
+    public final class Hashes {
+
+        private final String source;
+        private final Map<String, SyncContentHash> stored;
+
+        private Hashes(String source, Map<String, SyncContentHash> stored) {
+            this.source = source;
+            this.stored = stored;
+        }
+
+        public boolean unchanged(String externalId, String hash) {
+            SyncContentHash row = stored.get(externalId);
+            return hash != null && row != null && hash.equals(row.getContentHash());
+        }
+
+        public void put(String externalId, String hash) {
+            if (externalId == null || hash == null) {
+                return;
+            }
+            SyncContentHash row = stored.get(externalId);
+            if (row != null) {
+                // Loaded rows are managed: the change is flushed with the batch
+                row.setContentHash(hash);
+                row.setSyncedAt(LocalDateTime.now());
+            } else {
+                row = new SyncContentHash(source, externalId, hash, LocalDateTime.now());
+                entityManager.persist(row);
+                stored.put(externalId, row);
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.rocket.comparison.integration.truthledger;
+
+import com.rocket.comparison.config.OutboundHttpProperties;
+import com.rocket.comparison.integration.truthledger.dto.ConflictGroupDto;
+import com.rocket.comparison.integration.truthledger.dto.EntityFactsResponseDto;
+import com.rocket.comparison.integration.truthledger.dto.FactResponseDto;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read-side front of {@link TruthLedgerClient} for request-serving code.
+ *
+ * Concurrent identical calls are merged ({@link SingleFlight}), so a page that asks for the
+ * same engine's entity, facts or field from many threads sends one request through the
+ * {@code truthledger} rate limiter. Different field lookups still go out one by one: the
+ * ledger has no bulk field endpoint, and its entity facts listing carries neither the
+ * alternatives nor the slider resolution a field lookup returns.
+ *
+ * Callers waiting on someone else's request stop after the {@code truthledger} response
+ * timeout and get the same empty answer the client's fallbacks give.
+ */
+@Component
+public class CoalescingTruthLedgerClient {
+
+    private record FieldKey(Long engineId, String attributePattern, double truthSlider) {}
+
+    private record FactsKey(String entityId, double truthSlider) {}
+
+    private record ConflictsKey(String entityId, int limit) {}
+
+    private final TruthLedgerClient client;
+
+    private final SingleFlight<Long, Optional<EntityFactsResponseDto.EntityDto>> entityLookups;
+    private final SingleFlight<FactsKey, Optional<EntityFactsResponseDto>> entityFacts;
+    private final SingleFlight<ConflictsKey, List<ConflictGroupDto>> conflictGroups;
+    private final SingleFlight<FieldKey, Optional<FactResponseDto>> fieldLookups;
+
+    public CoalescingTruthLedgerClient(TruthLedgerClient client,
+                                       OutboundHttpProperties httpProperties,
+                                       MeterRegistry meterRegistry) {
+        this.client = client;
+
+        Duration maxWait = httpProperties.clientFor("truthledger").getResponseTimeout();
+        this.entityLookups = new SingleFlight<>(maxWait, Optional.empty());
+        this.entityFacts = new SingleFlight<>(maxWait, Optional.empty());
+        this.conflictGroups = new SingleFlight<>(maxWait, List.of());
+        this.fieldLookups = new SingleFlight<>(maxWait, Optional.empty());
+
+        FunctionCounter.builder("truthledger.requests.merged", this, CoalescingTruthLedgerClient::mergedCalls)
+            .description("Truth Ledger calls answered by a concurrent identical request")
+            .register(meterRegistry);
+        FunctionCounter.builder("truthledger.requests.merged.timeouts", this, CoalescingTruthLedgerClient::timedOutWaits)
+            .description("Merged Truth Ledger calls that gave up waiting for the shared request")
+            .register(meterRegistry);
+    }
+
+    public Optional<EntityFactsResponseDto.EntityDto> findEntityByEngineId(Long engineId) {
+        return entityLookups.run(engineId, () -> client.findEntityByEngineId(engineId));
+    }
+
+    public Optional<EntityFactsResponseDto> getEntityFacts(String entityId, double truthSlider) {
+        return entityFacts.run(new FactsKey(entityId, truthSlider), () -> client.getEntityFacts(entityId, truthSlider));
+    }
+
+    public List<ConflictGroupDto> getConflictGroups(String entityId, int limit) {
+        return conflictGroups.run(new ConflictsKey(entityId, limit), () -> client.getConflictGroups(entityId, limit));
+    }
+
+    public Optional<FactResponseDto> resolveEngineField(Long engineId, String attributePattern, double truthSlider) {
+        return fieldLookups.run(new FieldKey(engineId, attributePattern, truthSlider),
+            () -> client.resolveEngineField(engineId, attributePattern, truthSlider));
+    }
+
+    public long mergedCalls() {
+        return entityLookups.merged() + entityFacts.merged() + conflictGroups.merged() + fieldLookups.merged();
+    }
+
+    public long timedOutWaits() {
+        return entityLookups.timedOut() + entityFacts.timedOut() + conflictGroups.timedOut() + fieldLookups.timedOut();
+    }
+}
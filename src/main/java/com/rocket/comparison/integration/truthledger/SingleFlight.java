@@ -0,0 +1,91 @@
+package com.rocket.comparison.integration.truthledger;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Merges concurrent calls for the same key: the first caller runs the call, callers that
+ * arrive while it is in flight wait for and share its result (or exception). Nothing is
+ * cached; the next call after completion runs again.
+ *
+ * Waiting callers give up after {@code maxWait} and return {@code timeoutValue}, so a stuck
+ * call cannot hold request threads longer than the call itself is allowed to take.
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder merged = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final Duration maxWait;
+    private final V timeoutValue;
+
+    public SingleFlight(Duration maxWait, V timeoutValue) {
+        this.maxWait = maxWait;
+        this.timeoutValue = timeoutValue;
+    }
+
+    public V run(K key, Supplier<V> call) {
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            merged.increment();
+            return await(running, maxWait, timeoutValue, timedOut);
+        }
+
+        try {
+            V value = call.get();
+            own.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /**
+     * Calls that were answered by another caller's request.
+     */
+    public long merged() {
+        return merged.sum();
+    }
+
+    /**
+     * Merged calls that stopped waiting for the other caller's request.
+     */
+    public long timedOut() {
+        return timedOut.sum();
+    }
+
+    /**
+     * Waits up to {@code maxWait} for a shared result, rethrowing its failure unwrapped.
+     * Returns {@code timeoutValue} (and counts it) if the result does not arrive in time.
+     */
+    static <V> V await(CompletableFuture<V> future, Duration maxWait, V timeoutValue, LongAdder timeouts) {
+        try {
+            return future.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            return timeoutValue;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new CompletionException(e.getCause());
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.rocket.comparison.integration.truthledger;
 
 import com.rocket.comparison.integration.truthledger.dto.*;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import io.github.resilience4j.retry.annotation.Retry;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
@@ -22,9 +24,9 @@ import java.util.Optional;
  * - Circuit Breaker: Prevents cascading failures when service is down
  * - Retry: Handles transient failures with exponential backoff
  * - Rate Limiter: Prevents overloading the truth-ledger service
+ * - Bulkhead: Caps concurrent calls so request threads do not pile up on a slow service
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class TruthLedgerClient {
 
@@ -35,12 +37,17 @@ public class TruthLedgerClient {
     @Value("${truthledger.base-url:http://localhost:3000/api/v1}")
     private String baseUrl;
 
+    public TruthLedgerClient(@Qualifier("truthLedgerRestTemplate") RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
+    }
+
     /**
      * Resolve a fact by claim key hash
      */
     @CircuitBreaker(name = RESILIENCE_CONFIG, fallbackMethod = "resolveFallback")
     @Retry(name = RESILIENCE_CONFIG)
     @RateLimiter(name = RESILIENCE_CONFIG)
+    @Bulkhead(name = RESILIENCE_CONFIG)
     public Optional<FactResponseDto> resolveFact(String claimKeyHash, double truthSlider) {
         String url = baseUrl + "/facts/" + claimKeyHash + "?truth_slider=" + truthSlider;
         log.debug("Resolving fact from Truth Ledger: {}", url);
@@ -66,6 +73,7 @@ public class TruthLedgerClient {
     @CircuitBreaker(name = RESILIENCE_CONFIG, fallbackMethod = "resolveEngineFieldFallback")
     @Retry(name = RESILIENCE_CONFIG)
     @RateLimiter(name = RESILIENCE_CONFIG)
+    @Bulkhead(name = RESILIENCE_CONFIG)
     public Optional<FactResponseDto> resolveEngineField(Long engineId, String fieldName, double truthSlider) {
         String url = String.format("%s/entities/engine/%d/field/%s?truth_slider=%f",
             baseUrl, engineId, fieldName, truthSlider);
@@ -91,6 +99,7 @@ public class TruthLedgerClient {
     @CircuitBreaker(name = RESILIENCE_CONFIG, fallbackMethod = "getEntityFactsFallback")
     @Retry(name = RESILIENCE_CONFIG)
     @RateLimiter(name = RESILIENCE_CONFIG)
+    @Bulkhead(name = RESILIENCE_CONFIG)
     public Optional<EntityFactsResponseDto> getEntityFacts(String entityId, double truthSlider) {
         String url = String.format("%s/entities/%s/facts?truth_min=%f", baseUrl, entityId, truthSlider);
         log.debug("Getting entity facts from Truth Ledger: {}", url);
@@ -115,6 +124,7 @@ public class TruthLedgerClient {
     @CircuitBreaker(name = RESILIENCE_CONFIG, fallbackMethod = "getConflictGroupsFallback")
     @Retry(name = RESILIENCE_CONFIG)
     @RateLimiter(name = RESILIENCE_CONFIG)
+    @Bulkhead(name = RESILIENCE_CONFIG)
     public List<ConflictGroupDto> getConflictGroups(String entityId, int limit) {
         String url = entityId != null
             ? String.format("%s/conflict-groups?entity_id=%s&limit=%d", baseUrl, entityId, limit)
@@ -141,6 +151,7 @@ public class TruthLedgerClient {
     @CircuitBreaker(name = RESILIENCE_CONFIG, fallbackMethod = "getConflictGroupFallback")
     @Retry(name = RESILIENCE_CONFIG)
     @RateLimiter(name = RESILIENCE_CONFIG)
+    @Bulkhead(name = RESILIENCE_CONFIG)
     public Optional<ConflictGroupDto> getConflictGroup(String conflictGroupId) {
         String url = baseUrl + "/conflict-groups/" + conflictGroupId;
         log.debug("Getting conflict group from Truth Ledger: {}", url);
@@ -165,6 +176,7 @@ public class TruthLedgerClient {
     @CircuitBreaker(name = RESILIENCE_CONFIG, fallbackMethod = "findEntityByEngineIdFallback")
     @Retry(name = RESILIENCE_CONFIG)
     @RateLimiter(name = RESILIENCE_CONFIG)
+    @Bulkhead(name = RESILIENCE_CONFIG)
     public Optional<EntityFactsResponseDto.EntityDto> findEntityByEngineId(Long engineId) {
         String url = String.format("%s/entities?type=engine&engine_id=%d", baseUrl, engineId);
         log.debug("Finding entity by engine ID from Truth Ledger: {}", url);
@@ -195,6 +207,7 @@ public class TruthLedgerClient {
     @CircuitBreaker(name = RESILIENCE_CONFIG, fallbackMethod = "listEntitiesFallback")
     @Retry(name = RESILIENCE_CONFIG)
     @RateLimiter(name = RESILIENCE_CONFIG)
+    @Bulkhead(name = RESILIENCE_CONFIG)
     public EntityListResponseDto listEntities(String entityType, int limit, int offset) {
         StringBuilder urlBuilder = new StringBuilder(baseUrl).append("/entities?");
         urlBuilder.append("limit=").append(limit);
@@ -267,6 +280,8 @@ public class TruthLedgerClient {
     }
 
     // ==================== Fallback Methods ====================
+    // A full bulkhead is backpressure, not a failure: each fallback has an overload that rethrows
+    // BulkheadFullException so it reaches GlobalExceptionHandler as 429 instead of an empty result
 
     @SuppressWarnings("unused")
     private Optional<FactResponseDto> resolveFallback(String claimKeyHash, double truthSlider, Exception e) {
@@ -274,40 +289,75 @@ public class TruthLedgerClient {
         return Optional.empty();
     }
 
+    @SuppressWarnings("unused")
+    private Optional<FactResponseDto> resolveFallback(String claimKeyHash, double truthSlider, BulkheadFullException e) {
+        throw e;
+    }
+
     @SuppressWarnings("unused")
     private Optional<FactResponseDto> resolveEngineFieldFallback(Long engineId, String fieldName, double truthSlider, Exception e) {
         log.warn("Circuit breaker triggered for resolveEngineField({}, {}). Error: {}", engineId, fieldName, e.getMessage());
         return Optional.empty();
     }
 
+    @SuppressWarnings("unused")
+    private Optional<FactResponseDto> resolveEngineFieldFallback(Long engineId, String fieldName, double truthSlider, BulkheadFullException e) {
+        throw e;
+    }
+
     @SuppressWarnings("unused")
     private Optional<EntityFactsResponseDto> getEntityFactsFallback(String entityId, double truthSlider, Exception e) {
         log.warn("Circuit breaker triggered for getEntityFacts({}). Error: {}", entityId, e.getMessage());
         return Optional.empty();
     }
 
+    @SuppressWarnings("unused")
+    private Optional<EntityFactsResponseDto> getEntityFactsFallback(String entityId, double truthSlider, BulkheadFullException e) {
+        throw e;
+    }
+
     @SuppressWarnings("unused")
     private List<ConflictGroupDto> getConflictGroupsFallback(String entityId, int limit, Exception e) {
         log.warn("Circuit breaker triggered for getConflictGroups. Error: {}", e.getMessage());
         return Collections.emptyList();
     }
 
+    @SuppressWarnings("unused")
+    private List<ConflictGroupDto> getConflictGroupsFallback(String entityId, int limit, BulkheadFullException e) {
+        throw e;
+    }
+
     @SuppressWarnings("unused")
     private Optional<ConflictGroupDto> getConflictGroupFallback(String conflictGroupId, Exception e) {
         log.warn("Circuit breaker triggered for getConflictGroup({}). Error: {}", conflictGroupId, e.getMessage());
         return Optional.empty();
     }
 
+    @SuppressWarnings("unused")
+    private Optional<ConflictGroupDto> getConflictGroupFallback(String conflictGroupId, BulkheadFullException e) {
+        throw e;
+    }
+
     @SuppressWarnings("unused")
     private Optional<EntityFactsResponseDto.EntityDto> findEntityByEngineIdFallback(Long engineId, Exception e) {
         log.warn("Circuit breaker triggered for findEntityByEngineId({}). Error: {}", engineId, e.getMessage());
         return Optional.empty();
     }
 
+    @SuppressWarnings("unused")
+    private Optional<EntityFactsResponseDto.EntityDto> findEntityByEngineIdFallback(Long engineId, BulkheadFullException e) {
+        throw e;
+    }
+
     @SuppressWarnings("unused")
     private EntityListResponseDto listEntitiesFallback(String entityType, int limit, int offset, Exception e) {
         log.warn("Circuit breaker triggered for listEntities(type={}, limit={}, offset={}). Error: {}",
             entityType, limit, offset, e.getMessage());
         return new EntityListResponseDto();
     }
+
+    @SuppressWarnings("unused")
+    private EntityListResponseDto listEntitiesFallback(String entityType, int limit, int offset, BulkheadFullException e) {
+        throw e;
+    }
 }
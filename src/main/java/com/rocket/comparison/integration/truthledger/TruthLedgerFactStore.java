@@ -0,0 +1,79 @@
+package com.rocket.comparison.integration.truthledger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rocket.comparison.entity.TruthLedgerFactSnapshot;
+import com.rocket.comparison.integration.truthledger.dto.EntityFactsResponseDto;
+import com.rocket.comparison.repository.TruthLedgerFactSnapshotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Persistent copy of the last facts resolved from Truth Ledger per engine.
+ *
+ * Snapshots older than {@code truthledger.snapshot.max-age} are stale: callers still serve
+ * them and revalidate in the background. A snapshot is only replaced by a successful fetch,
+ * so an unreachable ledger leaves the last known facts in place.
+ */
+@Component
+@Slf4j
+public class TruthLedgerFactStore {
+
+    public record FactSnapshot(Long engineId, EntityFactsResponseDto.EntityDto entity,
+                               EntityFactsResponseDto facts, LocalDateTime fetchedAt) {}
+
+    private final TruthLedgerFactSnapshotRepository repository;
+    private final ObjectMapper objectMapper;
+    private final Duration maxAge;
+
+    public TruthLedgerFactStore(TruthLedgerFactSnapshotRepository repository,
+                                ObjectMapper objectMapper,
+                                @Value("${truthledger.snapshot.max-age:10m}") Duration maxAge) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.maxAge = maxAge;
+    }
+
+    public Optional<FactSnapshot> find(Long engineId) {
+        return repository.findById(engineId).flatMap(this::toSnapshot);
+    }
+
+    // Own transaction: callers may run inside the read-only transaction of a cache refresh
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public FactSnapshot save(Long engineId, EntityFactsResponseDto.EntityDto entity, EntityFactsResponseDto facts) {
+        LocalDateTime fetchedAt = LocalDateTime.now();
+        try {
+            repository.save(new TruthLedgerFactSnapshot(engineId, entity.getId(), entity.getCanonicalName(),
+                objectMapper.writeValueAsString(facts), fetchedAt));
+        } catch (JsonProcessingException e) {
+            log.warn("Could not store Truth Ledger facts for engine {}: {}", engineId, e.getMessage());
+        }
+        return new FactSnapshot(engineId, entity, facts, fetchedAt);
+    }
+
+    public boolean isStale(FactSnapshot snapshot) {
+        return snapshot.fetchedAt().plus(maxAge).isBefore(LocalDateTime.now());
+    }
+
+    private Optional<FactSnapshot> toSnapshot(TruthLedgerFactSnapshot row) {
+        try {
+            EntityFactsResponseDto facts = objectMapper.readValue(row.getPayload(), EntityFactsResponseDto.class);
+            EntityFactsResponseDto.EntityDto entity = new EntityFactsResponseDto.EntityDto();
+            entity.setId(row.getEntityId());
+            entity.setCanonicalName(row.getCanonicalName());
+            entity.setEngineId(row.getEngineId());
+            return Optional.of(new FactSnapshot(row.getEngineId(), entity, facts, row.getFetchedAt()));
+        } catch (JsonProcessingException e) {
+            // Unreadable (e.g. written by an incompatible version): treat as missing, the next fetch replaces it
+            log.warn("Ignoring unreadable Truth Ledger snapshot for engine {}: {}", row.getEngineId(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
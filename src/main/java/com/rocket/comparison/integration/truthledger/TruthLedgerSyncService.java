@@ -1,17 +1,25 @@
 package com.rocket.comparison.integration.truthledger;
 
 import com.rocket.comparison.entity.*;
+import com.rocket.comparison.event.DomainEntity;
+import com.rocket.comparison.event.EntityChangedEvent;
 import com.rocket.comparison.integration.truthledger.dto.EntityFactsResponseDto;
 import com.rocket.comparison.integration.truthledger.dto.EntityListResponseDto;
 import com.rocket.comparison.repository.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
  * Service for syncing entities from Truth Ledger to the backend database.
@@ -19,6 +27,16 @@ import java.util.*;
  * The Truth Ledger is the source of truth for verified entity data.
  * This service fetches entities and their verified facts from Truth Ledger
  * and creates/updates corresponding entities in the backend.
+ *
+ * Each entity type runs through the same chunked upsert pipeline: facts for a chunk are
+ * fetched outside any transaction, existing rows are resolved with a single
+ * {@code lower(name) IN (...)} query (served by the V8 {@code lower(name)} indexes), and
+ * the chunk is written with {@code saveAll} and committed on its own (see
+ * {@code truthledger.sync.chunk-size}). A failing chunk is rolled back and reported without
+ * affecting the others.
+ *
+ * Only updates reach the database as JDBC batches. New rows use IDENTITY ids, which Hibernate
+ * inserts one statement at a time to read each generated key back.
  */
 @Service
 @RequiredArgsConstructor
@@ -31,6 +49,11 @@ public class TruthLedgerSyncService {
     private final LaunchSiteRepository launchSiteRepository;
     private final SpaceMissionRepository spaceMissionRepository;
     private final CountryRepository countryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Value("${truthledger.enabled:true}")
     private boolean enabled;
@@ -38,115 +61,62 @@ public class TruthLedgerSyncService {
     @Value("${truthledger.sync.truth-threshold:0.5}")
     private double truthThreshold;
 
-    /**
-     * Sync all engines from Truth Ledger
-     * @return Map with sync results (created, updated, errors)
-     */
-    @Transactional
-    public Map<String, Object> syncEngines() {
-        if (!enabled) {
-            log.warn("Truth Ledger sync is disabled");
-            return Map.of("status", "disabled", "message", "Truth Ledger sync is disabled");
-        }
-
-        log.info("Starting engine sync from Truth Ledger");
-        int created = 0;
-        int updated = 0;
-        int errors = 0;
-        List<String> errorMessages = new ArrayList<>();
+    @Value("${truthledger.sync.chunk-size:100}")
+    private int chunkSize;
 
-        try {
-            // Fetch all engine entities from Truth Ledger
-            List<EntityListResponseDto.TruthLedgerEntityDto> entities =
-                truthLedgerClient.listAllEntitiesByType("engine");
-
-            log.info("Found {} engine entities in Truth Ledger", entities.size());
-
-            for (EntityListResponseDto.TruthLedgerEntityDto entity : entities) {
-                try {
-                    boolean isNew = syncEngine(entity);
-                    if (isNew) {
-                        created++;
-                    } else {
-                        updated++;
-                    }
-                } catch (Exception e) {
-                    errors++;
-                    String msg = String.format("Failed to sync engine '%s': %s",
-                        entity.getCanonicalName(), e.getMessage());
-                    errorMessages.add(msg);
-                    log.warn(msg, e);
-                }
-            }
+    // Country ids by lower-cased name and ISO code, rebuilt at the start of each sync run
+    private volatile Map<String, Long> countryIdsByKey = Map.of();
 
-        } catch (Exception e) {
-            log.error("Failed to fetch entities from Truth Ledger", e);
-            return Map.of(
-                "status", "error",
-                "message", "Failed to connect to Truth Ledger: " + e.getMessage()
-            );
-        }
+    /**
+     * How one entity type is matched, created, populated and persisted by the upsert pipeline.
+     */
+    private record UpsertTarget<T>(
+        String entityType,
+        String label,
+        DomainEntity domainEntity,
+        Function<Collection<String>, List<T>> findByLowerNames,
+        Function<T, String> nameOf,
+        Function<String, T> factory,
+        BiConsumer<T, List<EntityFactsResponseDto.FactDto>> factApplier,
+        BiConsumer<T, Map<String, Object>> metadataApplier,
+        Function<List<T>, List<T>> saveAll
+    ) {}
 
-        log.info("Engine sync completed: {} created, {} updated, {} errors", created, updated, errors);
+    /**
+     * Running totals for one entity type across all chunks.
+     */
+    private static final class SyncCounters {
+        int created;
+        int updated;
+        int errors;
+        int chunks;
+        final List<String> errorMessages = new ArrayList<>();
 
-        Map<String, Object> result = new HashMap<>();
-        result.put("status", errors == 0 ? "success" : "partial");
-        result.put("created", created);
-        result.put("updated", updated);
-        result.put("errors", errors);
-        result.put("total", created + updated);
-        if (!errorMessages.isEmpty()) {
-            result.put("errorMessages", errorMessages.subList(0, Math.min(10, errorMessages.size())));
+        void recordError(String message) {
+            errors++;
+            errorMessages.add(message);
         }
-        return result;
     }
 
     /**
-     * Sync a single engine from Truth Ledger entity
-     * @return true if created, false if updated
+     * Sync all engines from Truth Ledger
+     * @return Map with sync results (created, updated, errors, rowsPerSecond)
      */
-    private boolean syncEngine(EntityListResponseDto.TruthLedgerEntityDto entity) {
-        String name = entity.getCanonicalName();
-
-        // Check if engine already exists by name
-        Optional<Engine> existing = engineRepository.findAll().stream()
-            .filter(e -> e.getName().equalsIgnoreCase(name))
-            .findFirst();
-
-        Engine engine;
-        boolean isNew = existing.isEmpty();
-
-        if (isNew) {
-            engine = new Engine();
-            engine.setName(name);
-            engine.setPropellant("Unknown"); // Required field, will be updated from facts
-        } else {
-            engine = existing.get();
-        }
-
-        // Try to get facts for this entity
-        if (entity.getId() != null) {
-            try {
-                Optional<EntityFactsResponseDto> factsResponse =
-                    truthLedgerClient.getEntityFacts(entity.getId(), truthThreshold);
-
-                if (factsResponse.isPresent()) {
-                    applyEngineFacts(engine, factsResponse.get().getFacts());
-                }
-            } catch (Exception e) {
-                log.debug("Could not fetch facts for engine {}: {}", name, e.getMessage());
-            }
-        }
-
-        // Apply metadata if available
-        if (entity.getMetadata() != null) {
-            applyEngineMetadata(engine, entity.getMetadata());
-        }
-
-        engineRepository.save(engine);
-        log.debug("{} engine: {}", isNew ? "Created" : "Updated", name);
-
-        return isNew;
+    public Map<String, Object> syncEngines() {
+        return runUpsert(new UpsertTarget<Engine>(
+            "engine", "engine", DomainEntity.ENGINE,
+            engineRepository::findByLowerNameIn,
+            Engine::getName,
+            name -> {
+                Engine engine = new Engine();
+                engine.setName(name);
+                engine.setPropellant("Unknown"); // Required field, will be updated from facts
+                return engine;
+            },
+            this::applyEngineFacts,
+            this::applyEngineMetadata,
+            engineRepository::saveAll
+        ));
     }
 
     /**
@@ -238,107 +208,20 @@ public class TruthLedgerSyncService {
     /**
      * Sync all launch vehicles from Truth Ledger
      */
-    @Transactional
     public Map<String, Object> syncLaunchVehicles() {
-        if (!enabled) {
-            log.warn("Truth Ledger sync is disabled");
-            return Map.of("status", "disabled", "message", "Truth Ledger sync is disabled");
-        }
-
-        log.info("Starting launch vehicle sync from Truth Ledger");
-        int created = 0;
-        int updated = 0;
-        int errors = 0;
-        List<String> errorMessages = new ArrayList<>();
-
-        try {
-            List<EntityListResponseDto.TruthLedgerEntityDto> entities =
-                truthLedgerClient.listAllEntitiesByType("launch_vehicle");
-
-            log.info("Found {} launch vehicle entities in Truth Ledger", entities.size());
-
-            for (EntityListResponseDto.TruthLedgerEntityDto entity : entities) {
-                try {
-                    boolean isNew = syncLaunchVehicle(entity);
-                    if (isNew) {
-                        created++;
-                    } else {
-                        updated++;
-                    }
-                } catch (Exception e) {
-                    errors++;
-                    String msg = String.format("Failed to sync launch vehicle '%s': %s",
-                        entity.getCanonicalName(), e.getMessage());
-                    errorMessages.add(msg);
-                    log.warn(msg, e);
-                }
-            }
-
-        } catch (Exception e) {
-            log.error("Failed to fetch entities from Truth Ledger", e);
-            return Map.of(
-                "status", "error",
-                "message", "Failed to connect to Truth Ledger: " + e.getMessage()
-            );
-        }
-
-        log.info("Launch vehicle sync completed: {} created, {} updated, {} errors", created, updated, errors);
-
-        Map<String, Object> result = new HashMap<>();
-        result.put("status", errors == 0 ? "success" : "partial");
-        result.put("created", created);
-        result.put("updated", updated);
-        result.put("errors", errors);
-        result.put("total", created + updated);
-        if (!errorMessages.isEmpty()) {
-            result.put("errorMessages", errorMessages.subList(0, Math.min(10, errorMessages.size())));
-        }
-        return result;
-    }
-
-    /**
-     * Sync a single launch vehicle from Truth Ledger entity
-     */
-    private boolean syncLaunchVehicle(EntityListResponseDto.TruthLedgerEntityDto entity) {
-        String name = entity.getCanonicalName();
-
-        Optional<LaunchVehicle> existing = launchVehicleRepository.findAll().stream()
-            .filter(v -> v.getName().equalsIgnoreCase(name))
-            .findFirst();
-
-        LaunchVehicle vehicle;
-        boolean isNew = existing.isEmpty();
-
-        if (isNew) {
-            vehicle = new LaunchVehicle();
-            vehicle.setName(name);
-        } else {
-            vehicle = existing.get();
-        }
-
-        // Try to get facts for this entity
-        if (entity.getId() != null) {
-            try {
-                Optional<EntityFactsResponseDto> factsResponse =
-                    truthLedgerClient.getEntityFacts(entity.getId(), truthThreshold);
-
-                if (factsResponse.isPresent()) {
-                    applyLaunchVehicleFacts(vehicle, factsResponse.get().getFacts());
-                }
-            } catch (Exception e) {
-                log.debug("Could not fetch facts for launch vehicle {}: {}", name, e.getMessage());
-            }
-        }
-
-        // Apply metadata if available
-        if (entity.getMetadata() != null) {
-            applyLaunchVehicleMetadata(vehicle, entity.getMetadata());
-        }
-
-        launchVehicleRepository.save(vehicle);
-        log.debug("{} launch vehicle: {}", isNew ? "Created" : "Updated", name);
-
-        return isNew;
+        return runUpsert(new UpsertTarget<LaunchVehicle>(
+            "launch_vehicle", "launch vehicle", DomainEntity.LAUNCH_VEHICLE,
+            launchVehicleRepository::findByLowerNameIn,
+            LaunchVehicle::getName,
+            name -> {
+                LaunchVehicle vehicle = new LaunchVehicle();
+                vehicle.setName(name);
+                return vehicle;
+            },
+            this::applyLaunchVehicleFacts,
+            this::applyLaunchVehicleMetadata,
+            launchVehicleRepository::saveAll
+        ));
     }
 
     /**
@@ -434,115 +317,22 @@ public class TruthLedgerSyncService {
     /**
      * Sync all launch sites from Truth Ledger
      */
-    @Transactional
     public Map<String, Object> syncLaunchSites() {
-        if (!enabled) {
-            log.warn("Truth Ledger sync is disabled");
-            return Map.of("status", "disabled", "message", "Truth Ledger sync is disabled");
-        }
-
-        log.info("Starting launch site sync from Truth Ledger");
-        int created = 0;
-        int updated = 0;
-        int errors = 0;
-        List<String> errorMessages = new ArrayList<>();
-
-        // Get default country for sites without country info
-        Country defaultCountry = countryRepository.findAll().stream()
-            .filter(c -> "USA".equalsIgnoreCase(c.getIsoCode()))
-            .findFirst()
-            .orElse(null);
-
-        try {
-            List<EntityListResponseDto.TruthLedgerEntityDto> entities =
-                truthLedgerClient.listAllEntitiesByType("launch_site");
-
-            log.info("Found {} launch site entities in Truth Ledger", entities.size());
-
-            for (EntityListResponseDto.TruthLedgerEntityDto entity : entities) {
-                try {
-                    boolean isNew = syncLaunchSite(entity, defaultCountry);
-                    if (isNew) {
-                        created++;
-                    } else {
-                        updated++;
-                    }
-                } catch (Exception e) {
-                    errors++;
-                    String msg = String.format("Failed to sync launch site '%s': %s",
-                        entity.getCanonicalName(), e.getMessage());
-                    errorMessages.add(msg);
-                    log.warn(msg, e);
-                }
-            }
-
-        } catch (Exception e) {
-            log.error("Failed to fetch entities from Truth Ledger", e);
-            return Map.of(
-                "status", "error",
-                "message", "Failed to connect to Truth Ledger: " + e.getMessage()
-            );
-        }
-
-        log.info("Launch site sync completed: {} created, {} updated, {} errors", created, updated, errors);
-
-        Map<String, Object> result = new HashMap<>();
-        result.put("status", errors == 0 ? "success" : "partial");
-        result.put("created", created);
-        result.put("updated", updated);
-        result.put("errors", errors);
-        result.put("total", created + updated);
-        if (!errorMessages.isEmpty()) {
-            result.put("errorMessages", errorMessages.subList(0, Math.min(10, errorMessages.size())));
-        }
-        return result;
-    }
-
-    /**
-     * Sync a single launch site from Truth Ledger entity
-     */
-    private boolean syncLaunchSite(EntityListResponseDto.TruthLedgerEntityDto entity, Country defaultCountry) {
-        String name = entity.getCanonicalName();
-
-        Optional<LaunchSite> existing = launchSiteRepository.findAll().stream()
-            .filter(s -> s.getName().equalsIgnoreCase(name))
-            .findFirst();
-
-        LaunchSite site;
-        boolean isNew = existing.isEmpty();
-
-        if (isNew) {
-            site = new LaunchSite();
-            site.setName(name);
-            site.setStatus(LaunchSiteStatus.OPERATIONAL); // Default status
-            site.setCountry(defaultCountry); // Will be updated from facts/metadata
-        } else {
-            site = existing.get();
-        }
-
-        // Try to get facts for this entity
-        if (entity.getId() != null) {
-            try {
-                Optional<EntityFactsResponseDto> factsResponse =
-                    truthLedgerClient.getEntityFacts(entity.getId(), truthThreshold);
-
-                if (factsResponse.isPresent()) {
-                    applyLaunchSiteFacts(site, factsResponse.get().getFacts());
-                }
-            } catch (Exception e) {
-                log.debug("Could not fetch facts for launch site {}: {}", name, e.getMessage());
-            }
-        }
-
-        // Apply metadata if available
-        if (entity.getMetadata() != null) {
-            applyLaunchSiteMetadata(site, entity.getMetadata());
-        }
-
-        launchSiteRepository.save(site);
-        log.debug("{} launch site: {}", isNew ? "Created" : "Updated", name);
-
-        return isNew;
+        return runUpsert(new UpsertTarget<LaunchSite>(
+            "launch_site", "launch site", DomainEntity.LAUNCH_SITE,
+            launchSiteRepository::findByLowerNameIn,
+            LaunchSite::getName,
+            name -> {
+                LaunchSite site = new LaunchSite();
+                site.setName(name);
+                site.setStatus(LaunchSiteStatus.OPERATIONAL); // Default status
+                site.setCountry(defaultCountry()); // Will be updated from facts/metadata
+                return site;
+            },
+            this::applyLaunchSiteFacts,
+            this::applyLaunchSiteMetadata,
+            launchSiteRepository::saveAll
+        ));
     }
 
     /**
@@ -589,116 +379,23 @@ public class TruthLedgerSyncService {
     /**
      * Sync all space missions from Truth Ledger
      */
-    @Transactional
     public Map<String, Object> syncSpaceMissions() {
-        if (!enabled) {
-            log.warn("Truth Ledger sync is disabled");
-            return Map.of("status", "disabled", "message", "Truth Ledger sync is disabled");
-        }
-
-        log.info("Starting space mission sync from Truth Ledger");
-        int created = 0;
-        int updated = 0;
-        int errors = 0;
-        List<String> errorMessages = new ArrayList<>();
-
-        // Get default country for missions without country info
-        Country defaultCountry = countryRepository.findAll().stream()
-            .filter(c -> "USA".equalsIgnoreCase(c.getIsoCode()))
-            .findFirst()
-            .orElse(null);
-
-        try {
-            List<EntityListResponseDto.TruthLedgerEntityDto> entities =
-                truthLedgerClient.listAllEntitiesByType("space_mission");
-
-            log.info("Found {} space mission entities in Truth Ledger", entities.size());
-
-            for (EntityListResponseDto.TruthLedgerEntityDto entity : entities) {
-                try {
-                    boolean isNew = syncSpaceMission(entity, defaultCountry);
-                    if (isNew) {
-                        created++;
-                    } else {
-                        updated++;
-                    }
-                } catch (Exception e) {
-                    errors++;
-                    String msg = String.format("Failed to sync space mission '%s': %s",
-                        entity.getCanonicalName(), e.getMessage());
-                    errorMessages.add(msg);
-                    log.warn(msg, e);
-                }
-            }
-
-        } catch (Exception e) {
-            log.error("Failed to fetch entities from Truth Ledger", e);
-            return Map.of(
-                "status", "error",
-                "message", "Failed to connect to Truth Ledger: " + e.getMessage()
-            );
-        }
-
-        log.info("Space mission sync completed: {} created, {} updated, {} errors", created, updated, errors);
-
-        Map<String, Object> result = new HashMap<>();
-        result.put("status", errors == 0 ? "success" : "partial");
-        result.put("created", created);
-        result.put("updated", updated);
-        result.put("errors", errors);
-        result.put("total", created + updated);
-        if (!errorMessages.isEmpty()) {
-            result.put("errorMessages", errorMessages.subList(0, Math.min(10, errorMessages.size())));
-        }
-        return result;
-    }
-
-    /**
-     * Sync a single space mission from Truth Ledger entity
-     */
-    private boolean syncSpaceMission(EntityListResponseDto.TruthLedgerEntityDto entity, Country defaultCountry) {
-        String name = entity.getCanonicalName();
-
-        Optional<SpaceMission> existing = spaceMissionRepository.findAll().stream()
-            .filter(m -> m.getName().equalsIgnoreCase(name))
-            .findFirst();
-
-        SpaceMission mission;
-        boolean isNew = existing.isEmpty();
-
-        if (isNew) {
-            mission = new SpaceMission();
-            mission.setName(name);
-            mission.setStatus(MissionStatus.COMPLETED); // Default status
-            mission.setMissionType(MissionType.SATELLITE_DEPLOYMENT); // Default type
-            mission.setCountry(defaultCountry); // Will be updated from facts/metadata
-        } else {
-            mission = existing.get();
-        }
-
-        // Try to get facts for this entity
-        if (entity.getId() != null) {
-            try {
-                Optional<EntityFactsResponseDto> factsResponse =
-                    truthLedgerClient.getEntityFacts(entity.getId(), truthThreshold);
-
-                if (factsResponse.isPresent()) {
-                    applySpaceMissionFacts(mission, factsResponse.get().getFacts());
-                }
-            } catch (Exception e) {
-                log.debug("Could not fetch facts for space mission {}: {}", name, e.getMessage());
-            }
-        }
-
-        // Apply metadata if available
-        if (entity.getMetadata() != null) {
-            applySpaceMissionMetadata(mission, entity.getMetadata());
-        }
-
-        spaceMissionRepository.save(mission);
-        log.debug("{} space mission: {}", isNew ? "Created" : "Updated", name);
-
-        return isNew;
+        return runUpsert(new UpsertTarget<SpaceMission>(
+            "space_mission", "space mission", DomainEntity.SPACE_MISSION,
+            spaceMissionRepository::findByLowerNameIn,
+            SpaceMission::getName,
+            name -> {
+                SpaceMission mission = new SpaceMission();
+                mission.setName(name);
+                mission.setStatus(MissionStatus.COMPLETED); // Default status
+                mission.setMissionType(MissionType.SATELLITE_DEPLOYMENT); // Default type
+                mission.setCountry(defaultCountry()); // Will be updated from facts/metadata
+                return mission;
+            },
+            this::applySpaceMissionFacts,
+            this::applySpaceMissionMetadata,
+            spaceMissionRepository::saveAll
+        ));
     }
 
     /**
@@ -746,9 +443,9 @@ public class TruthLedgerSyncService {
     }
 
     /**
-     * Sync all entity types from Truth Ledger
+     * Sync all entity types from Truth Ledger.
+     * Each type commits chunk by chunk, so a failure in one type does not roll back the others.
      */
-    @Transactional
     public Map<String, Object> syncAll() {
         Map<String, Object> results = new HashMap<>();
 
@@ -762,38 +459,211 @@ public class TruthLedgerSyncService {
         return results;
     }
 
+    // ==================== Upsert Pipeline ====================
+
+    private <T> Map<String, Object> runUpsert(UpsertTarget<T> target) {
+        if (!enabled) {
+            log.warn("Truth Ledger sync is disabled");
+            return Map.of("status", "disabled", "message", "Truth Ledger sync is disabled");
+        }
+
+        log.info("Starting {} sync from Truth Ledger", target.label());
+        long startNanos = System.nanoTime();
+
+        List<EntityListResponseDto.TruthLedgerEntityDto> entities;
+        try {
+            entities = truthLedgerClient.listAllEntitiesByType(target.entityType());
+        } catch (Exception e) {
+            log.error("Failed to fetch entities from Truth Ledger", e);
+            return Map.of(
+                "status", "error",
+                "message", "Failed to connect to Truth Ledger: " + e.getMessage()
+            );
+        }
+
+        log.info("Found {} {} entities in Truth Ledger", entities.size(), target.label());
+        loadCountryIndex();
+
+        SyncCounters counters = new SyncCounters();
+        int size = Math.max(1, chunkSize);
+        for (int from = 0; from < entities.size(); from += size) {
+            upsertChunk(target, entities.subList(from, Math.min(from + size, entities.size())), counters);
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        int total = counters.created + counters.updated;
+        double rowsPerSecond = elapsedNanos > 0 ? total * 1_000_000_000.0 / elapsedNanos : 0.0;
+
+        if (total > 0) {
+            eventPublisher.publishEvent(EntityChangedEvent.bulk(target.domainEntity()));
+        }
+        log.info("{} sync completed: {} created, {} updated, {} errors in {} chunks ({} rows/s)",
+            capitalize(target.label()), counters.created, counters.updated, counters.errors,
+            counters.chunks, Math.round(rowsPerSecond));
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("status", counters.errors == 0 ? "success" : "partial");
+        result.put("created", counters.created);
+        result.put("updated", counters.updated);
+        result.put("errors", counters.errors);
+        result.put("total", total);
+        result.put("chunks", counters.chunks);
+        result.put("durationMs", elapsedNanos / 1_000_000);
+        result.put("rowsPerSecond", Math.round(rowsPerSecond * 10.0) / 10.0);
+        if (!counters.errorMessages.isEmpty()) {
+            result.put("errorMessages", counters.errorMessages.subList(0, Math.min(10, counters.errorMessages.size())));
+        }
+        return result;
+    }
+
+    /**
+     * Upserts one chunk in its own transaction. Remote fact lookups happen first so no
+     * database connection is held while waiting on Truth Ledger.
+     */
+    private <T> void upsertChunk(UpsertTarget<T> target,
+                                 List<EntityListResponseDto.TruthLedgerEntityDto> chunk,
+                                 SyncCounters counters) {
+        Map<String, List<EntityFactsResponseDto.FactDto>> factsByEntityId = fetchFacts(target.label(), chunk);
+
+        SyncCounters chunkCounters = new SyncCounters();
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                Map<String, T> byName = new HashMap<>();
+                Set<String> names = new HashSet<>();
+                for (EntityListResponseDto.TruthLedgerEntityDto entity : chunk) {
+                    if (entity.getCanonicalName() != null) {
+                        names.add(entity.getCanonicalName().toLowerCase());
+                    }
+                }
+                if (!names.isEmpty()) {
+                    for (T row : target.findByLowerNames().apply(names)) {
+                        byName.putIfAbsent(target.nameOf().apply(row).toLowerCase(), row);
+                    }
+                }
+
+                List<T> created = new ArrayList<>();
+                for (EntityListResponseDto.TruthLedgerEntityDto entity : chunk) {
+                    String name = entity.getCanonicalName();
+                    try {
+                        if (name == null || name.isBlank()) {
+                            throw new IllegalArgumentException("Entity has no canonical name");
+                        }
+
+                        // Duplicate names within a chunk resolve to the same row, as they would row by row
+                        T row = byName.get(name.toLowerCase());
+                        boolean isNew = row == null;
+                        if (isNew) {
+                            row = target.factory().apply(name);
+                            byName.put(name.toLowerCase(), row);
+                            created.add(row);
+                        }
+
+                        List<EntityFactsResponseDto.FactDto> facts = factsByEntityId.get(entity.getId());
+                        if (facts != null) {
+                            target.factApplier().accept(row, facts);
+                        }
+                        if (entity.getMetadata() != null) {
+                            target.metadataApplier().accept(row, entity.getMetadata());
+                        }
+
+                        if (isNew) {
+                            chunkCounters.created++;
+                        } else {
+                            chunkCounters.updated++;
+                        }
+                        log.debug("{} {}: {}", isNew ? "Created" : "Updated", target.label(), name);
+                    } catch (Exception e) {
+                        String msg = String.format("Failed to sync %s '%s': %s", target.label(), name, e.getMessage());
+                        chunkCounters.recordError(msg);
+                        log.warn(msg, e);
+                    }
+                }
+
+                // Existing rows are managed and flushed as batched updates; new rows are inserted one by one
+                target.saveAll().apply(created);
+                entityManager.flush();
+                entityManager.clear();
+            });
+
+            counters.created += chunkCounters.created;
+            counters.updated += chunkCounters.updated;
+            counters.errors += chunkCounters.errors;
+            counters.errorMessages.addAll(chunkCounters.errorMessages);
+        } catch (Exception e) {
+            // The whole chunk rolled back, so every entity in it counts as failed
+            String msg = String.format("Failed to commit %s chunk of %d entities: %s",
+                target.label(), chunk.size(), e.getMessage());
+            counters.errors += chunk.size();
+            counters.errorMessages.add(msg);
+            log.warn(msg, e);
+        }
+        counters.chunks++;
+    }
+
+    private Map<String, List<EntityFactsResponseDto.FactDto>> fetchFacts(
+            String label, List<EntityListResponseDto.TruthLedgerEntityDto> chunk) {
+        Map<String, List<EntityFactsResponseDto.FactDto>> factsByEntityId = new HashMap<>();
+        for (EntityListResponseDto.TruthLedgerEntityDto entity : chunk) {
+            if (entity.getId() == null) {
+                continue;
+            }
+            try {
+                truthLedgerClient.getEntityFacts(entity.getId(), truthThreshold)
+                    .ifPresent(response -> factsByEntityId.put(entity.getId(), response.getFacts()));
+            } catch (Exception e) {
+                log.debug("Could not fetch facts for {} {}: {}", label, entity.getCanonicalName(), e.getMessage());
+            }
+        }
+        return factsByEntityId;
+    }
+
+    private static String capitalize(String label) {
+        return Character.toUpperCase(label.charAt(0)) + label.substring(1);
+    }
+
     // ==================== Helper Methods ====================
 
+    private void loadCountryIndex() {
+        Map<String, Long> index = new HashMap<>();
+        for (Country country : countryRepository.findAll()) {
+            if (country.getName() != null) {
+                index.putIfAbsent(country.getName().toLowerCase(), country.getId());
+            }
+            if (country.getIsoCode() != null) {
+                index.putIfAbsent(country.getIsoCode().toLowerCase(), country.getId());
+            }
+        }
+        countryIdsByKey = index;
+    }
+
+    /**
+     * Resolves a country by name or ISO code from the per-run index, returning a lazy
+     * reference so no extra SELECT is issued just to set the foreign key.
+     */
+    private Optional<Country> findCountry(String nameOrIsoCode) {
+        Long id = nameOrIsoCode != null ? countryIdsByKey.get(nameOrIsoCode.toLowerCase()) : null;
+        return id != null ? Optional.of(countryRepository.getReferenceById(id)) : Optional.empty();
+    }
+
+    // Default country for sites and missions without country info
+    private Country defaultCountry() {
+        return findCountry("USA").orElse(null);
+    }
+
     private void linkEngineToCountry(Engine engine, String countryName) {
-        countryRepository.findAll().stream()
-            .filter(c -> c.getName().equalsIgnoreCase(countryName) ||
-                         c.getIsoCode().equalsIgnoreCase(countryName))
-            .findFirst()
-            .ifPresent(engine::setCountry);
+        findCountry(countryName).ifPresent(engine::setCountry);
     }
 
     private void linkVehicleToCountry(LaunchVehicle vehicle, String countryName) {
-        countryRepository.findAll().stream()
-            .filter(c -> c.getName().equalsIgnoreCase(countryName) ||
-                         c.getIsoCode().equalsIgnoreCase(countryName))
-            .findFirst()
-            .ifPresent(vehicle::setCountry);
+        findCountry(countryName).ifPresent(vehicle::setCountry);
     }
 
     private void linkSiteToCountry(LaunchSite site, String countryName) {
-        countryRepository.findAll().stream()
-            .filter(c -> c.getName().equalsIgnoreCase(countryName) ||
-                         c.getIsoCode().equalsIgnoreCase(countryName))
-            .findFirst()
-            .ifPresent(site::setCountry);
+        findCountry(countryName).ifPresent(site::setCountry);
     }
 
     private void linkMissionToCountry(SpaceMission mission, String countryName) {
-        countryRepository.findAll().stream()
-            .filter(c -> c.getName().equalsIgnoreCase(countryName) ||
-                         c.getIsoCode().equalsIgnoreCase(countryName))
-            .findFirst()
-            .ifPresent(mission::setCountry);
+        findCountry(countryName).ifPresent(mission::setCountry);
     }
 
     private Double toDouble(Object value) {
@@ -826,4 +696,4 @@ public class TruthLedgerSyncService {
         if (value instanceof Number) return BigDecimal.valueOf(((Number) value).doubleValue());
         return new BigDecimal(value.toString());
     }
-}
+}
\ No newline at end of file
@@ -2,10 +2,12 @@ package com.rocket.comparison.repository;
 
 import com.rocket.comparison.entity.CapabilityCategory;
 import com.rocket.comparison.entity.CapabilityScore;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,21 +15,45 @@ import java.util.Optional;
 @Repository
 public interface CapabilityScoreRepository extends JpaRepository<CapabilityScore, Long> {
 
+    /**
+     * Ranking row of one category with the country columns it is displayed with
+     */
+    interface RankingView {
+        Integer getRanking();
+        Long getCountryId();
+        String getCountryName();
+        String getIsoCode();
+        String getAgencyAcronym();
+        Double getScore();
+        Double getOverallScore();
+    }
+
     /**
      * Find all scores for a country
      */
+    @EntityGraph(attributePaths = {"country"})
     List<CapabilityScore> findByCountryId(Long countryId);
 
     /**
      * Find a specific category score for a country
      */
+    @EntityGraph(attributePaths = {"country"})
     Optional<CapabilityScore> findByCountryIdAndCategory(Long countryId, CapabilityCategory category);
 
     /**
      * Find all scores for a category (for ranking)
      */
+    @EntityGraph(attributePaths = {"country"})
     List<CapabilityScore> findByCategoryOrderByScoreDesc(CapabilityCategory category);
 
+    /**
+     * Rankings of a category as a projection, read in one join without loading entities
+     */
+    @Query("SELECT cs.ranking AS ranking, c.id AS countryId, c.name AS countryName, c.isoCode AS isoCode, " +
+           "c.spaceAgencyAcronym AS agencyAcronym, cs.score AS score, c.overallCapabilityScore AS overallScore " +
+           "FROM CapabilityScore cs JOIN cs.country c WHERE cs.category = :category ORDER BY cs.score DESC")
+    List<RankingView> findRankingViewsByCategory(@Param("category") CapabilityCategory category);
+
     /**
      * Delete all scores for a country (before recalculation)
      */
@@ -36,6 +62,7 @@ public interface CapabilityScoreRepository extends JpaRepository<CapabilityScore
     /**
      * Get top N countries by category
      */
+    @EntityGraph(attributePaths = {"country"})
     @Query("SELECT cs FROM CapabilityScore cs WHERE cs.category = :category ORDER BY cs.score DESC")
     List<CapabilityScore> findTopByCategory(@Param("category") CapabilityCategory category);
 
@@ -60,6 +87,32 @@ public interface CapabilityScoreRepository extends JpaRepository<CapabilityScore
     /**
      * Find countries above a threshold in a category
      */
+    @EntityGraph(attributePaths = {"country"})
     @Query("SELECT cs FROM CapabilityScore cs WHERE cs.category = :category AND cs.score >= :minScore ORDER BY cs.score DESC")
     List<CapabilityScore> findByMinScoreInCategory(@Param("category") CapabilityCategory category, @Param("minScore") Double minScore);
+
+    /**
+     * Re-ranks every category in a single statement using window functions and writes
+     * only the rows whose rank changed. Ties share a rank: competition ranking (1, 2, 2, 4)
+     * by default, dense ranking (1, 2, 2, 3) when {@code dense} is true.
+     *
+     * @return changed rows as [id, country_id, category, previous_rank, new_rank]
+     */
+    @Transactional
+    @Query(nativeQuery = true, value = """
+        WITH ranked AS (
+            SELECT id,
+                   ranking AS previous_rank,
+                   CASE WHEN :dense THEN DENSE_RANK() OVER w ELSE RANK() OVER w END AS new_rank
+            FROM capability_scores
+            WINDOW w AS (PARTITION BY category ORDER BY score DESC)
+        )
+        UPDATE capability_scores cs
+        SET ranking = ranked.new_rank
+        FROM ranked
+        WHERE cs.id = ranked.id
+          AND cs.ranking IS DISTINCT FROM ranked.new_rank
+        RETURNING cs.id, cs.country_id, cs.category, ranked.previous_rank, ranked.new_rank
+        """)
+    List<Object[]> refreshRankings(@Param("dense") boolean dense);
 }
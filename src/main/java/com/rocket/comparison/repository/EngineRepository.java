@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,10 +19,23 @@ public interface EngineRepository extends JpaRepository<Engine, Long> {
     @Query("SELECT e FROM Engine e WHERE e.parent IS NULL")
     List<Engine> findAllParentsWithCountry();
 
-    @EntityGraph(attributePaths = {"country", "variants"})
+    @EntityGraph(attributePaths = {"country", "parent", "variants"})
     @Query("SELECT e FROM Engine e WHERE e.id = :id")
     Optional<Engine> findByIdWithVariants(Long id);
 
+    @EntityGraph(attributePaths = {"country"})
+    @Query("SELECT e FROM Engine e WHERE e.id = :id")
+    Optional<Engine> findByIdWithCountry(Long id);
+
+    // Full catalog with country pre-fetched (used to build the similarity index)
+    @EntityGraph(attributePaths = {"country"})
+    @Query("SELECT e FROM Engine e")
+    List<Engine> findAllWithCountry();
+
+    // Case-insensitive natural-key lookup for bulk upserts (names must be lower-cased)
+    @Query("SELECT e FROM Engine e WHERE lower(e.name) IN :names")
+    List<Engine> findByLowerNameIn(@Param("names") Collection<String> names);
+
     // Find variants for a parent
     List<Engine> findByParentId(Long parentId);
 
@@ -35,6 +49,10 @@ public interface EngineRepository extends JpaRepository<Engine, Long> {
     // Country-based queries
     List<Engine> findByCountryId(Long countryId);
 
+    @EntityGraph(attributePaths = {"country"})
+    @Query("SELECT e FROM Engine e WHERE e.country.id = :countryId")
+    List<Engine> findByCountryIdWithCountry(@Param("countryId") Long countryId);
+
     List<Engine> findByCountryIsoCode(String isoCode);
 
     @Query("SELECT e FROM Engine e WHERE e.origin = :origin")
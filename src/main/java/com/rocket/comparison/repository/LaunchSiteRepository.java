@@ -2,36 +2,51 @@ package com.rocket.comparison.repository;
 
 import com.rocket.comparison.entity.LaunchSite;
 import com.rocket.comparison.entity.LaunchSiteStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface LaunchSiteRepository extends JpaRepository<LaunchSite, Long> {
 
+    @Override
+    @EntityGraph(attributePaths = {"country"})
+    Optional<LaunchSite> findById(Long id);
+
     // ==================== By Name ====================
 
     Optional<LaunchSite> findByShortName(String shortName);
 
     Optional<LaunchSite> findByNameIgnoreCase(String name);
 
+    // Case-insensitive natural-key lookup for bulk upserts (names must be lower-cased)
+    @Query("SELECT ls FROM LaunchSite ls WHERE lower(ls.name) IN :names")
+    List<LaunchSite> findByLowerNameIn(@Param("names") Collection<String> names);
+
     // ==================== By Country ====================
 
+    @EntityGraph(attributePaths = {"country"})
     List<LaunchSite> findByCountryIdOrderByNameAsc(Long countryId);
 
+    @EntityGraph(attributePaths = {"country"})
     List<LaunchSite> findByCountryIsoCodeOrderByNameAsc(String isoCode);
 
+    @EntityGraph(attributePaths = {"country"})
     @Query("SELECT ls FROM LaunchSite ls WHERE ls.country.id = :countryId AND ls.status = :status ORDER BY ls.name ASC")
     List<LaunchSite> findByCountryAndStatus(@Param("countryId") Long countryId, @Param("status") LaunchSiteStatus status);
 
     // ==================== By Status ====================
 
+    @EntityGraph(attributePaths = {"country"})
     List<LaunchSite> findByStatusOrderByNameAsc(LaunchSiteStatus status);
 
+    @EntityGraph(attributePaths = {"country"})
     @Query("SELECT ls FROM LaunchSite ls WHERE ls.status = 'OPERATIONAL' OR ls.status = 'PARTIAL' ORDER BY ls.totalLaunches DESC")
     List<LaunchSite> findActiveLaunchSites();
 
@@ -43,30 +58,35 @@ public interface LaunchSiteRepository extends JpaRepository<LaunchSite, Long> {
 
     // ==================== By Capabilities ====================
 
+    @EntityGraph(attributePaths = {"country"})
     @Query("SELECT ls FROM LaunchSite ls WHERE ls.humanRatedCapable = true ORDER BY ls.totalLaunches DESC")
     List<LaunchSite> findHumanRatedSites();
 
     @Query("SELECT COUNT(ls) FROM LaunchSite ls WHERE ls.humanRatedCapable = true")
     Long countHumanRatedSites();
 
+    @EntityGraph(attributePaths = {"country"})
     @Query("SELECT ls FROM LaunchSite ls WHERE ls.supportsInterplanetary = true ORDER BY ls.name ASC")
     List<LaunchSite> findInterplanetaryCapableSites();
 
     @Query("SELECT COUNT(ls) FROM LaunchSite ls WHERE ls.supportsInterplanetary = true")
     Long countInterplanetaryCapableSites();
 
+    @EntityGraph(attributePaths = {"country"})
     @Query("SELECT ls FROM LaunchSite ls WHERE ls.supportsGeo = true ORDER BY ls.name ASC")
     List<LaunchSite> findGeoCapableSites();
 
     @Query("SELECT COUNT(ls) FROM LaunchSite ls WHERE ls.supportsGeo = true")
     Long countGeoCapableSites();
 
+    @EntityGraph(attributePaths = {"country"})
     @Query("SELECT ls FROM LaunchSite ls WHERE ls.supportsPolar = true OR ls.supportsSso = true ORDER BY ls.name ASC")
     List<LaunchSite> findPolarCapableSites();
 
     @Query("SELECT COUNT(ls) FROM LaunchSite ls WHERE ls.supportsPolar = true OR ls.supportsSso = true")
     Long countPolarCapableSites();
 
+    @EntityGraph(attributePaths = {"country"})
     @Query("SELECT ls FROM LaunchSite ls WHERE ls.hasLandingFacilities = true ORDER BY ls.name ASC")
     List<LaunchSite> findSitesWithLandingFacilities();
 
@@ -75,9 +95,16 @@ public interface LaunchSiteRepository extends JpaRepository<LaunchSite, Long> {
 
     // ==================== By Location ====================
 
+    @EntityGraph(attributePaths = {"country"})
     @Query("SELECT ls FROM LaunchSite ls WHERE ls.latitude BETWEEN :minLat AND :maxLat ORDER BY ls.latitude ASC")
     List<LaunchSite> findByLatitudeRange(@Param("minLat") Double minLatitude, @Param("maxLat") Double maxLatitude);
 
+    /** Sites with coordinates, for {@link com.rocket.comparison.service.LaunchSiteSpatialIndex}. */
+    @EntityGraph(attributePaths = {"country"})
+    @Query("SELECT ls FROM LaunchSite ls WHERE ls.latitude IS NOT NULL AND ls.longitude IS NOT NULL")
+    List<LaunchSite> findLocated();
+
+    @EntityGraph(attributePaths = {"country"})
     @Query("SELECT ls FROM LaunchSite ls WHERE ls.region = :region ORDER BY ls.name ASC")
     List<LaunchSite> findByRegion(@Param("region") String region);
 
@@ -92,9 +119,11 @@ public interface LaunchSiteRepository extends JpaRepository<LaunchSite, Long> {
     @Query("SELECT ls.country.id, COUNT(ls) FROM LaunchSite ls GROUP BY ls.country.id ORDER BY COUNT(ls) DESC")
     List<Object[]> countSitesByCountry();
 
+    @EntityGraph(attributePaths = {"country"})
     @Query("SELECT ls FROM LaunchSite ls WHERE ls.totalLaunches IS NOT NULL ORDER BY ls.totalLaunches DESC")
     List<LaunchSite> findByMostLaunches();
 
+    @EntityGraph(attributePaths = {"country"})
     @Query("SELECT ls FROM LaunchSite ls WHERE ls.successRate IS NOT NULL ORDER BY ls.successRate DESC")
     List<LaunchSite> findByHighestSuccessRate();
 
@@ -103,9 +132,11 @@ public interface LaunchSiteRepository extends JpaRepository<LaunchSite, Long> {
 
     // ==================== Timeline ====================
 
+    @EntityGraph(attributePaths = {"country"})
     @Query("SELECT ls FROM LaunchSite ls WHERE ls.establishedYear = :year ORDER BY ls.name ASC")
     List<LaunchSite> findByEstablishedYear(@Param("year") Integer year);
 
+    @EntityGraph(attributePaths = {"country"})
     @Query("SELECT ls FROM LaunchSite ls WHERE ls.establishedYear BETWEEN :startYear AND :endYear ORDER BY ls.establishedYear ASC")
     List<LaunchSite> findByEstablishedYearRange(@Param("startYear") Integer startYear, @Param("endYear") Integer endYear);
 
@@ -114,19 +145,15 @@ public interface LaunchSiteRepository extends JpaRepository<LaunchSite, Long> {
 
     // ==================== Search ====================
 
-    @Query("SELECT ls FROM LaunchSite ls WHERE " +
-           "LOWER(ls.name) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(ls.shortName) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(ls.alternateName) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(ls.operator) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(ls.region) LIKE LOWER(CONCAT('%', :query, '%')) " +
-           "ORDER BY ls.name ASC")
-    List<LaunchSite> searchLaunchSites(@Param("query") String query);
+    /** Rows for ids ranked by {@link com.rocket.comparison.service.SearchService}; order is not preserved. */
+    @EntityGraph(attributePaths = {"country"})
+    List<LaunchSite> findByIdIn(Collection<Long> ids);
 
     // ==================== Operator ====================
 
     @Query("SELECT DISTINCT ls.operator FROM LaunchSite ls WHERE ls.operator IS NOT NULL ORDER BY ls.operator ASC")
     List<String> findAllOperators();
 
+    @EntityGraph(attributePaths = {"country"})
     List<LaunchSite> findByOperatorOrderByNameAsc(String operator);
 }
@@ -4,8 +4,10 @@ import com.rocket.comparison.entity.LaunchVehicle;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,32 +28,44 @@ public interface LaunchVehicleRepository extends JpaRepository<LaunchVehicle, Lo
     @Query("SELECT lv FROM LaunchVehicle lv WHERE lv.parent IS NULL")
     List<LaunchVehicle> findAllParentsWithCountry();
 
-    @EntityGraph(attributePaths = {"country", "variants"})
+    @EntityGraph(attributePaths = {"country", "parent", "variants"})
     @Query("SELECT lv FROM LaunchVehicle lv WHERE lv.id = :id")
     Optional<LaunchVehicle> findByIdWithVariants(Long id);
 
     // Find variants for a parent
     List<LaunchVehicle> findByParentId(Long parentId);
 
+    @EntityGraph(attributePaths = {"country", "parent", "variants"})
     List<LaunchVehicle> findByCountryId(Long countryId);
 
+    @EntityGraph(attributePaths = {"country", "parent", "variants"})
     List<LaunchVehicle> findByCountryIsoCode(String isoCode);
 
+    @EntityGraph(attributePaths = {"country", "parent", "variants"})
     List<LaunchVehicle> findByActiveTrue();
 
+    @EntityGraph(attributePaths = {"country", "parent", "variants"})
     List<LaunchVehicle> findByReusableTrue();
 
+    @EntityGraph(attributePaths = {"country", "parent", "variants"})
     List<LaunchVehicle> findByHumanRatedTrue();
 
+    @EntityGraph(attributePaths = {"country", "parent", "variants"})
     List<LaunchVehicle> findByFamily(String family);
 
     Optional<LaunchVehicle> findByName(String name);
 
     Optional<LaunchVehicle> findByFullName(String fullName);
 
+    // Case-insensitive natural-key lookup for bulk upserts (names must be lower-cased)
+    @Query("SELECT lv FROM LaunchVehicle lv WHERE lower(lv.name) IN :names")
+    List<LaunchVehicle> findByLowerNameIn(@Param("names") Collection<String> names);
+
+    @EntityGraph(attributePaths = {"country", "parent", "variants"})
     @Query("SELECT lv FROM LaunchVehicle lv WHERE lv.status = 'Active' ORDER BY lv.totalLaunches DESC")
     List<LaunchVehicle> findActiveVehiclesByLaunches();
 
+    @EntityGraph(attributePaths = {"country", "parent", "variants"})
     @Query("SELECT lv FROM LaunchVehicle lv WHERE lv.payloadToLeoKg IS NOT NULL ORDER BY lv.payloadToLeoKg DESC")
     List<LaunchVehicle> findByPayloadCapacity();
 
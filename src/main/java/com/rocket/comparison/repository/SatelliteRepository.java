@@ -4,36 +4,49 @@ import com.rocket.comparison.entity.OrbitType;
 import com.rocket.comparison.entity.Satellite;
 import com.rocket.comparison.entity.SatelliteStatus;
 import com.rocket.comparison.entity.SatelliteType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface SatelliteRepository extends JpaRepository<Satellite, Long> {
 
+    @Override
+    @EntityGraph(attributePaths = {"country", "launchMission"})
+    Optional<Satellite> findById(Long id);
+
     // ==================== By Identifier ====================
 
+    @EntityGraph(attributePaths = {"country", "launchMission"})
     Optional<Satellite> findByNoradId(String noradId);
 
+    @EntityGraph(attributePaths = {"country", "launchMission"})
     Optional<Satellite> findByCosparId(String cosparId);
 
     // ==================== By Country ====================
 
+    @EntityGraph(attributePaths = {"country", "launchMission"})
     List<Satellite> findByCountryIdOrderByLaunchDateDesc(Long countryId);
 
+    @EntityGraph(attributePaths = {"country", "launchMission"})
     List<Satellite> findByCountryIsoCodeOrderByLaunchDateDesc(String isoCode);
 
+    @EntityGraph(attributePaths = {"country", "launchMission"})
     @Query("SELECT s FROM Satellite s WHERE s.country.id = :countryId AND s.status = :status ORDER BY s.launchDate DESC")
     List<Satellite> findByCountryAndStatus(@Param("countryId") Long countryId, @Param("status") SatelliteStatus status);
 
     // ==================== By Status ====================
 
+    @EntityGraph(attributePaths = {"country", "launchMission"})
     List<Satellite> findByStatusOrderByLaunchDateDesc(SatelliteStatus status);
 
+    @EntityGraph(attributePaths = {"country", "launchMission"})
     @Query("SELECT s FROM Satellite s WHERE s.status = 'OPERATIONAL' OR s.status = 'PARTIALLY_OPERATIONAL' ORDER BY s.launchDate DESC")
     List<Satellite> findActiveSatellites();
 
@@ -45,25 +58,32 @@ public interface SatelliteRepository extends JpaRepository<Satellite, Long> {
 
     // ==================== By Type ====================
 
+    @EntityGraph(attributePaths = {"country", "launchMission"})
     List<Satellite> findBySatelliteTypeOrderByLaunchDateDesc(SatelliteType type);
 
+    @EntityGraph(attributePaths = {"country", "launchMission"})
     @Query("SELECT s FROM Satellite s WHERE s.satelliteType IN :types ORDER BY s.launchDate DESC")
     List<Satellite> findByTypes(@Param("types") List<SatelliteType> types);
 
     // ==================== By Orbit ====================
 
+    @EntityGraph(attributePaths = {"country", "launchMission"})
     List<Satellite> findByOrbitTypeOrderByLaunchDateDesc(OrbitType orbitType);
 
+    @EntityGraph(attributePaths = {"country", "launchMission"})
     @Query("SELECT s FROM Satellite s WHERE s.orbitType IN :orbits ORDER BY s.launchDate DESC")
     List<Satellite> findByOrbitTypes(@Param("orbits") List<OrbitType> orbitTypes);
 
+    @EntityGraph(attributePaths = {"country", "launchMission"})
     @Query("SELECT s FROM Satellite s WHERE s.altitudeKm BETWEEN :minAlt AND :maxAlt ORDER BY s.altitudeKm ASC")
     List<Satellite> findByAltitudeRange(@Param("minAlt") Double minAltitude, @Param("maxAlt") Double maxAltitude);
 
     // ==================== By Constellation ====================
 
+    @EntityGraph(attributePaths = {"country", "launchMission"})
     List<Satellite> findByConstellationOrderByLaunchDateDesc(String constellation);
 
+    @EntityGraph(attributePaths = {"country", "launchMission"})
     @Query("SELECT s FROM Satellite s WHERE s.isPartOfConstellation = true ORDER BY s.constellation, s.launchDate DESC")
     List<Satellite> findConstellationSatellites();
 
@@ -78,6 +98,7 @@ public interface SatelliteRepository extends JpaRepository<Satellite, Long> {
 
     // ==================== By Operator ====================
 
+    @EntityGraph(attributePaths = {"country", "launchMission"})
     List<Satellite> findByOperatorOrderByLaunchDateDesc(String operator);
 
     @Query("SELECT DISTINCT s.operator FROM Satellite s WHERE s.operator IS NOT NULL ORDER BY s.operator ASC")
@@ -85,9 +106,11 @@ public interface SatelliteRepository extends JpaRepository<Satellite, Long> {
 
     // ==================== Timeline ====================
 
+    @EntityGraph(attributePaths = {"country", "launchMission"})
     @Query("SELECT s FROM Satellite s WHERE s.launchYear = :year ORDER BY s.launchDate ASC")
     List<Satellite> findByLaunchYear(@Param("year") Integer year);
 
+    @EntityGraph(attributePaths = {"country", "launchMission"})
     @Query("SELECT s FROM Satellite s WHERE s.launchYear BETWEEN :startYear AND :endYear ORDER BY s.launchDate ASC")
     List<Satellite> findByLaunchYearRange(@Param("startYear") Integer startYear, @Param("endYear") Integer endYear);
 
@@ -121,29 +144,31 @@ public interface SatelliteRepository extends JpaRepository<Satellite, Long> {
     @Query("SELECT COUNT(s) FROM Satellite s WHERE s.launchYear = :year")
     Long countByLaunchYear(@Param("year") Integer year);
 
+    /** Orbit columns for {@link com.rocket.comparison.service.SatelliteOrbitIndex}, one row per satellite. */
+    @Query("SELECT s.id, s.name, s.noradId, s.status, s.orbitType, s.altitudeKm, s.perigeeKm, s.apogeeKm, " +
+           "s.inclinationDeg, s.eccentricity FROM Satellite s")
+    List<Object[]> findOrbitColumns();
+
     // ==================== Search ====================
 
-    @Query("SELECT s FROM Satellite s WHERE " +
-           "LOWER(s.name) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(s.alternateName) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(s.noradId) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(s.cosparId) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(s.operator) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(s.constellation) LIKE LOWER(CONCAT('%', :query, '%')) " +
-           "ORDER BY s.launchDate DESC")
-    List<Satellite> searchSatellites(@Param("query") String query);
+    /** Rows for ids ranked by {@link com.rocket.comparison.service.SearchService}; order is not preserved. */
+    @EntityGraph(attributePaths = {"country", "launchMission"})
+    List<Satellite> findByIdIn(Collection<Long> ids);
 
     // ==================== Special Queries ====================
 
+    @EntityGraph(attributePaths = {"country", "launchMission"})
     @Query("SELECT s FROM Satellite s WHERE s.satelliteType = 'NAVIGATION' OR s.satelliteType = 'GPS' OR " +
            "s.satelliteType = 'GLONASS' OR s.satelliteType = 'GALILEO' OR s.satelliteType = 'BEIDOU' " +
            "ORDER BY s.constellation, s.launchDate DESC")
     List<Satellite> findNavigationSatellites();
 
+    @EntityGraph(attributePaths = {"country", "launchMission"})
     @Query("SELECT s FROM Satellite s WHERE s.satelliteType = 'SPACE_STATION' OR s.satelliteType = 'SPACE_STATION_MODULE' " +
            "ORDER BY s.launchDate DESC")
     List<Satellite> findSpaceStations();
 
+    @EntityGraph(attributePaths = {"country", "launchMission"})
     @Query("SELECT s FROM Satellite s WHERE s.orbitType = 'GEO' OR s.orbitType = 'GSO' ORDER BY s.geoLongitude ASC")
     List<Satellite> findGeostationarySatellites();
 }
@@ -2,6 +2,7 @@ package com.rocket.comparison.repository;
 
 import com.rocket.comparison.entity.MilestoneType;
 import com.rocket.comparison.entity.SpaceMilestone;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,48 +15,66 @@ import java.util.Optional;
 @Repository
 public interface SpaceMilestoneRepository extends JpaRepository<SpaceMilestone, Long> {
 
+    @Override
+    @EntityGraph(attributePaths = {"country"})
+    Optional<SpaceMilestone> findById(Long id);
+
     // ==================== By Country ====================
 
+    @EntityGraph(attributePaths = {"country"})
     List<SpaceMilestone> findByCountryIdOrderByDateAchievedAsc(Long countryId);
 
+    @EntityGraph(attributePaths = {"country"})
     List<SpaceMilestone> findByCountryIsoCodeOrderByDateAchievedAsc(String isoCode);
 
+    @EntityGraph(attributePaths = {"country"})
     @Query("SELECT m FROM SpaceMilestone m WHERE m.country.id = :countryId AND m.isGlobalFirst = true ORDER BY m.dateAchieved ASC")
     List<SpaceMilestone> findFirstsByCountry(@Param("countryId") Long countryId);
 
     // ==================== By Milestone Type ====================
 
+    @EntityGraph(attributePaths = {"country"})
     List<SpaceMilestone> findByMilestoneTypeOrderByGlobalRankAsc(MilestoneType type);
 
+    @EntityGraph(attributePaths = {"country"})
     Optional<SpaceMilestone> findByMilestoneTypeAndGlobalRank(MilestoneType type, Integer rank);
 
+    @EntityGraph(attributePaths = {"country"})
     @Query("SELECT m FROM SpaceMilestone m WHERE m.milestoneType = :type AND m.globalRank = 1")
     Optional<SpaceMilestone> findFirstAchiever(@Param("type") MilestoneType type);
 
     // ==================== By Category ====================
 
+    @EntityGraph(attributePaths = {"country"})
     @Query("SELECT m FROM SpaceMilestone m WHERE m.milestoneType IN :types ORDER BY m.dateAchieved ASC")
     List<SpaceMilestone> findByMilestoneTypes(@Param("types") List<MilestoneType> types);
 
     // ==================== Timeline Queries ====================
 
+    @EntityGraph(attributePaths = {"country"})
     List<SpaceMilestone> findByYearOrderByDateAchievedAsc(Integer year);
 
+    @EntityGraph(attributePaths = {"country"})
     List<SpaceMilestone> findByDecadeOrderByDateAchievedAsc(Integer decade);
 
+    @EntityGraph(attributePaths = {"country"})
     List<SpaceMilestone> findByEraOrderByDateAchievedAsc(String era);
 
+    @EntityGraph(attributePaths = {"country"})
     @Query("SELECT m FROM SpaceMilestone m WHERE m.dateAchieved BETWEEN :start AND :end ORDER BY m.dateAchieved ASC")
     List<SpaceMilestone> findByDateRange(@Param("start") LocalDate start, @Param("end") LocalDate end);
 
+    @EntityGraph(attributePaths = {"country"})
     @Query("SELECT m FROM SpaceMilestone m WHERE m.year BETWEEN :startYear AND :endYear ORDER BY m.dateAchieved ASC")
     List<SpaceMilestone> findByYearRange(@Param("startYear") Integer startYear, @Param("endYear") Integer endYear);
 
     // ==================== Global Firsts ====================
 
+    @EntityGraph(attributePaths = {"country"})
     @Query("SELECT m FROM SpaceMilestone m WHERE m.globalRank = 1 ORDER BY m.dateAchieved ASC")
     List<SpaceMilestone> findAllGlobalFirsts();
 
+    @EntityGraph(attributePaths = {"country"})
     @Query("SELECT m FROM SpaceMilestone m WHERE m.isGlobalFirst = true ORDER BY m.dateAchieved ASC")
     List<SpaceMilestone> findFirstAchievers();
 
@@ -94,6 +113,7 @@ public interface SpaceMilestoneRepository extends JpaRepository<SpaceMilestone,
 
     // ==================== Search ====================
 
+    @EntityGraph(attributePaths = {"country"})
     @Query("SELECT m FROM SpaceMilestone m WHERE LOWER(m.title) LIKE LOWER(CONCAT('%', :query, '%')) OR LOWER(m.achievedBy) LIKE LOWER(CONCAT('%', :query, '%')) OR LOWER(m.missionName) LIKE LOWER(CONCAT('%', :query, '%')) ORDER BY m.dateAchieved ASC")
     List<SpaceMilestone> searchMilestones(@Param("query") String query);
 }
@@ -11,68 +11,91 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface SpaceMissionRepository extends JpaRepository<SpaceMission, Long> {
 
+    @Override
+    @EntityGraph(attributePaths = {"country", "milestone"})
+    Optional<SpaceMission> findById(Long id);
+
     // Step 2.2: Entity graph methods to avoid N+1 queries when fetching with country
-    @EntityGraph(attributePaths = {"country"})
+    @EntityGraph(attributePaths = {"country", "milestone"})
     @Query("SELECT m FROM SpaceMission m ORDER BY m.launchDate DESC")
     List<SpaceMission> findAllWithCountry();
 
-    @EntityGraph(attributePaths = {"country"})
+    @EntityGraph(attributePaths = {"country", "milestone"})
     @Query("SELECT m FROM SpaceMission m WHERE m.id = :id")
     Optional<SpaceMission> findByIdWithCountry(@Param("id") Long id);
 
+    // Case-insensitive natural-key lookup for bulk upserts (names must be lower-cased)
+    @Query("SELECT m FROM SpaceMission m WHERE lower(m.name) IN :names")
+    List<SpaceMission> findByLowerNameIn(@Param("names") Collection<String> names);
+
     // ==================== By Country ====================
 
+    @EntityGraph(attributePaths = {"country", "milestone"})
     List<SpaceMission> findByCountryIdOrderByLaunchDateDesc(Long countryId);
 
+    @EntityGraph(attributePaths = {"country", "milestone"})
     List<SpaceMission> findByCountryIsoCodeOrderByLaunchDateDesc(String isoCode);
 
+    @EntityGraph(attributePaths = {"country", "milestone"})
     @Query("SELECT m FROM SpaceMission m WHERE m.country.id = :countryId AND m.status = :status ORDER BY m.launchDate DESC")
     List<SpaceMission> findByCountryAndStatus(@Param("countryId") Long countryId, @Param("status") MissionStatus status);
 
     // ==================== By Status ====================
 
+    @EntityGraph(attributePaths = {"country", "milestone"})
     List<SpaceMission> findByStatusOrderByLaunchDateDesc(MissionStatus status);
 
+    @EntityGraph(attributePaths = {"country", "milestone"})
     @Query("SELECT m FROM SpaceMission m WHERE m.status IN :statuses ORDER BY m.launchDate DESC")
     List<SpaceMission> findByStatuses(@Param("statuses") List<MissionStatus> statuses);
 
+    @EntityGraph(attributePaths = {"country", "milestone"})
     @Query("SELECT m FROM SpaceMission m WHERE m.status = 'ACTIVE' OR m.status = 'LAUNCHED' ORDER BY m.launchDate DESC")
     List<SpaceMission> findActiveMissions();
 
+    @EntityGraph(attributePaths = {"country", "milestone"})
     @Query("SELECT m FROM SpaceMission m WHERE m.status = 'PLANNED' OR m.status = 'IN_DEVELOPMENT' ORDER BY m.launchDate ASC")
     List<SpaceMission> findUpcomingMissions();
 
     // ==================== By Mission Type ====================
 
+    @EntityGraph(attributePaths = {"country", "milestone"})
     List<SpaceMission> findByMissionTypeOrderByLaunchDateDesc(MissionType missionType);
 
+    @EntityGraph(attributePaths = {"country", "milestone"})
     @Query("SELECT m FROM SpaceMission m WHERE m.missionType IN :types ORDER BY m.launchDate DESC")
     List<SpaceMission> findByMissionTypes(@Param("types") List<MissionType> types);
 
+    @EntityGraph(attributePaths = {"country", "milestone"})
     @Query("SELECT m FROM SpaceMission m WHERE m.missionCategory = :category ORDER BY m.launchDate DESC")
     List<SpaceMission> findByMissionCategory(@Param("category") String category);
 
     // ==================== By Destination ====================
 
+    @EntityGraph(attributePaths = {"country", "milestone"})
     List<SpaceMission> findByDestinationOrderByLaunchDateDesc(Destination destination);
 
+    @EntityGraph(attributePaths = {"country", "milestone"})
     @Query("SELECT m FROM SpaceMission m WHERE m.destination IN :destinations ORDER BY m.launchDate DESC")
     List<SpaceMission> findByDestinations(@Param("destinations") List<Destination> destinations);
 
     // ==================== Crewed Missions ====================
 
+    @EntityGraph(attributePaths = {"country", "milestone"})
     @Query("SELECT m FROM SpaceMission m WHERE m.crewed = true ORDER BY m.launchDate DESC")
     List<SpaceMission> findCrewedMissions();
 
     @Query("SELECT COUNT(m) FROM SpaceMission m WHERE m.crewed = true")
     Long countCrewedMissions();
 
+    @EntityGraph(attributePaths = {"country", "milestone"})
     @Query("SELECT m FROM SpaceMission m WHERE m.crewed = true AND m.country.id = :countryId ORDER BY m.launchDate DESC")
     List<SpaceMission> findCrewedMissionsByCountry(@Param("countryId") Long countryId);
 
@@ -81,29 +104,35 @@ public interface SpaceMissionRepository extends JpaRepository<SpaceMission, Long
 
     // ==================== Historic Firsts ====================
 
+    @EntityGraph(attributePaths = {"country", "milestone"})
     @Query("SELECT m FROM SpaceMission m WHERE m.isHistoricFirst = true ORDER BY m.launchDate ASC")
     List<SpaceMission> findHistoricFirsts();
 
+    @EntityGraph(attributePaths = {"country", "milestone"})
     @Query("SELECT m FROM SpaceMission m WHERE m.isHistoricFirst = true AND m.country.id = :countryId ORDER BY m.launchDate ASC")
     List<SpaceMission> findHistoricFirstsByCountry(@Param("countryId") Long countryId);
 
     // ==================== Timeline Queries ====================
 
+    @EntityGraph(attributePaths = {"country", "milestone"})
     @Query("SELECT m FROM SpaceMission m WHERE m.launchYear = :year ORDER BY m.launchDate ASC")
     List<SpaceMission> findByLaunchYear(@Param("year") Integer year);
 
     @Query("SELECT COUNT(m) FROM SpaceMission m WHERE m.launchYear = :year")
     Long countByLaunchYear(@Param("year") Integer year);
 
+    @EntityGraph(attributePaths = {"country", "milestone"})
     @Query("SELECT m FROM SpaceMission m WHERE m.launchDecade = :decade ORDER BY m.launchDate ASC")
     List<SpaceMission> findByLaunchDecade(@Param("decade") Integer decade);
 
     @Query("SELECT m.launchDecade, COUNT(m) FROM SpaceMission m WHERE m.launchDecade IS NOT NULL GROUP BY m.launchDecade ORDER BY m.launchDecade ASC")
     List<Object[]> countMissionsByDecade();
 
+    @EntityGraph(attributePaths = {"country", "milestone"})
     @Query("SELECT m FROM SpaceMission m WHERE m.launchDate BETWEEN :startDate AND :endDate ORDER BY m.launchDate ASC")
     List<SpaceMission> findByDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
+    @EntityGraph(attributePaths = {"country", "milestone"})
     @Query("SELECT m FROM SpaceMission m WHERE m.launchYear BETWEEN :startYear AND :endYear ORDER BY m.launchDate ASC")
     List<SpaceMission> findByYearRange(@Param("startYear") Integer startYear, @Param("endYear") Integer endYear);
 
@@ -130,12 +159,10 @@ public interface SpaceMissionRepository extends JpaRepository<SpaceMission, Long
     @Query("SELECT m.launchYear, COUNT(m) FROM SpaceMission m WHERE m.launchYear IS NOT NULL GROUP BY m.launchYear ORDER BY m.launchYear ASC")
     List<Object[]> countMissionsByYear();
 
-    // BE-053: Group by country and year for analytics
-    @Query("SELECT m.country.id, m.country.name, m.country.isoCode, m.launchYear, COUNT(m) " +
-           "FROM SpaceMission m WHERE m.country IS NOT NULL AND m.launchYear IS NOT NULL " +
-           "GROUP BY m.country.id, m.country.name, m.country.isoCode, m.launchYear " +
-           "ORDER BY COUNT(m) DESC, m.launchYear ASC")
-    List<Object[]> countMissionsByCountryAndYear();
+    // Columns of MissionColumnStore, ordered by id
+    @Query("SELECT m.id, m.launchYear, c.id, c.name, c.isoCode, m.status, m.missionType, m.destination, " +
+           "m.crewed, m.isHistoricFirst FROM SpaceMission m LEFT JOIN m.country c ORDER BY m.id")
+    List<Object[]> findAnalyticsColumns();
 
     // ==================== Lists ====================
 
@@ -156,38 +183,39 @@ public interface SpaceMissionRepository extends JpaRepository<SpaceMission, Long
 
     // ==================== Search ====================
 
-    @Query("SELECT m FROM SpaceMission m WHERE " +
-           "LOWER(m.name) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(m.missionDesignation) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(m.alternateName) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(m.crewNames) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(m.commander) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(m.operator) LIKE LOWER(CONCAT('%', :query, '%')) " +
-           "ORDER BY m.launchDate DESC")
-    List<SpaceMission> searchMissions(@Param("query") String query);
+    /** Rows for ids ranked by {@link com.rocket.comparison.service.SearchService}; order is not preserved. */
+    @EntityGraph(attributePaths = {"country", "milestone"})
+    List<SpaceMission> findByIdIn(Collection<Long> ids);
 
     // ==================== Advanced Queries ====================
 
+    @EntityGraph(attributePaths = {"country", "milestone"})
     @Query("SELECT m FROM SpaceMission m WHERE m.destination = :destination AND m.status = 'COMPLETED' ORDER BY m.launchDate ASC")
     List<SpaceMission> findSuccessfulMissionsByDestination(@Param("destination") Destination destination);
 
+    @EntityGraph(attributePaths = {"country", "milestone"})
     @Query("SELECT m FROM SpaceMission m WHERE m.missionType = :type AND m.country.id = :countryId ORDER BY m.launchDate DESC")
     List<SpaceMission> findByTypeAndCountry(@Param("type") MissionType type, @Param("countryId") Long countryId);
 
+    @EntityGraph(attributePaths = {"country", "milestone"})
     @Query("SELECT m FROM SpaceMission m WHERE m.sampleReturnMassKg > 0 ORDER BY m.sampleReturnMassKg DESC")
     List<SpaceMission> findSampleReturnMissions();
 
+    @EntityGraph(attributePaths = {"country", "milestone"})
     @Query("SELECT m FROM SpaceMission m WHERE m.evaCount > 0 ORDER BY m.evaCount DESC")
     List<SpaceMission> findMissionsWithEVA();
 
     // ==================== Records ====================
 
+    @EntityGraph(attributePaths = {"country", "milestone"})
     @Query("SELECT m FROM SpaceMission m WHERE m.durationDays IS NOT NULL ORDER BY m.durationDays DESC")
     List<SpaceMission> findLongestMissions();
 
+    @EntityGraph(attributePaths = {"country", "milestone"})
     @Query("SELECT m FROM SpaceMission m WHERE m.maxDistanceFromEarthKm IS NOT NULL ORDER BY m.maxDistanceFromEarthKm DESC")
     List<SpaceMission> findFarthestMissions();
 
+    @EntityGraph(attributePaths = {"country", "milestone"})
     @Query("SELECT m FROM SpaceMission m WHERE m.crewSize IS NOT NULL ORDER BY m.crewSize DESC")
     List<SpaceMission> findLargestCrewMissions();
 }
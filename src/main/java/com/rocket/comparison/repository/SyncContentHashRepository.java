@@ -0,0 +1,14 @@
+package com.rocket.comparison.repository;
+
+import com.rocket.comparison.entity.SyncContentHash;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SyncContentHashRepository extends JpaRepository<SyncContentHash, SyncContentHash.Key> {
+
+    List<SyncContentHash> findBySourceAndExternalIdIn(String source, Collection<String> externalIds);
+}
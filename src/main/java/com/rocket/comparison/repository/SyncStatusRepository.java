@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -27,6 +28,10 @@ public interface SyncStatusRepository extends JpaRepository<SyncStatus, Long> {
     @Query("SELECT s FROM SyncStatus s WHERE s.syncType = :syncType AND s.state = 'SUCCESS' ORDER BY s.completedAt DESC LIMIT 1")
     Optional<SyncStatus> findLatestSuccessfulBySyncType(@Param("syncType") String syncType);
 
+    // Get the high-water mark of the successful syncs for a type (empty until one recorded it)
+    @Query("SELECT MAX(s.highWaterMark) FROM SyncStatus s WHERE s.syncType = :syncType AND s.state = 'SUCCESS'")
+    Optional<Instant> findHighWaterMark(@Param("syncType") String syncType);
+
     // Get all in-progress syncs
     @Query("SELECT s FROM SyncStatus s WHERE s.state = 'IN_PROGRESS' ORDER BY s.startedAt DESC")
     List<SyncStatus> findAllInProgress();
@@ -0,0 +1,9 @@
+package com.rocket.comparison.repository;
+
+import com.rocket.comparison.entity.TruthLedgerFactSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TruthLedgerFactSnapshotRepository extends JpaRepository<TruthLedgerFactSnapshot, Long> {
+}
@@ -30,6 +30,7 @@ public class AnalyticsService {
     private final SpaceMissionRepository spaceMissionRepository;
     private final SpaceMilestoneRepository spaceMilestoneRepository;
     private final CapabilityScoreRepository capabilityScoreRepository;
+    private final MissionColumnStore missionColumnStore;
 
     // ==================== Budget Analytics ====================
 
@@ -37,7 +38,7 @@ public class AnalyticsService {
      * Get space budget trends by country
      * Optimized: Uses database-level filtering and sorting
      */
-    @Cacheable(ANALYTICS_CACHE)
+    @Cacheable(value = ANALYTICS_CACHE, key = "#root.methodName", sync = true)
     public Map<String, Object> getBudgetTrends() {
         Map<String, Object> result = new LinkedHashMap<>();
 
@@ -86,7 +87,7 @@ public class AnalyticsService {
      * Format: { years: [], byCountry: {}, total: [] }
      * Uses real mission data from database synced from TheSpaceDevs API
      */
-    @Cacheable(ANALYTICS_CACHE)
+    @Cacheable(value = ANALYTICS_CACHE, key = "#root.methodName", sync = true)
     public Map<String, Object> getLaunchesPerYear() {
         Map<String, Object> result = new LinkedHashMap<>();
 
@@ -100,105 +101,57 @@ public class AnalyticsService {
         }
         result.put("years", years);
 
-        // Get all missions with launch dates in our date range
-        List<SpaceMission> missions = spaceMissionRepository.findByYearRange(startYear, currentYear);
+        MissionColumnStore.YearGrid<MissionColumnStore.CountryLabel> grid =
+            missionColumnStore.countByCountryAndYear(startYear, currentYear);
 
-        // Group missions by country and year
-        Map<String, Map<Integer, Long>> countryYearCounts = missions.stream()
-            .filter(m -> m.getLaunchDate() != null && m.getCountry() != null)
-            .collect(Collectors.groupingBy(
-                m -> m.getCountry().getName(),
-                Collectors.groupingBy(
-                    m -> m.getLaunchDate().getYear(),
-                    Collectors.counting()
-                )
-            ));
-
-        // Build byCountry arrays aligned with years
+        // Countries with at least one launch, most launches first; totals only count attributed launches
+        long[] totals = new long[grid.years()];
         Map<String, List<Long>> byCountry = new LinkedHashMap<>();
-        List<Long> totals = new ArrayList<>(Collections.nCopies(years.size(), 0L));
-
-        for (Map.Entry<String, Map<Integer, Long>> countryEntry : countryYearCounts.entrySet()) {
-            String countryName = countryEntry.getKey();
-            Map<Integer, Long> yearCounts = countryEntry.getValue();
-
-            List<Long> countryData = new ArrayList<>();
-            for (int i = 0; i < years.size(); i++) {
-                int year = years.get(i);
-                long count = yearCounts.getOrDefault(year, 0L);
-                countryData.add(count);
-                totals.set(i, totals.get(i) + count);
-            }
-
-            // Only include countries with at least 1 launch
-            if (countryData.stream().mapToLong(Long::longValue).sum() > 0) {
-                byCountry.put(countryName, countryData);
+        for (int key : grid.keysByTotalDesc()) {
+            long[] counts = grid.counts()[key];
+            for (int i = 0; i < counts.length; i++) {
+                totals[i] += counts[i];
             }
+            byCountry.put(grid.keys().get(key).name(), Arrays.stream(counts).boxed().toList());
         }
 
-        // Sort by total launches descending
-        byCountry = byCountry.entrySet().stream()
-            .sorted((a, b) -> Long.compare(
-                b.getValue().stream().mapToLong(Long::longValue).sum(),
-                a.getValue().stream().mapToLong(Long::longValue).sum()
-            ))
-            .collect(Collectors.toMap(
-                Map.Entry::getKey,
-                Map.Entry::getValue,
-                (e1, e2) -> e1,
-                LinkedHashMap::new
-            ));
-
         result.put("byCountry", byCountry);
-        result.put("total", totals);
+        result.put("total", Arrays.stream(totals).boxed().toList());
 
         return result;
     }
 
     /**
      * Get launches per year broken down by country
-     * BE-053: Optimized with single GROUP BY query instead of N+1 queries
+     * Served from the in-memory {@link MissionColumnStore}
      */
-    @Cacheable(ANALYTICS_CACHE)
+    @Cacheable(value = ANALYTICS_CACHE, key = "#root.methodName", sync = true)
     public Map<String, Object> getLaunchesPerYearByCountry() {
         Map<String, Object> result = new LinkedHashMap<>();
 
-        // Use optimized query to get all data in one go
-        List<Object[]> rawData = spaceMissionRepository.countMissionsByCountryAndYear();
-
-        // Group by country
-        Map<Long, Map<String, Object>> countryMap = new LinkedHashMap<>();
-
-        for (Object[] row : rawData) {
-            Long countryId = (Long) row[0];
-            String countryName = (String) row[1];
-            String isoCode = (String) row[2];
-            Integer year = (Integer) row[3];
-            Long count = (Long) row[4];
+        MissionColumnStore.YearGrid<MissionColumnStore.CountryLabel> grid = missionColumnStore.countByCountryAndYear();
+
+        // Sorted by total missions descending
+        List<Map<String, Object>> countryData = Arrays.stream(grid.keysByTotalDesc())
+            .mapToObj(key -> {
+                MissionColumnStore.CountryLabel country = grid.keys().get(key);
+                Map<Integer, Long> byYear = new LinkedHashMap<>();
+                long[] counts = grid.counts()[key];
+                for (int i = 0; i < counts.length; i++) {
+                    if (counts[i] > 0) {
+                        byYear.put(grid.fromYear() + i, counts[i]);
+                    }
+                }
 
-            countryMap.computeIfAbsent(countryId, k -> {
                 Map<String, Object> countryStats = new LinkedHashMap<>();
-                countryStats.put("countryId", countryId);
-                countryStats.put("countryName", countryName);
-                countryStats.put("isoCode", isoCode);
-                countryStats.put("totalMissions", 0L);
-                countryStats.put("byYear", new LinkedHashMap<Integer, Long>());
+                countryStats.put("countryId", country.id());
+                countryStats.put("countryName", country.name());
+                countryStats.put("isoCode", country.isoCode());
+                countryStats.put("totalMissions", grid.keyTotal(key));
+                countryStats.put("byYear", byYear);
                 return countryStats;
-            });
-
-            Map<String, Object> countryStats = countryMap.get(countryId);
-            countryStats.put("totalMissions", (Long) countryStats.get("totalMissions") + count);
-            @SuppressWarnings("unchecked")
-            Map<Integer, Long> byYear = (Map<Integer, Long>) countryStats.get("byYear");
-            byYear.put(year, count);
-        }
-
-        // Convert to list and sort by total missions descending
-        List<Map<String, Object>> countryData = new ArrayList<>(countryMap.values());
-        countryData.sort((a, b) -> Long.compare(
-            (Long) b.get("totalMissions"),
-            (Long) a.get("totalMissions")
-        ));
+            })
+            .toList();
 
         result.put("countries", countryData);
         result.put("totalCountries", countryData.size());
@@ -263,7 +216,7 @@ public class AnalyticsService {
     /**
      * Identify emerging space powers based on recent activity
      */
-    @Cacheable(ANALYTICS_CACHE)
+    @Cacheable(value = ANALYTICS_CACHE, key = "#root.methodName", sync = true)
     public Map<String, Object> getEmergingNations() {
         Map<String, Object> result = new LinkedHashMap<>();
 
@@ -329,7 +282,7 @@ public class AnalyticsService {
      * Analyze technology trends in propulsion and space systems
      * Optimized: Uses database-level aggregation instead of loading all entities
      */
-    @Cacheable(ANALYTICS_CACHE)
+    @Cacheable(value = ANALYTICS_CACHE, key = "#root.methodName", sync = true)
     public Map<String, Object> getTechnologyTrends() {
         Map<String, Object> result = new LinkedHashMap<>();
 
@@ -384,7 +337,7 @@ public class AnalyticsService {
     /**
      * Get current world records in various categories
      */
-    @Cacheable(RANKINGS_CACHE)
+    @Cacheable(value = RANKINGS_CACHE, key = "#root.methodName", sync = true)
     public Map<String, Object> getRecords() {
         Map<String, Object> records = new LinkedHashMap<>();
 
@@ -524,7 +477,7 @@ public class AnalyticsService {
     /**
      * Get comprehensive analytics summary
      */
-    @Cacheable(ANALYTICS_CACHE)
+    @Cacheable(value = ANALYTICS_CACHE, key = "#root.methodName", sync = true)
     public Map<String, Object> getAnalyticsSummary() {
         Map<String, Object> summary = new LinkedHashMap<>();
 
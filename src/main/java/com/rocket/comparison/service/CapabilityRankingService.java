@@ -0,0 +1,109 @@
+package com.rocket.comparison.service;
+
+import com.rocket.comparison.entity.CapabilityCategory;
+import com.rocket.comparison.event.DomainEntity;
+import com.rocket.comparison.event.EntityChangedEvent;
+import com.rocket.comparison.repository.CapabilityScoreRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Assigns per-category rankings to capability scores with one set-based statement
+ * (see {@link CapabilityScoreRepository#refreshRankings}) instead of loading and saving
+ * every score row, and reports which countries moved.
+ */
+@Service
+@Slf4j
+public class CapabilityRankingService {
+
+    /**
+     * How tied scores are ranked.
+     */
+    public enum RankingMode {
+        /** Ties share a rank and the next rank is skipped: 1, 2, 2, 4 */
+        COMPETITION,
+        /** Ties share a rank and no rank is skipped: 1, 2, 2, 3 */
+        DENSE;
+
+        public static RankingMode fromString(String value) {
+            return Arrays.stream(values())
+                .filter(mode -> mode.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown ranking mode: " + value));
+        }
+    }
+
+    /**
+     * A score row whose rank changed.
+     *
+     * @param change positions gained (positive) or lost (negative); null if the row was unranked
+     */
+    public record RankDelta(
+        Long scoreId,
+        Long countryId,
+        CapabilityCategory category,
+        Integer previousRank,
+        int newRank,
+        Integer change
+    ) {}
+
+    public record RankingRefresh(RankingMode mode, int changed, List<RankDelta> deltas, long durationMs) {}
+
+    private final CapabilityScoreRepository scoreRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RankingMode defaultMode;
+
+    public CapabilityRankingService(CapabilityScoreRepository scoreRepository,
+                                    ApplicationEventPublisher eventPublisher,
+                                    @Value("${capability.scores.ranking-mode:COMPETITION}") String defaultMode) {
+        this.scoreRepository = scoreRepository;
+        this.eventPublisher = eventPublisher;
+        this.defaultMode = RankingMode.fromString(defaultMode);
+    }
+
+    @Transactional
+    public RankingRefresh refreshRankings() {
+        return refreshRankings(defaultMode);
+    }
+
+    /**
+     * Re-ranks all categories. Pending score changes in the current transaction are
+     * flushed first so the statement ranks what the caller just wrote.
+     */
+    @Transactional
+    public RankingRefresh refreshRankings(RankingMode mode) {
+        long start = System.currentTimeMillis();
+
+        scoreRepository.flush();
+        List<RankDelta> deltas = scoreRepository.refreshRankings(mode == RankingMode.DENSE).stream()
+            .map(CapabilityRankingService::toDelta)
+            .toList();
+
+        if (!deltas.isEmpty()) {
+            eventPublisher.publishEvent(EntityChangedEvent.bulk(DomainEntity.CAPABILITY_SCORE));
+        }
+
+        long duration = System.currentTimeMillis() - start;
+        log.debug("Refreshed capability rankings ({}): {} rows changed in {}ms", mode, deltas.size(), duration);
+        return new RankingRefresh(mode, deltas.size(), deltas, duration);
+    }
+
+    private static RankDelta toDelta(Object[] row) {
+        Integer previousRank = row[3] != null ? ((Number) row[3]).intValue() : null;
+        int newRank = ((Number) row[4]).intValue();
+        return new RankDelta(
+            ((Number) row[0]).longValue(),
+            ((Number) row[1]).longValue(),
+            CapabilityCategory.valueOf((String) row[2]),
+            previousRank,
+            newRank,
+            previousRank != null ? previousRank - newRank : null
+        );
+    }
+}
@@ -1,13 +1,19 @@
 package com.rocket.comparison.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rocket.comparison.entity.CapabilityCategory;
 import com.rocket.comparison.entity.CapabilityScore;
 import com.rocket.comparison.entity.Country;
 import com.rocket.comparison.entity.Engine;
+import com.rocket.comparison.event.DomainEntity;
+import com.rocket.comparison.event.EntityChangedEvent;
 import com.rocket.comparison.repository.CapabilityScoreRepository;
 import com.rocket.comparison.repository.CountryRepository;
 import com.rocket.comparison.repository.EngineRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,17 +24,29 @@ import java.util.stream.Collectors;
 /**
  * Service for calculating Space Capability Index (SCI) scores.
  * Implements weighted scoring algorithms for each capability category.
+ *
+ * A full recalculation loads all countries and engines once and scores every
+ * country x category in memory, one category per worker. Single-entity writes only
+ * recompute the categories that read the changed entity type (see {@link #categoriesAffectedBy}).
  */
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
 public class CapabilityScoreService {
 
     private final CapabilityScoreRepository scoreRepository;
     private final CountryRepository countryRepository;
     private final EngineRepository engineRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final CapabilityRankingService rankingService;
 
     private static final String CALCULATION_VERSION = "1.0";
 
+    private static final Set<CapabilityCategory> ENGINE_CATEGORIES =
+        EnumSet.of(CapabilityCategory.PROPULSION_TECHNOLOGY, CapabilityCategory.TECHNOLOGICAL_INDEPENDENCE);
+
     // ==================== Score Retrieval ====================
 
     public List<CapabilityScore> getScoresByCountry(Long countryId) {
@@ -43,6 +61,10 @@ public class CapabilityScoreService {
         return scoreRepository.findByCategoryOrderByScoreDesc(category);
     }
 
+    public List<CapabilityScoreRepository.RankingView> getRankingViewsByCategory(CapabilityCategory category) {
+        return scoreRepository.findRankingViewsByCategory(category);
+    }
+
     public Double getAverageScoreByCategory(CapabilityCategory category) {
         return scoreRepository.getAverageScoreByCategory(category);
     }
@@ -54,13 +76,20 @@ public class CapabilityScoreService {
      * Uses weighted average of all category scores.
      */
     public Double calculateOverallScore(Country country) {
+        return calculateOverallScore(country, getEnginesForCountry(country));
+    }
+
+    /**
+     * Overall score from an already loaded engine portfolio.
+     */
+    public Double calculateOverallScore(Country country, List<Engine> engines) {
         double launchScore = calculateLaunchCapability(country);
-        double propulsionScore = calculatePropulsionTechnology(country);
+        double propulsionScore = calculatePropulsionTechnology(country, engines);
         double humanScore = calculateHumanSpaceflight(country);
         double deepSpaceScore = calculateDeepSpaceExploration(country);
         double satelliteScore = calculateSatelliteInfrastructure(country);
         double infrastructureScore = calculateSpaceInfrastructure(country);
-        double independenceScore = calculateTechnologicalIndependence(country);
+        double independenceScore = calculateTechnologicalIndependence(country, engines);
 
         return (launchScore * CapabilityCategory.LAUNCH_CAPABILITY.getWeight()) +
                (propulsionScore * CapabilityCategory.PROPULSION_TECHNOLOGY.getWeight()) +
@@ -121,8 +150,10 @@ public class CapabilityScoreService {
      * - Reusable engine capability: 0-15 points
      */
     public Double calculatePropulsionTechnology(Country country) {
-        List<Engine> engines = getEnginesForCountry(country);
+        return calculatePropulsionTechnology(country, getEnginesForCountry(country));
+    }
 
+    public Double calculatePropulsionTechnology(Country country, List<Engine> engines) {
         if (engines.isEmpty()) {
             return 0.0;
         }
@@ -331,6 +362,10 @@ public class CapabilityScoreService {
      * - End-to-end capability: 25 points
      */
     public Double calculateTechnologicalIndependence(Country country) {
+        return calculateTechnologicalIndependence(country, getEnginesForCountry(country));
+    }
+
+    public Double calculateTechnologicalIndependence(Country country, List<Engine> engines) {
         double score = 0;
 
         // Indigenous launch capability
@@ -339,7 +374,6 @@ public class CapabilityScoreService {
         }
 
         // Has own engines
-        List<Engine> engines = getEnginesForCountry(country);
         if (!engines.isEmpty()) {
             score += 25;
         }
@@ -364,81 +398,173 @@ public class CapabilityScoreService {
      */
     @Transactional
     public List<CapabilityScore> calculateAndSaveScores(Long countryId) {
+        return recalculateCategories(countryId, EnumSet.allOf(CapabilityCategory.class));
+    }
+
+    /**
+     * Recompute only the given categories for one country, reusing the stored scores of
+     * the other categories for the overall score. Categories the country has never been
+     * scored in are computed as well.
+     */
+    @Transactional
+    public List<CapabilityScore> recalculateCategories(Long countryId, Set<CapabilityCategory> categories) {
         Country country = countryRepository.findById(countryId)
             .orElseThrow(() -> new IllegalArgumentException("Country not found: " + countryId));
 
-        // Delete existing scores
-        scoreRepository.deleteByCountryId(countryId);
+        Map<CapabilityCategory, CapabilityScore> existing = new EnumMap<>(CapabilityCategory.class);
+        scoreRepository.findByCountryId(countryId).forEach(score -> existing.put(score.getCategory(), score));
 
-        List<CapabilityScore> scores = new ArrayList<>();
-        LocalDateTime now = LocalDateTime.now();
-
-        // Calculate each category
+        Set<CapabilityCategory> toCalculate = EnumSet.noneOf(CapabilityCategory.class);
+        toCalculate.addAll(categories);
         for (CapabilityCategory category : CapabilityCategory.values()) {
-            Double categoryScore = calculateCategoryScore(country, category);
+            if (!existing.containsKey(category)) {
+                toCalculate.add(category);
+            }
+        }
 
-            CapabilityScore score = new CapabilityScore();
-            score.setCountry(country);
-            score.setCategory(category);
-            score.setScore(categoryScore);
-            score.setCalculatedAt(now);
-            score.setCalculationVersion(CALCULATION_VERSION);
-            score.setScoreBreakdown(generateBreakdown(country, category));
+        List<Engine> engines = requiresEngines(toCalculate) ? getEnginesForCountry(country) : List.of();
+        LocalDateTime now = LocalDateTime.now();
 
-            scores.add(scoreRepository.save(score));
+        List<CapabilityScore> scores = new ArrayList<>();
+        for (CapabilityCategory category : toCalculate) {
+            double value = calculateCategoryScore(country, category, engines);
+            scores.add(applyScore(existing.get(category), country, category, value, now));
         }
+        scores = scoreRepository.saveAll(scores);
+        scores.forEach(score -> existing.put(score.getCategory(), score));
 
-        // Update overall score on country
-        Double overallScore = calculateOverallScore(country);
-        country.setOverallCapabilityScore(overallScore);
+        country.setOverallCapabilityScore(weightedTotal(existing.values()));
         countryRepository.save(country);
+        // Only the derived overall score changed on the country; readers of it depend on CAPABILITY_SCORE
+        eventPublisher.publishEvent(EntityChangedEvent.saved(DomainEntity.CAPABILITY_SCORE, null, country));
 
-        // Update rankings
-        updateRankings();
+        // Keep the returned rows in line with the ranks just written by the set-based update
+        Map<Long, Integer> newRanks = new HashMap<>();
+        rankingService.refreshRankings().deltas().forEach(delta -> newRanks.put(delta.scoreId(), delta.newRank()));
+        scores.stream()
+            .filter(score -> newRanks.containsKey(score.getId()))
+            .forEach(score -> score.setRanking(newRanks.get(score.getId())));
 
         return scores;
     }
 
     /**
-     * Calculate scores for all countries
+     * Calculate scores for all countries.
+     *
+     * Inputs are loaded with two queries; the seven categories are then scored in
+     * parallel over the in-memory country and engine lists. Existing score rows are
+     * updated in place with a single batched save, then re-ranked in one statement.
      */
     @Transactional
     public void calculateAllScores() {
+        long start = System.currentTimeMillis();
+
         List<Country> countries = countryRepository.findAll();
-        for (Country country : countries) {
-            calculateAndSaveScores(country.getId());
+        EnginePortfolios portfolios = EnginePortfolios.of(engineRepository.findAllWithCountry());
+        List<List<Engine>> enginesByRow = countries.stream().map(portfolios::forCountry).toList();
+
+        // Entities are fully loaded at this point, so workers never touch the persistence context
+        Map<CapabilityCategory, double[]> scoresByCategory = Arrays.stream(CapabilityCategory.values())
+            .parallel()
+            .collect(Collectors.toMap(
+                category -> category,
+                category -> {
+                    double[] values = new double[countries.size()];
+                    for (int row = 0; row < values.length; row++) {
+                        values[row] = calculateCategoryScore(countries.get(row), category, enginesByRow.get(row));
+                    }
+                    return values;
+                },
+                (a, b) -> a,
+                () -> new EnumMap<>(CapabilityCategory.class)));
+
+        Map<Long, Map<CapabilityCategory, CapabilityScore>> existing = new HashMap<>();
+        for (CapabilityScore score : scoreRepository.findAll()) {
+            existing.computeIfAbsent(score.getCountry().getId(), id -> new EnumMap<>(CapabilityCategory.class))
+                .put(score.getCategory(), score);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<CapabilityScore> scores = new ArrayList<>(countries.size() * CapabilityCategory.values().length);
+        for (int row = 0; row < countries.size(); row++) {
+            Country country = countries.get(row);
+            Map<CapabilityCategory, CapabilityScore> countryScores = existing.getOrDefault(country.getId(), Map.of());
+            double overall = 0;
+            for (CapabilityCategory category : CapabilityCategory.values()) {
+                double value = scoresByCategory.get(category)[row];
+                scores.add(applyScore(countryScores.get(category), country, category, value, now));
+                overall += value * category.getWeight();
+            }
+            country.setOverallCapabilityScore(overall);
         }
+
+        scoreRepository.saveAll(scores);
+        countryRepository.saveAll(countries);
+        rankingService.refreshRankings();
+
+        eventPublisher.publishEvent(EntityChangedEvent.bulk(DomainEntity.CAPABILITY_SCORE));
+
+        log.info("Calculated capability scores for {} countries in {}ms",
+            countries.size(), System.currentTimeMillis() - start);
     }
 
     /**
      * Update rankings for all categories
      */
     @Transactional
-    public void updateRankings() {
-        for (CapabilityCategory category : CapabilityCategory.values()) {
-            List<CapabilityScore> scores = scoreRepository.findByCategoryOrderByScoreDesc(category);
-            int rank = 1;
-            for (CapabilityScore score : scores) {
-                score.setRanking(rank++);
-                scoreRepository.save(score);
-            }
-        }
+    public CapabilityRankingService.RankingRefresh updateRankings() {
+        return rankingService.refreshRankings();
+    }
+
+    /**
+     * Categories whose inputs include the given entity type. The remaining calculators
+     * only read country-level columns, so mission, satellite and launch-site writes do
+     * not currently move any category; add them here when a calculator starts reading them.
+     */
+    public static Set<CapabilityCategory> categoriesAffectedBy(DomainEntity entity) {
+        return entity == DomainEntity.ENGINE
+            ? EnumSet.copyOf(ENGINE_CATEGORIES)
+            : EnumSet.noneOf(CapabilityCategory.class);
     }
 
     // ==================== Helper Methods ====================
 
-    private Double calculateCategoryScore(Country country, CapabilityCategory category) {
+    private Double calculateCategoryScore(Country country, CapabilityCategory category, List<Engine> engines) {
         return switch (category) {
             case LAUNCH_CAPABILITY -> calculateLaunchCapability(country);
-            case PROPULSION_TECHNOLOGY -> calculatePropulsionTechnology(country);
+            case PROPULSION_TECHNOLOGY -> calculatePropulsionTechnology(country, engines);
             case HUMAN_SPACEFLIGHT -> calculateHumanSpaceflight(country);
             case DEEP_SPACE_EXPLORATION -> calculateDeepSpaceExploration(country);
             case SATELLITE_INFRASTRUCTURE -> calculateSatelliteInfrastructure(country);
             case SPACE_INFRASTRUCTURE -> calculateSpaceInfrastructure(country);
-            case TECHNOLOGICAL_INDEPENDENCE -> calculateTechnologicalIndependence(country);
+            case TECHNOLOGICAL_INDEPENDENCE -> calculateTechnologicalIndependence(country, engines);
         };
     }
 
+    private static boolean requiresEngines(Set<CapabilityCategory> categories) {
+        return categories.stream().anyMatch(ENGINE_CATEGORIES::contains);
+    }
+
+    private CapabilityScore applyScore(CapabilityScore score, Country country, CapabilityCategory category,
+                                       double value, LocalDateTime now) {
+        if (score == null) {
+            score = new CapabilityScore();
+            score.setCountry(country);
+            score.setCategory(category);
+        }
+        score.setScore(value);
+        score.setCalculatedAt(now);
+        score.setCalculationVersion(CALCULATION_VERSION);
+        score.setScoreBreakdown(generateBreakdown(category, value));
+        return score;
+    }
+
+    private static double weightedTotal(Collection<CapabilityScore> scores) {
+        return scores.stream()
+            .mapToDouble(score -> score.getScore() * score.getCategory().getWeight())
+            .sum();
+    }
+
     private List<Engine> getEnginesForCountry(Country country) {
         // Try to get by country relationship first
         List<Engine> engines = engineRepository.findByCountryId(country.getId());
@@ -454,21 +580,53 @@ public class CapabilityScoreService {
         return engines;
     }
 
-    private String generateBreakdown(Country country, CapabilityCategory category) {
+    private String generateBreakdown(CapabilityCategory category, double score) {
         // Generate a simple JSON breakdown for transparency
         Map<String, Object> breakdown = new HashMap<>();
         breakdown.put("category", category.name());
-        breakdown.put("score", calculateCategoryScore(country, category));
+        breakdown.put("score", score);
         breakdown.put("weight", category.getWeight());
-        breakdown.put("weightedContribution", calculateCategoryScore(country, category) * category.getWeight());
+        breakdown.put("weightedContribution", score * category.getWeight());
 
         try {
-            return new com.fasterxml.jackson.databind.ObjectMapper().writeValueAsString(breakdown);
-        } catch (Exception e) {
+            return objectMapper.writeValueAsString(breakdown);
+        } catch (JsonProcessingException e) {
             return "{}";
         }
     }
 
+    /**
+     * Engines grouped the same way {@link #getEnginesForCountry} resolves them: by country
+     * relationship first, then by origin matching the country name or ISO code.
+     */
+    private record EnginePortfolios(Map<Long, List<Engine>> byCountryId, Map<String, List<Engine>> byOrigin) {
+
+        static EnginePortfolios of(List<Engine> engines) {
+            Map<Long, List<Engine>> byCountryId = new HashMap<>();
+            Map<String, List<Engine>> byOrigin = new HashMap<>();
+            for (Engine engine : engines) {
+                if (engine.getCountry() != null) {
+                    byCountryId.computeIfAbsent(engine.getCountry().getId(), id -> new ArrayList<>()).add(engine);
+                }
+                if (engine.getOrigin() != null) {
+                    byOrigin.computeIfAbsent(engine.getOrigin(), origin -> new ArrayList<>()).add(engine);
+                }
+            }
+            return new EnginePortfolios(byCountryId, byOrigin);
+        }
+
+        List<Engine> forCountry(Country country) {
+            List<Engine> engines = byCountryId.getOrDefault(country.getId(), List.of());
+            if (engines.isEmpty() && country.getName() != null) {
+                engines = byOrigin.getOrDefault(country.getName(), List.of());
+            }
+            if (engines.isEmpty() && country.getIsoCode() != null) {
+                engines = byOrigin.getOrDefault(country.getIsoCode(), List.of());
+            }
+            return engines;
+        }
+    }
+
     // ==================== Comparison Methods ====================
 
     /**
@@ -6,6 +6,7 @@ import com.rocket.comparison.repository.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.*;
@@ -20,6 +21,7 @@ import static com.rocket.comparison.constants.SpaceConstants.*;
  */
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class ComparisonService {
 
     private final CountryRepository countryRepository;
@@ -28,6 +30,7 @@ public class ComparisonService {
     private final LaunchSiteRepository launchSiteRepository;
     private final SpaceMissionRepository spaceMissionRepository;
     private final SpaceMilestoneRepository spaceMilestoneRepository;
+    private final EngineSimilarityIndex engineSimilarityIndex;
 
     // ==================== Country Comparisons ====================
 
@@ -131,29 +134,13 @@ public class ComparisonService {
      * Find similar engines to a given engine
      */
     public List<Map<String, Object>> findSimilarEngines(Long engineId, int limit) {
-        Optional<Engine> engineOpt = engineRepository.findById(engineId);
-        if (engineOpt.isEmpty()) {
-            return List.of();
-        }
-
-        Engine referenceEngine = engineOpt.get();
-        List<Map<String, Object>> similar = new ArrayList<>();
-
-        engineRepository.findAll().stream()
-            .filter(e -> !e.getId().equals(engineId))
-            .map(e -> {
-                double similarity = calculateEngineSimilarity(referenceEngine, e);
-                Map<String, Object> result = buildEngineSpecs(e);
-                result.put("similarityScore", Math.round(similarity * 100.0) / 100.0);
+        return engineSimilarityIndex.findNearest(engineId, limit).stream()
+            .map(neighbour -> {
+                Map<String, Object> result = buildEngineSpecs(neighbour.engine());
+                result.put("similarityScore", Math.round(neighbour.similarityScore() * 100.0) / 100.0);
                 return result;
             })
-            .sorted((a, b) -> Double.compare(
-                (Double) b.get("similarityScore"),
-                (Double) a.get("similarityScore")))
-            .limit(limit)
-            .forEach(similar::add);
-
-        return similar;
+            .toList();
     }
 
     // ==================== Satellite Comparisons ====================
@@ -548,7 +535,7 @@ public class ComparisonService {
      * Optimized: Uses database-level sorting via repository queries instead of in-memory sorting
      * Cached to avoid repeated expensive aggregation queries
      */
-    @Cacheable(RANKINGS_CACHE)
+    @Cacheable(value = RANKINGS_CACHE, key = "#root.methodName", sync = true)
     public Map<String, Object> getCountryRankings() {
         Map<String, Object> rankings = new LinkedHashMap<>();
 
@@ -778,6 +765,20 @@ public class ComparisonService {
         return specs;
     }
 
+    private Map<String, Object> buildEngineSpecs(EngineSimilarityIndex.EngineSummary engine) {
+        Map<String, Object> specs = new LinkedHashMap<>();
+        specs.put("id", engine.id());
+        specs.put("name", engine.name());
+        specs.put("designer", engine.designer());
+        specs.put("country", engine.country());
+        specs.put("thrustN", engine.thrustN());
+        specs.put("ispS", engine.ispS());
+        specs.put("propellant", engine.propellant());
+        specs.put("powerCycle", engine.powerCycle());
+        specs.put("status", engine.status());
+        return specs;
+    }
+
     private Map<String, Object> buildEnginePerformanceComparison(List<Engine> engines) {
         Map<String, Object> comparison = new LinkedHashMap<>();
 
@@ -840,36 +841,6 @@ public class ComparisonService {
         return rankings;
     }
 
-    private double calculateEngineSimilarity(Engine ref, Engine other) {
-        double score = 0;
-
-        // Propellant type match
-        if (ref.getPropellant() != null && ref.getPropellant().equals(other.getPropellant())) {
-            score += 30;
-        }
-
-        // Cycle type match
-        if (ref.getPowerCycle() != null && ref.getPowerCycle().equals(other.getPowerCycle())) {
-            score += 30;
-        }
-
-        // Thrust similarity (within 30%)
-        if (ref.getThrustN() != null && other.getThrustN() != null) {
-            double ratio = (double) Math.min(ref.getThrustN(), other.getThrustN()) /
-                Math.max(ref.getThrustN(), other.getThrustN());
-            score += ratio * 20;
-        }
-
-        // ISP similarity
-        if (ref.getIsp_s() != null && other.getIsp_s() != null) {
-            double ratio = Math.min(ref.getIsp_s(), other.getIsp_s()) /
-                Math.max(ref.getIsp_s(), other.getIsp_s());
-            score += ratio * 20;
-        }
-
-        return score;
-    }
-
     private Map<String, Object> buildSatelliteInfo(Satellite satellite) {
         Map<String, Object> info = new LinkedHashMap<>();
         info.put("id", satellite.getId());
@@ -1,8 +1,12 @@
 package com.rocket.comparison.service;
 
+import com.rocket.comparison.api.dto.CursorPage;
 import com.rocket.comparison.entity.Country;
+import com.rocket.comparison.event.DomainEntity;
+import com.rocket.comparison.event.EntityChangedEvent;
 import com.rocket.comparison.repository.CountryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -10,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -17,6 +22,10 @@ import java.util.Optional;
 public class CountryService {
 
     private final CountryRepository countryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final KeysetPaginator keysetPaginator;
+
+    private static final KeysetPaginator.Keyset<Country> BY_ID = KeysetPaginator.Keyset.byId(Country.class, Country::getId);
 
     public List<Country> getAllCountries() {
         return countryRepository.findAll();
@@ -26,6 +35,17 @@ public class CountryService {
         return countryRepository.findAll(pageable);
     }
 
+    public CursorPage<Country> getCountriesPage(String cursor, Integer limit) {
+        return keysetPaginator.page(BY_ID, null, cursor, limit);
+    }
+
+    /**
+     * Walks every country a bounded page at a time.
+     */
+    public void forEachCountryPage(Consumer<List<Country>> consumer) {
+        keysetPaginator.forEachPage(BY_ID, null, consumer);
+    }
+
     public Optional<Country> getCountryById(Long id) {
         return countryRepository.findById(id);
     }
@@ -48,12 +68,15 @@ public class CountryService {
         if (country.getLaunchSuccessRate() == null && country.getTotalLaunches() != null && country.getTotalLaunches() > 0) {
             country.setLaunchSuccessRate(country.calculateLaunchSuccessRate());
         }
-        return countryRepository.save(country);
+        Country saved = countryRepository.save(country);
+        eventPublisher.publishEvent(EntityChangedEvent.saved(DomainEntity.COUNTRY, saved.getId(), saved));
+        return saved;
     }
 
     @Transactional
     public void deleteCountry(Long id) {
         countryRepository.deleteById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(DomainEntity.COUNTRY, id));
     }
 
     @Transactional
@@ -90,7 +113,9 @@ public class CountryService {
             country.setLaunchSuccessRate(country.calculateLaunchSuccessRate());
         }
 
-        return countryRepository.save(country);
+        Country saved = countryRepository.save(country);
+        eventPublisher.publishEvent(EntityChangedEvent.saved(DomainEntity.COUNTRY, saved.getId(), saved));
+        return saved;
     }
 
     // Region-based queries
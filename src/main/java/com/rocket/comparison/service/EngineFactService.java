@@ -2,7 +2,7 @@ package com.rocket.comparison.service;
 
 import com.rocket.comparison.dto.*;
 import com.rocket.comparison.entity.Engine;
-import com.rocket.comparison.integration.truthledger.TruthLedgerClient;
+import com.rocket.comparison.integration.truthledger.CoalescingTruthLedgerClient;
 import com.rocket.comparison.integration.truthledger.dto.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,6 +12,8 @@ import org.springframework.stereotype.Service;
 
 import java.util.*;
 
+import static com.rocket.comparison.config.CacheConfig.ENGINE_FIELD_FACT_CACHE;
+
 /**
  * Service for managing engine facts from Truth Ledger
  * Provides verified engine specifications with confidence scores
@@ -21,8 +23,9 @@ import java.util.*;
 @Slf4j
 public class EngineFactService {
 
-    private final TruthLedgerClient truthLedgerClient;
+    private final CoalescingTruthLedgerClient truthLedgerClient;
     private final EngineService engineService;
+    private final EngineFactTables engineFactTables;
 
     @Value("${truthledger.enabled:true}")
     private boolean truthLedgerEnabled;
@@ -40,42 +43,30 @@ public class EngineFactService {
     );
 
     /**
-     * Get all verified facts for an engine
+     * Get all verified facts for an engine.
+     * The engine's facts are fetched once; each slider value is resolved from the cached table.
      */
-    @Cacheable(value = "engineFacts", key = "#engineId + '-' + #truthSlider", condition = "#root.target.truthLedgerEnabled")
     public EngineFactsDto getEngineFacts(Long engineId, Double truthSlider) {
         double slider = truthSlider != null ? truthSlider : defaultTruthSlider;
 
         if (!truthLedgerEnabled) {
             log.debug("Truth Ledger disabled, returning local data only for engine {}", engineId);
-            return buildLocalOnlyResponse(engineId);
+            return buildLocalOnlyResponse(engineId,
+                engineService.getEngineById(engineId).map(Engine::getName).orElse("Unknown"));
         }
 
-        // First, find the Truth Ledger entity for this engine
-        Optional<EntityFactsResponseDto.EntityDto> entityOpt = truthLedgerClient.findEntityByEngineId(engineId);
-
-        if (entityOpt.isEmpty()) {
-            log.info("No Truth Ledger entity found for engine {}, returning local data", engineId);
-            return buildLocalOnlyResponse(engineId);
-        }
-
-        String entityId = entityOpt.get().getId();
-
-        // Get all facts for this entity
-        Optional<EntityFactsResponseDto> factsResponse = truthLedgerClient.getEntityFacts(entityId, slider);
-
-        if (factsResponse.isEmpty()) {
-            log.warn("Failed to get facts for entity {}, falling back to local data", entityId);
-            return buildLocalOnlyResponse(engineId);
+        EngineFactTable table = engineFactTables.forEngine(engineId);
+        if (!table.isVerified()) {
+            return buildLocalOnlyResponse(engineId, table.getEngineName());
         }
 
-        return buildFactsResponse(engineId, entityOpt.get(), factsResponse.get(), slider);
+        return buildFactsResponse(engineId, table, slider);
     }
 
     /**
      * Get a specific verified fact for an engine field
      */
-    @Cacheable(value = "engineFieldFact", key = "#engineId + '-' + #fieldName + '-' + #truthSlider")
+    @Cacheable(value = ENGINE_FIELD_FACT_CACHE, key = "#engineId + '-' + #fieldName + '-' + #truthSlider", sync = true)
     public Optional<EngineFieldFactDto> getEngineFieldFact(Long engineId, String fieldName, Double truthSlider) {
         double slider = truthSlider != null ? truthSlider : defaultTruthSlider;
 
@@ -164,12 +155,10 @@ public class EngineFactService {
 
     // ==================== Private Helpers ====================
 
-    private EngineFactsDto buildLocalOnlyResponse(Long engineId) {
-        Optional<Engine> engineOpt = engineService.getEngineById(engineId);
-
+    private EngineFactsDto buildLocalOnlyResponse(Long engineId, String engineName) {
         return EngineFactsDto.builder()
             .engineId(engineId)
-            .engineName(engineOpt.map(Engine::getName).orElse("Unknown"))
+            .engineName(engineName)
             .entityId(null)
             .overallStatus("unverified")
             .conflictsPresent(false)
@@ -179,44 +168,16 @@ public class EngineFactService {
             .build();
     }
 
-    private EngineFactsDto buildFactsResponse(Long engineId, EntityFactsResponseDto.EntityDto entity,
-                                               EntityFactsResponseDto factsResponse, double slider) {
-        Optional<Engine> engineOpt = engineService.getEngineById(engineId);
-
-        List<EngineFactsDto.FactSummary> factSummaries = new ArrayList<>();
-        boolean hasConflicts = false;
-        int verifiedCount = 0;
-
-        if (factsResponse.getFacts() != null) {
-            for (EntityFactsResponseDto.FactDto fact : factsResponse.getFacts()) {
-                factSummaries.add(EngineFactsDto.FactSummary.builder()
-                    .fieldName(fact.getFieldName())
-                    .value(fact.getBestValue())
-                    .truthScore(fact.getTruthDisplay())
-                    .status(fact.getStatusDisplay())
-                    .conflictPresent(Boolean.TRUE.equals(fact.getConflictPresent()))
-                    .sourceCount(fact.getSourceCount())
-                    .build());
-
-                if (Boolean.TRUE.equals(fact.getConflictPresent())) {
-                    hasConflicts = true;
-                }
-                if ("verified".equals(fact.getStatusDisplay()) || "supported".equals(fact.getStatusDisplay())) {
-                    verifiedCount++;
-                }
-            }
-        }
-
-        String overallStatus = hasConflicts ? "disputed" :
-            (verifiedCount > 0 ? "verified" : "insufficient");
+    private EngineFactsDto buildFactsResponse(Long engineId, EngineFactTable table, double slider) {
+        EngineFactTable.Level level = table.at(slider);
 
         return EngineFactsDto.builder()
             .engineId(engineId)
-            .engineName(engineOpt.map(Engine::getName).orElse(entity.getCanonicalName()))
-            .entityId(entity.getId())
-            .overallStatus(overallStatus)
-            .conflictsPresent(hasConflicts)
-            .facts(factSummaries)
+            .engineName(table.getEngineName())
+            .entityId(table.getEntityId())
+            .overallStatus(level.overallStatus())
+            .conflictsPresent(level.conflictsPresent())
+            .facts(level.facts())
             .truthSliderUsed(slider)
             .source("truth-ledger")
             .build();
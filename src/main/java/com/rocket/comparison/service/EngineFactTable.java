@@ -0,0 +1,160 @@
+package com.rocket.comparison.service;
+
+import com.rocket.comparison.dto.EngineFactsDto;
+import com.rocket.comparison.integration.truthledger.dto.EntityFactsResponseDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * All Truth Ledger claims for one engine's fields, resolvable for any truth slider without another request.
+ *
+ * The claims are fetched once at slider 0. A claim passes a slider when its truth score is at
+ * least the slider value. For each field, the winner is the passing claim with the highest truth
+ * score; ties go to more sources, then to ledger order. A field is disputed when another passing
+ * claim has a different value, so raising the slider can settle a dispute without changing the
+ * winner. Each field gets a sorted threshold table, and the answer for every distinct truth score
+ * of the engine is precomputed from those tables, so {@link #at(double)} is a binary search.
+ * A claim without a truth score only passes a slider of 0.
+ */
+public final class EngineFactTable {
+
+    /**
+     * Winning facts at one threshold, one per field, with the summary flags derived from them.
+     */
+    public record Level(List<EngineFactsDto.FactSummary> facts, boolean conflictsPresent, String overallStatus) {}
+
+    /**
+     * Competing claims for one field. {@code winners[i]} resolves the field for sliders up to
+     * {@code thresholds[i]}; above the last threshold no claim passes.
+     */
+    private record FieldTable(double[] thresholds, EngineFactsDto.FactSummary[] winners) {
+
+        static FieldTable of(List<EntityFactsResponseDto.FactDto> claims) {
+            // Strongest first; the sort is stable, so equal claims keep ledger order
+            List<EntityFactsResponseDto.FactDto> ranked = new ArrayList<>(claims);
+            ranked.sort(Comparator.comparingDouble(EngineFactTable::truthOf).reversed()
+                .thenComparing(EngineFactTable::sourcesOf, Comparator.reverseOrder()));
+            EntityFactsResponseDto.FactDto winner = ranked.get(0);
+
+            // The strongest claim passes every threshold a claim of this field reaches; only the dispute flag varies
+            double[] thresholds = claims.stream().mapToDouble(EngineFactTable::truthOf).sorted().distinct().toArray();
+            EngineFactsDto.FactSummary[] winners = new EngineFactsDto.FactSummary[thresholds.length];
+            for (int i = 0; i < thresholds.length; i++) {
+                double threshold = thresholds[i];
+                boolean disputed = Boolean.TRUE.equals(winner.getConflictPresent()) || ranked.stream()
+                    .anyMatch(claim -> truthOf(claim) >= threshold && !Objects.equals(claim.getBestValue(), winner.getBestValue()));
+                winners[i] = toSummary(winner, disputed);
+            }
+            return new FieldTable(thresholds, winners);
+        }
+
+        EngineFactsDto.FactSummary at(double truthSlider) {
+            int index = Arrays.binarySearch(thresholds, truthSlider);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            return index < winners.length ? winners[index] : null;
+        }
+    }
+
+    private static final Level NONE = summarize(List.of());
+
+    private final String entityId;
+    private final String engineName;
+    // Distinct truth scores of all claims, ascending; levels[i] holds the winners at slider thresholds[i]
+    private final double[] thresholds;
+    private final Level[] levels;
+
+    private EngineFactTable(String entityId, String engineName, double[] thresholds, Level[] levels) {
+        this.entityId = entityId;
+        this.engineName = engineName;
+        this.thresholds = thresholds;
+        this.levels = levels;
+    }
+
+    public static EngineFactTable of(String entityId, String engineName, List<EntityFactsResponseDto.FactDto> facts) {
+        List<EntityFactsResponseDto.FactDto> all = facts != null ? facts : List.of();
+
+        // Fields in the order they first appear in the ledger response
+        Map<String, List<EntityFactsResponseDto.FactDto>> claimsByField = new LinkedHashMap<>();
+        for (EntityFactsResponseDto.FactDto fact : all) {
+            String field = fact.getFieldName() != null ? fact.getFieldName() : fact.getAttributePattern();
+            claimsByField.computeIfAbsent(field, key -> new ArrayList<>()).add(fact);
+        }
+        List<FieldTable> fields = claimsByField.values().stream().map(FieldTable::of).toList();
+
+        double[] thresholds = all.stream().mapToDouble(EngineFactTable::truthOf).sorted().distinct().toArray();
+        Level[] levels = new Level[thresholds.length];
+        for (int i = 0; i < thresholds.length; i++) {
+            List<EngineFactsDto.FactSummary> winners = new ArrayList<>();
+            for (FieldTable field : fields) {
+                EngineFactsDto.FactSummary winner = field.at(thresholds[i]);
+                if (winner != null) {
+                    winners.add(winner);
+                }
+            }
+            levels[i] = summarize(winners);
+        }
+        return new EngineFactTable(entityId, engineName, thresholds, levels);
+    }
+
+    /**
+     * Table for an engine the ledger has no facts for; {@link #isVerified()} is false.
+     */
+    public static EngineFactTable unverified(String engineName) {
+        return new EngineFactTable(null, engineName, new double[0], new Level[0]);
+    }
+
+    public Level at(double truthSlider) {
+        int index = Arrays.binarySearch(thresholds, truthSlider);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return index < levels.length ? levels[index] : NONE;
+    }
+
+    public boolean isVerified() {
+        return entityId != null;
+    }
+
+    public String getEntityId() {
+        return entityId;
+    }
+
+    public String getEngineName() {
+        return engineName;
+    }
+
+    private static double truthOf(EntityFactsResponseDto.FactDto fact) {
+        return fact.getTruthDisplay() != null ? fact.getTruthDisplay() : 0.0;
+    }
+
+    private static int sourcesOf(EntityFactsResponseDto.FactDto fact) {
+        return fact.getSourceCount() != null ? fact.getSourceCount() : 0;
+    }
+
+    private static EngineFactsDto.FactSummary toSummary(EntityFactsResponseDto.FactDto fact, boolean disputed) {
+        return EngineFactsDto.FactSummary.builder()
+            .fieldName(fact.getFieldName())
+            .value(fact.getBestValue())
+            .truthScore(fact.getTruthDisplay())
+            .status(fact.getStatusDisplay())
+            .conflictPresent(disputed)
+            .sourceCount(fact.getSourceCount())
+            .build();
+    }
+
+    private static Level summarize(List<EngineFactsDto.FactSummary> facts) {
+        boolean hasConflicts = facts.stream().anyMatch(fact -> Boolean.TRUE.equals(fact.getConflictPresent()));
+        boolean anyVerified = facts.stream()
+            .anyMatch(fact -> "verified".equals(fact.getStatus()) || "supported".equals(fact.getStatus()));
+        String overallStatus = hasConflicts ? "disputed" : (anyVerified ? "verified" : "insufficient");
+        return new Level(List.copyOf(facts), hasConflicts, overallStatus);
+    }
+}
@@ -0,0 +1,133 @@
+package com.rocket.comparison.service;
+
+import com.rocket.comparison.entity.Engine;
+import com.rocket.comparison.integration.truthledger.CoalescingTruthLedgerClient;
+import com.rocket.comparison.integration.truthledger.TruthLedgerFactStore;
+import com.rocket.comparison.integration.truthledger.TruthLedgerFactStore.FactSnapshot;
+import com.rocket.comparison.integration.truthledger.dto.EntityFactsResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static com.rocket.comparison.config.CacheConfig.ENGINE_FACTS_CACHE;
+
+/**
+ * Loads and caches one {@link EngineFactTable} per engine, independent of the truth slider.
+ *
+ * Tables are built from the persisted {@link TruthLedgerFactStore} snapshot when there is one,
+ * so a read never waits for the ledger once an engine's facts were fetched. Stale snapshots are
+ * served as they are and revalidated in the background; the ledger is only called in-line for
+ * engines that were never fetched.
+ */
+@Component
+@Slf4j
+public class EngineFactTables {
+
+    // Lowest truth_min: every fact the ledger holds for the entity
+    static final double ALL_FACTS = 0.0;
+
+    private final CoalescingTruthLedgerClient truthLedgerClient;
+    private final EngineService engineService;
+    private final TruthLedgerFactStore factStore;
+    private final CacheManager cacheManager;
+    private final Executor factRevalidationExecutor;
+
+    private final Set<Long> revalidating = ConcurrentHashMap.newKeySet();
+
+    public EngineFactTables(CoalescingTruthLedgerClient truthLedgerClient,
+                            EngineService engineService,
+                            TruthLedgerFactStore factStore,
+                            CacheManager cacheManager,
+                            @Qualifier("factRevalidationExecutor") Executor factRevalidationExecutor) {
+        this.truthLedgerClient = truthLedgerClient;
+        this.engineService = engineService;
+        this.factStore = factStore;
+        this.cacheManager = cacheManager;
+        this.factRevalidationExecutor = factRevalidationExecutor;
+    }
+
+    /**
+     * Facts table for an engine. Unverified when the ledger has no entity for it or could not be
+     * reached and nothing was stored before; like any other entry that is refreshed with the cache policy.
+     */
+    @Cacheable(value = ENGINE_FACTS_CACHE, key = "#engineId", sync = true)
+    public EngineFactTable forEngine(Long engineId) {
+        Optional<String> localName = engineService.getEngineById(engineId).map(Engine::getName);
+
+        Optional<FactSnapshot> stored = factStore.find(engineId);
+        if (stored.isPresent()) {
+            if (factStore.isStale(stored.get())) {
+                scheduleRevalidation(engineId);
+            }
+            return toTable(stored.get(), localName);
+        }
+
+        return fetch(engineId)
+            .map(snapshot -> toTable(snapshot, localName))
+            .orElseGet(() -> EngineFactTable.unverified(localName.orElse("Unknown")));
+    }
+
+    /**
+     * Fetches the engine's facts and, if the ledger answered, replaces the snapshot and the cached table.
+     */
+    void revalidate(Long engineId) {
+        fetch(engineId).ifPresent(snapshot -> {
+            Cache cache = cacheManager.getCache(ENGINE_FACTS_CACHE);
+            if (cache != null) {
+                cache.put(engineId, toTable(snapshot, engineService.getEngineById(engineId).map(Engine::getName)));
+            }
+        });
+    }
+
+    private Optional<FactSnapshot> fetch(Long engineId) {
+        Optional<EntityFactsResponseDto.EntityDto> entityOpt = truthLedgerClient.findEntityByEngineId(engineId);
+        if (entityOpt.isEmpty()) {
+            log.info("No Truth Ledger entity found for engine {}", engineId);
+            return Optional.empty();
+        }
+
+        EntityFactsResponseDto.EntityDto entity = entityOpt.get();
+        Optional<EntityFactsResponseDto> factsResponse = truthLedgerClient.getEntityFacts(entity.getId(), ALL_FACTS);
+        if (factsResponse.isEmpty()) {
+            log.warn("Failed to get facts for entity {}", entity.getId());
+            return Optional.empty();
+        }
+
+        return Optional.of(factStore.save(engineId, entity, factsResponse.get()));
+    }
+
+    private void scheduleRevalidation(Long engineId) {
+        if (!revalidating.add(engineId)) {
+            return;
+        }
+        try {
+            factRevalidationExecutor.execute(() -> {
+                try {
+                    revalidate(engineId);
+                } catch (RuntimeException e) {
+                    log.warn("Revalidating Truth Ledger facts for engine {} failed: {}", engineId, e.getMessage());
+                } finally {
+                    revalidating.remove(engineId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            revalidating.remove(engineId);
+            log.debug("Revalidation of engine {} facts rejected, the next refresh retries", engineId);
+        }
+    }
+
+    private static EngineFactTable toTable(FactSnapshot snapshot, Optional<String> localName) {
+        return EngineFactTable.of(snapshot.entity().getId(),
+            localName.orElse(snapshot.entity().getCanonicalName()),
+            snapshot.facts().getFacts());
+    }
+}
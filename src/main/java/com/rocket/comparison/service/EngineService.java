@@ -1,15 +1,21 @@
 package com.rocket.comparison.service;
 
+import com.rocket.comparison.api.dto.CursorPage;
 import com.rocket.comparison.entity.Engine;
+import com.rocket.comparison.event.DomainEntity;
+import com.rocket.comparison.event.EntityChangedEvent;
 import com.rocket.comparison.repository.EngineRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -17,6 +23,11 @@ import java.util.Optional;
 public class EngineService {
 
     private final EngineRepository engineRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final KeysetPaginator keysetPaginator;
+
+    private static final KeysetPaginator.Keyset<Engine> BY_ID = KeysetPaginator.Keyset.byId(Engine.class, Engine::getId);
+    private static final Specification<Engine> PARENTS_ONLY = (root, query, cb) -> cb.isNull(root.get("parent"));
 
     /**
      * Returns only parent entities (excludes variants) for main list views.
@@ -36,6 +47,17 @@ public class EngineService {
         return engineRepository.findAll(pageable);
     }
 
+    public CursorPage<Engine> getEnginesPage(String cursor, Integer limit) {
+        return keysetPaginator.page(BY_ID, null, cursor, limit);
+    }
+
+    /**
+     * Walks the same rows as {@link #getAllEngines()} a bounded page at a time.
+     */
+    public void forEachEnginePage(Consumer<List<Engine>> consumer) {
+        keysetPaginator.forEachPage(BY_ID, PARENTS_ONLY, consumer);
+    }
+
     public Optional<Engine> getEngineById(Long id) {
         return engineRepository.findByIdWithVariants(id);
     }
@@ -46,12 +68,15 @@ public class EngineService {
 
     @Transactional
     public Engine saveEngine(Engine engine) {
-        return engineRepository.save(engine);
+        Engine saved = engineRepository.save(engine);
+        eventPublisher.publishEvent(EntityChangedEvent.saved(DomainEntity.ENGINE, saved.getId(), saved.getCountry()));
+        return saved;
     }
 
     @Transactional
     public void deleteEngine(Long id) {
         engineRepository.deleteById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(DomainEntity.ENGINE, id));
     }
 
     public List<Engine> getEnginesByDesigner(String designer) {
@@ -95,8 +120,9 @@ public class EngineService {
 
     @Transactional
     public Engine updateEngine(Long id, Engine engineDetails) {
-        Engine engine = engineRepository.findById(id)
+        Engine engine = engineRepository.findByIdWithVariants(id)
                 .orElseThrow(() -> new IllegalArgumentException("Engine not found with id: " + id));
+        Long previousCountryId = engine.getCountry() != null ? engine.getCountry().getId() : null;
 
         engine.setName(engineDetails.getName());
         engine.setOrigin(engineDetails.getOrigin());
@@ -115,6 +141,9 @@ public class EngineService {
         engine.setDescription(engineDetails.getDescription());
         engine.setCountry(engineDetails.getCountry());
 
-        return engineRepository.save(engine);
+        Engine saved = engineRepository.save(engine);
+        eventPublisher.publishEvent(
+            EntityChangedEvent.saved(DomainEntity.ENGINE, saved.getId(), saved.getCountry(), previousCountryId));
+        return saved;
     }
 }
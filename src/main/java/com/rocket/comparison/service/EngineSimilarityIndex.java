@@ -0,0 +1,430 @@
+package com.rocket.comparison.service;
+
+import com.rocket.comparison.entity.Engine;
+import com.rocket.comparison.event.DataVersion;
+import com.rocket.comparison.event.DomainEntity;
+import com.rocket.comparison.event.EntityChangedEvent;
+import com.rocket.comparison.repository.EngineRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * In-memory nearest-neighbour index over engine feature vectors.
+ *
+ * Numeric features (thrust, ISP, chamber pressure, mass, T/W, O/F) are kept in a flat
+ * primitive array and min-max normalized against the current catalog; thrust and mass
+ * are log-scaled first since they span several orders of magnitude. Propellant and
+ * power cycle are dictionary-encoded, which is equivalent to a one-hot match.
+ *
+ * The index is loaded lazily from the database once and then follows committed
+ * {@link EntityChangedEvent}s, so a rolled-back write never reaches it. Readers work on
+ * an immutable snapshot, so queries never block on writes.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EngineSimilarityIndex {
+
+    static final int FEATURE_THRUST = 0;
+    static final int FEATURE_ISP = 1;
+    static final int FEATURE_CHAMBER_PRESSURE = 2;
+    static final int FEATURE_MASS = 3;
+    static final int FEATURE_THRUST_TO_WEIGHT = 4;
+    static final int FEATURE_OF_RATIO = 5;
+    static final int NUMERIC_FEATURES = 6;
+
+    // Weights keep the original 60/40 split between categorical and performance similarity
+    private static final double PROPELLANT_WEIGHT = 30;
+    private static final double CYCLE_WEIGHT = 30;
+    private static final double[] NUMERIC_WEIGHTS = {12, 12, 4, 4, 4, 4};
+
+    private static final int NO_CATEGORY = -1;
+
+    private final EngineRepository engineRepository;
+
+    private final Map<String, Integer> categoryCodes = new HashMap<>();
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * A scored neighbour, carrying the display fields needed by callers so that
+     * results can be rendered without loading entities.
+     */
+    public record Neighbour(EngineSummary engine, double similarityScore) {}
+
+    /**
+     * Display fields captured when an engine enters the index.
+     */
+    public record EngineSummary(
+        Long id,
+        String name,
+        String designer,
+        String country,
+        Long thrustN,
+        Double ispS,
+        String propellant,
+        String powerCycle,
+        String status
+    ) {}
+
+    /**
+     * Returns the {@code limit} engines most similar to the given engine, best first.
+     * Similarity is on a 0-100 scale. Returns an empty list if the engine is unknown.
+     */
+    public List<Neighbour> findNearest(Long engineId, int limit) {
+        Snapshot s = current();
+        Integer ref = s.positions.get(engineId);
+        if (ref == null || limit <= 0) {
+            return List.of();
+        }
+
+        int k = Math.min(limit, s.size - 1);
+        if (k <= 0) {
+            return List.of();
+        }
+
+        // Bounded insertion sort keeps the top-k without boxing or sorting the whole catalog
+        int[] topRows = new int[k];
+        double[] topScores = new double[k];
+        Arrays.fill(topScores, Double.NEGATIVE_INFINITY);
+
+        for (int row = 0; row < s.size; row++) {
+            if (row == ref) {
+                continue;
+            }
+            double score = s.similarity(ref, row);
+            if (score <= topScores[k - 1]) {
+                continue;
+            }
+            int i = k - 1;
+            while (i > 0 && topScores[i - 1] < score) {
+                topScores[i] = topScores[i - 1];
+                topRows[i] = topRows[i - 1];
+                i--;
+            }
+            topScores[i] = score;
+            topRows[i] = row;
+        }
+
+        List<Neighbour> result = new ArrayList<>(k);
+        for (int i = 0; i < k && topScores[i] != Double.NEGATIVE_INFINITY; i++) {
+            result.add(new Neighbour(s.summaries[topRows[i]], topScores[i]));
+        }
+        return result;
+    }
+
+    // ==================== Maintenance ====================
+
+    @Order(DataVersion.ORDER - 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (snapshot == null) {
+            return;
+        }
+        if (event.entity() == DomainEntity.COUNTRY) {
+            // Country names are copied into the summaries of that country's engines
+            if (event.countryId() != null && event.changeType() == EntityChangedEvent.ChangeType.SAVED) {
+                refreshSummaries(engineRepository.findByCountryIdWithCountry(event.countryId()));
+            } else {
+                invalidate();
+            }
+            return;
+        }
+        if (event.entity() != DomainEntity.ENGINE) {
+            return;
+        }
+        if (event.changeType() == EntityChangedEvent.ChangeType.BULK || event.entityId() == null) {
+            invalidate();
+        } else if (event.changeType() == EntityChangedEvent.ChangeType.DELETED) {
+            remove(event.entityId());
+        } else {
+            // Re-read the committed row; the writer's instance may carry an uninitialized country
+            Optional<Engine> engine = engineRepository.findByIdWithCountry(event.entityId());
+            if (engine.isPresent()) {
+                upsert(engine.get());
+            } else {
+                remove(event.entityId());
+            }
+        }
+    }
+
+    /**
+     * Adds or replaces a single engine in the index.
+     */
+    public synchronized void upsert(Engine engine) {
+        if (engine == null || engine.getId() == null || snapshot == null) {
+            // Not loaded yet - the first query will pick this engine up from the database
+            return;
+        }
+        snapshot = snapshot.withRow(engine.getId(), toSummary(engine), extractFeatures(engine),
+            encode(engine.getPropellant()), encode(engine.getPowerCycle()));
+    }
+
+    /**
+     * Replaces the display fields of already indexed engines; features are left as they are.
+     */
+    public synchronized void refreshSummaries(List<Engine> engines) {
+        if (snapshot == null || engines.isEmpty()) {
+            return;
+        }
+        Map<Long, EngineSummary> summaries = new HashMap<>();
+        for (Engine engine : engines) {
+            summaries.put(engine.getId(), toSummary(engine));
+        }
+        snapshot = snapshot.withSummaries(summaries);
+    }
+
+    /**
+     * Removes a single engine from the index.
+     */
+    public synchronized void remove(Long engineId) {
+        if (engineId == null || snapshot == null) {
+            return;
+        }
+        snapshot = snapshot.withoutRow(engineId);
+    }
+
+    /**
+     * Drops the index so it is reloaded on next use. Intended for bulk deletes and reseeds.
+     */
+    public synchronized void invalidate() {
+        snapshot = null;
+    }
+
+    public int size() {
+        return current().size;
+    }
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s != null) {
+            return s;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                snapshot = load();
+            }
+            return snapshot;
+        }
+    }
+
+    private Snapshot load() {
+        long start = System.currentTimeMillis();
+        List<Engine> engines = engineRepository.findAllWithCountry();
+
+        int n = engines.size();
+        long[] ids = new long[n];
+        EngineSummary[] summaries = new EngineSummary[n];
+        double[] raw = new double[n * NUMERIC_FEATURES];
+        int[] propellants = new int[n];
+        int[] cycles = new int[n];
+
+        for (int row = 0; row < n; row++) {
+            Engine engine = engines.get(row);
+            ids[row] = engine.getId();
+            summaries[row] = toSummary(engine);
+            System.arraycopy(extractFeatures(engine), 0, raw, row * NUMERIC_FEATURES, NUMERIC_FEATURES);
+            propellants[row] = encode(engine.getPropellant());
+            cycles[row] = encode(engine.getPowerCycle());
+        }
+
+        Snapshot loaded = new Snapshot(n, ids, summaries, raw, propellants, cycles);
+        log.info("Built engine similarity index: {} engines in {}ms", n, System.currentTimeMillis() - start);
+        return loaded;
+    }
+
+    private int encode(String category) {
+        if (category == null || category.isBlank()) {
+            return NO_CATEGORY;
+        }
+        return categoryCodes.computeIfAbsent(category.trim().toLowerCase(), key -> categoryCodes.size());
+    }
+
+    static double[] extractFeatures(Engine engine) {
+        double[] features = new double[NUMERIC_FEATURES];
+        features[FEATURE_THRUST] = logScale(engine.getThrustN() != null ? engine.getThrustN().doubleValue() : null);
+        features[FEATURE_ISP] = valueOrNaN(engine.getIsp_s());
+        features[FEATURE_CHAMBER_PRESSURE] = valueOrNaN(engine.getChamberPressureBar());
+        features[FEATURE_MASS] = logScale(engine.getMassKg());
+        Double thrustToWeight = engine.getThrustToWeightRatio() != null
+            ? engine.getThrustToWeightRatio()
+            : engine.calculateThrustToWeightRatio();
+        features[FEATURE_THRUST_TO_WEIGHT] = valueOrNaN(thrustToWeight);
+        features[FEATURE_OF_RATIO] = valueOrNaN(engine.getOfRatio());
+        return features;
+    }
+
+    private static double logScale(Double value) {
+        return value != null && value > 0 ? Math.log10(value) : Double.NaN;
+    }
+
+    private static double valueOrNaN(Double value) {
+        return value != null ? value : Double.NaN;
+    }
+
+    private static EngineSummary toSummary(Engine engine) {
+        return new EngineSummary(
+            engine.getId(),
+            engine.getName(),
+            engine.getDesigner(),
+            engine.getCountry() != null ? engine.getCountry().getName() : engine.getOrigin(),
+            engine.getThrustN(),
+            engine.getIsp_s(),
+            engine.getPropellant(),
+            engine.getPowerCycle(),
+            engine.getStatus()
+        );
+    }
+
+    /**
+     * Immutable column store. Raw feature values are stored row-major; per-feature
+     * min and range are derived once per snapshot so scoring is a tight loop.
+     */
+    private static final class Snapshot {
+        final int size;
+        final long[] ids;
+        final EngineSummary[] summaries;
+        final double[] raw;
+        final int[] propellants;
+        final int[] cycles;
+        final double[] min = new double[NUMERIC_FEATURES];
+        final double[] range = new double[NUMERIC_FEATURES];
+        final Map<Long, Integer> positions;
+
+        Snapshot(int size, long[] ids, EngineSummary[] summaries, double[] raw, int[] propellants, int[] cycles) {
+            this.size = size;
+            this.ids = ids;
+            this.summaries = summaries;
+            this.raw = raw;
+            this.propellants = propellants;
+            this.cycles = cycles;
+            this.positions = new HashMap<>(size * 2);
+            for (int row = 0; row < size; row++) {
+                positions.put(ids[row], row);
+            }
+            computeBounds();
+        }
+
+        private void computeBounds() {
+            for (int f = 0; f < NUMERIC_FEATURES; f++) {
+                double lo = Double.POSITIVE_INFINITY;
+                double hi = Double.NEGATIVE_INFINITY;
+                for (int row = 0; row < size; row++) {
+                    double v = raw[row * NUMERIC_FEATURES + f];
+                    if (!Double.isNaN(v)) {
+                        lo = Math.min(lo, v);
+                        hi = Math.max(hi, v);
+                    }
+                }
+                min[f] = lo == Double.POSITIVE_INFINITY ? 0 : lo;
+                range[f] = hi > lo ? hi - lo : 0;
+            }
+        }
+
+        /**
+         * Weighted L1 similarity on a 0-100 scale. Features the reference engine lacks are
+         * left out entirely; features only the candidate lacks count as a full mismatch.
+         */
+        double similarity(int ref, int row) {
+            double weightSum = 0;
+            double distance = 0;
+
+            if (propellants[ref] != NO_CATEGORY) {
+                weightSum += PROPELLANT_WEIGHT;
+                if (propellants[ref] != propellants[row]) {
+                    distance += PROPELLANT_WEIGHT;
+                }
+            }
+            if (cycles[ref] != NO_CATEGORY) {
+                weightSum += CYCLE_WEIGHT;
+                if (cycles[ref] != cycles[row]) {
+                    distance += CYCLE_WEIGHT;
+                }
+            }
+
+            int refBase = ref * NUMERIC_FEATURES;
+            int rowBase = row * NUMERIC_FEATURES;
+            for (int f = 0; f < NUMERIC_FEATURES; f++) {
+                double a = raw[refBase + f];
+                if (Double.isNaN(a)) {
+                    continue;
+                }
+                double w = NUMERIC_WEIGHTS[f];
+                weightSum += w;
+                double b = raw[rowBase + f];
+                if (Double.isNaN(b)) {
+                    distance += w;
+                } else if (range[f] > 0) {
+                    distance += w * Math.abs(a - b) / range[f];
+                }
+            }
+
+            return weightSum == 0 ? 0 : 100.0 * (1.0 - distance / weightSum);
+        }
+
+        Snapshot withRow(long id, EngineSummary summary, double[] features, int propellant, int cycle) {
+            Integer existing = positions.get(id);
+            int newSize = existing != null ? size : size + 1;
+            int row = existing != null ? existing : size;
+
+            long[] newIds = Arrays.copyOf(ids, newSize);
+            EngineSummary[] newSummaries = Arrays.copyOf(summaries, newSize);
+            double[] newRaw = Arrays.copyOf(raw, newSize * NUMERIC_FEATURES);
+            int[] newPropellants = Arrays.copyOf(propellants, newSize);
+            int[] newCycles = Arrays.copyOf(cycles, newSize);
+
+            newIds[row] = id;
+            newSummaries[row] = summary;
+            System.arraycopy(features, 0, newRaw, row * NUMERIC_FEATURES, NUMERIC_FEATURES);
+            newPropellants[row] = propellant;
+            newCycles[row] = cycle;
+
+            return new Snapshot(newSize, newIds, newSummaries, newRaw, newPropellants, newCycles);
+        }
+
+        Snapshot withSummaries(Map<Long, EngineSummary> replacements) {
+            EngineSummary[] newSummaries = Arrays.copyOf(summaries, size);
+            replacements.forEach((id, summary) -> {
+                Integer row = positions.get(id);
+                if (row != null) {
+                    newSummaries[row] = summary;
+                }
+            });
+            return new Snapshot(size, ids, newSummaries, raw, propellants, cycles);
+        }
+
+        Snapshot withoutRow(long id) {
+            Integer existing = positions.get(id);
+            if (existing == null) {
+                return this;
+            }
+            int last = size - 1;
+            int row = existing;
+
+            // Move the last row into the gap, then truncate
+            long[] newIds = Arrays.copyOf(ids, size);
+            EngineSummary[] newSummaries = Arrays.copyOf(summaries, size);
+            double[] newRaw = Arrays.copyOf(raw, size * NUMERIC_FEATURES);
+            int[] newPropellants = Arrays.copyOf(propellants, size);
+            int[] newCycles = Arrays.copyOf(cycles, size);
+
+            newIds[row] = newIds[last];
+            newSummaries[row] = newSummaries[last];
+            System.arraycopy(newRaw, last * NUMERIC_FEATURES, newRaw, row * NUMERIC_FEATURES, NUMERIC_FEATURES);
+            newPropellants[row] = newPropellants[last];
+            newCycles[row] = newCycles[last];
+
+            return new Snapshot(last,
+                Arrays.copyOf(newIds, last),
+                Arrays.copyOf(newSummaries, last),
+                Arrays.copyOf(newRaw, last * NUMERIC_FEATURES),
+                Arrays.copyOf(newPropellants, last),
+                Arrays.copyOf(newCycles, last));
+        }
+    }
+}
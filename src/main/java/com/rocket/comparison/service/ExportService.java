@@ -1,19 +1,38 @@
 package com.rocket.comparison.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
 import com.rocket.comparison.dto.ExportDto;
 import com.rocket.comparison.entity.*;
 import com.rocket.comparison.repository.*;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
+import java.util.stream.Stream;
 
 /**
  * Service for exporting all data from the system (BE-004).
  * Gathers data from all repositories and packages it for download.
+ *
+ * {@link #streamExport} writes NDJSON or CSV row by row from a fetch-size-bounded
+ * cursor instead of materialising whole tables, so memory stays flat for large exports.
  */
 @Service
 @RequiredArgsConstructor
@@ -22,6 +41,7 @@ import java.util.List;
 public class ExportService {
 
     private static final String EXPORT_VERSION = "1.0";
+    private static final int DEFAULT_FETCH_SIZE = 500;
 
     private final CountryRepository countryRepository;
     private final EngineRepository engineRepository;
@@ -31,6 +51,69 @@ public class ExportService {
     private final LaunchSiteRepository launchSiteRepository;
     private final SatelliteRepository satelliteRepository;
     private final CapabilityScoreRepository capabilityScoreRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${export.stream.fetch-size:500}")
+    private int fetchSize;
+
+    /**
+     * Output formats supported by {@link #streamExport}.
+     */
+    public enum ExportFormat {
+        NDJSON, CSV;
+
+        public static ExportFormat fromString(String value) {
+            for (ExportFormat format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported export format: " + value + " (expected ndjson or csv)");
+        }
+    }
+
+    /**
+     * Exportable entity types, keyed by the same names used in {@link ExportDto}.
+     */
+    @Getter
+    public enum ExportEntity {
+        COUNTRIES("countries", Country.class),
+        ENGINES("engines", Engine.class),
+        LAUNCH_VEHICLES("launchVehicles", LaunchVehicle.class),
+        SPACE_MISSIONS("spaceMissions", SpaceMission.class),
+        SPACE_MILESTONES("spaceMilestones", SpaceMilestone.class),
+        LAUNCH_SITES("launchSites", LaunchSite.class),
+        SATELLITES("satellites", Satellite.class),
+        CAPABILITY_SCORES("capabilityScores", CapabilityScore.class);
+
+        private final String key;
+        private final Class<?> entityClass;
+
+        ExportEntity(String key, Class<?> entityClass) {
+            this.key = key;
+            this.entityClass = entityClass;
+        }
+
+        public static ExportEntity fromKey(String key) {
+            for (ExportEntity entity : values()) {
+                if (entity.key.equalsIgnoreCase(key) || entity.name().equalsIgnoreCase(key)) {
+                    return entity;
+                }
+            }
+            throw new IllegalArgumentException("Unknown export entity type: " + key);
+        }
+    }
+
+    /**
+     * One NDJSON line: the entity type key and the serialized entity.
+     */
+    private record ExportRecord(String entity, Object data) {}
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(Object row) throws IOException;
+    }
 
     /**
      * Export all data from the system.
@@ -157,4 +240,173 @@ public class ExportService {
                 .capabilityScores(capabilityScores)
                 .build();
     }
+
+    /**
+     * Export counts without loading any rows.
+     *
+     * @return metadata with per-type counts
+     */
+    public ExportDto.ExportMetadata getExportMetadata() {
+        ExportDto.ExportCounts counts = ExportDto.ExportCounts.builder()
+                .countries(countryRepository.count())
+                .engines(engineRepository.count())
+                .launchVehicles(launchVehicleRepository.count())
+                .spaceMissions(spaceMissionRepository.count())
+                .spaceMilestones(spaceMilestoneRepository.count())
+                .launchSites(launchSiteRepository.count())
+                .satellites(satelliteRepository.count())
+                .capabilityScores(capabilityScoreRepository.count())
+                .build();
+        counts.setTotal(counts.getCountries() + counts.getEngines() + counts.getLaunchVehicles() +
+                counts.getSpaceMissions() + counts.getSpaceMilestones() + counts.getLaunchSites() +
+                counts.getSatellites() + counts.getCapabilityScores());
+
+        return ExportDto.ExportMetadata.builder()
+                .exportedAt(LocalDateTime.now())
+                .version(EXPORT_VERSION)
+                .counts(counts)
+                .build();
+    }
+
+    /**
+     * Stream the selected entity types to {@code out} without holding them in memory.
+     * Rows are read through a forward-only cursor with a bounded fetch size and detached
+     * once written. The stream is flushed but not closed.
+     *
+     * NDJSON writes one {@code {"entity": ..., "data": {...}}} object per line.
+     * CSV writes a header plus one line per row with scalar fields only; nested objects
+     * are reduced to their id (e.g. {@code countryId}). CSV supports a single entity type.
+     *
+     * @param format output format
+     * @param entities entity types to export, in order
+     * @param out destination stream
+     * @return number of rows written
+     */
+    public long streamExport(ExportFormat format, List<ExportEntity> entities, OutputStream out) throws IOException {
+        if (format == ExportFormat.CSV && entities.size() != 1) {
+            throw new IllegalArgumentException("CSV export supports exactly one entity type");
+        }
+
+        log.info("Starting streaming {} export of {}", format, entities);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        long rows = 0;
+
+        if (format == ExportFormat.NDJSON) {
+            SequenceWriter sequence = objectMapper.writer()
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .withRootValueSeparator("\n")
+                    .writeValues(writer);
+            for (ExportEntity entity : entities) {
+                rows += scroll(entity, row -> sequence.write(new ExportRecord(entity.getKey(), row)));
+            }
+            sequence.flush();
+            if (rows > 0) {
+                writer.write('\n');
+            }
+        } else {
+            rows = writeCsv(entities.get(0), writer);
+        }
+
+        writer.flush();
+        log.info("Streaming {} export completed. Total records: {}", format, rows);
+        return rows;
+    }
+
+    private long writeCsv(ExportEntity entity, Writer writer) throws IOException {
+        List<String> header = csvColumns(entity.getEntityClass());
+        writeCsvLine(writer, header);
+        return scroll(entity, row -> {
+            Map<String, String> values = flattenForCsv(objectMapper.valueToTree(row));
+            List<String> line = new ArrayList<>(header.size());
+            for (String column : header) {
+                line.add(values.get(column));
+            }
+            writeCsvLine(writer, line);
+        });
+    }
+
+    /**
+     * CSV columns for an entity type, taken from its serializable properties rather than
+     * from the first row so a null association does not drop its {@code ...Id} column.
+     * To-one associations become {@code <name>Id}; collections and maps are skipped.
+     */
+    private List<String> csvColumns(Class<?> entityClass) {
+        BeanDescription description = objectMapper.getSerializationConfig()
+                .introspect(objectMapper.constructType(entityClass));
+        List<String> columns = new ArrayList<>();
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            if (!property.couldSerialize()) {
+                continue;
+            }
+            JavaType type = property.getPrimaryType();
+            if (type.isContainerType()) {
+                continue;
+            }
+            columns.add(type.getRawClass().isAnnotationPresent(Entity.class)
+                    ? property.getName() + "Id"
+                    : property.getName());
+        }
+        return columns;
+    }
+
+    /**
+     * Reads every row of one entity type through a scrollable cursor and hands it to the writer.
+     * Each row is detached after writing; the persistence context is cleared every fetch
+     * so lazily loaded associations do not accumulate either.
+     */
+    private long scroll(ExportEntity entity, RowWriter rowWriter) throws IOException {
+        int batch = fetchSize > 0 ? fetchSize : DEFAULT_FETCH_SIZE;
+        String jpql = "SELECT e FROM " + entity.getEntityClass().getSimpleName() + " e ORDER BY e.id";
+        long rows = 0;
+
+        try (Stream<?> stream = entityManager.createQuery(jpql, entity.getEntityClass())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, batch)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            Iterator<?> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                Object row = iterator.next();
+                rowWriter.write(row);
+                entityManager.detach(row);
+                if (++rows % batch == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static Map<String, String> flattenForCsv(JsonNode node) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (Map.Entry<String, JsonNode> field : node.properties()) {
+            JsonNode value = field.getValue();
+            if (value.isValueNode()) {
+                values.put(field.getKey(), value.isNull() ? null : value.asText());
+            } else if (value.isObject() && value.hasNonNull("id")) {
+                values.put(field.getKey() + "Id", value.get("id").asText());
+            }
+        }
+        return values;
+    }
+
+    private static void writeCsvLine(Writer writer, List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write("\r\n");
+    }
 }
@@ -3,11 +3,14 @@ package com.rocket.comparison.service;
 import com.rocket.comparison.entity.*;
 import com.rocket.comparison.repository.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.*;
 
+import static com.rocket.comparison.config.CacheConfig.STATISTICS_CACHE;
+
 /**
  * Service providing comprehensive global statistics across all space-related entities.
  * Aggregates data from countries, engines, satellites, launch sites, missions, and milestones.
@@ -28,6 +31,7 @@ public class GlobalStatisticsService {
     /**
      * Get comprehensive overview of all space-related statistics
      */
+    @Cacheable(value = STATISTICS_CACHE, key = "#root.methodName", sync = true)
     public Map<String, Object> getGlobalOverview() {
         Map<String, Object> overview = new LinkedHashMap<>();
 
@@ -59,6 +63,7 @@ public class GlobalStatisticsService {
     /**
      * Get entity counts broken down by type
      */
+    @Cacheable(value = STATISTICS_CACHE, key = "#root.methodName", sync = true)
     public Map<String, Object> getEntityCounts() {
         Map<String, Object> counts = new LinkedHashMap<>();
 
@@ -105,6 +110,7 @@ public class GlobalStatisticsService {
     /**
      * Get statistics aggregated by country
      */
+    @Cacheable(value = STATISTICS_CACHE, key = "#root.methodName", sync = true)
     public List<Map<String, Object>> getCountryStatistics() {
         List<Map<String, Object>> stats = new ArrayList<>();
 
@@ -184,6 +190,7 @@ public class GlobalStatisticsService {
      * Get engine technology breakdown
      * BE-011: Use DB GROUP BY and aggregate queries instead of findAll()
      */
+    @Cacheable(value = STATISTICS_CACHE, key = "#root.methodName", sync = true)
     public Map<String, Object> getEngineTechnologyStats() {
         Map<String, Object> stats = new LinkedHashMap<>();
 
@@ -230,6 +237,7 @@ public class GlobalStatisticsService {
      * Get satellite technology breakdown
      * BE-011: Use COUNT query instead of findAll().size()
      */
+    @Cacheable(value = STATISTICS_CACHE, key = "#root.methodName", sync = true)
     public Map<String, Object> getSatelliteTechnologyStats() {
         Map<String, Object> stats = new LinkedHashMap<>();
 
@@ -251,6 +259,7 @@ public class GlobalStatisticsService {
      * Get launch infrastructure statistics
      * BE-011: Use COUNT queries instead of findAll().size()
      */
+    @Cacheable(value = STATISTICS_CACHE, key = "#root.methodName", sync = true)
     public Map<String, Object> getLaunchInfrastructureStats() {
         Map<String, Object> stats = new LinkedHashMap<>();
 
@@ -280,6 +289,7 @@ public class GlobalStatisticsService {
      * Get mission statistics
      * BE-011: Use COUNT query instead of findAll().size()
      */
+    @Cacheable(value = STATISTICS_CACHE, key = "#root.methodName", sync = true)
     public Map<String, Object> getMissionStats() {
         Map<String, Object> stats = new LinkedHashMap<>();
 
@@ -304,6 +314,7 @@ public class GlobalStatisticsService {
     /**
      * Get mission success rates by country
      */
+    @Cacheable(value = STATISTICS_CACHE, key = "#root.methodName", sync = true)
     public List<Map<String, Object>> getMissionSuccessRatesByCountry() {
         List<Map<String, Object>> rates = new ArrayList<>();
 
@@ -340,6 +351,7 @@ public class GlobalStatisticsService {
      * Get historical statistics by decade with counts
      * BE-011: Use GROUP BY queries instead of findAll()
      */
+    @Cacheable(value = STATISTICS_CACHE, key = "#root.methodName", sync = true)
     public Map<String, Object> getStatsByDecade() {
         Map<String, Object> stats = new LinkedHashMap<>();
 
@@ -376,6 +388,7 @@ public class GlobalStatisticsService {
      * Get year-over-year growth statistics
      * BE-011: Use COUNT queries instead of findByLaunchYear().size()
      */
+    @Cacheable(value = STATISTICS_CACHE, key = "#root.methodName", sync = true)
     public Map<String, Object> getYearOverYearGrowth() {
         Map<String, Object> growth = new LinkedHashMap<>();
 
@@ -0,0 +1,187 @@
+package com.rocket.comparison.service;
+
+import com.rocket.comparison.api.dto.CursorPage;
+import com.rocket.comparison.config.PaginationConfig;
+import com.rocket.comparison.config.PaginationConfig.Cursor;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Keyset (seek) pagination over JPA entities (BE-001).
+ *
+ * Each page continues strictly after the previous page's last row, so the database
+ * seeks straight into the {@code (date, id)} or primary-key index and deep pages cost
+ * the same as the first one, unlike {@code OFFSET}. Filters are plain Spring Data
+ * {@link Specification}s.
+ */
+@Component
+public class KeysetPaginator {
+
+    private static final String ID = "id";
+
+    /** Rows per round trip when a caller walks a whole table with {@link #forEachPage}. */
+    static final int STREAM_PAGE_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    public KeysetPaginator(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Sort key of a paginated list.
+     *
+     * @param dateAttribute entity attribute sorted newest first, or null to page by id ascending
+     * @param fetch associations loaded with each page, so rows serialize without lazy loading
+     */
+    public record Keyset<T>(Class<T> type, String dateAttribute, Function<T, LocalDate> dateOf,
+                            Function<T, Long> idOf, List<String> fetch) {
+
+        /** Newest first by {@code (date, id)}; rows without a date follow, by id descending. */
+        public static <T> Keyset<T> byDateDesc(Class<T> type, String dateAttribute,
+                                               Function<T, LocalDate> dateOf, Function<T, Long> idOf) {
+            return new Keyset<>(type, dateAttribute, dateOf, idOf, List.of());
+        }
+
+        /** Ascending by primary key. */
+        public static <T> Keyset<T> byId(Class<T> type, Function<T, Long> idOf) {
+            return new Keyset<>(type, null, entity -> null, idOf, List.of());
+        }
+
+        public Keyset<T> fetching(String... attributes) {
+            return new Keyset<>(type, dateAttribute, dateOf, idOf, List.of(attributes));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public <T> CursorPage<T> page(Keyset<T> keyset, Specification<T> filter, String cursor, Integer limit) {
+        return fetch(keyset, filter, Cursor.decode(cursor), PaginationConfig.resolveLimit(limit));
+    }
+
+    /**
+     * Walks every matching row page by page, each page in its own short read-only
+     * transaction, so only one page of entities is held in memory at a time.
+     * The consumer runs inside the transaction and may touch lazy associations.
+     */
+    public <T> void forEachPage(Keyset<T> keyset, Specification<T> filter, Consumer<List<T>> consumer) {
+        Cursor[] after = {null};
+        boolean hasNext = true;
+        while (hasNext) {
+            hasNext = Boolean.TRUE.equals(readOnlyTransaction.execute(status -> {
+                CursorPage<T> page = fetch(keyset, filter, after[0], STREAM_PAGE_SIZE);
+                consumer.accept(page.items());
+                if (status.isNewTransaction()) {
+                    // With open-in-view the persistence context outlives this transaction
+                    entityManager.clear();
+                }
+                after[0] = Cursor.decode(page.nextCursor());
+                return page.hasNext();
+            }));
+        }
+    }
+
+    private <T> CursorPage<T> fetch(Keyset<T> keyset, Specification<T> filter, Cursor after, int limit) {
+        List<T> rows = keyset.dateAttribute() == null
+            ? byIdAscending(keyset, filter, after, limit + 1)
+            : datedThenUndated(keyset, filter, after, limit + 1);
+
+        boolean hasNext = rows.size() > limit;
+        List<T> items = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            T last = items.get(items.size() - 1);
+            nextCursor = new Cursor(keyset.dateOf().apply(last), keyset.idOf().apply(last)).encode();
+        }
+        return new CursorPage<>(List.copyOf(items), limit, nextCursor, hasNext);
+    }
+
+    private <T> List<T> datedThenUndated(Keyset<T> keyset, Specification<T> filter, Cursor after, int maxRows) {
+        List<T> rows = new ArrayList<>(maxRows);
+        boolean inUndatedTail = after != null && after.date() == null;
+
+        if (!inUndatedTail) {
+            rows.addAll(query(keyset, filter, maxRows, (root, cb) -> {
+                Path<LocalDate> date = root.get(keyset.dateAttribute());
+                Predicate dated = cb.isNotNull(date);
+                if (after == null) {
+                    return dated;
+                }
+                // The range on the leading column keeps this an index seek; the OR only filters ties
+                return cb.and(dated,
+                    cb.lessThanOrEqualTo(date, after.date()),
+                    cb.or(cb.lessThan(date, after.date()), cb.lessThan(root.<Long>get(ID), after.id())));
+            }, (root, cb) -> List.of(cb.desc(root.get(keyset.dateAttribute())), cb.desc(root.get(ID)))));
+        }
+
+        if (rows.size() < maxRows) {
+            Cursor undatedAfter = inUndatedTail ? after : null;
+            rows.addAll(query(keyset, filter, maxRows - rows.size(), (root, cb) -> {
+                Predicate undated = cb.isNull(root.get(keyset.dateAttribute()));
+                return undatedAfter == null ? undated : cb.and(undated, cb.lessThan(root.<Long>get(ID), undatedAfter.id()));
+            }, (root, cb) -> List.of(cb.desc(root.get(ID)))));
+        }
+        return rows;
+    }
+
+    private <T> List<T> byIdAscending(Keyset<T> keyset, Specification<T> filter, Cursor after, int maxRows) {
+        return query(keyset, filter, maxRows,
+            (root, cb) -> after == null ? cb.conjunction() : cb.greaterThan(root.<Long>get(ID), after.id()),
+            (root, cb) -> List.of(cb.asc(root.get(ID))));
+    }
+
+    private <T> List<T> query(Keyset<T> keyset, Specification<T> filter, int maxRows,
+                              SeekPredicate<T> seek, SortOrder<T> order) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(keyset.type());
+        Root<T> root = query.from(keyset.type());
+
+        List<Predicate> predicates = new ArrayList<>(2);
+        predicates.add(seek.toPredicate(root, cb));
+        if (filter != null) {
+            Predicate filterPredicate = filter.toPredicate(root, query, cb);
+            if (filterPredicate != null) {
+                predicates.add(filterPredicate);
+            }
+        }
+
+        query.select(root)
+            .where(predicates.toArray(Predicate[]::new))
+            .orderBy(order.toOrders(root, cb));
+
+        TypedQuery<T> typedQuery = entityManager.createQuery(query).setMaxResults(maxRows);
+        if (!keyset.fetch().isEmpty()) {
+            EntityGraph<T> graph = entityManager.createEntityGraph(keyset.type());
+            graph.addAttributeNodes(keyset.fetch().toArray(String[]::new));
+            typedQuery.setHint("jakarta.persistence.loadgraph", graph);
+        }
+        return typedQuery.getResultList();
+    }
+
+    @FunctionalInterface
+    private interface SeekPredicate<T> {
+        Predicate toPredicate(Root<T> root, CriteriaBuilder cb);
+    }
+
+    @FunctionalInterface
+    private interface SortOrder<T> {
+        List<Order> toOrders(Root<T> root, CriteriaBuilder cb);
+    }
+}
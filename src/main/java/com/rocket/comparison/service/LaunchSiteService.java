@@ -1,10 +1,16 @@
 package com.rocket.comparison.service;
 
+import com.rocket.comparison.api.dto.CursorPage;
+import com.rocket.comparison.config.PaginationConfig;
 import com.rocket.comparison.entity.LaunchSite;
 import com.rocket.comparison.entity.LaunchSiteStatus;
+import com.rocket.comparison.event.DomainEntity;
+import com.rocket.comparison.event.EntityChangedEvent;
 import com.rocket.comparison.repository.CountryRepository;
 import com.rocket.comparison.repository.LaunchSiteRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,10 +19,18 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class LaunchSiteService {
 
     private final LaunchSiteRepository launchSiteRepository;
     private final CountryRepository countryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final KeysetPaginator keysetPaginator;
+    private final SearchService searchService;
+    private final LaunchSiteSpatialIndex spatialIndex;
+
+    private static final KeysetPaginator.Keyset<LaunchSite> BY_ID =
+        KeysetPaginator.Keyset.byId(LaunchSite.class, LaunchSite::getId).fetching("country");
 
     // ==================== Basic CRUD ====================
 
@@ -24,6 +38,10 @@ public class LaunchSiteService {
         return launchSiteRepository.findAll();
     }
 
+    public CursorPage<LaunchSite> getLaunchSitesPage(String cursor, Integer limit) {
+        return keysetPaginator.page(BY_ID, null, cursor, limit);
+    }
+
     public Optional<LaunchSite> getLaunchSiteById(Long id) {
         return launchSiteRepository.findById(id);
     }
@@ -34,12 +52,15 @@ public class LaunchSiteService {
 
     @Transactional
     public LaunchSite saveLaunchSite(LaunchSite launchSite) {
-        return launchSiteRepository.save(launchSite);
+        LaunchSite saved = launchSiteRepository.save(launchSite);
+        eventPublisher.publishEvent(EntityChangedEvent.saved(DomainEntity.LAUNCH_SITE, saved.getId(), saved.getCountry()));
+        return saved;
     }
 
     @Transactional
     public void deleteLaunchSite(Long id) {
         launchSiteRepository.deleteById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(DomainEntity.LAUNCH_SITE, id));
     }
 
     @Transactional
@@ -69,7 +90,9 @@ public class LaunchSiteService {
         launchSite.setImageUrl(details.getImageUrl());
         launchSite.setReferenceUrl(details.getReferenceUrl());
 
-        return launchSiteRepository.save(launchSite);
+        LaunchSite saved = launchSiteRepository.save(launchSite);
+        eventPublisher.publishEvent(EntityChangedEvent.saved(DomainEntity.LAUNCH_SITE, saved.getId(), saved.getCountry()));
+        return saved;
     }
 
     // ==================== By Country ====================
@@ -96,6 +119,12 @@ public class LaunchSiteService {
         return launchSiteRepository.findActiveLaunchSites();
     }
 
+    public CursorPage<LaunchSite> getActiveLaunchSitesPage(String cursor, Integer limit) {
+        Specification<LaunchSite> active = (root, query, cb) -> root.get("status")
+            .in(LaunchSiteStatus.OPERATIONAL, LaunchSiteStatus.PARTIAL);
+        return keysetPaginator.page(BY_ID, active, cursor, limit);
+    }
+
     public Long countActiveLaunchSites() {
         return launchSiteRepository.countActiveLaunchSites();
     }
@@ -132,6 +161,18 @@ public class LaunchSiteService {
         return launchSiteRepository.findByLatitudeRange(minLatitude, maxLatitude);
     }
 
+    public List<LaunchSiteSpatialIndex.SiteDistance> getNearestLaunchSites(double latitude, double longitude, Integer limit) {
+        return spatialIndex.nearest(latitude, longitude, PaginationConfig.resolveLimit(limit));
+    }
+
+    public List<LaunchSiteSpatialIndex.SiteDistance> getLaunchSitesWithinRadius(double latitude, double longitude, double radiusKm) {
+        return spatialIndex.withinRadius(latitude, longitude, radiusKm);
+    }
+
+    public List<LaunchSiteSpatialIndex.SiteLocation> getLaunchSitesWithinBounds(double south, double west, double north, double east) {
+        return spatialIndex.withinBounds(south, west, north, east);
+    }
+
     public List<LaunchSite> getLaunchSitesByRegion(String region) {
         return launchSiteRepository.findByRegion(region);
     }
@@ -181,7 +222,11 @@ public class LaunchSiteService {
     // ==================== Search ====================
 
     public List<LaunchSite> searchLaunchSites(String query) {
-        return launchSiteRepository.searchLaunchSites(query);
+        List<Long> ids = searchService.searchIds(SearchService.SearchType.LAUNCH_SITE, query, PaginationConfig.MAX_PAGE_SIZE);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return SearchService.inSearchOrder(ids, launchSiteRepository.findByIdIn(ids), LaunchSite::getId);
     }
 
     // ==================== Statistics ====================
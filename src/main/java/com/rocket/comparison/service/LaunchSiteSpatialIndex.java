@@ -0,0 +1,353 @@
+package com.rocket.comparison.service;
+
+import com.rocket.comparison.entity.Country;
+import com.rocket.comparison.entity.LaunchSite;
+import com.rocket.comparison.event.DataVersion;
+import com.rocket.comparison.event.DomainEntity;
+import com.rocket.comparison.event.EntityChangedEvent;
+import com.rocket.comparison.repository.LaunchSiteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * In-memory spatial index over launch site coordinates.
+ *
+ * Sites are stored as an implicit, balanced 2-d tree on (latitude, longitude): the median
+ * of each subrange is its node, and the split axis alternates with depth. Bounding-box
+ * queries walk only the subtrees that overlap the box; boxes crossing the antimeridian are
+ * split in two. Radius queries search the box that circumscribes the circle and keep the
+ * sites within the haversine distance; nearest-N widens the radius until enough sites are found.
+ *
+ * Like {@link MissionColumnStore}, the index loads lazily, follows committed
+ * {@link EntityChangedEvent}s and serves readers from an immutable snapshot.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LaunchSiteSpatialIndex {
+
+    static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double HALF_CIRCUMFERENCE_KM = Math.PI * EARTH_RADIUS_KM;
+    private static final double INITIAL_NEAREST_RADIUS_KM = 500;
+
+    private static final Comparator<SiteLocation> BY_LATITUDE = Comparator.comparingDouble(SiteLocation::latitude);
+    private static final Comparator<SiteLocation> BY_LONGITUDE = Comparator.comparingDouble(SiteLocation::longitude);
+
+    private final LaunchSiteRepository launchSiteRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Display fields captured when a site enters the index, enough to draw a map marker.
+     */
+    public record SiteLocation(
+        Long id,
+        String name,
+        String shortName,
+        double latitude,
+        double longitude,
+        String country,
+        String countryCode,
+        String status,
+        boolean active,
+        Integer totalLaunches,
+        Boolean humanRated
+    ) {}
+
+    public record SiteDistance(SiteLocation site, double distanceKm) {}
+
+    /**
+     * Sites inside the box, in no particular order. A box with {@code west > east} crosses the antimeridian.
+     */
+    public List<SiteLocation> withinBounds(double south, double west, double north, double east) {
+        checkLatitude(south);
+        checkLatitude(north);
+        checkLongitude(west);
+        checkLongitude(east);
+        if (south > north) {
+            throw new IllegalArgumentException("south must not be greater than north");
+        }
+        List<SiteLocation> result = new ArrayList<>();
+        current().collect(south, west, north, east, result::add);
+        return result;
+    }
+
+    /**
+     * Sites within {@code radiusKm} great-circle distance of the point, closest first.
+     */
+    public List<SiteDistance> withinRadius(double latitude, double longitude, double radiusKm) {
+        checkLatitude(latitude);
+        checkLongitude(longitude);
+        if (!(radiusKm > 0)) {
+            throw new IllegalArgumentException("radiusKm must be positive");
+        }
+        List<SiteDistance> result = current().withinRadius(latitude, longitude, radiusKm);
+        result.sort(Comparator.comparingDouble(SiteDistance::distanceKm));
+        return result;
+    }
+
+    /**
+     * The {@code limit} sites closest to the point, closest first.
+     */
+    public List<SiteDistance> nearest(double latitude, double longitude, int limit) {
+        checkLatitude(latitude);
+        checkLongitude(longitude);
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        Snapshot s = current();
+        List<SiteDistance> found;
+        if (limit >= s.sites.length) {
+            found = s.withinRadius(latitude, longitude, HALF_CIRCUMFERENCE_KM + 1);
+        } else {
+            // Any site among the nearest N lies within the first radius holding N sites
+            double radius = INITIAL_NEAREST_RADIUS_KM;
+            found = s.withinRadius(latitude, longitude, radius);
+            while (found.size() < limit && radius <= HALF_CIRCUMFERENCE_KM) {
+                radius *= 2;
+                found = s.withinRadius(latitude, longitude, radius);
+            }
+        }
+        found.sort(Comparator.comparingDouble(SiteDistance::distanceKm));
+        return found.size() > limit ? new ArrayList<>(found.subList(0, limit)) : found;
+    }
+
+    public int size() {
+        return current().sites.length;
+    }
+
+    static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+            + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    // ==================== Maintenance ====================
+
+    @Order(DataVersion.ORDER - 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (snapshot == null) {
+            return;
+        }
+        if (event.entity() == DomainEntity.COUNTRY) {
+            // Country names are copied into every marker; sites are few, so reload
+            invalidate();
+            return;
+        }
+        if (event.entity() != DomainEntity.LAUNCH_SITE) {
+            return;
+        }
+        if (event.changeType() == EntityChangedEvent.ChangeType.BULK || event.entityId() == null) {
+            invalidate();
+        } else if (event.changeType() == EntityChangedEvent.ChangeType.DELETED) {
+            remove(event.entityId());
+        } else {
+            Optional<LaunchSite> site = launchSiteRepository.findById(event.entityId());
+            if (site.isPresent()) {
+                upsert(site.get());
+            } else {
+                remove(event.entityId());
+            }
+        }
+    }
+
+    /**
+     * Adds or replaces a single site; sites without coordinates are dropped from the index.
+     */
+    public synchronized void upsert(LaunchSite site) {
+        if (site == null || site.getId() == null || snapshot == null) {
+            // Not loaded yet - the first query will pick this site up from the database
+            return;
+        }
+        List<SiteLocation> sites = snapshot.without(site.getId());
+        SiteLocation location = toLocation(site);
+        if (location != null) {
+            sites.add(location);
+        }
+        snapshot = new Snapshot(sites);
+    }
+
+    /**
+     * Removes a single site.
+     */
+    public synchronized void remove(Long siteId) {
+        if (siteId == null || snapshot == null) {
+            return;
+        }
+        snapshot = new Snapshot(snapshot.without(siteId));
+    }
+
+    /**
+     * Drops the index so it is reloaded on next use.
+     */
+    public synchronized void invalidate() {
+        snapshot = null;
+    }
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s != null) {
+            return s;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                List<SiteLocation> sites = new ArrayList<>();
+                for (LaunchSite site : launchSiteRepository.findLocated()) {
+                    SiteLocation location = toLocation(site);
+                    if (location != null) {
+                        sites.add(location);
+                    }
+                }
+                snapshot = new Snapshot(sites);
+                log.info("Loaded {} launch sites into spatial index", sites.size());
+            }
+            return snapshot;
+        }
+    }
+
+    private static SiteLocation toLocation(LaunchSite site) {
+        Double latitude = site.getLatitude();
+        Double longitude = site.getLongitude();
+        if (latitude == null || longitude == null || Math.abs(latitude) > 90 || Math.abs(longitude) > 180) {
+            return null;
+        }
+        Country country = site.getCountry();
+        return new SiteLocation(
+            site.getId(),
+            site.getName(),
+            site.getShortName(),
+            latitude,
+            longitude,
+            country != null ? country.getName() : null,
+            country != null ? country.getIsoCode() : null,
+            site.getStatus() != null ? site.getStatus().getDisplayName() : null,
+            site.getStatus() != null && site.getStatus().isActive(),
+            site.getTotalLaunches(),
+            site.getHumanRatedCapable()
+        );
+    }
+
+    private static void checkLatitude(double latitude) {
+        if (!(latitude >= -90 && latitude <= 90)) {
+            throw new IllegalArgumentException("Latitude must be between -90 and 90");
+        }
+    }
+
+    private static void checkLongitude(double longitude) {
+        if (!(longitude >= -180 && longitude <= 180)) {
+            throw new IllegalArgumentException("Longitude must be between -180 and 180");
+        }
+    }
+
+    /**
+     * Sites laid out in 2-d tree order; never modified after construction.
+     */
+    private static final class Snapshot {
+
+        final SiteLocation[] sites;
+
+        Snapshot(List<SiteLocation> sites) {
+            this.sites = sites.toArray(new SiteLocation[0]);
+            build(0, this.sites.length, 0);
+        }
+
+        private void build(int from, int to, int depth) {
+            if (to - from <= 1) {
+                return;
+            }
+            Arrays.sort(sites, from, to, depth % 2 == 0 ? BY_LATITUDE : BY_LONGITUDE);
+            int mid = (from + to) >>> 1;
+            build(from, mid, depth + 1);
+            build(mid + 1, to, depth + 1);
+        }
+
+        List<SiteLocation> without(Long siteId) {
+            List<SiteLocation> remaining = new ArrayList<>(sites.length + 1);
+            for (SiteLocation site : sites) {
+                if (!site.id().equals(siteId)) {
+                    remaining.add(site);
+                }
+            }
+            return remaining;
+        }
+
+        void collect(double south, double west, double north, double east,
+                     Consumer<SiteLocation> sink) {
+            if (west <= east) {
+                search(0, sites.length, 0, south, west, north, east, sink);
+            } else {
+                search(0, sites.length, 0, south, west, north, 180, sink);
+                search(0, sites.length, 0, south, -180, north, east, sink);
+            }
+        }
+
+        private void search(int from, int to, int depth, double south, double west, double north, double east,
+                            Consumer<SiteLocation> sink) {
+            if (from >= to) {
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            SiteLocation site = sites[mid];
+            if (site.latitude() >= south && site.latitude() <= north
+                && site.longitude() >= west && site.longitude() <= east) {
+                sink.accept(site);
+            }
+            boolean byLatitude = depth % 2 == 0;
+            double split = byLatitude ? site.latitude() : site.longitude();
+            double min = byLatitude ? south : west;
+            double max = byLatitude ? north : east;
+            if (min <= split) {
+                search(from, mid, depth + 1, south, west, north, east, sink);
+            }
+            if (max >= split) {
+                search(mid + 1, to, depth + 1, south, west, north, east, sink);
+            }
+        }
+
+        List<SiteDistance> withinRadius(double latitude, double longitude, double radiusKm) {
+            double angular = radiusKm / EARTH_RADIUS_KM;
+            double dLat = Math.toDegrees(angular);
+            double south = latitude - dLat;
+            double north = latitude + dLat;
+
+            double west = -180;
+            double east = 180;
+            if (south > -90 && north < 90) {
+                // Widest longitude span of the circle, reached off its centre latitude
+                double dLon = Math.toDegrees(Math.asin(Math.sin(angular) / Math.cos(Math.toRadians(latitude))));
+                if (dLon < 180) {
+                    west = wrap(longitude - dLon);
+                    east = wrap(longitude + dLon);
+                }
+            }
+
+            List<SiteDistance> result = new ArrayList<>();
+            collect(Math.max(-90, south), west, Math.min(90, north), east, site -> {
+                double distance = haversineKm(latitude, longitude, site.latitude(), site.longitude());
+                if (distance <= radiusKm) {
+                    result.add(new SiteDistance(site, distance));
+                }
+            });
+            return result;
+        }
+
+        private static double wrap(double longitude) {
+            if (longitude < -180) {
+                return longitude + 360;
+            }
+            if (longitude > 180) {
+                return longitude - 360;
+            }
+            return longitude;
+        }
+    }
+}
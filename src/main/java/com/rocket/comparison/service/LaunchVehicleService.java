@@ -1,18 +1,24 @@
 package com.rocket.comparison.service;
 
 import com.rocket.comparison.entity.LaunchVehicle;
+import com.rocket.comparison.event.DomainEntity;
+import com.rocket.comparison.event.EntityChangedEvent;
 import com.rocket.comparison.repository.LaunchVehicleRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class LaunchVehicleService {
 
     private final LaunchVehicleRepository launchVehicleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Returns only parent entities (excludes variants) for main list views.
@@ -68,12 +74,18 @@ public class LaunchVehicleService {
         return launchVehicleRepository.findByPayloadCapacity();
     }
 
+    @Transactional
     public LaunchVehicle save(LaunchVehicle vehicle) {
-        return launchVehicleRepository.save(vehicle);
+        LaunchVehicle saved = launchVehicleRepository.save(vehicle);
+        eventPublisher.publishEvent(EntityChangedEvent.saved(DomainEntity.LAUNCH_VEHICLE, saved.getId(), saved.getCountry()));
+        // A merged update only references its country and variants; load them before the response is written
+        return launchVehicleRepository.findByIdWithVariants(saved.getId()).orElse(saved);
     }
 
+    @Transactional
     public void deleteById(Long id) {
         launchVehicleRepository.deleteById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(DomainEntity.LAUNCH_VEHICLE, id));
     }
 
     public Long countActive() {
@@ -0,0 +1,517 @@
+package com.rocket.comparison.service;
+
+import com.rocket.comparison.entity.Country;
+import com.rocket.comparison.entity.Destination;
+import com.rocket.comparison.entity.MissionStatus;
+import com.rocket.comparison.entity.MissionType;
+import com.rocket.comparison.entity.SpaceMission;
+import com.rocket.comparison.event.DataVersion;
+import com.rocket.comparison.event.DomainEntity;
+import com.rocket.comparison.event.EntityChangedEvent;
+import com.rocket.comparison.repository.CountryRepository;
+import com.rocket.comparison.repository.SpaceMissionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.lang.reflect.Array;
+import java.util.*;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Columnar in-memory snapshot of the mission fields that timeline and analytics
+ * endpoints group by: launch year, country, status, type, destination and the
+ * crewed / historic-first flags.
+ *
+ * Each field is a primitive column sorted by mission id; countries are
+ * dictionary-encoded and enums are stored by ordinal. Group-by counts are a single
+ * pass over the columns into a {@code long[][]}, with no per-row allocation.
+ *
+ * Like {@link EngineSimilarityIndex}, the snapshot is loaded lazily and readers work
+ * on an immutable copy. Committed mission writes patch single rows; bulk changes drop
+ * the snapshot so it is reloaded on next use.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MissionColumnStore {
+
+    static final short NO_YEAR = Short.MIN_VALUE;
+    static final int NONE = -1;
+
+    static final byte FLAG_CREWED = 1;
+    static final byte FLAG_HISTORIC_FIRST = 1 << 1;
+
+    /** Widest year range a grouping may span. */
+    static final int MAX_YEAR_SPAN = 1000;
+
+    private static final MissionStatus[] STATUSES = MissionStatus.values();
+    private static final MissionType[] TYPES = MissionType.values();
+    private static final Destination[] DESTINATIONS = Destination.values();
+
+    // Mission categories in MissionType declaration order, and each type's index into them
+    private static final List<String> CATEGORIES = Arrays.stream(TYPES).map(MissionType::getCategory).distinct().toList();
+    private static final int[] CATEGORY_OF_TYPE = Arrays.stream(TYPES).mapToInt(t -> CATEGORIES.indexOf(t.getCategory())).toArray();
+
+    private final SpaceMissionRepository missionRepository;
+    private final CountryRepository countryRepository;
+
+    private volatile Snapshot snapshot;
+    private volatile boolean countryLabelsStale;
+
+    /**
+     * Country a mission is attributed to, as shown in analytics output.
+     */
+    public record CountryLabel(Long id, String name, String isoCode) {}
+
+    /**
+     * Mission counts per key and launch year, for years {@code fromYear..toYear}.
+     *
+     * @param counts {@code counts[key][year - fromYear]}; keys line up with {@code keys}
+     * @param totals missions per year over all keys, including missions without a key
+     */
+    public record YearGrid<K>(int fromYear, int toYear, List<K> keys, long[][] counts, long[] totals) {
+
+        public int years() {
+            return totals.length;
+        }
+
+        public long keyTotal(int key) {
+            long sum = 0;
+            for (long count : counts[key]) {
+                sum += count;
+            }
+            return sum;
+        }
+
+        /** Keys with at least one mission, most missions first. */
+        public int[] keysByTotalDesc() {
+            long[] keyTotals = new long[keys.size()];
+            for (int key = 0; key < keyTotals.length; key++) {
+                keyTotals[key] = keyTotal(key);
+            }
+            return IntStream.range(0, keyTotals.length)
+                .filter(key -> keyTotals[key] > 0)
+                .boxed()
+                .sorted(Comparator.comparingLong((Integer key) -> keyTotals[key]).reversed())
+                .mapToInt(Integer::intValue)
+                .toArray();
+        }
+    }
+
+    /**
+     * Mission counts for one country.
+     *
+     * @param byDestination counts indexed by {@link Destination#ordinal()}
+     * @param byCategory    counts indexed like {@link #categories()}
+     */
+    public record CountryProfile(long total, long crewed, long completed, long failed, long historicFirsts,
+                                 long[] byDestination, long[] byCategory) {}
+
+    /** Mission categories, in the order used by {@link CountryProfile#byCategory()}. */
+    public static List<String> categories() {
+        return CATEGORIES;
+    }
+
+    // ==================== Queries ====================
+
+    public YearGrid<CountryLabel> countByCountryAndYear(int fromYear, int toYear) {
+        checkSpan(fromYear, toYear);
+        Snapshot s = current();
+        return grid(s, fromYear, toYear, Arrays.asList(s.countryLabels), row -> s.countries[row]);
+    }
+
+    /** Like {@link #countByCountryAndYear(int, int)}, over every launch year present. */
+    public YearGrid<CountryLabel> countByCountryAndYear() {
+        Snapshot s = current();
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int row = 0; row < s.size; row++) {
+            short year = s.years[row];
+            if (year != NO_YEAR) {
+                min = Math.min(min, year);
+                max = Math.max(max, year);
+            }
+        }
+        if (min > max) {
+            min = 0;
+            max = -1;
+        }
+        return grid(s, min, max, Arrays.asList(s.countryLabels), row -> s.countries[row]);
+    }
+
+    public YearGrid<String> countByCategoryAndYear(int fromYear, int toYear) {
+        checkSpan(fromYear, toYear);
+        Snapshot s = current();
+        return grid(s, fromYear, toYear, CATEGORIES,
+            row -> s.types[row] == NONE ? NONE : CATEGORY_OF_TYPE[s.types[row]]);
+    }
+
+    public long countInYear(int year) {
+        return countByCategoryAndYear(year, year).totals()[0];
+    }
+
+    public long countByStatus(Set<MissionStatus> statuses) {
+        Snapshot s = current();
+        boolean[] wanted = new boolean[STATUSES.length];
+        statuses.forEach(status -> wanted[status.ordinal()] = true);
+        long count = 0;
+        for (int row = 0; row < s.size; row++) {
+            byte status = s.statuses[row];
+            if (status != NONE && wanted[status]) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts for one country's missions, optionally limited to launch years
+     * {@code fromYear..toYear}; missions without a launch year only count when no
+     * bound is given.
+     */
+    public CountryProfile profile(Long countryId, Integer fromYear, Integer toYear) {
+        Snapshot s = current();
+        long[] byDestination = new long[DESTINATIONS.length];
+        long[] byCategory = new long[CATEGORIES.size()];
+        Integer countryCode = s.countryCodes.get(countryId);
+        if (countryCode == null) {
+            return new CountryProfile(0, 0, 0, 0, 0, byDestination, byCategory);
+        }
+        int code = countryCode;
+
+        int from = fromYear != null ? fromYear : Integer.MIN_VALUE;
+        int to = toYear != null ? toYear : Integer.MAX_VALUE;
+        boolean bounded = fromYear != null || toYear != null;
+        long total = 0, crewed = 0, completed = 0, failed = 0, firsts = 0;
+
+        for (int row = 0; row < s.size; row++) {
+            if (s.countries[row] != code) {
+                continue;
+            }
+            short year = s.years[row];
+            if (bounded && (year == NO_YEAR || year < from || year > to)) {
+                continue;
+            }
+            total++;
+            byte flags = s.flags[row];
+            if ((flags & FLAG_CREWED) != 0) {
+                crewed++;
+            }
+            if ((flags & FLAG_HISTORIC_FIRST) != 0) {
+                firsts++;
+            }
+            byte status = s.statuses[row];
+            if (status == MissionStatus.COMPLETED.ordinal()) {
+                completed++;
+            } else if (status == MissionStatus.FAILED.ordinal() || status == MissionStatus.LOST.ordinal()) {
+                failed++;
+            }
+            if (s.destinations[row] != NONE) {
+                byDestination[s.destinations[row]]++;
+            }
+            if (s.types[row] != NONE) {
+                byCategory[CATEGORY_OF_TYPE[s.types[row]]]++;
+            }
+        }
+        return new CountryProfile(total, crewed, completed, failed, firsts, byDestination, byCategory);
+    }
+
+    public int size() {
+        return current().size;
+    }
+
+    private static void checkSpan(int fromYear, int toYear) {
+        if ((long) toYear - fromYear > MAX_YEAR_SPAN) {
+            throw new IllegalArgumentException("Year range may span at most " + MAX_YEAR_SPAN + " years");
+        }
+    }
+
+    private static <K> YearGrid<K> grid(Snapshot s, int fromYear, int toYear, List<K> keys, IntUnaryOperator keyOf) {
+        int width = Math.max(0, toYear - fromYear + 1);
+        long[][] counts = new long[keys.size()][width];
+        long[] totals = new long[width];
+
+        for (int row = 0; row < s.size; row++) {
+            int offset = s.years[row] - fromYear;
+            if (s.years[row] == NO_YEAR || offset < 0 || offset >= width) {
+                continue;
+            }
+            totals[offset]++;
+            int key = keyOf.applyAsInt(row);
+            if (key != NONE) {
+                counts[key][offset]++;
+            }
+        }
+        return new YearGrid<>(fromYear, toYear, keys, counts, totals);
+    }
+
+    // ==================== Maintenance ====================
+
+    @Order(DataVersion.ORDER - 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.entity() == DomainEntity.COUNTRY) {
+            countryLabelsStale = true;
+            return;
+        }
+        if (event.entity() != DomainEntity.SPACE_MISSION || snapshot == null) {
+            return;
+        }
+        if (event.changeType() == EntityChangedEvent.ChangeType.BULK || event.entityId() == null) {
+            invalidate();
+        } else if (event.changeType() == EntityChangedEvent.ChangeType.DELETED) {
+            remove(event.entityId());
+        } else {
+            Optional<SpaceMission> mission = missionRepository.findById(event.entityId());
+            if (mission.isPresent()) {
+                upsert(mission.get());
+            } else {
+                remove(event.entityId());
+            }
+        }
+    }
+
+    /**
+     * Adds or replaces a single mission.
+     */
+    public synchronized void upsert(SpaceMission mission) {
+        if (mission == null || mission.getId() == null || snapshot == null) {
+            // Not loaded yet - the first query will pick this mission up from the database
+            return;
+        }
+        Country country = mission.getCountry();
+        snapshot = snapshot.withRow(mission.getId(),
+            year(mission.getLaunchYear() != null ? mission.getLaunchYear()
+                : mission.getLaunchDate() != null ? mission.getLaunchDate().getYear() : null),
+            country != null ? new CountryLabel(country.getId(), country.getName(), country.getIsoCode()) : null,
+            ordinal(mission.getStatus()), ordinal(mission.getMissionType()), ordinal(mission.getDestination()),
+            flags(mission.getCrewed(), mission.getIsHistoricFirst()));
+    }
+
+    /**
+     * Removes a single mission.
+     */
+    public synchronized void remove(Long missionId) {
+        if (missionId == null || snapshot == null) {
+            return;
+        }
+        snapshot = snapshot.withoutRow(missionId);
+    }
+
+    /**
+     * Drops the snapshot so it is reloaded on next use.
+     */
+    public synchronized void invalidate() {
+        snapshot = null;
+    }
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s != null && !countryLabelsStale) {
+            return s;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                countryLabelsStale = false;
+                snapshot = load();
+            } else if (countryLabelsStale) {
+                countryLabelsStale = false;
+                snapshot = snapshot.withCountryLabels(countryRepository.findAll());
+            }
+            return snapshot;
+        }
+    }
+
+    private Snapshot load() {
+        long start = System.currentTimeMillis();
+        List<Object[]> rows = missionRepository.findAnalyticsColumns();
+
+        int n = rows.size();
+        Snapshot.Builder builder = new Snapshot.Builder(n);
+        for (Object[] row : rows) {
+            CountryLabel country = row[2] != null
+                ? new CountryLabel((Long) row[2], (String) row[3], (String) row[4])
+                : null;
+            builder.add((Long) row[0], year((Integer) row[1]), country,
+                ordinal((Enum<?>) row[5]), ordinal((Enum<?>) row[6]), ordinal((Enum<?>) row[7]),
+                flags((Boolean) row[8], (Boolean) row[9]));
+        }
+
+        Snapshot loaded = builder.build();
+        log.info("Built mission column store: {} missions, {} countries in {}ms",
+            n, loaded.countryLabels.length, System.currentTimeMillis() - start);
+        return loaded;
+    }
+
+    private static short year(Integer year) {
+        return year != null && year > NO_YEAR && year <= Short.MAX_VALUE ? year.shortValue() : NO_YEAR;
+    }
+
+    private static byte ordinal(Enum<?> value) {
+        return value != null ? (byte) value.ordinal() : NONE;
+    }
+
+    private static byte flags(Boolean crewed, Boolean historicFirst) {
+        byte flags = 0;
+        if (Boolean.TRUE.equals(crewed)) {
+            flags |= FLAG_CREWED;
+        }
+        if (Boolean.TRUE.equals(historicFirst)) {
+            flags |= FLAG_HISTORIC_FIRST;
+        }
+        return flags;
+    }
+
+    /**
+     * Immutable column set. Rows are sorted by id so single-row changes locate their
+     * row by binary search; the country dictionary only grows.
+     */
+    private static final class Snapshot {
+        final int size;
+        final long[] ids;
+        final short[] years;
+        final int[] countries;
+        final byte[] statuses;
+        final byte[] types;
+        final byte[] destinations;
+        final byte[] flags;
+        final CountryLabel[] countryLabels;
+        final Map<Long, Integer> countryCodes;
+
+        Snapshot(int size, long[] ids, short[] years, int[] countries, byte[] statuses, byte[] types,
+                 byte[] destinations, byte[] flags, CountryLabel[] countryLabels) {
+            this.size = size;
+            this.ids = ids;
+            this.years = years;
+            this.countries = countries;
+            this.statuses = statuses;
+            this.types = types;
+            this.destinations = destinations;
+            this.flags = flags;
+            this.countryLabels = countryLabels;
+            this.countryCodes = new HashMap<>(countryLabels.length * 2);
+            for (int code = 0; code < countryLabels.length; code++) {
+                countryCodes.put(countryLabels[code].id(), code);
+            }
+        }
+
+        Snapshot withRow(long id, short year, CountryLabel country, byte status, byte type, byte destination, byte rowFlags) {
+            CountryLabel[] labels = countryLabels;
+            int countryCode = NONE;
+            if (country != null) {
+                Integer code = countryCodes.get(country.id());
+                labels = code == null ? Arrays.copyOf(countryLabels, countryLabels.length + 1) : countryLabels.clone();
+                countryCode = code == null ? countryLabels.length : code;
+                labels[countryCode] = country;
+            }
+
+            int found = Arrays.binarySearch(ids, 0, size, id);
+            int row = found >= 0 ? found : -found - 1;
+            boolean insert = found < 0;
+            Snapshot next = new Snapshot(insert ? size + 1 : size,
+                insert ? insert(ids, size, row) : ids.clone(),
+                insert ? insert(years, size, row) : years.clone(),
+                insert ? insert(countries, size, row) : countries.clone(),
+                insert ? insert(statuses, size, row) : statuses.clone(),
+                insert ? insert(types, size, row) : types.clone(),
+                insert ? insert(destinations, size, row) : destinations.clone(),
+                insert ? insert(flags, size, row) : flags.clone(),
+                labels);
+            next.ids[row] = id;
+            next.years[row] = year;
+            next.countries[row] = countryCode;
+            next.statuses[row] = status;
+            next.types[row] = type;
+            next.destinations[row] = destination;
+            next.flags[row] = rowFlags;
+            return next;
+        }
+
+        Snapshot withoutRow(long id) {
+            int row = Arrays.binarySearch(ids, 0, size, id);
+            if (row < 0) {
+                return this;
+            }
+            return new Snapshot(size - 1,
+                delete(ids, size, row), delete(years, size, row), delete(countries, size, row),
+                delete(statuses, size, row), delete(types, size, row), delete(destinations, size, row),
+                delete(flags, size, row), countryLabels);
+        }
+
+        Snapshot withCountryLabels(List<Country> current) {
+            CountryLabel[] labels = countryLabels.clone();
+            for (Country country : current) {
+                Integer code = countryCodes.get(country.getId());
+                if (code != null) {
+                    labels[code] = new CountryLabel(country.getId(), country.getName(), country.getIsoCode());
+                }
+            }
+            return new Snapshot(size, ids, years, countries, statuses, types, destinations, flags, labels);
+        }
+
+        // Copies a primitive column with a gap at the given row
+        @SuppressWarnings("unchecked")
+        private static <A> A insert(A column, int size, int row) {
+            A copy = (A) Array.newInstance(column.getClass().getComponentType(), size + 1);
+            System.arraycopy(column, 0, copy, 0, row);
+            System.arraycopy(column, row, copy, row + 1, size - row);
+            return copy;
+        }
+
+        // Copies a primitive column without the given row
+        @SuppressWarnings("unchecked")
+        private static <A> A delete(A column, int size, int row) {
+            A copy = (A) Array.newInstance(column.getClass().getComponentType(), size - 1);
+            System.arraycopy(column, 0, copy, 0, row);
+            System.arraycopy(column, row + 1, copy, row, size - row - 1);
+            return copy;
+        }
+
+        /** Fills the columns from rows already sorted by id. */
+        static final class Builder {
+            private final long[] ids;
+            private final short[] years;
+            private final int[] countries;
+            private final byte[] statuses;
+            private final byte[] types;
+            private final byte[] destinations;
+            private final byte[] flags;
+            private final List<CountryLabel> labels = new ArrayList<>();
+            private final Map<Long, Integer> codes = new HashMap<>();
+            private int size;
+
+            Builder(int capacity) {
+                ids = new long[capacity];
+                years = new short[capacity];
+                countries = new int[capacity];
+                statuses = new byte[capacity];
+                types = new byte[capacity];
+                destinations = new byte[capacity];
+                flags = new byte[capacity];
+            }
+
+            void add(long id, short year, CountryLabel country, byte status, byte type, byte destination, byte rowFlags) {
+                ids[size] = id;
+                years[size] = year;
+                countries[size] = country == null ? NONE : codes.computeIfAbsent(country.id(), key -> {
+                    labels.add(country);
+                    return labels.size() - 1;
+                });
+                statuses[size] = status;
+                types[size] = type;
+                destinations[size] = destination;
+                flags[size] = rowFlags;
+                size++;
+            }
+
+            Snapshot build() {
+                return new Snapshot(size, ids, years, countries, statuses, types, destinations, flags,
+                    labels.toArray(CountryLabel[]::new));
+            }
+        }
+    }
+}
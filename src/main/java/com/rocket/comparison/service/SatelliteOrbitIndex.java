@@ -0,0 +1,390 @@
+package com.rocket.comparison.service;
+
+import com.rocket.comparison.entity.OrbitType;
+import com.rocket.comparison.entity.Satellite;
+import com.rocket.comparison.entity.SatelliteStatus;
+import com.rocket.comparison.event.DataVersion;
+import com.rocket.comparison.event.DomainEntity;
+import com.rocket.comparison.event.EntityChangedEvent;
+import com.rocket.comparison.repository.SatelliteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+
+/**
+ * In-memory interval index over satellite altitude shells.
+ *
+ * Each satellite occupies the shell between its perigee and apogee; when those are not
+ * recorded, the shell is derived from the mean altitude and eccentricity. Shells are sorted
+ * by perigee and laid out as an implicit interval tree: the median of each subrange is its
+ * node and carries the highest apogee below it, so overlap queries skip whole subtrees.
+ *
+ * Conjunction screening is a sweep-and-prune over the same order: each shell is paired only
+ * with the shells that start before it ends, which costs O(n log n) plus the candidate pairs
+ * instead of comparing every pair. Shell overlap is the classic apogee/perigee filter; an
+ * optional inclination tolerance narrows the candidates further.
+ *
+ * Like {@link MissionColumnStore}, the index loads lazily, follows committed
+ * {@link EntityChangedEvent}s and serves readers from an immutable snapshot.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SatelliteOrbitIndex {
+
+    static final double EARTH_RADIUS_KM = 6378.137;
+
+    private final SatelliteRepository satelliteRepository;
+
+    private volatile Snapshot snapshot;
+
+    public enum InclinationBand {
+        EQUATORIAL(10),
+        LOW(30),
+        MEDIUM(60),
+        HIGH(80),
+        POLAR(100),
+        RETROGRADE(180);
+
+        private final double upperBoundDeg;
+
+        InclinationBand(double upperBoundDeg) {
+            this.upperBoundDeg = upperBoundDeg;
+        }
+
+        public static InclinationBand of(Double inclinationDeg) {
+            if (inclinationDeg == null) {
+                return null;
+            }
+            double inclination = Math.abs(inclinationDeg);
+            for (InclinationBand band : values()) {
+                if (inclination < band.upperBoundDeg) {
+                    return band;
+                }
+            }
+            return RETROGRADE;
+        }
+    }
+
+    /**
+     * A satellite's shell as captured when it entered the index.
+     */
+    public record OrbitShell(
+        Long id,
+        String name,
+        String noradId,
+        SatelliteStatus status,
+        OrbitType orbitType,
+        double perigeeKm,
+        double apogeeKm,
+        Double inclinationDeg,
+        InclinationBand inclinationBand
+    ) {}
+
+    /**
+     * Another satellite whose shell overlaps the reference shell by {@code overlapKm}
+     * (negative when only the margin bridges the gap).
+     */
+    public record ShellMate(OrbitShell satellite, double overlapKm, Double inclinationDeltaDeg) {}
+
+    public record CandidatePair(OrbitShell first, OrbitShell second, double overlapKm, Double inclinationDeltaDeg) {}
+
+    /**
+     * Result of screening the catalog: every candidate pair is counted, the {@code pairs}
+     * list holds those with the deepest shell overlap.
+     */
+    public record Screening(int screenedSatellites, long candidatePairs, List<CandidatePair> pairs) {}
+
+    /**
+     * Satellites whose shells overlap the given satellite's shell widened by {@code marginKm},
+     * deepest overlap first. Empty if the satellite is unknown or has no orbit data.
+     *
+     * @param maxInclinationDeltaDeg if set, drop satellites whose inclination differs by more;
+     *                               satellites without a recorded inclination are kept
+     */
+    public Optional<List<ShellMate>> sharingShell(Long satelliteId, double marginKm, Double maxInclinationDeltaDeg, int limit) {
+        checkScreeningArguments(marginKm, maxInclinationDeltaDeg, limit);
+        Snapshot s = current();
+        Integer position = s.positions.get(satelliteId);
+        if (position == null) {
+            return Optional.empty();
+        }
+        int ref = position;
+
+        List<ShellMate> mates = new ArrayList<>();
+        s.overlapping(s.perigee[ref] - marginKm, s.apogee[ref] + marginKm, row -> {
+            if (row == ref) {
+                return;
+            }
+            double delta = s.inclinationDelta(ref, row);
+            if (maxInclinationDeltaDeg == null || !(delta > maxInclinationDeltaDeg)) {
+                mates.add(new ShellMate(s.shells[row], s.overlap(ref, row), Double.isNaN(delta) ? null : delta));
+            }
+        });
+        mates.sort(Comparator.comparingDouble(ShellMate::overlapKm).reversed()
+            .thenComparing(mate -> mate.satellite().id()));
+        return Optional.of(mates.size() > limit ? new ArrayList<>(mates.subList(0, limit)) : mates);
+    }
+
+    /**
+     * Sweep-and-prune over the whole catalog for pairs of satellites whose shells come within
+     * {@code marginKm} of each other.
+     */
+    public Screening conjunctionCandidates(double marginKm, Double maxInclinationDeltaDeg, int limit) {
+        checkScreeningArguments(marginKm, maxInclinationDeltaDeg, limit);
+        Snapshot s = current();
+        int n = s.shells.length;
+
+        // Min-heap on overlap holding the deepest pairs seen so far
+        PriorityQueue<int[]> deepest = new PriorityQueue<>(limit + 1,
+            Comparator.comparingDouble(pair -> s.overlap(pair[0], pair[1])));
+        double shallowestKept = Double.NEGATIVE_INFINITY;
+        long candidates = 0;
+
+        for (int i = 0; i < n; i++) {
+            double reach = s.apogee[i] + marginKm;
+            for (int j = i + 1; j < n && s.perigee[j] <= reach; j++) {
+                if (maxInclinationDeltaDeg != null && s.inclinationDelta(i, j) > maxInclinationDeltaDeg) {
+                    continue;
+                }
+                candidates++;
+                if (deepest.size() < limit) {
+                    deepest.add(new int[] {i, j});
+                } else if (s.overlap(i, j) > shallowestKept) {
+                    deepest.poll();
+                    deepest.add(new int[] {i, j});
+                } else {
+                    continue;
+                }
+                int[] head = deepest.peek();
+                shallowestKept = deepest.size() < limit ? Double.NEGATIVE_INFINITY : s.overlap(head[0], head[1]);
+            }
+        }
+
+        List<CandidatePair> pairs = new ArrayList<>(deepest.size());
+        for (int[] pair : deepest) {
+            int a = pair[0];
+            int b = pair[1];
+            double delta = s.inclinationDelta(a, b);
+            pairs.add(new CandidatePair(s.shells[a], s.shells[b], s.overlap(a, b), Double.isNaN(delta) ? null : delta));
+        }
+        pairs.sort(Comparator.comparingDouble(CandidatePair::overlapKm).reversed()
+            .thenComparing(pair -> pair.first().id())
+            .thenComparing(pair -> pair.second().id()));
+        return new Screening(n, candidates, pairs);
+    }
+
+    public int size() {
+        return current().shells.length;
+    }
+
+    // ==================== Maintenance ====================
+
+    @Order(DataVersion.ORDER - 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.entity() != DomainEntity.SATELLITE || snapshot == null) {
+            return;
+        }
+        if (event.changeType() == EntityChangedEvent.ChangeType.BULK || event.entityId() == null) {
+            invalidate();
+        } else if (event.changeType() == EntityChangedEvent.ChangeType.DELETED) {
+            remove(event.entityId());
+        } else {
+            Optional<Satellite> satellite = satelliteRepository.findById(event.entityId());
+            if (satellite.isPresent()) {
+                upsert(satellite.get());
+            } else {
+                remove(event.entityId());
+            }
+        }
+    }
+
+    /**
+     * Adds or replaces a single satellite; satellites without orbit data are dropped from the index.
+     */
+    public synchronized void upsert(Satellite satellite) {
+        if (satellite == null || satellite.getId() == null || snapshot == null) {
+            // Not loaded yet - the first query will pick this satellite up from the database
+            return;
+        }
+        List<OrbitShell> shells = snapshot.without(satellite.getId());
+        OrbitShell shell = toShell(satellite.getId(), satellite.getName(), satellite.getNoradId(), satellite.getStatus(),
+            satellite.getOrbitType(), satellite.getAltitudeKm(), satellite.getPerigeeKm(), satellite.getApogeeKm(),
+            satellite.getInclinationDeg(), satellite.getEccentricity());
+        if (shell != null) {
+            shells.add(shell);
+        }
+        snapshot = new Snapshot(shells);
+    }
+
+    /**
+     * Removes a single satellite.
+     */
+    public synchronized void remove(Long satelliteId) {
+        if (satelliteId == null || snapshot == null) {
+            return;
+        }
+        snapshot = new Snapshot(snapshot.without(satelliteId));
+    }
+
+    /**
+     * Drops the index so it is reloaded on next use.
+     */
+    public synchronized void invalidate() {
+        snapshot = null;
+    }
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s != null) {
+            return s;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                List<OrbitShell> shells = new ArrayList<>();
+                for (Object[] row : satelliteRepository.findOrbitColumns()) {
+                    OrbitShell shell = toShell((Long) row[0], (String) row[1], (String) row[2],
+                        (SatelliteStatus) row[3], (OrbitType) row[4], (Double) row[5], (Double) row[6],
+                        (Double) row[7], (Double) row[8], (Double) row[9]);
+                    if (shell != null) {
+                        shells.add(shell);
+                    }
+                }
+                snapshot = new Snapshot(shells);
+                log.info("Loaded {} satellite orbit shells into index", shells.size());
+            }
+            return snapshot;
+        }
+    }
+
+    static OrbitShell toShell(Long id, String name, String noradId, SatelliteStatus status, OrbitType orbitType,
+                              Double altitudeKm, Double perigeeKm, Double apogeeKm,
+                              Double inclinationDeg, Double eccentricity) {
+        double low;
+        double high;
+        if (perigeeKm != null && apogeeKm != null) {
+            low = Math.min(perigeeKm, apogeeKm);
+            high = Math.max(perigeeKm, apogeeKm);
+        } else if (altitudeKm != null) {
+            // Treat the mean altitude as the semi-major axis above the surface
+            double e = eccentricity != null && eccentricity >= 0 && eccentricity < 1 ? eccentricity : 0;
+            double semiMajorAxis = EARTH_RADIUS_KM + altitudeKm;
+            low = semiMajorAxis * (1 - e) - EARTH_RADIUS_KM;
+            high = semiMajorAxis * (1 + e) - EARTH_RADIUS_KM;
+        } else if (perigeeKm != null || apogeeKm != null) {
+            low = high = perigeeKm != null ? perigeeKm : apogeeKm;
+        } else {
+            return null;
+        }
+        if (!Double.isFinite(low) || !Double.isFinite(high)) {
+            return null;
+        }
+        return new OrbitShell(id, name, noradId, status, orbitType, low, high,
+            inclinationDeg, InclinationBand.of(inclinationDeg));
+    }
+
+    private static void checkScreeningArguments(double marginKm, Double maxInclinationDeltaDeg, int limit) {
+        if (!(marginKm >= 0)) {
+            throw new IllegalArgumentException("marginKm must not be negative");
+        }
+        if (maxInclinationDeltaDeg != null && !(maxInclinationDeltaDeg >= 0)) {
+            throw new IllegalArgumentException("maxInclinationDelta must not be negative");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+    }
+
+    /**
+     * Shells sorted by perigee in flat arrays, with the interval-tree maxima; never modified
+     * after construction.
+     */
+    private static final class Snapshot {
+
+        final OrbitShell[] shells;
+        final double[] perigee;
+        final double[] apogee;
+        final double[] inclination;
+        final double[] maxApogee;
+        final Map<Long, Integer> positions;
+
+        Snapshot(List<OrbitShell> unsorted) {
+            shells = unsorted.toArray(new OrbitShell[0]);
+            Arrays.sort(shells, Comparator.comparingDouble(OrbitShell::perigeeKm).thenComparing(OrbitShell::id));
+            int n = shells.length;
+            perigee = new double[n];
+            apogee = new double[n];
+            inclination = new double[n];
+            positions = new HashMap<>(n * 2);
+            for (int row = 0; row < n; row++) {
+                OrbitShell shell = shells[row];
+                perigee[row] = shell.perigeeKm();
+                apogee[row] = shell.apogeeKm();
+                inclination[row] = shell.inclinationDeg() != null ? shell.inclinationDeg() : Double.NaN;
+                positions.put(shell.id(), row);
+            }
+            maxApogee = new double[n];
+            buildMaxima(0, n);
+        }
+
+        private double buildMaxima(int from, int to) {
+            if (from >= to) {
+                return Double.NEGATIVE_INFINITY;
+            }
+            int mid = (from + to) >>> 1;
+            double max = Math.max(apogee[mid], Math.max(buildMaxima(from, mid), buildMaxima(mid + 1, to)));
+            maxApogee[mid] = max;
+            return max;
+        }
+
+        void overlapping(double low, double high, IntConsumer sink) {
+            search(0, shells.length, low, high, sink);
+        }
+
+        private void search(int from, int to, double low, double high, IntConsumer sink) {
+            if (from >= to) {
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            if (maxApogee[mid] < low) {
+                return;
+            }
+            search(from, mid, low, high, sink);
+            // Everything from here on starts at or above this perigee
+            if (perigee[mid] > high) {
+                return;
+            }
+            if (apogee[mid] >= low) {
+                sink.accept(mid);
+            }
+            search(mid + 1, to, low, high, sink);
+        }
+
+        double overlap(int a, int b) {
+            return Math.min(apogee[a], apogee[b]) - Math.max(perigee[a], perigee[b]);
+        }
+
+        /**
+         * NaN when either inclination is unknown; NaN never exceeds a tolerance, so such pairs are kept.
+         */
+        double inclinationDelta(int a, int b) {
+            return Math.abs(inclination[a] - inclination[b]);
+        }
+
+        List<OrbitShell> without(Long satelliteId) {
+            List<OrbitShell> remaining = new ArrayList<>(shells.length + 1);
+            for (OrbitShell shell : shells) {
+                if (!shell.id().equals(satelliteId)) {
+                    remaining.add(shell);
+                }
+            }
+            return remaining;
+        }
+    }
+}
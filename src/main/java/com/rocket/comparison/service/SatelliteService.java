@@ -1,9 +1,15 @@
 package com.rocket.comparison.service;
 
+import com.rocket.comparison.api.dto.CursorPage;
+import com.rocket.comparison.config.PaginationConfig;
 import com.rocket.comparison.entity.*;
+import com.rocket.comparison.event.DomainEntity;
+import com.rocket.comparison.event.EntityChangedEvent;
 import com.rocket.comparison.repository.CountryRepository;
 import com.rocket.comparison.repository.SatelliteRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,10 +18,18 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class SatelliteService {
 
     private final SatelliteRepository satelliteRepository;
     private final CountryRepository countryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final KeysetPaginator keysetPaginator;
+    private final SearchService searchService;
+    private final SatelliteOrbitIndex orbitIndex;
+
+    private static final KeysetPaginator.Keyset<Satellite> NEWEST_FIRST = KeysetPaginator.Keyset.byDateDesc(
+        Satellite.class, "launchDate", Satellite::getLaunchDate, Satellite::getId).fetching("country", "launchMission");
 
     // ==================== Basic CRUD ====================
 
@@ -23,6 +37,10 @@ public class SatelliteService {
         return satelliteRepository.findAll();
     }
 
+    public CursorPage<Satellite> getSatellitesPage(String cursor, Integer limit) {
+        return keysetPaginator.page(NEWEST_FIRST, null, cursor, limit);
+    }
+
     public Optional<Satellite> getSatelliteById(Long id) {
         return satelliteRepository.findById(id);
     }
@@ -37,12 +55,15 @@ public class SatelliteService {
 
     @Transactional
     public Satellite saveSatellite(Satellite satellite) {
-        return satelliteRepository.save(satellite);
+        Satellite saved = satelliteRepository.save(satellite);
+        eventPublisher.publishEvent(EntityChangedEvent.saved(DomainEntity.SATELLITE, saved.getId(), saved.getCountry()));
+        return saved;
     }
 
     @Transactional
     public void deleteSatellite(Long id) {
         satelliteRepository.deleteById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(DomainEntity.SATELLITE, id));
     }
 
     @Transactional
@@ -70,7 +91,9 @@ public class SatelliteService {
         satellite.setImageUrl(details.getImageUrl());
         satellite.setReferenceUrl(details.getReferenceUrl());
 
-        return satelliteRepository.save(satellite);
+        Satellite saved = satelliteRepository.save(satellite);
+        eventPublisher.publishEvent(EntityChangedEvent.saved(DomainEntity.SATELLITE, saved.getId(), saved.getCountry()));
+        return saved;
     }
 
     // ==================== By Country ====================
@@ -97,6 +120,12 @@ public class SatelliteService {
         return satelliteRepository.findActiveSatellites();
     }
 
+    public CursorPage<Satellite> getActiveSatellitesPage(String cursor, Integer limit) {
+        Specification<Satellite> active = (root, query, cb) -> root.get("status")
+            .in(SatelliteStatus.OPERATIONAL, SatelliteStatus.PARTIALLY_OPERATIONAL);
+        return keysetPaginator.page(NEWEST_FIRST, active, cursor, limit);
+    }
+
     public Long countActiveSatellites() {
         return satelliteRepository.countActiveSatellites();
     }
@@ -111,6 +140,11 @@ public class SatelliteService {
         return satelliteRepository.findBySatelliteTypeOrderByLaunchDateDesc(type);
     }
 
+    public CursorPage<Satellite> getSatellitesByTypePage(SatelliteType type, String cursor, Integer limit) {
+        Specification<Satellite> ofType = (root, query, cb) -> cb.equal(root.get("satelliteType"), type);
+        return keysetPaginator.page(NEWEST_FIRST, ofType, cursor, limit);
+    }
+
     public List<Satellite> getSatellitesByTypes(List<SatelliteType> types) {
         return satelliteRepository.findByTypes(types);
     }
@@ -129,6 +163,15 @@ public class SatelliteService {
         return satelliteRepository.findByAltitudeRange(minAltitude, maxAltitude);
     }
 
+    public Optional<List<SatelliteOrbitIndex.ShellMate>> getSatellitesSharingShell(
+            Long satelliteId, double marginKm, Double maxInclinationDelta, Integer limit) {
+        return orbitIndex.sharingShell(satelliteId, marginKm, maxInclinationDelta, PaginationConfig.resolveLimit(limit));
+    }
+
+    public SatelliteOrbitIndex.Screening getConjunctionCandidates(double marginKm, Double maxInclinationDelta, Integer limit) {
+        return orbitIndex.conjunctionCandidates(marginKm, maxInclinationDelta, PaginationConfig.resolveLimit(limit));
+    }
+
     // ==================== By Constellation ====================
 
     public List<Satellite> getSatellitesByConstellation(String constellation) {
@@ -192,7 +235,11 @@ public class SatelliteService {
     // ==================== Search ====================
 
     public List<Satellite> searchSatellites(String query) {
-        return satelliteRepository.searchSatellites(query);
+        List<Long> ids = searchService.searchIds(SearchService.SearchType.SATELLITE, query, PaginationConfig.MAX_PAGE_SIZE);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return SearchService.inSearchOrder(ids, satelliteRepository.findByIdIn(ids), Satellite::getId);
     }
 
     // ==================== Statistics ====================
@@ -0,0 +1,259 @@
+package com.rocket.comparison.service;
+
+import com.rocket.comparison.api.dto.SearchResultDto;
+import com.rocket.comparison.config.PaginationConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Ranked, typo-tolerant search across satellites, missions, launch sites and engines.
+ *
+ * Each table carries two GIN indexes (V5 migration): a 'simple' tsvector over its
+ * searchable columns, queried with prefix terms so partial words match, and a pg_trgm
+ * index on the lower-cased name for misspellings and type-ahead completions. Query
+ * words match as word prefixes, so "link" does not find "Starlink".
+ *
+ * Production runs with Flyway disabled, so the indexes may be missing. Each query
+ * only uses the indexes that exist: without the trigram index it is full-text only,
+ * and without the full-text index it falls back to the case-insensitive substring
+ * match the search endpoints used before, which needs no index.
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class SearchService {
+
+    /** Searchable entity types, with the columns their full-text document is built from. */
+    public enum SearchType {
+        SATELLITE("satellites", "satellite", "operator",
+            "name", "alternate_name", "norad_id", "cospar_id", "operator", "constellation"),
+        MISSION("space_missions", "mission", "operator",
+            "name", "mission_designation", "alternate_name", "crew_names", "commander", "operator"),
+        LAUNCH_SITE("launch_sites", "launch_site", "region",
+            "name", "short_name", "alternate_name", "operator", "region"),
+        ENGINE("engines", "engine", "designer",
+            "name", "family", "designer", "vehicle", "origin");
+
+        private final String table;
+        private final String documentIndex;
+        private final String trigramIndex;
+        private final String subtitleColumn;
+        private final String document;
+        private final String substringMatch;
+
+        SearchType(String table, String indexPrefix, String subtitleColumn, String... columns) {
+            this.table = table;
+            this.documentIndex = "idx_" + indexPrefix + "_search_document";
+            this.trigramIndex = "idx_" + indexPrefix + "_name_trgm";
+            this.subtitleColumn = subtitleColumn;
+            this.document = Arrays.stream(columns)
+                .map(column -> "coalesce(" + column + ", '')")
+                .collect(Collectors.joining(" || ' ' || ", "to_tsvector('simple', ", ")"));
+            this.substringMatch = Arrays.stream(columns)
+                .map(column -> "lower(" + column + ") LIKE :contains")
+                .collect(Collectors.joining(" OR "));
+        }
+
+        /** The indexed tsvector expression; it must match the V5 migration exactly. */
+        String document() {
+            return document;
+        }
+
+        public static SearchType fromString(String value) {
+            String normalized = value.trim().replace('-', '_');
+            return Arrays.stream(values())
+                .filter(type -> type.name().equalsIgnoreCase(normalized))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown search type: " + value));
+        }
+    }
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_TERMS = 8;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private volatile Set<String> searchIndexes;
+
+    public SearchService(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Best matches across the given types (all types when empty), highest score first.
+     * Every word of the query matches as a prefix of an indexed word; names that are
+     * close to the whole query by trigram similarity match as well, so typos still hit.
+     */
+    public List<SearchResultDto> search(String query, Set<SearchType> types, Integer limit) {
+        return acrossTypes(types, PaginationConfig.resolveLimit(limit), (type, max) -> search(type, query, max));
+    }
+
+    /**
+     * Name completions for a partially typed query: names starting with the query first,
+     * then names containing a word similar to it.
+     */
+    public List<SearchResultDto> suggest(String query, Set<SearchType> types, Integer limit) {
+        return acrossTypes(types, PaginationConfig.resolveLimit(limit), (type, max) -> suggest(type, query, max));
+    }
+
+    /**
+     * Ids of the best matches of one type, highest score first.
+     */
+    public List<Long> searchIds(SearchType type, String query, int limit) {
+        return search(type, query, limit).stream().map(SearchResultDto::id).toList();
+    }
+
+    /**
+     * Reorders rows loaded by id into the order of {@code ids}, dropping ids that no longer exist.
+     */
+    public static <T> List<T> inSearchOrder(List<Long> ids, Collection<T> rows, Function<T, Long> idOf) {
+        Map<Long, T> byId = rows.stream().collect(Collectors.toMap(idOf, row -> row));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    private List<SearchResultDto> search(SearchType type, String query, int limit) {
+        List<String> terms = terms(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        MapSqlParameterSource params = params(query, terms, limit);
+        String sql;
+        if (!hasIndex(type.documentIndex)) {
+            sql = substringOnly(type);
+        } else if (hasIndex(type.trigramIndex)) {
+            sql = "SELECT id, name, " + type.subtitleColumn + " AS subtitle, "
+                + "ts_rank(" + type.document() + ", to_tsquery('simple', :tsquery)) + similarity(lower(name), :term) AS score "
+                + "FROM " + type.table + " "
+                + "WHERE " + type.document() + " @@ to_tsquery('simple', :tsquery) OR lower(name) % :term "
+                + "ORDER BY score DESC, id LIMIT :limit";
+        } else {
+            sql = fullTextOnly(type);
+        }
+        return jdbcTemplate.query(sql, params, (rs, rowNum) -> new SearchResultDto(
+            type, rs.getLong("id"), rs.getString("name"), rs.getString("subtitle"), rs.getDouble("score")));
+    }
+
+    private List<SearchResultDto> suggest(SearchType type, String query, int limit) {
+        List<String> terms = terms(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        MapSqlParameterSource params = params(query, terms, limit);
+        String sql;
+        if (hasIndex(type.trigramIndex)) {
+            // Both predicates are served by the trigram index
+            sql = "SELECT id, name, " + type.subtitleColumn + " AS subtitle, "
+                + "word_similarity(:term, lower(name)) + CASE WHEN lower(name) LIKE :prefix THEN 1 ELSE 0 END AS score "
+                + "FROM " + type.table + " "
+                + "WHERE lower(name) LIKE :prefix OR :term <% lower(name) "
+                + "ORDER BY score DESC, name LIMIT :limit";
+        } else if (hasIndex(type.documentIndex)) {
+            sql = fullTextOnly(type);
+        } else {
+            sql = substringOnly(type);
+        }
+        return jdbcTemplate.query(sql, params, (rs, rowNum) -> new SearchResultDto(
+            type, rs.getLong("id"), rs.getString("name"), rs.getString("subtitle"), rs.getDouble("score")));
+    }
+
+    private static MapSqlParameterSource params(String query, List<String> terms, int limit) {
+        String term = normalize(query);
+        return new MapSqlParameterSource()
+            .addValue("tsquery", prefixQuery(terms))
+            .addValue("term", term)
+            .addValue("prefix", escapeLike(term) + "%")
+            .addValue("contains", "%" + escapeLike(term) + "%")
+            .addValue("limit", limit);
+    }
+
+    /** Unindexed case-insensitive substring match over the same columns; names starting with the query rank first. */
+    private static String substringOnly(SearchType type) {
+        return "SELECT id, name, " + type.subtitleColumn + " AS subtitle, "
+            + "CASE WHEN lower(name) LIKE :prefix THEN 1.0 WHEN lower(name) LIKE :contains THEN 0.5 ELSE 0.1 END AS score "
+            + "FROM " + type.table + " "
+            + "WHERE " + type.substringMatch + " "
+            + "ORDER BY score DESC, name LIMIT :limit";
+    }
+
+    private static String fullTextOnly(SearchType type) {
+        return "SELECT id, name, " + type.subtitleColumn + " AS subtitle, "
+            + "ts_rank(" + type.document() + ", to_tsquery('simple', :tsquery)) AS score "
+            + "FROM " + type.table + " "
+            + "WHERE " + type.document() + " @@ to_tsquery('simple', :tsquery) "
+            + "ORDER BY score DESC, id LIMIT :limit";
+    }
+
+    private static List<SearchResultDto> acrossTypes(Set<SearchType> types, int limit,
+                                                     TypeQuery typeQuery) {
+        Set<SearchType> selected = types == null || types.isEmpty() ? EnumSet.allOf(SearchType.class) : types;
+        // Each type returns its own top hits; the merge keeps the overall best
+        return selected.stream()
+            .flatMap(type -> typeQuery.run(type, limit).stream())
+            .sorted(Comparator.comparingDouble(SearchResultDto::score).reversed())
+            .limit(limit)
+            .toList();
+    }
+
+    /** Whether a V5 search index exists; the lookup runs once, since migrations need a restart anyway. */
+    boolean hasIndex(String indexName) {
+        Set<String> present = searchIndexes;
+        if (present == null) {
+            List<String> expected = Arrays.stream(SearchType.values())
+                .flatMap(type -> Stream.of(type.documentIndex, type.trigramIndex))
+                .toList();
+            Set<String> found = Set.copyOf(jdbcTemplate.queryForList(
+                "SELECT indexname FROM pg_indexes WHERE indexname IN (:names)",
+                Map.of("names", expected), String.class));
+            if (found.size() < expected.size()) {
+                List<String> missing = expected.stream().filter(name -> !found.contains(name)).toList();
+                log.warn("Search indexes {} are missing (V5 migration not applied); "
+                    + "affected types fall back to unindexed matching", missing);
+            }
+            searchIndexes = found;
+            present = found;
+        }
+        return present.contains(indexName);
+    }
+
+    /**
+     * Query words, lower-cased and stripped to letters and digits so they are safe to
+     * splice into a tsquery.
+     */
+    static List<String> terms(String query) {
+        if (query == null) {
+            return List.of();
+        }
+        return NON_WORD.splitAsStream(query.toLowerCase(Locale.ROOT))
+            .filter(term -> !term.isEmpty())
+            .limit(MAX_TERMS)
+            .toList();
+    }
+
+    /** All terms must match, each as a word prefix: {@code falcon:* & 9:*}. */
+    static String prefixQuery(List<String> terms) {
+        return terms.stream().map(term -> term + ":*").collect(Collectors.joining(" & "));
+    }
+
+    private static String normalize(String query) {
+        return query.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    @FunctionalInterface
+    private interface TypeQuery {
+        List<SearchResultDto> run(SearchType type, int limit);
+    }
+}
@@ -1,11 +1,15 @@
 package com.rocket.comparison.service;
 
+import com.rocket.comparison.api.dto.CursorPage;
 import com.rocket.comparison.entity.MilestoneType;
 import com.rocket.comparison.entity.SpaceMilestone;
 import com.rocket.comparison.entity.Country;
+import com.rocket.comparison.event.DomainEntity;
+import com.rocket.comparison.event.EntityChangedEvent;
 import com.rocket.comparison.repository.SpaceMilestoneRepository;
 import com.rocket.comparison.repository.CountryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,10 +19,16 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class SpaceMilestoneService {
 
     private final SpaceMilestoneRepository milestoneRepository;
     private final CountryRepository countryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final KeysetPaginator keysetPaginator;
+
+    private static final KeysetPaginator.Keyset<SpaceMilestone> NEWEST_FIRST = KeysetPaginator.Keyset.byDateDesc(
+        SpaceMilestone.class, "dateAchieved", SpaceMilestone::getDateAchieved, SpaceMilestone::getId).fetching("country");
 
     // ==================== Basic CRUD ====================
 
@@ -26,6 +36,10 @@ public class SpaceMilestoneService {
         return milestoneRepository.findAll();
     }
 
+    public CursorPage<SpaceMilestone> getMilestonesPage(String cursor, Integer limit) {
+        return keysetPaginator.page(NEWEST_FIRST, null, cursor, limit);
+    }
+
     public Optional<SpaceMilestone> getMilestoneById(Long id) {
         return milestoneRepository.findById(id);
     }
@@ -38,12 +52,15 @@ public class SpaceMilestoneService {
                     .findByMilestoneTypeOrderByGlobalRankAsc(milestone.getMilestoneType());
             milestone.setGlobalRank(existing.size() + 1);
         }
-        return milestoneRepository.save(milestone);
+        SpaceMilestone saved = milestoneRepository.save(milestone);
+        eventPublisher.publishEvent(EntityChangedEvent.saved(DomainEntity.SPACE_MILESTONE, saved.getId(), saved.getCountry()));
+        return saved;
     }
 
     @Transactional
     public void deleteMilestone(Long id) {
         milestoneRepository.deleteById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(DomainEntity.SPACE_MILESTONE, id));
     }
 
     @Transactional
@@ -62,7 +79,9 @@ public class SpaceMilestoneService {
         milestone.setImageUrl(details.getImageUrl());
         milestone.setReferenceUrl(details.getReferenceUrl());
 
-        return milestoneRepository.save(milestone);
+        SpaceMilestone saved = milestoneRepository.save(milestone);
+        eventPublisher.publishEvent(EntityChangedEvent.saved(DomainEntity.SPACE_MILESTONE, saved.getId(), saved.getCountry()));
+        return saved;
     }
 
     // ==================== By Country ====================
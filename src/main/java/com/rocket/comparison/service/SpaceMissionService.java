@@ -1,9 +1,15 @@
 package com.rocket.comparison.service;
 
+import com.rocket.comparison.api.dto.CursorPage;
+import com.rocket.comparison.config.PaginationConfig;
 import com.rocket.comparison.entity.*;
+import com.rocket.comparison.event.DomainEntity;
+import com.rocket.comparison.event.EntityChangedEvent;
 import com.rocket.comparison.repository.CountryRepository;
 import com.rocket.comparison.repository.SpaceMissionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,10 +19,18 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class SpaceMissionService {
 
     private final SpaceMissionRepository missionRepository;
     private final CountryRepository countryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final KeysetPaginator keysetPaginator;
+    private final SearchService searchService;
+    private final MissionColumnStore missionColumnStore;
+
+    private static final KeysetPaginator.Keyset<SpaceMission> NEWEST_FIRST = KeysetPaginator.Keyset.byDateDesc(
+        SpaceMission.class, "launchDate", SpaceMission::getLaunchDate, SpaceMission::getId).fetching("country", "milestone");
 
     // ==================== Basic CRUD ====================
 
@@ -24,18 +38,25 @@ public class SpaceMissionService {
         return missionRepository.findAll();
     }
 
+    public CursorPage<SpaceMission> getMissionsPage(String cursor, Integer limit) {
+        return keysetPaginator.page(NEWEST_FIRST, null, cursor, limit);
+    }
+
     public Optional<SpaceMission> getMissionById(Long id) {
         return missionRepository.findById(id);
     }
 
     @Transactional
     public SpaceMission saveMission(SpaceMission mission) {
-        return missionRepository.save(mission);
+        SpaceMission saved = missionRepository.save(mission);
+        eventPublisher.publishEvent(EntityChangedEvent.saved(DomainEntity.SPACE_MISSION, saved.getId(), saved.getCountry()));
+        return saved;
     }
 
     @Transactional
     public void deleteMission(Long id) {
         missionRepository.deleteById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(DomainEntity.SPACE_MISSION, id));
     }
 
     @Transactional
@@ -70,7 +91,9 @@ public class SpaceMissionService {
         mission.setPatchUrl(details.getPatchUrl());
         mission.setReferenceUrl(details.getReferenceUrl());
 
-        return missionRepository.save(mission);
+        SpaceMission saved = missionRepository.save(mission);
+        eventPublisher.publishEvent(EntityChangedEvent.saved(DomainEntity.SPACE_MISSION, saved.getId(), saved.getCountry()));
+        return saved;
     }
 
     // ==================== By Country ====================
@@ -97,6 +120,12 @@ public class SpaceMissionService {
         return missionRepository.findActiveMissions();
     }
 
+    public CursorPage<SpaceMission> getActiveMissionsPage(String cursor, Integer limit) {
+        Specification<SpaceMission> active = (root, query, cb) -> root.get("status")
+            .in(MissionStatus.ACTIVE, MissionStatus.LAUNCHED);
+        return keysetPaginator.page(NEWEST_FIRST, active, cursor, limit);
+    }
+
     public List<SpaceMission> getUpcomingMissions() {
         return missionRepository.findUpcomingMissions();
     }
@@ -111,6 +140,11 @@ public class SpaceMissionService {
         return missionRepository.findByMissionTypeOrderByLaunchDateDesc(type);
     }
 
+    public CursorPage<SpaceMission> getMissionsByTypePage(MissionType type, String cursor, Integer limit) {
+        Specification<SpaceMission> ofType = (root, query, cb) -> cb.equal(root.get("missionType"), type);
+        return keysetPaginator.page(NEWEST_FIRST, ofType, cursor, limit);
+    }
+
     public List<SpaceMission> getMissionsByCategory(String category) {
         return missionRepository.findByMissionCategory(category);
     }
@@ -269,7 +303,11 @@ public class SpaceMissionService {
     // ==================== Search ====================
 
     public List<SpaceMission> searchMissions(String query) {
-        return missionRepository.searchMissions(query);
+        List<Long> ids = searchService.searchIds(SearchService.SearchType.MISSION, query, PaginationConfig.MAX_PAGE_SIZE);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return SearchService.inSearchOrder(ids, missionRepository.findByIdIn(ids), SpaceMission::getId);
     }
 
     // ==================== Records ====================
@@ -313,37 +351,36 @@ public class SpaceMissionService {
             Country country = countryRepository.findById(countryId).orElse(null);
             if (country == null) continue;
 
-            List<SpaceMission> missions = getMissionsByCountry(countryId).stream()
-                    .filter(m -> startYear == null || (m.getLaunchYear() != null && m.getLaunchYear() >= startYear))
-                    .filter(m -> endYear == null || (m.getLaunchYear() != null && m.getLaunchYear() <= endYear))
-                    .toList();
+            MissionColumnStore.CountryProfile profile = missionColumnStore.profile(countryId, startYear, endYear);
 
             Map<String, Object> data = new HashMap<>();
             data.put("countryId", countryId);
             data.put("countryName", country.getName());
             data.put("isoCode", country.getIsoCode());
-            data.put("totalMissions", missions.size());
-            data.put("crewedMissions", missions.stream().filter(m -> Boolean.TRUE.equals(m.getCrewed())).count());
-            data.put("successfulMissions", missions.stream().filter(m -> m.getStatus() == MissionStatus.COMPLETED).count());
-            data.put("failedMissions", missions.stream().filter(m -> m.getStatus() == MissionStatus.FAILED || m.getStatus() == MissionStatus.LOST).count());
-            data.put("historicFirsts", missions.stream().filter(m -> Boolean.TRUE.equals(m.getIsHistoricFirst())).count());
+            data.put("totalMissions", profile.total());
+            data.put("crewedMissions", profile.crewed());
+            data.put("successfulMissions", profile.completed());
+            data.put("failedMissions", profile.failed());
+            data.put("historicFirsts", profile.historicFirsts());
 
             // By destination category
-            Map<String, Long> byDestination = missions.stream()
-                    .filter(m -> m.getDestination() != null)
-                    .collect(Collectors.groupingBy(
-                            m -> m.getDestination().getCategory(),
-                            Collectors.counting()
-                    ));
+            Map<String, Long> byDestination = new HashMap<>();
+            Destination[] destinations = Destination.values();
+            for (int i = 0; i < destinations.length; i++) {
+                if (profile.byDestination()[i] > 0) {
+                    byDestination.merge(destinations[i].getCategory(), profile.byDestination()[i], Long::sum);
+                }
+            }
             data.put("missionsByDestinationCategory", byDestination);
 
             // By mission category
-            Map<String, Long> byMissionCategory = missions.stream()
-                    .filter(m -> m.getMissionCategory() != null)
-                    .collect(Collectors.groupingBy(
-                            SpaceMission::getMissionCategory,
-                            Collectors.counting()
-                    ));
+            Map<String, Long> byMissionCategory = new HashMap<>();
+            List<String> categories = MissionColumnStore.categories();
+            for (int i = 0; i < categories.size(); i++) {
+                if (profile.byCategory()[i] > 0) {
+                    byMissionCategory.put(categories.get(i), profile.byCategory()[i]);
+                }
+            }
             data.put("missionsByMissionCategory", byMissionCategory);
 
             countryData.add(data);
@@ -4,6 +4,7 @@ import com.rocket.comparison.entity.*;
 import com.rocket.comparison.repository.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.*;
@@ -15,6 +16,7 @@ import java.util.stream.Collectors;
  */
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class VisualizationService {
 
     private final CountryRepository countryRepository;
@@ -24,6 +26,12 @@ public class VisualizationService {
     private final SatelliteRepository satelliteRepository;
     private final LaunchSiteRepository launchSiteRepository;
     private final CapabilityScoreRepository scoreRepository;
+    private final MissionColumnStore missionColumnStore;
+    private final LaunchSiteSpatialIndex launchSiteIndex;
+
+    private static final Set<MissionStatus> ACTIVE_STATUSES = Arrays.stream(MissionStatus.values())
+            .filter(MissionStatus::isActive)
+            .collect(Collectors.toCollection(() -> EnumSet.noneOf(MissionStatus.class)));
 
     // ==================== World Map Data ====================
 
@@ -63,24 +71,33 @@ public class VisualizationService {
     }
 
     /**
-     * Get launch sites for map markers
+     * Get launch sites for map markers inside the viewport; all sites when no bounds are given
      */
-    public List<Map<String, Object>> getLaunchSiteMapData() {
-        return launchSiteRepository.findAll().stream()
-                .filter(site -> site.getLatitude() != null && site.getLongitude() != null)
+    public List<Map<String, Object>> getLaunchSiteMapData(Double south, Double west, Double north, Double east) {
+        List<LaunchSiteSpatialIndex.SiteLocation> sites;
+        if (south == null && west == null && north == null && east == null) {
+            sites = launchSiteIndex.withinBounds(-90, -180, 90, 180);
+        } else if (south == null || west == null || north == null || east == null) {
+            throw new IllegalArgumentException("Viewport needs all of south, west, north and east");
+        } else {
+            sites = launchSiteIndex.withinBounds(south, west, north, east);
+        }
+
+        return sites.stream()
+                .sorted(Comparator.comparing(LaunchSiteSpatialIndex.SiteLocation::id))
                 .map(site -> {
                     Map<String, Object> data = new HashMap<>();
-                    data.put("id", site.getId());
-                    data.put("name", site.getName());
-                    data.put("shortName", site.getShortName());
-                    data.put("latitude", site.getLatitude());
-                    data.put("longitude", site.getLongitude());
-                    data.put("country", site.getCountry().getName());
-                    data.put("countryCode", site.getCountry().getIsoCode());
-                    data.put("status", site.getStatus().getDisplayName());
-                    data.put("isActive", site.getStatus().isActive());
-                    data.put("totalLaunches", site.getTotalLaunches());
-                    data.put("humanRated", site.getHumanRatedCapable());
+                    data.put("id", site.id());
+                    data.put("name", site.name());
+                    data.put("shortName", site.shortName());
+                    data.put("latitude", site.latitude());
+                    data.put("longitude", site.longitude());
+                    data.put("country", site.country());
+                    data.put("countryCode", site.countryCode());
+                    data.put("status", site.status());
+                    data.put("isActive", site.active());
+                    data.put("totalLaunches", site.totalLaunches());
+                    data.put("humanRated", site.humanRated());
                     return data;
                 })
                 .toList();
@@ -151,46 +168,29 @@ public class VisualizationService {
         if (startYear == null) startYear = 1957;
         if (endYear == null) endYear = LocalDate.now().getYear();
 
-        List<SpaceMission> missions = missionRepository.findByYearRange(startYear, endYear);
+        MissionColumnStore.YearGrid<MissionColumnStore.CountryLabel> byCountry =
+                missionColumnStore.countByCountryAndYear(startYear, endYear);
+        MissionColumnStore.YearGrid<String> byCategory = missionColumnStore.countByCategoryAndYear(startYear, endYear);
 
         Map<String, Object> timeline = new HashMap<>();
         timeline.put("startYear", startYear);
         timeline.put("endYear", endYear);
 
         // Counts by year
-        Map<Integer, Long> countsByYear = missions.stream()
-                .filter(m -> m.getLaunchYear() != null)
-                .collect(Collectors.groupingBy(
-                        SpaceMission::getLaunchYear,
-                        TreeMap::new,
-                        Collectors.counting()
-                ));
-        timeline.put("countsByYear", countsByYear);
+        timeline.put("countsByYear", nonZeroByYear(startYear, byCountry.totals()));
 
         // By country by year (for stacked chart)
-        Map<String, Map<Integer, Long>> byCountryByYear = missions.stream()
-                .filter(m -> m.getLaunchYear() != null && m.getCountry() != null)
-                .collect(Collectors.groupingBy(
-                        m -> m.getCountry().getName(),
-                        Collectors.groupingBy(
-                                SpaceMission::getLaunchYear,
-                                TreeMap::new,
-                                Collectors.counting()
-                        )
-                ));
+        Map<String, Map<Integer, Long>> byCountryByYear = new HashMap<>();
+        for (int key : byCountry.keysByTotalDesc()) {
+            byCountryByYear.put(byCountry.keys().get(key).name(), nonZeroByYear(startYear, byCountry.counts()[key]));
+        }
         timeline.put("byCountryByYear", byCountryByYear);
 
         // By type by year
-        Map<String, Map<Integer, Long>> byTypeByYear = missions.stream()
-                .filter(m -> m.getLaunchYear() != null && m.getMissionType() != null)
-                .collect(Collectors.groupingBy(
-                        m -> m.getMissionType().getCategory(),
-                        Collectors.groupingBy(
-                                SpaceMission::getLaunchYear,
-                                TreeMap::new,
-                                Collectors.counting()
-                        )
-                ));
+        Map<String, Map<Integer, Long>> byTypeByYear = new HashMap<>();
+        for (int key : byCategory.keysByTotalDesc()) {
+            byTypeByYear.put(byCategory.keys().get(key), nonZeroByYear(startYear, byCategory.counts()[key]));
+        }
         timeline.put("byTypeByYear", byTypeByYear);
 
         return timeline;
@@ -333,7 +333,8 @@ public class VisualizationService {
         if (startYear == null) startYear = 2000;
         if (endYear == null) endYear = LocalDate.now().getYear();
 
-        List<SpaceMission> missions = missionRepository.findByYearRange(startYear, endYear);
+        MissionColumnStore.YearGrid<MissionColumnStore.CountryLabel> byCountry =
+                missionColumnStore.countByCountryAndYear(startYear, endYear);
 
         Map<String, Object> chartData = new HashMap<>();
         chartData.put("startYear", startYear);
@@ -346,26 +347,12 @@ public class VisualizationService {
         }
         chartData.put("labels", years);
 
-        // Group by country
-        Map<String, Map<Integer, Long>> byCountry = missions.stream()
-                .filter(m -> m.getLaunchYear() != null && m.getCountry() != null)
-                .collect(Collectors.groupingBy(
-                        m -> m.getCountry().getName(),
-                        Collectors.groupingBy(
-                                SpaceMission::getLaunchYear,
-                                Collectors.counting()
-                        )
-                ));
-
-        // Convert to datasets format
+        // One dataset per country, most launches first
         List<Map<String, Object>> datasets = new ArrayList<>();
-        for (Map.Entry<String, Map<Integer, Long>> entry : byCountry.entrySet()) {
+        for (int key : byCountry.keysByTotalDesc()) {
             Map<String, Object> dataset = new HashMap<>();
-            dataset.put("label", entry.getKey());
-            List<Long> data = years.stream()
-                    .map(year -> entry.getValue().getOrDefault(year, 0L))
-                    .toList();
-            dataset.put("data", data);
+            dataset.put("label", byCountry.keys().get(key).name());
+            dataset.put("data", Arrays.stream(byCountry.counts()[key]).boxed().toList());
             datasets.add(dataset);
         }
         chartData.put("datasets", datasets);
@@ -449,7 +436,7 @@ public class VisualizationService {
         // Active counts
         summary.put("activeSatellites", satelliteRepository.countActiveSatellites());
         summary.put("activeLaunchSites", launchSiteRepository.countActiveLaunchSites());
-        summary.put("activeMissions", missionRepository.findActiveMissions().size());
+        summary.put("activeMissions", missionColumnStore.countByStatus(ACTIVE_STATUSES));
 
         // Capability counts
         summary.put("countriesWithLaunchCapability", countryRepository.findByIndependentLaunchCapableTrue().size());
@@ -469,8 +456,18 @@ public class VisualizationService {
 
         // Recent activity (missions in last year)
         int currentYear = LocalDate.now().getYear();
-        summary.put("missionsThisYear", missionRepository.findByLaunchYear(currentYear).size());
+        summary.put("missionsThisYear", missionColumnStore.countInYear(currentYear));
 
         return summary;
     }
+
+    private static Map<Integer, Long> nonZeroByYear(int fromYear, long[] counts) {
+        Map<Integer, Long> byYear = new TreeMap<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                byYear.put(fromYear + i, counts[i]);
+            }
+        }
+        return byYear;
+    }
 }
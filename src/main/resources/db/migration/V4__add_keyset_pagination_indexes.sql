@@ -0,0 +1,9 @@
+-- V4__add_keyset_pagination_indexes.sql
+-- BE-001: Composite (date, id) indexes for keyset pagination on list endpoints.
+-- Pages seek on (date, id) < (:date, :id); a backward scan serves the DESC ordering.
+
+CREATE INDEX IF NOT EXISTS idx_satellite_launch_date_id ON satellites (launch_date, id);
+
+CREATE INDEX IF NOT EXISTS idx_mission_launch_date_id ON space_missions (launch_date, id);
+
+CREATE INDEX IF NOT EXISTS idx_milestone_date_id ON space_milestones (date_achieved, id);
@@ -0,0 +1,38 @@
+-- V5__add_search_indexes.sql
+-- Full-text and trigram indexes backing /api/search.
+-- The tsvector expressions must stay identical to SearchService.SearchType#document(),
+-- otherwise the planner cannot match them and falls back to sequential scans.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Full-text documents (ranked, prefix-matched search)
+
+CREATE INDEX IF NOT EXISTS idx_satellite_search_document ON satellites USING gin (
+    to_tsvector('simple', coalesce(name, '') || ' ' || coalesce(alternate_name, '') || ' ' || coalesce(norad_id, '')
+        || ' ' || coalesce(cospar_id, '') || ' ' || coalesce(operator, '') || ' ' || coalesce(constellation, ''))
+);
+
+CREATE INDEX IF NOT EXISTS idx_mission_search_document ON space_missions USING gin (
+    to_tsvector('simple', coalesce(name, '') || ' ' || coalesce(mission_designation, '') || ' ' || coalesce(alternate_name, '')
+        || ' ' || coalesce(crew_names, '') || ' ' || coalesce(commander, '') || ' ' || coalesce(operator, ''))
+);
+
+CREATE INDEX IF NOT EXISTS idx_launch_site_search_document ON launch_sites USING gin (
+    to_tsvector('simple', coalesce(name, '') || ' ' || coalesce(short_name, '') || ' ' || coalesce(alternate_name, '')
+        || ' ' || coalesce(operator, '') || ' ' || coalesce(region, ''))
+);
+
+CREATE INDEX IF NOT EXISTS idx_engine_search_document ON engines USING gin (
+    to_tsvector('simple', coalesce(name, '') || ' ' || coalesce(family, '') || ' ' || coalesce(designer, '')
+        || ' ' || coalesce(vehicle, '') || ' ' || coalesce(origin, ''))
+);
+
+-- Trigram indexes on names (typo-tolerant matches and type-ahead completions)
+
+CREATE INDEX IF NOT EXISTS idx_satellite_name_trgm ON satellites USING gin (lower(name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_mission_name_trgm ON space_missions USING gin (lower(name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_launch_site_name_trgm ON launch_sites USING gin (lower(name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_engine_name_trgm ON engines USING gin (lower(name) gin_trgm_ops);
@@ -0,0 +1,13 @@
+-- V6__add_truth_ledger_fact_snapshots.sql
+-- Last Truth Ledger facts resolved per engine, served while the ledger is slow or down
+-- and across restarts (see TruthLedgerFactStore).
+
+CREATE TABLE truth_ledger_fact_snapshots (
+    engine_id BIGINT PRIMARY KEY,
+    entity_id VARCHAR(100) NOT NULL,
+    canonical_name VARCHAR(255),
+    payload TEXT NOT NULL,
+    fetched_at TIMESTAMP NOT NULL
+);
+
+COMMENT ON TABLE truth_ledger_fact_snapshots IS 'Last resolved Truth Ledger entity facts per engine (JSON payload)';
@@ -0,0 +1,16 @@
+-- V7__add_incremental_sync_state.sql
+-- Incremental TheSpaceDevs sync: a high-water mark per sync type and the content hash of every
+-- synced item, so a steady-state sync only requests and writes what changed since the last run.
+
+-- Highest last_updated seen by a successful sync; the next run requests last_updated >= this
+ALTER TABLE sync_status ADD COLUMN high_water_mark TIMESTAMP WITH TIME ZONE;
+
+CREATE TABLE sync_content_hashes (
+    source VARCHAR(50) NOT NULL,
+    external_id VARCHAR(255) NOT NULL,
+    content_hash VARCHAR(64) NOT NULL,
+    synced_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (source, external_id)
+);
+
+COMMENT ON TABLE sync_content_hashes IS 'SHA-256 of the last synced payload per external item, used to skip unchanged items';
@@ -0,0 +1,12 @@
+-- V8__add_lower_name_indexes.sql
+-- Expression indexes for the case-insensitive natural-key lookups of chunked syncs.
+-- Truth Ledger and TheSpaceDevs syncs resolve each chunk with lower(name) IN (...); the
+-- (name, country_id) indexes from V2 cannot serve that expression.
+
+CREATE INDEX IF NOT EXISTS idx_engine_lower_name ON engines (lower(name));
+
+CREATE INDEX IF NOT EXISTS idx_launch_vehicle_lower_name ON launch_vehicles (lower(name));
+
+CREATE INDEX IF NOT EXISTS idx_launch_site_lower_name ON launch_sites (lower(name));
+
+CREATE INDEX IF NOT EXISTS idx_mission_lower_name ON space_missions (lower(name));
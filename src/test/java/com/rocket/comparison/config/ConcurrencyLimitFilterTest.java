@@ -0,0 +1,92 @@
+package com.rocket.comparison.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ConcurrencyLimitFilter(true, 1, Duration.ofMillis(10), Duration.ofSeconds(2), meterRegistry);
+    }
+
+    @Test
+    void shouldRejectWith429WhenNoPermitIsAvailable() throws Exception {
+        AtomicReference<MockHttpServletResponse> nested = new AtomicReference<>();
+
+        // The outer request holds the only permit while a second request arrives
+        MockFilterChain holdingChain = new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest request, jakarta.servlet.ServletResponse response) {
+                MockHttpServletResponse second = new MockHttpServletResponse();
+                try {
+                    filter.doFilter(apiRequest(), second, new MockFilterChain());
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                nested.set(second);
+            }
+        };
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(apiRequest(), first, holdingChain);
+
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(nested.get().getStatus()).isEqualTo(429);
+        assertThat(nested.get().getHeader("Retry-After")).isEqualTo("2");
+        assertThat(meterRegistry.get("http.server.requests.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldReleasePermitAfterRequestCompletes() throws Exception {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        filter.doFilter(apiRequest(), first, new MockFilterChain());
+        filter.doFilter(apiRequest(), second, new MockFilterChain());
+
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(second.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("http.server.requests.in.flight").gauge().value()).isZero();
+    }
+
+    @Test
+    void shouldNotLimitNonApiRequests() throws Exception {
+        MockHttpServletRequest actuator = new MockHttpServletRequest("GET", "/actuator/health");
+        AtomicReference<MockHttpServletResponse> nested = new AtomicReference<>();
+
+        MockFilterChain holdingChain = new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest request, jakarta.servlet.ServletResponse response) {
+                MockHttpServletResponse health = new MockHttpServletResponse();
+                try {
+                    filter.doFilter(actuator, health, new MockFilterChain());
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                nested.set(health);
+            }
+        };
+
+        filter.doFilter(apiRequest(), new MockHttpServletResponse(), holdingChain);
+
+        assertThat(nested.get().getStatus()).isEqualTo(200);
+    }
+
+    private MockHttpServletRequest apiRequest() {
+        return new MockHttpServletRequest("GET", "/api/engines");
+    }
+}
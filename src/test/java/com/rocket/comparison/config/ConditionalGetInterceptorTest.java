@@ -0,0 +1,77 @@
+package com.rocket.comparison.config;
+
+import com.rocket.comparison.event.DataVersion;
+import com.rocket.comparison.event.DomainEntity;
+import com.rocket.comparison.event.EntityChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConditionalGetInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DataVersion dataVersion;
+    private ConditionalGetInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dataVersion = new DataVersion();
+        interceptor = new ConditionalGetInterceptor(dataVersion, true, List.of("/api/sync/**"), meterRegistry);
+    }
+
+    @Test
+    void shouldAnswer304BeforeTheHandlerWhileTheDataVersionIsUnchanged() {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(get(null), first, null)).isTrue();
+        String etag = first.getHeader("ETag");
+        assertThat(etag).startsWith("\"").endsWith("\"");
+        assertThat(first.getHeader("Last-Modified")).isNotNull();
+        assertThat(first.getHeader("Cache-Control")).isEqualTo("no-cache");
+
+        MockHttpServletResponse revalidated = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(get(etag), revalidated, null)).isFalse();
+        assertThat(revalidated.getStatus()).isEqualTo(304);
+        assertThat(meterRegistry.get("http.server.requests.not.modified").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldServeFreshContentAfterAnEntityChange() {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        interceptor.preHandle(get(null), first, null);
+        String etag = first.getHeader("ETag");
+
+        dataVersion.onEntityChanged(EntityChangedEvent.bulk(DomainEntity.SPACE_MISSION));
+
+        MockHttpServletResponse afterWrite = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(get(etag), afterWrite, null)).isTrue();
+        assertThat(afterWrite.getStatus()).isEqualTo(200);
+        assertThat(afterWrite.getHeader("ETag")).isNotEqualTo(etag);
+        assertThat(dataVersion.version()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldIgnoreWrites() {
+        MockHttpServletRequest post = new MockHttpServletRequest("POST", "/api/countries");
+        post.addHeader("If-None-Match", dataVersion.etag());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(post, response, null)).isTrue();
+        assertThat(response.getHeader("ETag")).isNull();
+        assertThat(interceptor.getExcludedPaths()).containsExactly("/api/sync/**");
+    }
+
+    private static MockHttpServletRequest get(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/visualization/dashboard");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,67 @@
+package com.rocket.comparison.config;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rocket.comparison.config.LazyAssociationGuardConfig.Mode;
+import jakarta.persistence.Entity;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LazyAssociationGuardConfigTest {
+
+    @Entity
+    static class Launch {
+        private final Object country;
+
+        Launch(Object country) {
+            this.country = country;
+        }
+
+        public Object getCountry() {
+            return country;
+        }
+
+        public String getName() {
+            return "Apollo 11";
+        }
+    }
+
+    @Test
+    void failMode_shouldNameTheUnfetchedAssociation() {
+        assertThatThrownBy(() -> mapper(Mode.FAIL).writeValueAsString(new Launch(detachedProxy())))
+            .isInstanceOf(JsonMappingException.class)
+            .hasMessageContaining("Launch.country");
+    }
+
+    @Test
+    void omitMode_shouldWriteNullForTheUnfetchedAssociation() throws Exception {
+        String json = mapper(Mode.OMIT).writeValueAsString(new Launch(detachedProxy()));
+
+        assertThat(json).contains("\"country\":null", "\"name\":\"Apollo 11\"");
+    }
+
+    @Test
+    void loadedValues_shouldSerializeUnchanged() throws Exception {
+        String json = mapper(Mode.FAIL).writeValueAsString(new Launch("USA"));
+
+        assertThat(json).contains("\"country\":\"USA\"");
+    }
+
+    private static ObjectMapper mapper(Mode mode) {
+        return new ObjectMapper().registerModule(new LazyAssociationGuardConfig().lazyAssociationGuardModule(mode));
+    }
+
+    private static HibernateProxy detachedProxy() {
+        HibernateProxy proxy = mock(HibernateProxy.class);
+        LazyInitializer initializer = mock(LazyInitializer.class);
+        when(proxy.getHibernateLazyInitializer()).thenReturn(initializer);
+        when(initializer.isUninitialized()).thenReturn(true);
+        return proxy;
+    }
+}
@@ -0,0 +1,42 @@
+package com.rocket.comparison.config;
+
+import com.rocket.comparison.config.PaginationConfig.Cursor;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PaginationConfigTest {
+
+    @Test
+    void cursor_shouldRoundTripWithAndWithoutDate() {
+        Cursor dated = new Cursor(LocalDate.of(1969, 7, 16), 42L);
+        Cursor undated = new Cursor(null, 7L);
+
+        assertThat(Cursor.decode(dated.encode())).isEqualTo(dated);
+        assertThat(Cursor.decode(undated.encode())).isEqualTo(undated);
+        assertThat(dated.encode()).doesNotContain("=", "+", "/", "|");
+    }
+
+    @Test
+    void cursor_shouldTreatBlankAsFirstPageAndRejectGarbage() {
+        assertThat(Cursor.decode(null)).isNull();
+        assertThat(Cursor.decode("  ")).isNull();
+
+        assertThatThrownBy(() -> Cursor.decode("not a cursor!"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Invalid cursor");
+        assertThatThrownBy(() -> Cursor.decode("bm8tc2VwYXJhdG9y"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void resolveLimit_shouldDefaultAndClamp() {
+        assertThat(PaginationConfig.resolveLimit(null)).isEqualTo(PaginationConfig.DEFAULT_PAGE_SIZE);
+        assertThat(PaginationConfig.resolveLimit(0)).isEqualTo(PaginationConfig.DEFAULT_PAGE_SIZE);
+        assertThat(PaginationConfig.resolveLimit(50)).isEqualTo(50);
+        assertThat(PaginationConfig.resolveLimit(10_000)).isEqualTo(PaginationConfig.MAX_PAGE_SIZE);
+    }
+}
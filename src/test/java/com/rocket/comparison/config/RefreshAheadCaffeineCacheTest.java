@@ -0,0 +1,299 @@
+package com.rocket.comparison.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.rocket.comparison.config.RefreshAheadCaffeineCache.CachedInvocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class RefreshAheadCaffeineCacheTest {
+
+    private static final Duration REFRESH_AFTER = Duration.ofMinutes(1);
+    private static final Method VERSION = ReflectionUtils.findMethod(Versions.class, "version", String.class);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Versions versions = new Versions();
+
+    private Map<Object, CachedInvocation> invocations;
+    private RefreshAheadCaffeineCache cache;
+
+    @BeforeEach
+    void setUp() {
+        invocations = RefreshAheadCaffeineCache.newInvocationRegistry();
+        // Fake clock and same-thread executor make refreshes deterministic
+        LoadingCache<Object, Object> caffeine = Caffeine.newBuilder()
+            .ticker(nanos::get)
+            .executor(Runnable::run)
+            .refreshAfterWrite(REFRESH_AFTER)
+            .build(new RefreshAheadCaffeineCache.InvocationReplayer("test", invocations, type -> versions));
+        cache = new RefreshAheadCaffeineCache("test", caffeine, invocations);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestWorkload.end();
+    }
+
+    @Test
+    void get_shouldRecordAMissForTheLoadAndHitsAfterwards() {
+        RequestWorkload.begin();
+
+        assertThat(read("key")).isEqualTo("v1");
+        assertThat(read("key")).isEqualTo("v1");
+        assertThat(cache.get("key")).isNotNull();
+        assertThat(cache.get("absent")).isNull();
+
+        RequestWorkload.Snapshot workload = RequestWorkload.current();
+        assertThat(workload.cacheHits()).isEqualTo(2);
+        assertThat(workload.cacheMisses()).isEqualTo(2);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void refreshAfterWrite_shouldRepeatTheRememberedInvocation() {
+        read("key");
+        nanos.addAndGet(REFRESH_AFTER.plusSeconds(1).toNanos());
+
+        // The stale read is served while the refresh runs; the next read sees its result
+        assertThat(read("key")).isEqualTo("v1");
+        assertThat(read("key")).isEqualTo("v2");
+
+        assertThat(loads).hasValue(2);
+        assertThat(versions.calls).hasValue(1);
+    }
+
+    @Test
+    void refreshAfterWrite_withoutARememberedInvocation_shouldKeepTheCurrentValue() {
+        cache.put("key", "stored");
+        nanos.addAndGet(REFRESH_AFTER.plusSeconds(1).toNanos());
+
+        assertThat(cache.get("key").get()).isEqualTo("stored");
+        assertThat(cache.get("key").get()).isEqualTo("stored");
+
+        assertThat(versions.calls).hasValue(0);
+    }
+
+    @Test
+    void evictForRewarm_shouldKeepTheInvocationSoRewarmRecomputesTheEntry() {
+        read("key");
+
+        assertThat(cache.evictForRewarm("key")).isTrue();
+        assertThat(cache.getNativeCache().getIfPresent("key")).isNull();
+        assertThat(invocations).containsKey("key");
+
+        cache.rewarm("key");
+
+        assertThat(cache.getNativeCache().getIfPresent("key")).isEqualTo("v2");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void evictForRewarm_withoutARememberedInvocation_shouldNotRewarm() {
+        cache.put("key", "stored");
+
+        assertThat(cache.evictForRewarm("key")).isFalse();
+        cache.rewarm("key");
+
+        assertThat(cache.getNativeCache().getIfPresent("key")).isNull();
+        assertThat(versions.calls).hasValue(0);
+    }
+
+    @Test
+    void rewarm_whenTheRepeatedCallFails_shouldLeaveTheEntryEmpty() {
+        read("key");
+        cache.evictForRewarm("key");
+        versions.failure = new IllegalStateException("Truth Ledger unavailable");
+
+        cache.rewarm("key");
+
+        assertThat(cache.getNativeCache().getIfPresent("key")).isNull();
+        assertThat(versions.calls).hasValue(1);
+    }
+
+    @Test
+    void evictAndClear_shouldDropTheRememberedInvocations() {
+        read("first");
+        read("second");
+
+        cache.evict("first");
+        assertThat(invocations).containsOnlyKeys("second");
+
+        cache.clear();
+        assertThat(invocations).isEmpty();
+
+        cache.rewarm("second");
+        assertThat(cache.getNativeCache().getIfPresent("second")).isNull();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sizeEviction_shouldDropTheInvocationOfTheEvictedEntry() {
+        CachePolicyProperties properties = new CachePolicyProperties();
+        properties.getDefaults().setMaximumSize(1L);
+        SimpleCacheManager cacheManager = (SimpleCacheManager) new CacheConfig().cacheManager(properties, mock(BeanFactory.class));
+        cacheManager.afterPropertiesSet();
+        RefreshAheadCaffeineCache sized = (RefreshAheadCaffeineCache) cacheManager.getCache(CacheConfig.ANALYTICS_CACHE);
+        Map<Object, CachedInvocation> sizedInvocations =
+            (Map<Object, CachedInvocation>) ReflectionTestUtils.getField(sized, "invocations");
+
+        for (String key : List.of("first", "second", "third")) {
+            sized.forInvocation(invocationOf(key)).get(key, this::nextVersion);
+        }
+        sized.getNativeCache().cleanUp();
+
+        assertThat(sized.getNativeCache().asMap()).hasSize(1);
+        assertThat(sizedInvocations.keySet()).isEqualTo(sized.getNativeCache().asMap().keySet());
+    }
+
+    @Test
+    void refreshAfterWrite_shouldRunTheRepeatedCallThroughTheBeansInterceptors() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(ProxiedConfig.class)) {
+            VersionedService service = context.getBean(VersionedService.class);
+            AtomicLong clock = context.getBean(AtomicLong.class);
+
+            assertThat(service.version("a")).isEqualTo("a-v1");
+            clock.addAndGet(REFRESH_AFTER.plusSeconds(1).toNanos());
+            assertThat(service.version("a")).isEqualTo("a-v1");
+            assertThat(service.version("a")).isEqualTo("a-v2");
+
+            // The refresh ran the method once more, inside its own read-only transaction
+            assertThat(service.readOnlyTransactions).containsExactly(true, true);
+        }
+    }
+
+    private String read(String key) {
+        return cache.forInvocation(invocationOf(key)).get(key, this::nextVersion);
+    }
+
+    private static CachedInvocation invocationOf(String key) {
+        return new CachedInvocation(Versions.class, VERSION, new Object[]{key});
+    }
+
+    private String nextVersion() {
+        return "v" + loads.incrementAndGet();
+    }
+
+    /** Stands in for a proxied bean: like the cache interceptor, it loads through the cache. */
+    public class Versions {
+
+        final AtomicInteger calls = new AtomicInteger();
+        RuntimeException failure;
+
+        public String version(String key) {
+            calls.incrementAndGet();
+            return cache.get(key, () -> {
+                if (failure != null) {
+                    throw failure;
+                }
+                return nextVersion();
+            });
+        }
+    }
+
+    public static class VersionedService {
+
+        final List<Boolean> readOnlyTransactions = new CopyOnWriteArrayList<>();
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Cacheable(value = "test", key = "#name", sync = true)
+        @Transactional(readOnly = true)
+        public String version(String name) {
+            readOnlyTransactions.add(TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            return name + "-v" + calls.incrementAndGet();
+        }
+    }
+
+    @Configuration
+    @EnableCaching
+    @EnableTransactionManagement
+    static class ProxiedConfig {
+
+        @Bean
+        AtomicLong clock() {
+            return new AtomicLong();
+        }
+
+        @Bean
+        CacheManager cacheManager(AtomicLong clock, BeanFactory beanFactory) {
+            Map<Object, CachedInvocation> invocations = RefreshAheadCaffeineCache.newInvocationRegistry();
+            LoadingCache<Object, Object> caffeine = Caffeine.newBuilder()
+                .ticker(clock::get)
+                .executor(Runnable::run)
+                .refreshAfterWrite(REFRESH_AFTER)
+                .build(new RefreshAheadCaffeineCache.InvocationReplayer("test", invocations, beanFactory::getBean));
+            SimpleCacheManager cacheManager = new SimpleCacheManager();
+            cacheManager.setCaches(List.of(new RefreshAheadCaffeineCache("test", caffeine, invocations)));
+            return cacheManager;
+        }
+
+        @Bean
+        CachingConfigurer cachingConfigurer(ObjectProvider<CacheManager> cacheManager) {
+            return new CacheConfig().refreshAheadCachingConfigurer(cacheManager);
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new NoOpTransactionManager();
+        }
+
+        @Bean
+        VersionedService versionedService() {
+            return new VersionedService();
+        }
+    }
+
+    /** Tracks transaction state on the thread without a resource behind it. */
+    static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
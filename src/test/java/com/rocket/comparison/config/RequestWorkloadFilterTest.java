@@ -0,0 +1,123 @@
+package com.rocket.comparison.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestWorkloadFilterTest {
+
+    static class StatisticsController {
+        public void getCountryStatistics() {
+        }
+    }
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestWorkloadProperties properties = new RequestWorkloadProperties();
+
+    @Test
+    void doFilter_shouldPublishTheRequestWorkloadPerHandler() throws Exception {
+        filter().doFilter(request("/api/statistics/countries"), new MockHttpServletResponse(), issuing(12, 30));
+
+        assertThat(meterRegistry.get("http.server.requests.jdbc.statements")
+            .tag("handler", "StatisticsController.getCountryStatistics").summary().totalAmount()).isEqualTo(12.0);
+        assertThat(meterRegistry.get("http.server.requests.entity.loads")
+            .tag("handler", "StatisticsController.getCountryStatistics").summary().totalAmount()).isEqualTo(30.0);
+        assertThat(meterRegistry.get("http.server.requests.cache.gets")
+            .tags("handler", "StatisticsController.getCountryStatistics", "result", "miss").summary().totalAmount())
+            .isEqualTo(1.0);
+        assertThat(RequestWorkload.current()).isNull();
+    }
+
+    @Test
+    void doFilter_shouldFailRequestsOverTheirStatementBudgetWhenEnforcing() {
+        properties.setEnforce(true);
+        properties.getStatementBudgets().put("StatisticsController.getCountryStatistics", 5);
+
+        assertThatThrownBy(() -> filter().doFilter(request("/api/statistics/countries"), new MockHttpServletResponse(),
+            issuing(6, 0)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("StatisticsController.getCountryStatistics prepared 6 SQL statements, budget is 5");
+    }
+
+    @Test
+    void doFilter_whenEnforcing_shouldFailBeforeTheBodyReachesTheClient() {
+        properties.setEnforce(true);
+        properties.getStatementBudgets().put("StatisticsController.getCountryStatistics", 5);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThatThrownBy(() -> filter().doFilter(request("/api/statistics/countries"), response,
+            writing("{\"countries\":[]}", 6)))
+            .isInstanceOf(IllegalStateException.class);
+
+        assertThat(response.isCommitted()).isFalse();
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void doFilter_whenEnforcingWithinBudget_shouldPassTheBodyThrough() throws Exception {
+        properties.setEnforce(true);
+        properties.getStatementBudgets().put("StatisticsController.getCountryStatistics", 5);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter().doFilter(request("/api/statistics/countries"), response, writing("{\"countries\":[]}", 5));
+
+        assertThat(response.getContentAsString()).isEqualTo("{\"countries\":[]}");
+        assertThat(response.getContentLength()).isEqualTo(16);
+    }
+
+    @Test
+    void doFilter_shouldIgnoreRequestsOutsideTheApi() throws Exception {
+        properties.setEnforce(true);
+        properties.setMaxStatements(0);
+
+        filter().doFilter(request("/actuator/health"), new MockHttpServletResponse(), issuing(3, 0));
+
+        assertThat(meterRegistry.find("http.server.requests.jdbc.statements").summary()).isNull();
+    }
+
+    private RequestWorkloadFilter filter() {
+        return new RequestWorkloadFilter(properties, meterRegistry);
+    }
+
+    private static MockHttpServletRequest request(String uri) throws NoSuchMethodException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+            new HandlerMethod(new StatisticsController(), StatisticsController.class.getMethod("getCountryStatistics")));
+        return request;
+    }
+
+    /**
+     * A chain that behaves like a controller preparing {@code statements} statements and then writing {@code body}.
+     */
+    private static FilterChain writing(String body, int statements) {
+        return (request, response) -> {
+            for (int i = 0; i < statements; i++) {
+                RequestWorkload.statementPrepared();
+            }
+            response.getWriter().write(body);
+            response.flushBuffer();
+        };
+    }
+
+    /**
+     * A chain that behaves like a handler preparing {@code statements} statements and loading {@code entities} entities.
+     */
+    private static FilterChain issuing(int statements, int entities) {
+        return (request, response) -> {
+            for (int i = 0; i < statements; i++) {
+                RequestWorkload.statementPrepared();
+            }
+            for (int i = 0; i < entities; i++) {
+                RequestWorkload.entityLoaded();
+            }
+            RequestWorkload.cacheMiss();
+        };
+    }
+}
@@ -0,0 +1,98 @@
+package com.rocket.comparison.config;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestClientConfigTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final List<String> acceptEncodings = new CopyOnWriteArrayList<>();
+
+    private HttpServer server;
+    private CloseableHttpClient httpClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/facts", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            acceptEncodings.add(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+            byte[] body = gzip("{\"claimKey\":\"engines.isp_s\"}");
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+
+        OutboundHttpProperties.Client policy = new OutboundHttpProperties.Client();
+        policy.setMaxConnections(6);
+        policy.setMaxConnectionsPerRoute(3);
+        httpClient = RestClientConfig.pooledHttpClient("truthledger", policy, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    void pooledHttpClient_shouldReuseConnectionsAndDecodeGzipResponses() {
+        RestTemplate restTemplate = new RestClientConfig().truthLedgerRestTemplate(new RestTemplateBuilder(), httpClient);
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/facts";
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(restTemplate.getForObject(url, String.class)).isEqualTo("{\"claimKey\":\"engines.isp_s\"}");
+        }
+
+        assertThat(clientPorts).hasSize(1);
+        assertThat(acceptEncodings).allSatisfy(encoding -> assertThat(encoding).contains("gzip"));
+    }
+
+    @Test
+    void pooledHttpClient_shouldExportPoolMetricsTaggedByClient() {
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+            .tag("httpclient", "truthledger").gauge().value()).isEqualTo(6.0);
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.route.max.default")
+            .tag("httpclient", "truthledger").gauge().value()).isEqualTo(3.0);
+    }
+
+    @Test
+    void clientFor_shouldFallBackToDefaults() {
+        OutboundHttpProperties properties = new OutboundHttpProperties();
+        OutboundHttpProperties.Client spaceDevs = new OutboundHttpProperties.Client();
+        properties.getClients().put(RestClientConfig.SPACE_DEVS, spaceDevs);
+
+        assertThat(properties.clientFor(RestClientConfig.SPACE_DEVS)).isSameAs(spaceDevs);
+        assertThat(properties.clientFor(RestClientConfig.TRUTH_LEDGER)).isSameAs(properties.getDefaults());
+    }
+
+    private static byte[] gzip(String body) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
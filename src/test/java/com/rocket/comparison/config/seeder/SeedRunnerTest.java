@@ -0,0 +1,130 @@
+package com.rocket.comparison.config.seeder;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SeedRunnerTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final List<String> events = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void run_shouldSeedDependenciesFirstAndIndependentSeedersInParallel() {
+        // Both dependents wait for each other, so the run only completes if they overlap
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Root root = new Root();
+        Dependent satellites = new Dependent("satellites", bothStarted);
+        OtherDependent sites = new OtherDependent("launch sites", bothStarted);
+
+        Map<String, Duration> timings = new SeedRunner(List.of(sites, satellites, root), executor).run(this::seed);
+
+        assertThat(events.get(0)).isEqualTo("countries");
+        assertThat(events).containsExactlyInAnyOrder("countries", "satellites", "launch sites");
+        assertThat(timings).containsOnlyKeys("countries", "satellites", "launch sites");
+    }
+
+    @Test
+    void run_shouldSkipDependentsOfAFailedSeederAndFail() {
+        Root root = new Root();
+        Dependent satellites = new Dependent("satellites", new CountDownLatch(0));
+
+        assertThatThrownBy(() -> new SeedRunner(List.of(root, satellites), executor).run(seeder -> {
+            if (seeder == root) {
+                throw new IllegalArgumentException("duplicate key");
+            }
+            seed(seeder);
+        }))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("duplicate key");
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void run_shouldRejectUnknownDependencies() {
+        Dependent satellites = new Dependent("satellites", new CountDownLatch(0));
+
+        assertThatThrownBy(() -> new SeedRunner(List.of(satellites), executor).run(this::seed))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Unknown seeder dependency Root");
+    }
+
+    private void seed(EntitySeeder seeder) {
+        seeder.seedIfEmpty();
+        events.add(seeder.getEntityName());
+    }
+
+    private static class Root implements EntitySeeder {
+        @Override
+        public void seedIfEmpty() {
+        }
+
+        @Override
+        public String getEntityName() {
+            return "countries";
+        }
+
+        @Override
+        public long count() {
+            return 0;
+        }
+    }
+
+    private static class Dependent implements EntitySeeder {
+        private final String name;
+        private final CountDownLatch bothStarted;
+
+        Dependent(String name, CountDownLatch bothStarted) {
+            this.name = name;
+            this.bothStarted = bothStarted;
+        }
+
+        @Override
+        public void seedIfEmpty() {
+            bothStarted.countDown();
+            try {
+                assertThat(bothStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public String getEntityName() {
+            return name;
+        }
+
+        @Override
+        public long count() {
+            return 0;
+        }
+
+        @Override
+        public Set<Class<? extends EntitySeeder>> dependsOn() {
+            return Set.of(Root.class);
+        }
+    }
+
+    private static class OtherDependent extends Dependent {
+        OtherDependent(String name, CountDownLatch bothStarted) {
+            super(name, bothStarted);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.rocket.comparison.controller;
+
+import com.rocket.comparison.BaseIntegrationTest;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * A saturated Resilience4j bulkhead must surface as 429 with Retry-After, not as an empty
+ * result from the circuit breaker fallback.
+ */
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "resilience4j.bulkhead.instances.spacedevs.max-wait-duration=0")
+class BulkheadBackpressureIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+
+    @Test
+    void syncWithSaturatedSpaceDevsBulkhead_shouldReturn429WithRetryAfter() throws Exception {
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead("spacedevs");
+        int held = 0;
+        try {
+            // Occupy every permit, as concurrent in-flight calls would
+            while (bulkhead.tryAcquirePermission()) {
+                held++;
+            }
+            assertThat(held).isEqualTo(bulkhead.getBulkheadConfig().getMaxConcurrentCalls());
+
+            mockMvc.perform(post("/api/sync/launch-sites").param("limit", "10"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.status").value(429));
+        } finally {
+            for (int i = 0; i < held; i++) {
+                bulkhead.onComplete();
+            }
+        }
+    }
+}
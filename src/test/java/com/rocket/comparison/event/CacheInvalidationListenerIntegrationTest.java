@@ -0,0 +1,108 @@
+package com.rocket.comparison.event;
+
+import com.rocket.comparison.BaseIntegrationTest;
+import com.rocket.comparison.entity.Engine;
+import com.rocket.comparison.repository.EngineRepository;
+import com.rocket.comparison.service.EngineService;
+import com.rocket.comparison.service.GlobalStatisticsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import static com.rocket.comparison.config.CacheConfig.STATISTICS_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Drives {@link CacheInvalidationListener} through real transactions. The re-warm executor
+ * is replaced by a mock so the test can look at the cache between eviction and re-warm.
+ */
+class CacheInvalidationListenerIntegrationTest extends BaseIntegrationTest {
+
+    private static final String ENGINE_STATS = "getEngineTechnologyStats";
+    private static final String MISSION_STATS = "getMissionStats";
+    private static final String TEST_PROPELLANT = "Cache test propellant";
+
+    @MockitoBean(name = "cacheWarmExecutor")
+    private Executor cacheWarmExecutor;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private GlobalStatisticsService statisticsService;
+
+    @Autowired
+    private EngineService engineService;
+
+    @Autowired
+    private EngineRepository engineRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Cache statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = cacheManager.getCache(STATISTICS_CACHE);
+        statistics.clear();
+        statisticsService.getEngineTechnologyStats();
+        statisticsService.getMissionStats();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void committedEngineWrite_shouldEvictDependentEntriesAndRewarmThem() {
+        Engine saved = engineService.saveEngine(engine());
+        try {
+            // Committed: the engine entry is gone, unrelated entries stay
+            assertThat(statistics.get(ENGINE_STATS)).isNull();
+            assertThat(statistics.get(MISSION_STATS)).isNotNull();
+
+            ArgumentCaptor<Runnable> rewarms = ArgumentCaptor.forClass(Runnable.class);
+            verify(cacheWarmExecutor, atLeastOnce()).execute(rewarms.capture());
+            rewarms.getAllValues().forEach(Runnable::run);
+
+            Map<String, Object> rewarmed = (Map<String, Object>) statistics.get(ENGINE_STATS).get();
+            assertThat((Map<String, Long>) rewarmed.get("byPropellantType")).containsEntry(TEST_PROPELLANT, 1L);
+        } finally {
+            engineRepository.deleteById(saved.getId());
+        }
+    }
+
+    @Test
+    void rolledBackEngineWrite_shouldLeaveTheCacheAlone() {
+        Object cached = statistics.get(ENGINE_STATS).get();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Engine saved = engineRepository.save(engine());
+            eventPublisher.publishEvent(EntityChangedEvent.saved(DomainEntity.ENGINE, saved.getId(), null));
+            status.setRollbackOnly();
+        });
+
+        assertThat(statistics.get(ENGINE_STATS).get()).isSameAs(cached);
+        verify(cacheWarmExecutor, never()).execute(any());
+    }
+
+    private static Engine engine() {
+        Engine engine = new Engine();
+        engine.setName("Cache Test Engine");
+        engine.setPropellant(TEST_PROPELLANT);
+        return engine;
+    }
+}
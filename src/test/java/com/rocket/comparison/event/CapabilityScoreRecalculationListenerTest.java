@@ -0,0 +1,54 @@
+package com.rocket.comparison.event;
+
+import com.rocket.comparison.entity.CapabilityCategory;
+import com.rocket.comparison.service.CapabilityScoreService;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.mockito.Mockito.*;
+
+class CapabilityScoreRecalculationListenerTest {
+
+    private static final Set<CapabilityCategory> ENGINE_CATEGORIES =
+        CapabilityScoreService.categoriesAffectedBy(DomainEntity.ENGINE);
+
+    private final CapabilityScoreService scoreService = mock(CapabilityScoreService.class);
+    // Same-thread executor so each event's recalculations have run when onEntityChanged returns
+    private final CapabilityScoreRecalculationListener listener =
+        new CapabilityScoreRecalculationListener(scoreService, Runnable::run, true);
+
+    @Test
+    void engineSaved_shouldRecalculateOnlyItsCountry() {
+        listener.onEntityChanged(new EntityChangedEvent(
+            DomainEntity.ENGINE, EntityChangedEvent.ChangeType.SAVED, 10L, 1L, null));
+
+        verify(scoreService).recalculateCategories(1L, ENGINE_CATEGORIES);
+        verifyNoMoreInteractions(scoreService);
+    }
+
+    @Test
+    void engineMovedToAnotherCountry_shouldRecalculateBothCountries() {
+        listener.onEntityChanged(new EntityChangedEvent(
+            DomainEntity.ENGINE, EntityChangedEvent.ChangeType.SAVED, 10L, 2L, 1L));
+
+        verify(scoreService).recalculateCategories(2L, ENGINE_CATEGORIES);
+        verify(scoreService).recalculateCategories(1L, ENGINE_CATEGORIES);
+        verifyNoMoreInteractions(scoreService);
+    }
+
+    @Test
+    void engineWithoutCountry_shouldFallBackToAFullRecalculation() {
+        listener.onEntityChanged(EntityChangedEvent.deleted(DomainEntity.ENGINE, 10L));
+
+        verify(scoreService).calculateAllScores();
+        verifyNoMoreInteractions(scoreService);
+    }
+
+    @Test
+    void scoreWrites_shouldNotTriggerAnotherRecalculation() {
+        listener.onEntityChanged(EntityChangedEvent.bulk(DomainEntity.CAPABILITY_SCORE));
+
+        verifyNoInteractions(scoreService);
+    }
+}
@@ -0,0 +1,107 @@
+package com.rocket.comparison.integration.spacedevs;
+
+import com.rocket.comparison.integration.spacedevs.dto.LaunchDto;
+import com.rocket.comparison.integration.spacedevs.dto.PadDto;
+import com.rocket.comparison.integration.spacedevs.dto.SpaceDevsPageResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SpaceDevsPagedFetcherTest {
+
+    @Mock
+    private SpaceDevsApiClient apiClient;
+
+    private SpaceDevsPagedFetcher fetcher;
+
+    @BeforeEach
+    void setUp() {
+        fetcher = new SpaceDevsPagedFetcher(apiClient, Runnable::run);
+        ReflectionTestUtils.setField(fetcher, "pageSize", 2);
+    }
+
+    @Test
+    void fetchPads_shouldFollowNextLinkOffsetsUntilLimit() {
+        stubPage(0, page(5, "https://api.test/pad/?limit=2&offset=2", 0, 1));
+        stubPage(2, page(5, "https://api.test/pad/?limit=2&offset=4", 2, 3));
+        stubPage(4, page(5, null, 4));
+
+        List<PadDto> pads = new ArrayList<>();
+        int delivered = fetcher.fetchPads(10, pads::addAll);
+
+        assertThat(delivered).isEqualTo(5);
+        assertThat(pads).extracting(PadDto::getId).containsExactlyInAnyOrder(0, 1, 2, 3, 4);
+        verify(apiClient, times(3)).fetchPage(any(), eq(SpaceDevsApiClient.PAD_PAGE));
+    }
+
+    @Test
+    void fetchPads_shouldStopAtRequestedLimit() {
+        stubPage(0, page(100, "https://api.test/pad/?limit=2&offset=2", 0, 1));
+        stubPage(2, page(100, "https://api.test/pad/?limit=2&offset=4", 2));
+
+        int delivered = fetcher.fetchPads(3, pads -> {});
+
+        assertThat(delivered).isEqualTo(3);
+        verify(apiClient).fetchPage(argThat(url -> url.contains("offset=2") && url.contains("limit=1")),
+            eq(SpaceDevsApiClient.PAD_PAGE));
+        verify(apiClient, times(2)).fetchPage(any(), eq(SpaceDevsApiClient.PAD_PAGE));
+    }
+
+    @Test
+    void fetchPads_shouldSkipFailedPages() {
+        stubPage(0, page(4, "https://api.test/pad/?limit=2&offset=2", 0, 1));
+        when(apiClient.fetchPage(argThat(url -> url != null && url.contains("offset=2")), eq(SpaceDevsApiClient.PAD_PAGE)))
+            .thenThrow(new IllegalStateException("boom"));
+
+        int delivered = fetcher.fetchPads(4, pads -> {});
+
+        assertThat(delivered).isEqualTo(2);
+    }
+
+    @Test
+    void fetchLaunches_shouldRequestLaunchesUpdatedSinceHighWaterMarkOldestFirst() {
+        SpaceDevsPageResponse<LaunchDto> page = new SpaceDevsPageResponse<>();
+        page.setCount(1);
+        page.setResults(List.of(new LaunchDto()));
+        when(apiClient.fetchPage(any(), eq(SpaceDevsApiClient.LAUNCH_PAGE))).thenReturn(page);
+
+        SpaceDevsPagedFetcher.PageFetch fetch =
+            fetcher.fetchLaunches(10, Instant.parse("2025-03-01T00:00:00Z"), launches -> {});
+
+        assertThat(fetch.complete()).isTrue();
+        verify(apiClient).fetchPage(argThat(url -> url.contains("last_updated__gte=2025-03-01T00:00:00Z")
+            && url.contains("ordering=last_updated") && !url.contains("-net")), eq(SpaceDevsApiClient.LAUNCH_PAGE));
+    }
+
+    private void stubPage(int offset, SpaceDevsPageResponse<PadDto> page) {
+        when(apiClient.fetchPage(argThat(url -> url != null && url.contains("offset=" + offset)),
+            eq(SpaceDevsApiClient.PAD_PAGE))).thenReturn(page);
+    }
+
+    private SpaceDevsPageResponse<PadDto> page(int count, String next, int... ids) {
+        SpaceDevsPageResponse<PadDto> page = new SpaceDevsPageResponse<>();
+        page.setCount(count);
+        page.setNext(next);
+        page.setResults(IntStream.of(ids).mapToObj(id -> {
+            PadDto pad = new PadDto();
+            pad.setId(id);
+            return pad;
+        }).toList());
+        return page;
+    }
+}
@@ -0,0 +1,183 @@
+package com.rocket.comparison.integration.spacedevs;
+
+import com.rocket.comparison.entity.Country;
+import com.rocket.comparison.entity.SyncContentHash;
+import com.rocket.comparison.entity.SyncStatus;
+import com.rocket.comparison.integration.spacedevs.dto.AgencyDto;
+import com.rocket.comparison.integration.spacedevs.dto.LaunchDto;
+import com.rocket.comparison.repository.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SpaceDevsSyncServiceTest {
+
+    private static final Instant WATERMARK = Instant.parse("2025-03-01T00:00:00Z");
+
+    @Mock
+    private SpaceDevsPagedFetcher pagedFetcher;
+    @Mock
+    private CountryRepository countryRepository;
+    @Mock
+    private SpaceMissionRepository spaceMissionRepository;
+    @Mock
+    private LaunchSiteRepository launchSiteRepository;
+    @Mock
+    private SyncStatusRepository syncStatusRepository;
+    @Mock
+    private SyncContentHashRepository hashRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private EntityManager entityManager;
+
+    private SpaceDevsSyncService service;
+
+    @BeforeEach
+    void setUp() {
+        SyncContentHashStore hashStore = new SyncContentHashStore(hashRepository);
+        ReflectionTestUtils.setField(hashStore, "entityManager", entityManager);
+
+        service = new SpaceDevsSyncService(pagedFetcher, countryRepository, spaceMissionRepository,
+            launchSiteRepository, syncStatusRepository, hashStore, eventPublisher);
+        ReflectionTestUtils.setField(service, "entityManager", entityManager);
+        ReflectionTestUtils.setField(service, "chunkSize", 50);
+        ReflectionTestUtils.setField(service, "incremental", true);
+
+        Country usa = new Country();
+        usa.setIsoCode("USA");
+        when(countryRepository.findAll()).thenReturn(List.of(usa));
+    }
+
+    @Test
+    void syncRecentLaunches_shouldOnlyRequestLaunchesUpdatedSinceTheHighWaterMark() {
+        when(syncStatusRepository.findHighWaterMark(SpaceDevsSyncService.LAUNCHES_SYNC)).thenReturn(Optional.of(WATERMARK));
+        stubLaunches(WATERMARK, 2, launch("a", "2025-03-02T10:00:00Z"), launch("b", "2025-03-01T12:00:00Z"));
+
+        Map<String, Object> stats = service.syncRecentLaunches(10);
+
+        assertThat(stats).containsEntry("created", 2).containsEntry("updatedSince", WATERMARK.toString());
+        assertThat(savedStatus().getHighWaterMark()).isEqualTo(Instant.parse("2025-03-02T10:00:00Z"));
+    }
+
+    @Test
+    void syncRecentLaunches_shouldSkipLaunchesWhosePayloadIsUnchanged() {
+        LaunchDto unchanged = launch("a", "2025-03-02T10:00:00Z");
+        LaunchDto changed = launch("b", "2025-03-02T11:00:00Z");
+        when(syncStatusRepository.findHighWaterMark(SpaceDevsSyncService.LAUNCHES_SYNC)).thenReturn(Optional.of(WATERMARK));
+        when(hashRepository.findBySourceAndExternalIdIn(eq(SpaceDevsSyncService.LAUNCHES_SYNC), any()))
+            .thenReturn(List.of(new SyncContentHash(SpaceDevsSyncService.LAUNCHES_SYNC, "a",
+                SyncContentHashStore.hash(unchanged), LocalDateTime.now())));
+        stubLaunches(WATERMARK, 2, unchanged, changed);
+
+        Map<String, Object> stats = service.syncRecentLaunches(10);
+
+        assertThat(stats).containsEntry("unchanged", 1).containsEntry("created", 1);
+        verify(spaceMissionRepository).findByLowerNameIn(Set.of("launch b"));
+        verify(entityManager).persist(argThat(row -> row instanceof SyncContentHash hash && hash.getExternalId().equals("b")));
+    }
+
+    @Test
+    void syncRecentLaunches_shouldKeepTheHighWaterMarkWhenAPageFailed() {
+        when(syncStatusRepository.findHighWaterMark(SpaceDevsSyncService.LAUNCHES_SYNC)).thenReturn(Optional.of(WATERMARK));
+        stubLaunches(WATERMARK, 3, launch("a", "2025-03-02T10:00:00Z"));
+
+        service.syncRecentLaunches(10);
+
+        assertThat(savedStatus().getHighWaterMark()).isEqualTo(WATERMARK);
+    }
+
+    @Test
+    void syncRecentLaunches_shouldRequestASkippedLaunchAgainOnTheNextRun() {
+        Instant skippedAt = Instant.parse("2025-03-01T12:00:00Z");
+        LaunchDto incomplete = launch("a", skippedAt.toString());
+        incomplete.setLaunchServiceProvider(null);
+        LaunchDto fixed = launch("a", skippedAt.toString());
+        when(syncStatusRepository.findHighWaterMark(SpaceDevsSyncService.LAUNCHES_SYNC))
+            .thenReturn(Optional.of(WATERMARK), Optional.of(skippedAt));
+        stubLaunches(WATERMARK, 2, incomplete, launch("b", "2025-03-02T10:00:00Z"));
+        stubLaunches(skippedAt, 2, fixed, launch("b", "2025-03-02T10:00:00Z"));
+
+        Map<String, Object> first = service.syncRecentLaunches(10);
+        Map<String, Object> second = service.syncRecentLaunches(10);
+
+        assertThat(first).containsEntry("skipped", 1).containsEntry("created", 1);
+        assertThat(second).containsEntry("updatedSince", skippedAt.toString()).containsEntry("created", 2);
+        ArgumentCaptor<SyncStatus> statuses = ArgumentCaptor.forClass(SyncStatus.class);
+        verify(syncStatusRepository, times(2)).save(statuses.capture());
+        assertThat(statuses.getAllValues()).extracting(SyncStatus::getHighWaterMark)
+            .containsExactly(skippedAt, Instant.parse("2025-03-02T10:00:00Z"));
+    }
+
+    @Test
+    void syncRecentLaunches_withoutAHighWaterMark_shouldReadFromTheEpochInUpdateOrder() {
+        stubLaunches(Instant.EPOCH, 1, launch("a", "2025-03-02T10:00:00Z"));
+
+        service.syncRecentLaunches(10);
+
+        assertThat(savedStatus().getHighWaterMark()).isEqualTo(Instant.parse("2025-03-02T10:00:00Z"));
+    }
+
+    @Test
+    void syncRecentLaunches_whenNotIncremental_shouldRefetchAndRewriteUnchangedLaunches() {
+        LaunchDto launch = launch("a", "2025-03-02T10:00:00Z");
+        when(syncStatusRepository.findHighWaterMark(SpaceDevsSyncService.LAUNCHES_SYNC)).thenReturn(Optional.of(WATERMARK));
+        when(hashRepository.findBySourceAndExternalIdIn(eq(SpaceDevsSyncService.LAUNCHES_SYNC), any()))
+            .thenReturn(List.of(new SyncContentHash(SpaceDevsSyncService.LAUNCHES_SYNC, "a",
+                SyncContentHashStore.hash(launch), LocalDateTime.now())));
+        stubLaunches(null, 1, launch);
+
+        Map<String, Object> stats = service.syncRecentLaunches(10, false);
+
+        assertThat(stats).containsEntry("unchanged", 0).containsEntry("created", 1).doesNotContainKey("updatedSince");
+        // Newest-first reads can skip older updates, so the mark must not move
+        assertThat(savedStatus().getHighWaterMark()).isEqualTo(WATERMARK);
+    }
+
+    private void stubLaunches(Instant since, int available, LaunchDto... launches) {
+        when(pagedFetcher.fetchLaunches(eq(10), eq(since), any())).thenAnswer(invocation -> {
+            invocation.<Consumer<List<LaunchDto>>>getArgument(2).accept(List.of(launches));
+            return new SpaceDevsPagedFetcher.PageFetch(launches.length, available);
+        });
+    }
+
+    private SyncStatus savedStatus() {
+        ArgumentCaptor<SyncStatus> status = ArgumentCaptor.forClass(SyncStatus.class);
+        verify(syncStatusRepository).save(status.capture());
+        assertThat(status.getValue().getState()).isEqualTo(SyncStatus.SyncState.SUCCESS);
+        return status.getValue();
+    }
+
+    private static LaunchDto launch(String id, String lastUpdated) {
+        AgencyDto provider = new AgencyDto();
+        provider.setName("SpaceX");
+        provider.setCountryCode("USA");
+
+        LaunchDto launch = new LaunchDto();
+        launch.setId(id);
+        launch.setName("Launch " + id);
+        launch.setLastUpdated(lastUpdated);
+        launch.setNet("2025-02-20T12:00:00Z");
+        launch.setLaunchServiceProvider(provider);
+        return launch;
+    }
+}
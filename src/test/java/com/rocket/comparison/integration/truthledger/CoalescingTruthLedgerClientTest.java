@@ -0,0 +1,147 @@
+package com.rocket.comparison.integration.truthledger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.rocket.comparison.config.OutboundHttpProperties;
+import com.rocket.comparison.integration.truthledger.dto.EntityFactsResponseDto;
+import com.rocket.comparison.integration.truthledger.dto.FactResponseDto;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the coalescing client against a local stub Truth Ledger and counts the requests it receives.
+ */
+class CoalescingTruthLedgerClientTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final AtomicInteger entityRequests = new AtomicInteger();
+    private final AtomicInteger fieldRequests = new AtomicInteger();
+
+    private HttpServer server;
+    private ExecutorService serverThreads;
+    private TruthLedgerClient truthLedgerClient;
+    private CoalescingTruthLedgerClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverThreads = Executors.newCachedThreadPool();
+        server.setExecutor(serverThreads);
+        server.createContext("/api/v1/entities", this::handle);
+        server.start();
+
+        truthLedgerClient = new TruthLedgerClient(new RestTemplate());
+        ReflectionTestUtils.setField(truthLedgerClient, "baseUrl",
+            "http://127.0.0.1:" + server.getAddress().getPort() + "/api/v1");
+        client = new CoalescingTruthLedgerClient(truthLedgerClient, new OutboundHttpProperties(), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverThreads.shutdownNow();
+    }
+
+    @Test
+    void findEntityByEngineId_shouldSendOneRequestForConcurrentIdenticalCalls() throws Exception {
+        List<Optional<EntityFactsResponseDto.EntityDto>> results = concurrently(8, i -> client.findEntityByEngineId(7L));
+
+        assertThat(entityRequests.get()).isEqualTo(1);
+        assertThat(results).allSatisfy(entity -> assertThat(entity).hasValueSatisfying(
+            dto -> assertThat(dto.getId()).isEqualTo("entity-7")));
+        assertThat(client.mergedCalls()).isEqualTo(7);
+    }
+
+    @Test
+    void resolveEngineField_shouldMergeIdenticalLookupsAndSendDistinctOnesSeparately() throws Exception {
+        List<Optional<FactResponseDto>> results = concurrently(9,
+            i -> client.resolveEngineField((long) (i % 3) + 1, "engines.thrust_n", 0.5));
+
+        assertThat(fieldRequests.get()).isEqualTo(3);
+        for (int i = 0; i < results.size(); i++) {
+            assertThat(results.get(i).orElseThrow().getClaimKey()).isEqualTo("engine-" + (i % 3 + 1) + "-engines.thrust_n");
+        }
+        assertThat(client.mergedCalls()).isEqualTo(6);
+    }
+
+    /**
+     * Starts {@code callers} threads at once and returns their results in caller order.
+     */
+    private <T> List<T> concurrently(int callers, Function<Integer, T> call) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                int caller = i;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return call.apply(caller);
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(10, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        try {
+            if (path.equals("/api/v1/entities")) {
+                entityRequests.incrementAndGet();
+                // Hold the response so the concurrent callers overlap
+                Thread.sleep(200);
+                String engineId = exchange.getRequestURI().getQuery().replaceAll(".*engine_id=(\\d+).*", "$1");
+                ArrayNode entities = MAPPER.createArrayNode();
+                entities.addObject().put("id", "entity-" + engineId).put("engineId", Long.parseLong(engineId));
+                respond(exchange, 200, entities);
+            } else if (path.startsWith("/api/v1/entities/engine/")) {
+                fieldRequests.incrementAndGet();
+                Thread.sleep(200);
+                String[] segments = path.split("/");
+                ObjectNode fact = MAPPER.createObjectNode()
+                    .put("claimKey", "engine-" + segments[5] + "-" + segments[7]);
+                respond(exchange, 200, fact);
+            } else {
+                respond(exchange, 404, MAPPER.createObjectNode());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            respond(exchange, 503, MAPPER.createObjectNode());
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, JsonNode body) throws IOException {
+        byte[] bytes = MAPPER.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+}
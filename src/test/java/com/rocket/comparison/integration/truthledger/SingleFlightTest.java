@@ -0,0 +1,91 @@
+package com.rocket.comparison.integration.truthledger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final ExecutorService leaderThread = Executors.newSingleThreadExecutor();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        leaderThread.shutdownNow();
+    }
+
+    @Test
+    void run_shouldShareTheInFlightResultWithConcurrentCallers() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>(Duration.ofSeconds(10), "timed out");
+        Future<String> leader = startLeader(flight, () -> "shared");
+
+        Future<String> waiter = CompletableFuture.supplyAsync(() -> flight.run("key", () -> "own call"));
+        awaitMerged(flight);
+        release.countDown();
+
+        assertThat(leader.get(10, TimeUnit.SECONDS)).isEqualTo("shared");
+        assertThat(waiter.get(10, TimeUnit.SECONDS)).isEqualTo("shared");
+        assertThat(flight.timedOut()).isZero();
+    }
+
+    @Test
+    void run_shouldRethrowTheInFlightFailureToConcurrentCallers() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>(Duration.ofSeconds(10), "timed out");
+        startLeader(flight, () -> {
+            throw new IllegalStateException("ledger down");
+        });
+
+        CompletableFuture<String> waiter = CompletableFuture.supplyAsync(() -> flight.run("key", () -> "own call"));
+        awaitMerged(flight);
+        release.countDown();
+
+        assertThatThrownBy(() -> waiter.get(10, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(IllegalStateException.class)
+            .hasRootCauseMessage("ledger down");
+    }
+
+    @Test
+    void run_whenTheInFlightCallOverrunsMaxWait_shouldReturnTheTimeoutValue() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>(Duration.ofMillis(50), "timed out");
+        Future<String> leader = startLeader(flight, () -> "late");
+
+        assertThat(flight.run("key", () -> "own call")).isEqualTo("timed out");
+        assertThat(flight.merged()).isEqualTo(1);
+        assertThat(flight.timedOut()).isEqualTo(1);
+
+        // The slow call itself still completes for its own caller
+        release.countDown();
+        assertThat(leader.get(10, TimeUnit.SECONDS)).isEqualTo("late");
+    }
+
+    private Future<String> startLeader(SingleFlight<String, String> flight, Callable<String> result) throws InterruptedException {
+        Future<String> leader = leaderThread.submit(() -> flight.run("key", () -> {
+            started.countDown();
+            try {
+                release.await();
+                return result.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        return leader;
+    }
+
+    private static void awaitMerged(SingleFlight<?, ?> flight) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (flight.merged() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(flight.merged()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,157 @@
+package com.rocket.comparison.integration.truthledger;
+
+import com.rocket.comparison.entity.Engine;
+import com.rocket.comparison.event.DomainEntity;
+import com.rocket.comparison.event.EntityChangedEvent;
+import com.rocket.comparison.integration.truthledger.dto.EntityFactsResponseDto;
+import com.rocket.comparison.integration.truthledger.dto.EntityListResponseDto;
+import com.rocket.comparison.repository.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TruthLedgerSyncServiceTest {
+
+    @Mock
+    private TruthLedgerClient truthLedgerClient;
+    @Mock
+    private EngineRepository engineRepository;
+    @Mock
+    private LaunchVehicleRepository launchVehicleRepository;
+    @Mock
+    private LaunchSiteRepository launchSiteRepository;
+    @Mock
+    private SpaceMissionRepository spaceMissionRepository;
+    @Mock
+    private CountryRepository countryRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private EntityManager entityManager;
+
+    private TruthLedgerSyncService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TruthLedgerSyncService(truthLedgerClient, engineRepository, launchVehicleRepository,
+            launchSiteRepository, spaceMissionRepository, countryRepository, eventPublisher, transactionManager);
+        ReflectionTestUtils.setField(service, "entityManager", entityManager);
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "truthThreshold", 0.5);
+        ReflectionTestUtils.setField(service, "chunkSize", 2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void syncEngines_shouldSplitEntitiesIntoChunksCommittedSeparately() {
+        when(truthLedgerClient.listAllEntitiesByType("engine")).thenReturn(entities(5));
+        when(engineRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Map<String, Object> result = service.syncEngines();
+
+        assertThat(result).containsEntry("status", "success")
+            .containsEntry("created", 5)
+            .containsEntry("chunks", 3);
+        ArgumentCaptor<Collection<String>> names = ArgumentCaptor.forClass(Collection.class);
+        verify(engineRepository, times(3)).findByLowerNameIn(names.capture());
+        assertThat(names.getAllValues()).containsExactly(
+            Set.of("engine 1", "engine 2"), Set.of("engine 3", "engine 4"), Set.of("engine 5"));
+        verify(transactionManager, times(3)).commit(any());
+        verify(entityManager, times(3)).clear();
+        verify(eventPublisher).publishEvent(EntityChangedEvent.bulk(DomainEntity.ENGINE));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void syncEngines_shouldUpdateExistingRowsAndOnlyPersistNewOnes() {
+        Engine raptor = new Engine();
+        raptor.setId(1L);
+        raptor.setName("Raptor");
+        when(truthLedgerClient.listAllEntitiesByType("engine"))
+            .thenReturn(List.of(entity("tl-1", "RAPTOR"), entity("tl-2", "Merlin")));
+        when(truthLedgerClient.getEntityFacts(eq("tl-1"), anyDouble()))
+            .thenReturn(Optional.of(facts(fact("engines.thrust_n", 2_300_000))));
+        when(engineRepository.findByLowerNameIn(Set.of("raptor", "merlin"))).thenReturn(List.of(raptor));
+        when(engineRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Map<String, Object> result = service.syncEngines();
+
+        assertThat(result).containsEntry("created", 1).containsEntry("updated", 1).containsEntry("chunks", 1);
+        assertThat(raptor.getThrustN()).isEqualTo(2_300_000L);
+        ArgumentCaptor<List<Engine>> saved = ArgumentCaptor.forClass(List.class);
+        verify(engineRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(Engine::getName).containsExactly("Merlin");
+        verify(entityManager).flush();
+    }
+
+    @Test
+    void syncEngines_whenAChunkFailsToCommit_shouldKeepTheOtherChunks() {
+        when(truthLedgerClient.listAllEntitiesByType("engine")).thenReturn(entities(5));
+        AtomicInteger calls = new AtomicInteger();
+        when(engineRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 2) {
+                throw new DataIntegrityViolationException("duplicate key");
+            }
+            return invocation.getArgument(0);
+        });
+
+        Map<String, Object> result = service.syncEngines();
+
+        assertThat(result).containsEntry("status", "partial")
+            .containsEntry("created", 3)
+            .containsEntry("errors", 2)
+            .containsEntry("chunks", 3);
+        assertThat(result.get("errorMessages")).asList()
+            .containsExactly("Failed to commit engine chunk of 2 entities: duplicate key");
+        verify(transactionManager, times(2)).commit(any());
+        verify(transactionManager, times(1)).rollback(any());
+        // Committed chunks reach the similarity index through the bulk event
+        verify(eventPublisher).publishEvent(EntityChangedEvent.bulk(DomainEntity.ENGINE));
+    }
+
+    private static List<EntityListResponseDto.TruthLedgerEntityDto> entities(int count) {
+        return IntStream.rangeClosed(1, count)
+            .mapToObj(i -> entity("tl-" + i, "Engine " + i))
+            .toList();
+    }
+
+    private static EntityListResponseDto.TruthLedgerEntityDto entity(String id, String name) {
+        EntityListResponseDto.TruthLedgerEntityDto entity = new EntityListResponseDto.TruthLedgerEntityDto();
+        entity.setId(id);
+        entity.setEntityType("engine");
+        entity.setCanonicalName(name);
+        return entity;
+    }
+
+    private static EntityFactsResponseDto facts(EntityFactsResponseDto.FactDto... facts) {
+        EntityFactsResponseDto response = new EntityFactsResponseDto();
+        response.setFacts(List.of(facts));
+        return response;
+    }
+
+    private static EntityFactsResponseDto.FactDto fact(String attributePattern, Object value) {
+        EntityFactsResponseDto.FactDto fact = new EntityFactsResponseDto.FactDto();
+        fact.setAttributePattern(attributePattern);
+        fact.setBestValue(value);
+        return fact;
+    }
+}
@@ -0,0 +1,127 @@
+package com.rocket.comparison.repository;
+
+import com.rocket.comparison.BaseIntegrationTest;
+import com.rocket.comparison.entity.CapabilityCategory;
+import com.rocket.comparison.entity.CapabilityScore;
+import com.rocket.comparison.entity.Country;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the window-function ranking update against real PostgreSQL, with tied scores.
+ */
+@Transactional
+class CapabilityScoreRepositoryIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private CapabilityScoreRepository scoreRepository;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private CapabilityScore first;
+    private CapabilityScore tiedA;
+    private CapabilityScore tiedB;
+    private CapabilityScore last;
+    private CapabilityScore otherCategoryA;
+    private CapabilityScore otherCategoryB;
+
+    @BeforeEach
+    void setUp() {
+        // Seeded scores would share the partitions, so rank only the rows created here
+        scoreRepository.deleteAll();
+
+        Country alpha = createCountry("Alpha", "XAA");
+        Country beta = createCountry("Beta", "XBB");
+        Country gamma = createCountry("Gamma", "XCC");
+        Country delta = createCountry("Delta", "XDD");
+
+        first = createScore(alpha, CapabilityCategory.LAUNCH_CAPABILITY, 90.0);
+        tiedA = createScore(beta, CapabilityCategory.LAUNCH_CAPABILITY, 80.0);
+        tiedB = createScore(gamma, CapabilityCategory.LAUNCH_CAPABILITY, 80.0);
+        last = createScore(delta, CapabilityCategory.LAUNCH_CAPABILITY, 70.0);
+        otherCategoryA = createScore(alpha, CapabilityCategory.HUMAN_SPACEFLIGHT, 50.0);
+        otherCategoryB = createScore(beta, CapabilityCategory.HUMAN_SPACEFLIGHT, 50.0);
+
+        scoreRepository.saveAllAndFlush(List.of(first, tiedA, tiedB, last, otherCategoryA, otherCategoryB));
+    }
+
+    @Test
+    void refreshRankings_competition_shouldSkipRanksAfterTies() {
+        List<Object[]> changed = scoreRepository.refreshRankings(false);
+
+        assertThat(changed).hasSize(6);
+        assertThat(persistedRanks()).containsExactlyInAnyOrderEntriesOf(Map.of(
+            first.getId(), 1,
+            tiedA.getId(), 2,
+            tiedB.getId(), 2,
+            last.getId(), 4,
+            otherCategoryA.getId(), 1,
+            otherCategoryB.getId(), 1));
+    }
+
+    @Test
+    void refreshRankings_dense_shouldNotSkipRanksAndOnlyReturnChangedRows() {
+        scoreRepository.refreshRankings(false);
+
+        List<Object[]> changed = scoreRepository.refreshRankings(true);
+
+        // Only the row after the tie moves: 4 -> 3
+        assertThat(changed).hasSize(1);
+        Object[] row = changed.get(0);
+        assertThat(((Number) row[0]).longValue()).isEqualTo(last.getId());
+        assertThat(row[2]).hasToString(CapabilityCategory.LAUNCH_CAPABILITY.name());
+        assertThat(((Number) row[3]).intValue()).isEqualTo(4);
+        assertThat(((Number) row[4]).intValue()).isEqualTo(3);
+
+        assertThat(persistedRanks()).containsExactlyInAnyOrderEntriesOf(Map.of(
+            first.getId(), 1,
+            tiedA.getId(), 2,
+            tiedB.getId(), 2,
+            last.getId(), 3,
+            otherCategoryA.getId(), 1,
+            otherCategoryB.getId(), 1));
+    }
+
+    @Test
+    void refreshRankings_whenRanksAreCurrent_shouldReturnNothing() {
+        scoreRepository.refreshRankings(true);
+
+        assertThat(scoreRepository.refreshRankings(true)).isEmpty();
+    }
+
+    private Map<Long, Integer> persistedRanks() {
+        // The native UPDATE bypasses the persistence context, so read the rows back fresh
+        entityManager.clear();
+        return scoreRepository.findAll().stream()
+            .collect(Collectors.toMap(CapabilityScore::getId, CapabilityScore::getRanking));
+    }
+
+    private Country createCountry(String name, String isoCode) {
+        Country country = new Country();
+        country.setName(name);
+        country.setIsoCode(isoCode);
+        country.setRegion("Test Region");
+        return countryRepository.save(country);
+    }
+
+    private static CapabilityScore createScore(Country country, CapabilityCategory category, double score) {
+        CapabilityScore capabilityScore = new CapabilityScore();
+        capabilityScore.setCountry(country);
+        capabilityScore.setCategory(category);
+        capabilityScore.setScore(score);
+        return capabilityScore;
+    }
+}
@@ -0,0 +1,72 @@
+package com.rocket.comparison.service;
+
+import com.rocket.comparison.entity.CapabilityCategory;
+import com.rocket.comparison.event.EntityChangedEvent;
+import com.rocket.comparison.repository.CapabilityScoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CapabilityRankingServiceTest {
+
+    @Mock
+    private CapabilityScoreRepository scoreRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CapabilityRankingService rankingService;
+
+    @BeforeEach
+    void setUp() {
+        rankingService = new CapabilityRankingService(scoreRepository, eventPublisher, "competition");
+    }
+
+    @Test
+    void refreshRankings_shouldReportDeltasFromChangedRows() {
+        when(scoreRepository.refreshRankings(false)).thenReturn(List.of(
+            new Object[]{10L, 1L, "LAUNCH_CAPABILITY", 3, 1L},
+            new Object[]{11L, 2L, "LAUNCH_CAPABILITY", 1, 2L},
+            new Object[]{12L, 3L, "HUMAN_SPACEFLIGHT", null, 4L}
+        ));
+
+        CapabilityRankingService.RankingRefresh refresh = rankingService.refreshRankings();
+
+        assertThat(refresh.mode()).isEqualTo(CapabilityRankingService.RankingMode.COMPETITION);
+        assertThat(refresh.changed()).isEqualTo(3);
+        assertThat(refresh.deltas()).extracting(CapabilityRankingService.RankDelta::change)
+            .containsExactly(2, -1, null);
+        assertThat(refresh.deltas().get(2).category()).isEqualTo(CapabilityCategory.HUMAN_SPACEFLIGHT);
+        verify(scoreRepository).flush();
+        verify(eventPublisher).publishEvent(any(EntityChangedEvent.class));
+    }
+
+    @Test
+    void refreshRankings_shouldUseDenseRankingAndStayQuietWhenNothingMoved() {
+        when(scoreRepository.refreshRankings(true)).thenReturn(List.of());
+
+        CapabilityRankingService.RankingRefresh refresh =
+            rankingService.refreshRankings(CapabilityRankingService.RankingMode.DENSE);
+
+        assertThat(refresh.changed()).isZero();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void rankingMode_shouldRejectUnknownValues() {
+        assertThat(CapabilityRankingService.RankingMode.fromString("dense"))
+            .isEqualTo(CapabilityRankingService.RankingMode.DENSE);
+        assertThatThrownBy(() -> CapabilityRankingService.RankingMode.fromString("olympic"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,160 @@
+package com.rocket.comparison.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rocket.comparison.entity.CapabilityCategory;
+import com.rocket.comparison.entity.CapabilityScore;
+import com.rocket.comparison.entity.Country;
+import com.rocket.comparison.entity.Engine;
+import com.rocket.comparison.event.DomainEntity;
+import com.rocket.comparison.event.EntityChangedEvent;
+import com.rocket.comparison.repository.CapabilityScoreRepository;
+import com.rocket.comparison.repository.CountryRepository;
+import com.rocket.comparison.repository.EngineRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CapabilityScoreServiceTest {
+
+    @Mock
+    private CapabilityScoreRepository scoreRepository;
+    @Mock
+    private CountryRepository countryRepository;
+    @Mock
+    private EngineRepository engineRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+    @Mock
+    private CapabilityRankingService rankingService;
+
+    @InjectMocks
+    private CapabilityScoreService capabilityScoreService;
+
+    private Country usa;
+    private Country india;
+
+    @BeforeEach
+    void setUp() {
+        usa = country(1L, "United States", "USA", true);
+        india = country(2L, "India", "IND", false);
+        lenient().when(rankingService.refreshRankings()).thenReturn(
+            new CapabilityRankingService.RankingRefresh(CapabilityRankingService.RankingMode.COMPETITION, 0, List.of(), 0));
+    }
+
+    @Test
+    void calculateAllScores_shouldLoadInputsOnceAndScoreEveryCategory() {
+        Engine raptor = engine(usa, "Raptor", "CH4 / LOX", "Full-flow staged combustion");
+        Engine vikas = engine(null, "Vikas", "UDMH / N2O4", "Gas generator");
+        vikas.setOrigin("India");
+        when(countryRepository.findAll()).thenReturn(List.of(usa, india));
+        when(engineRepository.findAllWithCountry()).thenReturn(List.of(raptor, vikas));
+        when(scoreRepository.findAll()).thenReturn(List.of());
+
+        capabilityScoreService.calculateAllScores();
+
+        verify(engineRepository, never()).findByCountryId(any());
+        verify(engineRepository, never()).findByOrigin(any());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CapabilityScore>> saved = ArgumentCaptor.forClass(List.class);
+        verify(scoreRepository).saveAll(saved.capture());
+        List<CapabilityScore> scores = saved.getValue();
+        assertThat(scores).hasSize(2 * CapabilityCategory.values().length);
+        assertThat(scores).allSatisfy(score ->
+            assertThat(score.getScoreBreakdown()).contains(score.getCategory().name()));
+        verify(rankingService).refreshRankings();
+
+        // India's engines are resolved through the origin fallback
+        CapabilityScore indiaPropulsion = scores.stream()
+            .filter(s -> s.getCountry() == india && s.getCategory() == CapabilityCategory.PROPULSION_TECHNOLOGY)
+            .findFirst().orElseThrow();
+        assertThat(indiaPropulsion.getScore()).isPositive();
+
+        assertThat(usa.getOverallCapabilityScore()).isEqualTo(capabilityScoreService.calculateOverallScore(usa, List.of(raptor)));
+        assertThat(usa.getOverallCapabilityScore()).isGreaterThan(india.getOverallCapabilityScore());
+
+        // The overall score is derived from the scores, so country listeners are not woken up
+        verify(eventPublisher).publishEvent(EntityChangedEvent.bulk(DomainEntity.CAPABILITY_SCORE));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    void recalculateCategories_shouldOnlyRecomputeRequestedCategories() {
+        List<CapabilityScore> existing = new ArrayList<>();
+        Arrays.stream(CapabilityCategory.values()).forEach(category -> {
+            CapabilityScore score = new CapabilityScore();
+            score.setCountry(usa);
+            score.setCategory(category);
+            score.setScore(50.0);
+            existing.add(score);
+        });
+        when(countryRepository.findById(1L)).thenReturn(Optional.of(usa));
+        when(scoreRepository.findByCountryId(1L)).thenReturn(existing);
+        when(engineRepository.findByCountryId(1L)).thenReturn(List.of());
+        when(scoreRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<CapabilityScore> updated = capabilityScoreService.recalculateCategories(
+            1L, CapabilityScoreService.categoriesAffectedBy(DomainEntity.ENGINE));
+
+        assertThat(updated).extracting(CapabilityScore::getCategory)
+            .containsExactlyInAnyOrder(CapabilityCategory.PROPULSION_TECHNOLOGY, CapabilityCategory.TECHNOLOGICAL_INDEPENDENCE);
+        assertThat(existing).filteredOn(s -> !updated.contains(s))
+            .allSatisfy(s -> assertThat(s.getScore()).isEqualTo(50.0));
+
+        double expectedOverall = existing.stream()
+            .mapToDouble(s -> s.getScore() * s.getCategory().getWeight())
+            .sum();
+        assertThat(usa.getOverallCapabilityScore()).isEqualTo(expectedOverall);
+        verify(rankingService).refreshRankings();
+        verify(eventPublisher).publishEvent(EntityChangedEvent.saved(DomainEntity.CAPABILITY_SCORE, null, usa));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    void categoriesAffectedBy_shouldIgnoreEntitiesNoCalculatorReads() {
+        assertThat(CapabilityScoreService.categoriesAffectedBy(DomainEntity.ENGINE)).hasSize(2);
+        assertThat(CapabilityScoreService.categoriesAffectedBy(DomainEntity.SATELLITE)).isEmpty();
+        assertThat(CapabilityScoreService.categoriesAffectedBy(DomainEntity.CAPABILITY_SCORE)).isEmpty();
+    }
+
+    private static Country country(Long id, String name, String isoCode, boolean reusable) {
+        Country country = new Country();
+        country.setId(id);
+        country.setName(name);
+        country.setIsoCode(isoCode);
+        country.setIndependentLaunchCapable(true);
+        country.setReusableRocketCapable(reusable);
+        country.setTotalLaunches(reusable ? 2000 : 90);
+        country.setLaunchSuccessRate(reusable ? 97.0 : 92.0);
+        return country;
+    }
+
+    private static Engine engine(Country country, String name, String propellant, String cycle) {
+        Engine engine = new Engine();
+        engine.setCountry(country);
+        engine.setName(name);
+        engine.setPropellant(propellant);
+        engine.setPowerCycle(cycle);
+        engine.setIsp_s(350.0);
+        return engine;
+    }
+}
@@ -0,0 +1,87 @@
+package com.rocket.comparison.service;
+
+import com.rocket.comparison.dto.EngineFactsDto;
+import com.rocket.comparison.integration.truthledger.dto.EntityFactsResponseDto.FactDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EngineFactTableTest {
+
+    private final EngineFactTable table = EngineFactTable.of("entity-1", "Raptor", List.of(
+        fact("engines.thrust_n", 0.9, "verified", false),
+        fact("engines.isp_s", 0.4, "disputed", true),
+        fact("engines.mass_kg", 0.4, "supported", false),
+        fact("engines.of_ratio", null, "insufficient", false)));
+
+    @Test
+    void at_shouldReturnTheFactsScoringAtLeastTheSliderInLedgerOrder() {
+        assertThat(fieldNames(table.at(0.0))).containsExactly(
+            "engines.thrust_n", "engines.isp_s", "engines.mass_kg", "engines.of_ratio");
+        assertThat(fieldNames(table.at(0.25))).containsExactly("engines.thrust_n", "engines.isp_s", "engines.mass_kg");
+        assertThat(fieldNames(table.at(0.4))).containsExactly("engines.thrust_n", "engines.isp_s", "engines.mass_kg");
+        assertThat(fieldNames(table.at(0.41))).containsExactly("engines.thrust_n");
+        assertThat(fieldNames(table.at(0.95))).isEmpty();
+    }
+
+    @Test
+    void at_shouldDeriveTheOverallStatusFromThePassingFacts() {
+        assertThat(table.at(0.4).overallStatus()).isEqualTo("disputed");
+        assertThat(table.at(0.4).conflictsPresent()).isTrue();
+        assertThat(table.at(0.5).overallStatus()).isEqualTo("verified");
+        assertThat(table.at(0.95).overallStatus()).isEqualTo("insufficient");
+        assertThat(table.isVerified()).isTrue();
+        assertThat(EngineFactTable.unverified("Merlin").isVerified()).isFalse();
+    }
+
+    @Test
+    void at_shouldResolveOneWinnerPerFieldWhenClaimsCompete() {
+        EngineFactTable competing = EngineFactTable.of("entity-1", "Raptor", List.of(
+            claim("engines.thrust_n", 2_200_000.0, 0.5, 1),
+            claim("engines.thrust_n", 2_300_000.0, 0.8, 3),
+            claim("engines.thrust_n", 2_300_000.0, 0.3, 1),
+            claim("engines.isp_s", 350.0, 0.5, 1),
+            claim("engines.isp_s", 347.0, 0.5, 4)));
+
+        EngineFactTable.Level low = competing.at(0.2);
+        assertThat(fieldNames(low)).containsExactly("engines.thrust_n", "engines.isp_s");
+        assertThat(low.facts()).extracting(EngineFactsDto.FactSummary::getValue).containsExactly(2_300_000.0, 347.0);
+        assertThat(low.facts()).allSatisfy(fact -> assertThat(fact.getConflictPresent()).isTrue());
+        assertThat(low.overallStatus()).isEqualTo("disputed");
+
+        // The weaker thrust claim drops out: same winner, no longer disputed
+        EngineFactTable.Level high = competing.at(0.6);
+        assertThat(high.facts()).singleElement().satisfies(fact -> {
+            assertThat(fact.getValue()).isEqualTo(2_300_000.0);
+            assertThat(fact.getTruthScore()).isEqualTo(0.8);
+            assertThat(fact.getConflictPresent()).isFalse();
+        });
+        assertThat(high.overallStatus()).isEqualTo("verified");
+        assertThat(competing.at(0.9).facts()).isEmpty();
+    }
+
+    private static List<String> fieldNames(EngineFactTable.Level level) {
+        return level.facts().stream().map(EngineFactsDto.FactSummary::getFieldName).toList();
+    }
+
+    private static FactDto claim(String fieldName, double value, double truth, int sources) {
+        FactDto fact = fact(fieldName, truth, "supported", false);
+        fact.setBestValue(value);
+        fact.setSourceCount(sources);
+        return fact;
+    }
+
+    private static FactDto fact(String fieldName, Double truth, String status, boolean conflict) {
+        FactDto fact = new FactDto();
+        fact.setFieldName(fieldName);
+        fact.setAttributePattern(fieldName);
+        fact.setBestValue(1.0);
+        fact.setTruthDisplay(truth);
+        fact.setStatusDisplay(status);
+        fact.setConflictPresent(conflict);
+        fact.setSourceCount(2);
+        return fact;
+    }
+}
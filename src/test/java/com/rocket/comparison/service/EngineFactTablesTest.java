@@ -0,0 +1,129 @@
+package com.rocket.comparison.service;
+
+import com.rocket.comparison.integration.truthledger.CoalescingTruthLedgerClient;
+import com.rocket.comparison.integration.truthledger.TruthLedgerFactStore;
+import com.rocket.comparison.integration.truthledger.TruthLedgerFactStore.FactSnapshot;
+import com.rocket.comparison.integration.truthledger.dto.EntityFactsResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.rocket.comparison.config.CacheConfig.ENGINE_FACTS_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EngineFactTablesTest {
+
+    @Mock
+    private CoalescingTruthLedgerClient truthLedgerClient;
+
+    @Mock
+    private EngineService engineService;
+
+    @Mock
+    private TruthLedgerFactStore factStore;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    private EngineFactTables tables;
+
+    @BeforeEach
+    void setUp() {
+        tables = new EngineFactTables(truthLedgerClient, engineService, factStore, cacheManager, Runnable::run);
+        when(engineService.getEngineById(1L)).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void forEngine_shouldServeAFreshSnapshotWithoutCallingTheLedger() {
+        FactSnapshot snapshot = snapshot(0.8);
+        when(factStore.find(1L)).thenReturn(Optional.of(snapshot));
+        when(factStore.isStale(snapshot)).thenReturn(false);
+
+        EngineFactTable table = tables.forEngine(1L);
+
+        assertThat(table.getEntityId()).isEqualTo("entity-1");
+        assertThat(table.getEngineName()).isEqualTo("Raptor");
+        assertThat(table.at(0.5).facts()).hasSize(1);
+        verifyNoInteractions(truthLedgerClient);
+    }
+
+    @Test
+    void forEngine_shouldServeAStaleSnapshotAndRevalidateItInTheBackground() {
+        FactSnapshot stale = snapshot(0.8);
+        FactSnapshot fresh = snapshot(0.3);
+        when(factStore.find(1L)).thenReturn(Optional.of(stale));
+        when(factStore.isStale(stale)).thenReturn(true);
+        when(truthLedgerClient.findEntityByEngineId(1L)).thenReturn(Optional.of(fresh.entity()));
+        when(truthLedgerClient.getEntityFacts("entity-1", EngineFactTables.ALL_FACTS)).thenReturn(Optional.of(fresh.facts()));
+        when(factStore.save(1L, fresh.entity(), fresh.facts())).thenReturn(fresh);
+        when(cacheManager.getCache(ENGINE_FACTS_CACHE)).thenReturn(cache);
+
+        EngineFactTable served = tables.forEngine(1L);
+
+        assertThat(served.at(0.5).facts()).hasSize(1);
+        verify(factStore).save(1L, fresh.entity(), fresh.facts());
+        verify(cache).put(eq(1L), argThat(table -> ((EngineFactTable) table).at(0.5).facts().isEmpty()));
+    }
+
+    @Test
+    void forEngine_shouldKeepTheSnapshotWhenTheLedgerIsUnavailable() {
+        FactSnapshot stale = snapshot(0.8);
+        when(factStore.find(1L)).thenReturn(Optional.of(stale));
+        when(factStore.isStale(stale)).thenReturn(true);
+        when(truthLedgerClient.findEntityByEngineId(1L)).thenReturn(Optional.of(stale.entity()));
+        when(truthLedgerClient.getEntityFacts(any(), anyDouble())).thenReturn(Optional.empty());
+
+        EngineFactTable served = tables.forEngine(1L);
+
+        assertThat(served.isVerified()).isTrue();
+        verify(factStore, never()).save(any(), any(), any());
+        verifyNoInteractions(cacheManager);
+    }
+
+    @Test
+    void forEngine_shouldFetchAndStoreFactsForAnEngineWithoutSnapshot() {
+        FactSnapshot fetched = snapshot(0.8);
+        when(factStore.find(1L)).thenReturn(Optional.empty());
+        when(truthLedgerClient.findEntityByEngineId(1L)).thenReturn(Optional.of(fetched.entity()));
+        when(truthLedgerClient.getEntityFacts("entity-1", EngineFactTables.ALL_FACTS)).thenReturn(Optional.of(fetched.facts()));
+        when(factStore.save(1L, fetched.entity(), fetched.facts())).thenReturn(fetched);
+
+        assertThat(tables.forEngine(1L).isVerified()).isTrue();
+
+        when(truthLedgerClient.findEntityByEngineId(1L)).thenReturn(Optional.empty());
+        assertThat(tables.forEngine(1L).isVerified()).isFalse();
+    }
+
+    private static FactSnapshot snapshot(double truth) {
+        EntityFactsResponseDto.EntityDto entity = new EntityFactsResponseDto.EntityDto();
+        entity.setId("entity-1");
+        entity.setCanonicalName("Raptor");
+
+        EntityFactsResponseDto.FactDto fact = new EntityFactsResponseDto.FactDto();
+        fact.setFieldName("engines.thrust_n");
+        fact.setBestValue(2_300_000);
+        fact.setTruthDisplay(truth);
+        fact.setStatusDisplay("verified");
+
+        EntityFactsResponseDto facts = new EntityFactsResponseDto();
+        facts.setEntity(entity);
+        facts.setFacts(List.of(fact));
+        return new FactSnapshot(1L, entity, facts, LocalDateTime.now());
+    }
+}
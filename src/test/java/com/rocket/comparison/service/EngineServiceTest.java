@@ -2,6 +2,8 @@ package com.rocket.comparison.service;
 
 import com.rocket.comparison.entity.Country;
 import com.rocket.comparison.entity.Engine;
+import com.rocket.comparison.event.DomainEntity;
+import com.rocket.comparison.event.EntityChangedEvent;
 import com.rocket.comparison.repository.EngineRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -30,6 +33,9 @@ class EngineServiceTest {
     @Mock
     private EngineRepository engineRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private EngineService engineService;
 
@@ -117,6 +123,7 @@ class EngineServiceTest {
 
         assertThat(result.getName()).isEqualTo("Raptor");
         verify(engineRepository).save(raptor);
+        verify(eventPublisher).publishEvent(any(EntityChangedEvent.class));
     }
 
     @Test
@@ -126,6 +133,7 @@ class EngineServiceTest {
         engineService.deleteEngine(1L);
 
         verify(engineRepository).deleteById(1L);
+        verify(eventPublisher).publishEvent(EntityChangedEvent.deleted(DomainEntity.ENGINE, 1L));
     }
 
     @Test
@@ -224,21 +232,38 @@ class EngineServiceTest {
         updateDetails.setDesigner("SpaceX");
         updateDetails.setThrustN(2300000L);
 
-        when(engineRepository.findById(1L)).thenReturn(Optional.of(raptor));
+        when(engineRepository.findByIdWithVariants(1L)).thenReturn(Optional.of(raptor));
         when(engineRepository.save(any(Engine.class))).thenAnswer(i -> i.getArgument(0));
 
         Engine result = engineService.updateEngine(1L, updateDetails);
 
         assertThat(result.getName()).isEqualTo("Raptor 2");
         assertThat(result.getThrustN()).isEqualTo(2300000L);
-        verify(engineRepository).findById(1L);
+        verify(engineRepository).findByIdWithVariants(1L);
         verify(engineRepository).save(any(Engine.class));
     }
 
+    @Test
+    void updateEngine_movingToAnotherCountry_shouldReportTheCountryItLeft() {
+        Country india = new Country();
+        india.setId(2L);
+        Engine updateDetails = new Engine();
+        updateDetails.setName("Raptor");
+        updateDetails.setCountry(india);
+
+        when(engineRepository.findByIdWithVariants(1L)).thenReturn(Optional.of(raptor));
+        when(engineRepository.save(any(Engine.class))).thenAnswer(i -> i.getArgument(0));
+
+        engineService.updateEngine(1L, updateDetails);
+
+        verify(eventPublisher).publishEvent(new EntityChangedEvent(
+            DomainEntity.ENGINE, EntityChangedEvent.ChangeType.SAVED, 1L, 2L, 1L));
+    }
+
     @Test
     void updateEngine_whenNotExists_shouldThrowException() {
         Engine updateDetails = new Engine();
-        when(engineRepository.findById(999L)).thenReturn(Optional.empty());
+        when(engineRepository.findByIdWithVariants(999L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> engineService.updateEngine(999L, updateDetails))
                 .isInstanceOf(IllegalArgumentException.class)
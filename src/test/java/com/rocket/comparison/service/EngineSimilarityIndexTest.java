@@ -0,0 +1,174 @@
+package com.rocket.comparison.service;
+
+import com.rocket.comparison.entity.Country;
+import com.rocket.comparison.entity.Engine;
+import com.rocket.comparison.event.DomainEntity;
+import com.rocket.comparison.event.EntityChangedEvent;
+import com.rocket.comparison.repository.EngineRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EngineSimilarityIndexTest {
+
+    @Mock
+    private EngineRepository engineRepository;
+
+    @InjectMocks
+    private EngineSimilarityIndex index;
+
+    private Engine raptor;
+    private Engine be4;
+    private Engine merlin;
+
+    @BeforeEach
+    void setUp() {
+        raptor = engine(1L, "Raptor", "CH4 / LOX", "Full-flow staged combustion", 2_300_000L, 350.0);
+        be4 = engine(2L, "BE-4", "CH4 / LOX", "Oxidizer-rich staged combustion", 2_400_000L, 340.0);
+        merlin = engine(3L, "Merlin 1D", "RP-1 / LOX", "Gas generator", 845_000L, 282.0);
+    }
+
+    @Test
+    void findNearest_shouldRankByFeatureSimilarity() {
+        when(engineRepository.findAllWithCountry()).thenReturn(List.of(raptor, be4, merlin));
+
+        List<EngineSimilarityIndex.Neighbour> result = index.findNearest(1L, 2);
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).engine().name()).isEqualTo("BE-4");
+        assertThat(result.get(1).engine().name()).isEqualTo("Merlin 1D");
+        assertThat(result.get(0).similarityScore()).isGreaterThan(result.get(1).similarityScore());
+    }
+
+    @Test
+    void findNearest_shouldLoadFromRepositoryOnlyOnce() {
+        when(engineRepository.findAllWithCountry()).thenReturn(List.of(raptor, be4, merlin));
+
+        index.findNearest(1L, 2);
+        index.findNearest(2L, 2);
+
+        verify(engineRepository, times(1)).findAllWithCountry();
+    }
+
+    @Test
+    void findNearest_shouldReturnEmptyForUnknownEngine() {
+        when(engineRepository.findAllWithCountry()).thenReturn(List.of(raptor, be4));
+
+        assertThat(index.findNearest(99L, 5)).isEmpty();
+    }
+
+    @Test
+    void upsert_shouldAddAndReplaceWithoutReloading() {
+        when(engineRepository.findAllWithCountry()).thenReturn(List.of(raptor, merlin));
+        assertThat(index.size()).isEqualTo(2);
+
+        index.upsert(be4);
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.findNearest(1L, 1).get(0).engine().name()).isEqualTo("BE-4");
+
+        merlin.setPropellant("CH4 / LOX");
+        merlin.setName("Merlin Methane");
+        index.upsert(merlin);
+        assertThat(index.size()).isEqualTo(3);
+
+        verify(engineRepository, times(1)).findAllWithCountry();
+    }
+
+    @Test
+    void remove_shouldDropEngineFromResults() {
+        when(engineRepository.findAllWithCountry()).thenReturn(List.of(raptor, be4, merlin));
+        assertThat(index.size()).isEqualTo(3);
+
+        index.remove(2L);
+
+        List<EngineSimilarityIndex.Neighbour> result = index.findNearest(1L, 5);
+        assertThat(result).extracting(n -> n.engine().id()).containsExactly(3L);
+    }
+
+    @Test
+    void invalidate_shouldReloadOnNextQuery() {
+        when(engineRepository.findAllWithCountry()).thenReturn(List.of(raptor, be4));
+
+        index.findNearest(1L, 1);
+        index.invalidate();
+        index.findNearest(1L, 1);
+
+        verify(engineRepository, times(2)).findAllWithCountry();
+    }
+
+    @Test
+    void onEntityChanged_shouldApplyCommittedEngineWritesWithoutReloading() {
+        when(engineRepository.findAllWithCountry()).thenReturn(List.of(raptor, merlin));
+        when(engineRepository.findByIdWithCountry(2L)).thenReturn(Optional.of(be4));
+        assertThat(index.size()).isEqualTo(2);
+
+        index.onEntityChanged(EntityChangedEvent.saved(DomainEntity.ENGINE, 2L, null));
+        assertThat(index.size()).isEqualTo(3);
+
+        index.onEntityChanged(EntityChangedEvent.deleted(DomainEntity.ENGINE, 3L));
+        assertThat(index.findNearest(1L, 5)).extracting(n -> n.engine().id()).containsExactly(2L);
+
+        verify(engineRepository, times(1)).findAllWithCountry();
+    }
+
+    @Test
+    void onEntityChanged_beforeFirstQuery_shouldNotTouchTheRepository() {
+        index.onEntityChanged(EntityChangedEvent.saved(DomainEntity.ENGINE, 1L, null));
+
+        verifyNoInteractions(engineRepository);
+    }
+
+    @Test
+    void onEntityChanged_withBulkOrCountryChange_shouldReloadOnNextQuery() {
+        when(engineRepository.findAllWithCountry()).thenReturn(List.of(raptor, be4));
+
+        index.findNearest(1L, 1);
+        index.onEntityChanged(EntityChangedEvent.bulk(DomainEntity.ENGINE));
+        index.findNearest(1L, 1);
+        index.onEntityChanged(EntityChangedEvent.saved(DomainEntity.COUNTRY, 1L, null));
+        index.findNearest(1L, 1);
+        index.onEntityChanged(EntityChangedEvent.bulk(DomainEntity.SATELLITE));
+        index.findNearest(1L, 1);
+
+        verify(engineRepository, times(3)).findAllWithCountry();
+    }
+
+    @Test
+    void onEntityChanged_withCountrySaved_shouldRefreshOnlyThatCountrysSummaries() {
+        Country usa = new Country();
+        usa.setId(7L);
+        usa.setName("United States");
+        raptor.setCountry(usa);
+        when(engineRepository.findAllWithCountry()).thenReturn(List.of(raptor, be4, merlin));
+        index.size();
+
+        usa.setName("United States of America");
+        when(engineRepository.findByCountryIdWithCountry(7L)).thenReturn(List.of(raptor));
+        index.onEntityChanged(EntityChangedEvent.saved(DomainEntity.COUNTRY, 7L, usa));
+
+        assertThat(index.findNearest(2L, 3)).filteredOn(n -> n.engine().id() == 1L)
+            .singleElement().satisfies(n -> assertThat(n.engine().country()).isEqualTo("United States of America"));
+        verify(engineRepository, times(1)).findAllWithCountry();
+    }
+
+    private Engine engine(Long id, String name, String propellant, String cycle, Long thrust, Double isp) {
+        Engine engine = new Engine();
+        engine.setId(id);
+        engine.setName(name);
+        engine.setPropellant(propellant);
+        engine.setPowerCycle(cycle);
+        engine.setThrustN(thrust);
+        engine.setIsp_s(isp);
+        return engine;
+    }
+}
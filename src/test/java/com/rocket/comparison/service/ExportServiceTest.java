@@ -1,21 +1,34 @@
 package com.rocket.comparison.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rocket.comparison.dto.ExportDto;
 import com.rocket.comparison.entity.*;
 import com.rocket.comparison.repository.*;
+import com.rocket.comparison.service.ExportService.ExportEntity;
+import com.rocket.comparison.service.ExportService.ExportFormat;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.when;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class ExportServiceTest {
@@ -36,6 +49,10 @@ class ExportServiceTest {
     private SatelliteRepository satelliteRepository;
     @Mock
     private CapabilityScoreRepository capabilityScoreRepository;
+    @Mock
+    private EntityManager entityManager;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
 
     @InjectMocks
     private ExportService exportService;
@@ -150,4 +167,77 @@ class ExportServiceTest {
 
         assertThat(result.getMetadata().getExportedAt()).isNotNull();
     }
+
+    @Test
+    void streamExport_ndjson_shouldWriteOneLinePerRowAndDetach() throws Exception {
+        stubScroll(Country.class, usa);
+        stubScroll(Engine.class, raptor);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exportService.streamExport(ExportFormat.NDJSON,
+                List.of(ExportEntity.COUNTRIES, ExportEntity.ENGINES), out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("entity").asText()).isEqualTo("countries");
+        assertThat(objectMapper.readTree(lines[0]).get("data").get("isoCode").asText()).isEqualTo("USA");
+        assertThat(objectMapper.readTree(lines[1]).get("data").get("name").asText()).isEqualTo("Raptor");
+        verify(entityManager).detach(usa);
+        verify(entityManager).detach(raptor);
+    }
+
+    @Test
+    void streamExport_csv_shouldWriteHeaderAndQuoteValues() throws Exception {
+        Country korea = new Country();
+        korea.setId(2L);
+        korea.setName("Korea, Republic of");
+        korea.setIsoCode("KOR");
+        stubScroll(Country.class, usa, korea);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exportService.streamExport(ExportFormat.CSV, List.of(ExportEntity.COUNTRIES), out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).contains("id", "name", "isoCode");
+        assertThat(lines[2]).contains("\"Korea, Republic of\"");
+    }
+
+    @Test
+    void streamExport_csv_shouldKeepAssociationColumnsWhenTheFirstRowHasNone() throws Exception {
+        Engine merlin = new Engine();
+        merlin.setId(2L);
+        merlin.setName("Merlin");
+        merlin.setCountry(usa);
+        stubScroll(Engine.class, raptor, merlin);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.streamExport(ExportFormat.CSV, List.of(ExportEntity.ENGINES), out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n", -1);
+        List<String> header = List.of(lines[0].split(",", -1));
+        assertThat(header).contains("id", "name", "countryId").doesNotContain("country", "variants");
+        int countryColumn = header.indexOf("countryId");
+        assertThat(lines[1].split(",", -1)).hasSameSizeAs(header.toArray());
+        assertThat(lines[1].split(",", -1)[countryColumn]).isEmpty();
+        assertThat(lines[2].split(",", -1)[countryColumn]).isEqualTo("1");
+    }
+
+    @Test
+    void streamExport_csv_withMultipleTypes_shouldReject() {
+        assertThatThrownBy(() -> exportService.streamExport(ExportFormat.CSV,
+                List.of(ExportEntity.COUNTRIES, ExportEntity.ENGINES), new ByteArrayOutputStream()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    private <T> void stubScroll(Class<T> type, T... rows) {
+        TypedQuery<T> query = mock(TypedQuery.class);
+        when(entityManager.createQuery(anyString(), eq(type))).thenReturn(query);
+        when(query.setHint(anyString(), any())).thenReturn(query);
+        when(query.getResultStream()).thenReturn(Stream.of(rows));
+    }
 }
@@ -0,0 +1,130 @@
+package com.rocket.comparison.service;
+
+import com.rocket.comparison.BaseIntegrationTest;
+import com.rocket.comparison.api.dto.CursorPage;
+import com.rocket.comparison.entity.Country;
+import com.rocket.comparison.entity.MissionStatus;
+import com.rocket.comparison.entity.MissionType;
+import com.rocket.comparison.entity.SpaceMission;
+import com.rocket.comparison.repository.CountryRepository;
+import com.rocket.comparison.repository.SpaceMissionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Walks {@code (date, id)} keyset pages against PostgreSQL across ties and into the rows without a date.
+ */
+@Transactional
+class KeysetPaginatorIntegrationTest extends BaseIntegrationTest {
+
+    private static final KeysetPaginator.Keyset<SpaceMission> NEWEST_FIRST = KeysetPaginator.Keyset.byDateDesc(
+        SpaceMission.class, "launchDate", SpaceMission::getLaunchDate, SpaceMission::getId);
+
+    private static final LocalDate TIED = LocalDate.of(2019, 6, 1);
+
+    @Autowired
+    private KeysetPaginator keysetPaginator;
+
+    @Autowired
+    private SpaceMissionRepository missionRepository;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    private Specification<SpaceMission> ownMissions;
+    private List<String> expectedOrder;
+
+    @BeforeEach
+    void setUp() {
+        Country country = new Country();
+        country.setName("Keyset Test Country");
+        country.setIsoCode("XKP");
+        Country saved = countryRepository.save(country);
+        // Seeded missions share the table, so every page is filtered to this country
+        ownMissions = (root, query, cb) -> cb.equal(root.get("country").get("id"), saved.getId());
+
+        // Saved in id order: the three tied rows and the two undated rows get ascending ids
+        mission(saved, "Newest", LocalDate.of(2020, 1, 1));
+        mission(saved, "Tied 1", TIED);
+        mission(saved, "Tied 2", TIED);
+        mission(saved, "Tied 3", TIED);
+        mission(saved, "Undated 1", null);
+        mission(saved, "Undated 2", null);
+
+        // Newest first, ties by id descending, then undated rows by id descending
+        expectedOrder = List.of("Newest", "Tied 3", "Tied 2", "Tied 1", "Undated 2", "Undated 1");
+    }
+
+    @Test
+    void page_withEqualDates_shouldBreakTiesByIdAcrossPages() {
+        List<CursorPage<SpaceMission>> pages = walk(2);
+
+        assertThat(pages).extracting(page -> names(page.items())).containsExactly(
+            List.of("Newest", "Tied 3"),
+            List.of("Tied 2", "Tied 1"),
+            List.of("Undated 2", "Undated 1"));
+        assertThat(pages.get(2).hasNext()).isFalse();
+    }
+
+    @Test
+    void page_crossingFromDatedToUndatedRows_shouldContinueWithTheUndatedTail() {
+        List<CursorPage<SpaceMission>> pages = walk(3);
+
+        assertThat(pages).extracting(page -> names(page.items())).containsExactly(
+            List.of("Newest", "Tied 3", "Tied 2"),
+            List.of("Tied 1", "Undated 2", "Undated 1"));
+    }
+
+    @Test
+    void page_endingOnAnUndatedRow_shouldSeekWithinTheUndatedTail() {
+        List<CursorPage<SpaceMission>> pages = walk(5);
+
+        assertThat(pages).hasSize(2);
+        assertThat(names(pages.get(0).items())).endsWith("Undated 2");
+        assertThat(names(pages.get(1).items())).containsExactly("Undated 1");
+        assertThat(pages.get(1).hasNext()).isFalse();
+    }
+
+    @Test
+    void page_atEveryLimit_shouldVisitEachRowOnceInOrder() {
+        for (int limit = 1; limit <= expectedOrder.size() + 1; limit++) {
+            List<String> visited = new ArrayList<>();
+            walk(limit).forEach(page -> visited.addAll(names(page.items())));
+            assertThat(visited).as("limit %d", limit).isEqualTo(expectedOrder);
+        }
+    }
+
+    private List<CursorPage<SpaceMission>> walk(int limit) {
+        List<CursorPage<SpaceMission>> pages = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<SpaceMission> page = keysetPaginator.page(NEWEST_FIRST, ownMissions, cursor, limit);
+            pages.add(page);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return pages;
+    }
+
+    private static List<String> names(List<SpaceMission> missions) {
+        return missions.stream().map(SpaceMission::getName).toList();
+    }
+
+    private void mission(Country country, String name, LocalDate launchDate) {
+        SpaceMission mission = new SpaceMission();
+        mission.setName(name);
+        mission.setCountry(country);
+        mission.setLaunchDate(launchDate);
+        mission.setStatus(MissionStatus.COMPLETED);
+        mission.setMissionType(MissionType.SATELLITE_DEPLOYMENT);
+        missionRepository.saveAndFlush(mission);
+    }
+}
@@ -0,0 +1,113 @@
+package com.rocket.comparison.service;
+
+import com.rocket.comparison.entity.Country;
+import com.rocket.comparison.entity.LaunchSite;
+import com.rocket.comparison.entity.LaunchSiteStatus;
+import com.rocket.comparison.event.DomainEntity;
+import com.rocket.comparison.event.EntityChangedEvent;
+import com.rocket.comparison.repository.LaunchSiteRepository;
+import com.rocket.comparison.service.LaunchSiteSpatialIndex.SiteDistance;
+import com.rocket.comparison.service.LaunchSiteSpatialIndex.SiteLocation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LaunchSiteSpatialIndexTest {
+
+    @Mock
+    private LaunchSiteRepository launchSiteRepository;
+
+    @InjectMocks
+    private LaunchSiteSpatialIndex index;
+
+    @Test
+    void withinBounds_shouldHandleBoxesAcrossTheAntimeridian() {
+        when(launchSiteRepository.findLocated()).thenReturn(List.of(
+            site(1L, "Kennedy", 28.57, -80.65),
+            site(2L, "Baikonur", 45.96, 63.31),
+            site(3L, "Mahia", -39.26, 177.86),
+            site(4L, "Kodiak", 57.43, -152.34)));
+
+        assertThat(index.withinBounds(20, -90, 50, -70)).extracting(SiteLocation::id).containsExactly(1L);
+        assertThat(index.withinBounds(-60, 170, 60, -140)).extracting(SiteLocation::id)
+            .containsExactlyInAnyOrder(3L, 4L);
+        assertThatThrownBy(() -> index.withinBounds(50, 0, 20, 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void radiusAndNearest_shouldMatchABruteForceScan() {
+        Random random = new Random(42);
+        List<LaunchSite> sites = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            sites.add(site(id, "Site " + id, random.nextDouble() * 180 - 90, random.nextDouble() * 360 - 180));
+        }
+        when(launchSiteRepository.findLocated()).thenReturn(sites);
+
+        double[][] points = {{28.5, -80.6}, {-45, 179.9}, {89, 10}, {0, -180}};
+        for (double[] p : points) {
+            List<Long> byDistance = sites.stream()
+                .sorted(Comparator.comparingDouble(s ->
+                    LaunchSiteSpatialIndex.haversineKm(p[0], p[1], s.getLatitude(), s.getLongitude())))
+                .map(LaunchSite::getId)
+                .toList();
+            long inRadius = sites.stream()
+                .filter(s -> LaunchSiteSpatialIndex.haversineKm(p[0], p[1], s.getLatitude(), s.getLongitude()) <= 1500)
+                .count();
+
+            assertThat(index.nearest(p[0], p[1], 7)).extracting(d -> d.site().id())
+                .containsExactlyElementsOf(byDistance.subList(0, 7));
+            List<SiteDistance> near = index.withinRadius(p[0], p[1], 1500);
+            assertThat(near).hasSize((int) inRadius);
+            assertThat(near).extracting(d -> d.site().id()).containsExactlyElementsOf(byDistance.subList(0, near.size()));
+        }
+        assertThat(index.nearest(0, 0, 1000)).hasSize(500);
+    }
+
+    @Test
+    void onEntityChanged_shouldPatchSitesAndReloadAfterBulkChanges() {
+        when(launchSiteRepository.findLocated()).thenReturn(List.of(site(1L, "Kennedy", 28.57, -80.65)));
+        assertThat(index.size()).isEqualTo(1);
+
+        LaunchSite moved = site(1L, "Kennedy", 34.63, -120.61);
+        LaunchSite added = site(2L, "Wenchang", 19.61, 110.95);
+        when(launchSiteRepository.findById(1L)).thenReturn(Optional.of(moved));
+        when(launchSiteRepository.findById(2L)).thenReturn(Optional.of(added));
+        index.onEntityChanged(EntityChangedEvent.saved(DomainEntity.LAUNCH_SITE, 1L, null));
+        index.onEntityChanged(EntityChangedEvent.saved(DomainEntity.LAUNCH_SITE, 2L, null));
+
+        assertThat(index.nearest(34, -120, 1).get(0).distanceKm()).isLessThan(100);
+        assertThat(index.size()).isEqualTo(2);
+
+        index.onEntityChanged(EntityChangedEvent.deleted(DomainEntity.LAUNCH_SITE, 2L));
+        assertThat(index.size()).isEqualTo(1);
+        verify(launchSiteRepository, times(1)).findLocated();
+
+        index.onEntityChanged(EntityChangedEvent.bulk(DomainEntity.LAUNCH_SITE));
+        index.size();
+        verify(launchSiteRepository, times(2)).findLocated();
+    }
+
+    private static LaunchSite site(Long id, String name, double latitude, double longitude) {
+        Country country = new Country();
+        country.setId(1L);
+        country.setName("Country");
+        country.setIsoCode("CTY");
+        LaunchSite site = new LaunchSite();
+        site.setId(id);
+        site.setName(name);
+        site.setCountry(country);
+        site.setStatus(LaunchSiteStatus.OPERATIONAL);
+        site.setLatitude(latitude);
+        site.setLongitude(longitude);
+        return site;
+    }
+}
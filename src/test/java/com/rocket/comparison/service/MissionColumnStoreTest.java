@@ -0,0 +1,139 @@
+package com.rocket.comparison.service;
+
+import com.rocket.comparison.entity.*;
+import com.rocket.comparison.event.DomainEntity;
+import com.rocket.comparison.event.EntityChangedEvent;
+import com.rocket.comparison.repository.CountryRepository;
+import com.rocket.comparison.repository.SpaceMissionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MissionColumnStoreTest {
+
+    @Mock
+    private SpaceMissionRepository missionRepository;
+    @Mock
+    private CountryRepository countryRepository;
+
+    @InjectMocks
+    private MissionColumnStore store;
+
+    private Country usa;
+    private Country china;
+
+    @BeforeEach
+    void setUp() {
+        usa = country(1L, "United States", "USA");
+        china = country(2L, "China", "CHN");
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(row(mission(10L, usa, 1969, MissionType.CREWED_LUNAR, MissionStatus.COMPLETED, Destination.LUNAR_SURFACE)));
+        rows.add(row(mission(11L, usa, 1970, MissionType.CREWED_LUNAR, MissionStatus.FAILED, Destination.LUNAR_ORBIT)));
+        rows.add(row(mission(12L, china, 1970, MissionType.SATELLITE_DEPLOYMENT, MissionStatus.COMPLETED, Destination.LEO)));
+        rows.add(row(mission(13L, null, 1970, MissionType.SATELLITE_DEPLOYMENT, MissionStatus.ACTIVE, Destination.GEO)));
+        lenient().when(missionRepository.findAnalyticsColumns()).thenReturn(rows);
+    }
+
+    @Test
+    void countByCountryAndYear_shouldGroupColumnsAndKeepUnattributedMissionsInTotals() {
+        MissionColumnStore.YearGrid<MissionColumnStore.CountryLabel> grid = store.countByCountryAndYear(1969, 1971);
+
+        assertThat(grid.totals()).containsExactly(1, 3, 0);
+        int[] keys = grid.keysByTotalDesc();
+        assertThat(keys).hasSize(2);
+        assertThat(grid.keys().get(keys[0]).isoCode()).isEqualTo("USA");
+        assertThat(grid.counts()[keys[0]]).containsExactly(1, 1, 0);
+        assertThat(grid.counts()[keys[1]]).containsExactly(0, 1, 0);
+
+        MissionColumnStore.YearGrid<String> byCategory = store.countByCategoryAndYear(1970, 1970);
+        assertThat(byCategory.counts()[byCategory.keys().indexOf("crewed")]).containsExactly(1);
+        assertThat(byCategory.counts()[byCategory.keys().indexOf("satellite")]).containsExactly(2);
+        assertThat(store.countByStatus(EnumSet.of(MissionStatus.ACTIVE, MissionStatus.LAUNCHED))).isEqualTo(1);
+    }
+
+    @Test
+    void profile_shouldCountOneCountryWithinYearBounds() {
+        MissionColumnStore.CountryProfile all = store.profile(1L, null, null);
+        MissionColumnStore.CountryProfile from1970 = store.profile(1L, 1970, null);
+
+        assertThat(all.total()).isEqualTo(2);
+        assertThat(all.crewed()).isEqualTo(2);
+        assertThat(all.completed()).isEqualTo(1);
+        assertThat(all.failed()).isEqualTo(1);
+        assertThat(all.byDestination()[Destination.LUNAR_SURFACE.ordinal()]).isEqualTo(1);
+        assertThat(from1970.total()).isEqualTo(1);
+        assertThat(store.profile(99L, null, null).total()).isZero();
+    }
+
+    @Test
+    void onEntityChanged_shouldPatchRowsAndReloadOnlyAfterBulkChanges() {
+        assertThat(store.size()).isEqualTo(4);
+
+        SpaceMission moved = mission(12L, usa, 1971, MissionType.CARGO_RESUPPLY, MissionStatus.COMPLETED, Destination.LEO);
+        when(missionRepository.findById(12L)).thenReturn(Optional.of(moved));
+        store.onEntityChanged(EntityChangedEvent.saved(DomainEntity.SPACE_MISSION, 12L, usa));
+        store.onEntityChanged(EntityChangedEvent.deleted(DomainEntity.SPACE_MISSION, 10L));
+
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(store.profile(1L, null, null).total()).isEqualTo(2);
+        assertThat(store.profile(2L, null, null).total()).isZero();
+        assertThat(store.countInYear(1971)).isEqualTo(1);
+        verify(missionRepository, times(1)).findAnalyticsColumns();
+
+        store.onEntityChanged(EntityChangedEvent.bulk(DomainEntity.SPACE_MISSION));
+        store.size();
+        verify(missionRepository, times(2)).findAnalyticsColumns();
+    }
+
+    @Test
+    void countByCountryAndYear_shouldRejectHugeRanges() {
+        assertThatThrownBy(() -> store.countByCountryAndYear(0, Integer.MAX_VALUE))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(missionRepository);
+    }
+
+    private static Object[] row(SpaceMission m) {
+        Country c = m.getCountry();
+        return new Object[] {
+            m.getId(), m.getLaunchYear(),
+            c != null ? c.getId() : null, c != null ? c.getName() : null, c != null ? c.getIsoCode() : null,
+            m.getStatus(), m.getMissionType(), m.getDestination(), m.getCrewed(), m.getIsHistoricFirst()
+        };
+    }
+
+    private static SpaceMission mission(Long id, Country country, int year, MissionType type,
+                                        MissionStatus status, Destination destination) {
+        SpaceMission mission = new SpaceMission();
+        mission.setId(id);
+        mission.setName("Mission " + id);
+        mission.setCountry(country);
+        mission.setMissionType(type);
+        mission.setStatus(status);
+        mission.setDestination(destination);
+        mission.setLaunchDate(LocalDate.of(year, 6, 1));
+        mission.updateDerivedFields();
+        return mission;
+    }
+
+    private static Country country(Long id, String name, String isoCode) {
+        Country country = new Country();
+        country.setId(id);
+        country.setName(name);
+        country.setIsoCode(isoCode);
+        return country;
+    }
+}
@@ -0,0 +1,135 @@
+package com.rocket.comparison.service;
+
+import com.rocket.comparison.entity.OrbitType;
+import com.rocket.comparison.entity.Satellite;
+import com.rocket.comparison.entity.SatelliteStatus;
+import com.rocket.comparison.event.DomainEntity;
+import com.rocket.comparison.event.EntityChangedEvent;
+import com.rocket.comparison.repository.SatelliteRepository;
+import com.rocket.comparison.service.SatelliteOrbitIndex.InclinationBand;
+import com.rocket.comparison.service.SatelliteOrbitIndex.Screening;
+import com.rocket.comparison.service.SatelliteOrbitIndex.ShellMate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SatelliteOrbitIndexTest {
+
+    @Mock
+    private SatelliteRepository satelliteRepository;
+
+    @InjectMocks
+    private SatelliteOrbitIndex index;
+
+    @Test
+    void sharingShell_shouldMatchOverlappingShellsWithinTheInclinationTolerance() {
+        when(satelliteRepository.findOrbitColumns()).thenReturn(List.of(
+            row(1L, null, 540.0, 560.0, 53.0, null),
+            row(2L, null, 550.0, 570.0, 53.2, null),
+            row(3L, null, 565.0, 575.0, 97.6, null),
+            row(4L, 35786.0, null, null, 0.05, null),
+            row(5L, null, 580.0, 600.0, null, null)));
+
+        List<ShellMate> mates = index.sharingShell(1L, 10, null, 10).orElseThrow();
+        assertThat(mates).extracting(mate -> mate.satellite().id()).containsExactly(2L, 3L);
+        assertThat(mates.get(0).overlapKm()).isEqualTo(10.0);
+        assertThat(mates.get(1).overlapKm()).isEqualTo(-5.0);
+
+        assertThat(index.sharingShell(1L, 10, 1.0, 10).orElseThrow())
+            .extracting(mate -> mate.satellite().id()).containsExactly(2L);
+        assertThat(index.sharingShell(5L, 50, 1.0, 10).orElseThrow())
+            .extracting(mate -> mate.satellite().id()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(index.sharingShell(99L, 10, null, 10)).isEmpty();
+        assertThat(InclinationBand.of(97.6)).isEqualTo(InclinationBand.POLAR);
+    }
+
+    @Test
+    void conjunctionCandidates_shouldCountEveryPairOfABruteForceScanAndKeepTheDeepest() {
+        Random random = new Random(7);
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= 400; id++) {
+            double perigee = random.nextDouble() * 2000;
+            double apogee = perigee + (random.nextInt(4) == 0 ? random.nextDouble() * 1500 : random.nextDouble() * 20);
+            rows.add(row(id, null, perigee, apogee, random.nextDouble() * 100, null));
+        }
+        when(satelliteRepository.findOrbitColumns()).thenReturn(rows);
+
+        long expected = 0;
+        double deepest = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < rows.size(); i++) {
+            for (int j = i + 1; j < rows.size(); j++) {
+                double overlap = Math.min((Double) rows.get(i)[7], (Double) rows.get(j)[7])
+                    - Math.max((Double) rows.get(i)[6], (Double) rows.get(j)[6]);
+                if (overlap >= -5) {
+                    expected++;
+                    deepest = Math.max(deepest, overlap);
+                }
+            }
+        }
+
+        Screening screening = index.conjunctionCandidates(5, null, 25);
+
+        assertThat(screening.screenedSatellites()).isEqualTo(400);
+        assertThat(screening.candidatePairs()).isEqualTo(expected);
+        assertThat(screening.pairs()).hasSize(25);
+        assertThat(screening.pairs().get(0).overlapKm()).isEqualTo(deepest);
+        assertThat(screening.pairs()).isSortedAccordingTo((a, b) -> Double.compare(b.overlapKm(), a.overlapKm()));
+        assertThatThrownBy(() -> index.conjunctionCandidates(-1, null, 25)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void toShell_shouldDeriveTheShellFromMeanAltitudeAndEccentricity() {
+        SatelliteOrbitIndex.OrbitShell shell = SatelliteOrbitIndex.toShell(1L, "Molniya", null, SatelliteStatus.OPERATIONAL,
+            OrbitType.HEO, 20000.0, null, null, 63.4, 0.7);
+
+        double semiMajorAxis = SatelliteOrbitIndex.EARTH_RADIUS_KM + 20000;
+        assertThat(shell.perigeeKm()).isCloseTo(semiMajorAxis * 0.3 - SatelliteOrbitIndex.EARTH_RADIUS_KM, within(1e-6));
+        assertThat(shell.apogeeKm()).isCloseTo(semiMajorAxis * 1.7 - SatelliteOrbitIndex.EARTH_RADIUS_KM, within(1e-6));
+        assertThat(SatelliteOrbitIndex.toShell(2L, "Unknown", null, null, null, null, null, null, null, null)).isNull();
+    }
+
+    @Test
+    void onEntityChanged_shouldPatchShellsAndReloadAfterBulkChanges() {
+        when(satelliteRepository.findOrbitColumns()).thenReturn(List.<Object[]>of(row(1L, null, 540.0, 560.0, 53.0, null)));
+        assertThat(index.size()).isEqualTo(1);
+
+        Satellite raised = new Satellite();
+        raised.setId(2L);
+        raised.setName("Raised");
+        raised.setPerigeeKm(545.0);
+        raised.setApogeeKm(555.0);
+        when(satelliteRepository.findById(2L)).thenReturn(Optional.of(raised));
+        index.onEntityChanged(EntityChangedEvent.saved(DomainEntity.SATELLITE, 2L, null));
+
+        assertThat(index.sharingShell(1L, 0, null, 10).orElseThrow())
+            .extracting(mate -> mate.satellite().id()).containsExactly(2L);
+
+        index.onEntityChanged(EntityChangedEvent.deleted(DomainEntity.SATELLITE, 2L));
+        assertThat(index.size()).isEqualTo(1);
+        verify(satelliteRepository, times(1)).findOrbitColumns();
+
+        index.onEntityChanged(EntityChangedEvent.bulk(DomainEntity.SATELLITE));
+        index.size();
+        verify(satelliteRepository, times(2)).findOrbitColumns();
+    }
+
+    private static Object[] row(Long id, Double altitude, Double perigee, Double apogee, Double inclination, Double eccentricity) {
+        return new Object[] {
+            id, "Satellite " + id, null, SatelliteStatus.OPERATIONAL, OrbitType.LEO,
+            altitude, perigee, apogee, inclination, eccentricity
+        };
+    }
+}
@@ -0,0 +1,116 @@
+package com.rocket.comparison.service;
+
+import com.rocket.comparison.api.dto.SearchResultDto;
+import com.rocket.comparison.service.SearchService.SearchType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchServiceTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private SearchService searchService;
+
+    @Test
+    void migration_shouldIndexTheExactDocumentExpressionOfEveryType() throws IOException {
+        String migration;
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream("db/migration/V5__add_search_indexes.sql")) {
+            assertThat(in).isNotNull();
+            migration = new String(in.readAllBytes(), StandardCharsets.UTF_8).replaceAll("\\s+", " ");
+        }
+        for (SearchType type : SearchType.values()) {
+            assertThat(migration).contains(type.document());
+        }
+    }
+
+    @Test
+    void terms_shouldStripTsqueryOperatorsAndBuildPrefixQuery() {
+        List<String> terms = SearchService.terms("  Falcon-9 & !(Block|5):* ");
+
+        assertThat(terms).containsExactly("falcon", "9", "block", "5");
+        assertThat(SearchService.prefixQuery(terms)).isEqualTo("falcon:* & 9:* & block:* & 5:*");
+        assertThat(SearchService.terms("-- ::")).isEmpty();
+    }
+
+    @Test
+    void search_shouldMergeTypesByScoreAndFallBackToFullTextWithoutTrigrams() {
+        when(jdbcTemplate.queryForList(anyString(), anyMap(), eq(String.class)))
+            .thenReturn(List.of("idx_satellite_search_document", "idx_engine_search_document"));
+        when(jdbcTemplate.query(contains("FROM satellites"), any(SqlParameterSource.class), any(RowMapper.class)))
+            .thenReturn(List.of(hit(SearchType.SATELLITE, 1L, 0.2), hit(SearchType.SATELLITE, 2L, 0.05)));
+        when(jdbcTemplate.query(contains("FROM engines"), any(SqlParameterSource.class), any(RowMapper.class)))
+            .thenReturn(List.of(hit(SearchType.ENGINE, 9L, 0.1)));
+
+        List<SearchResultDto> results = searchService.search("raptor", Set.of(SearchType.SATELLITE, SearchType.ENGINE), 2);
+
+        assertThat(results).extracting(SearchResultDto::id).containsExactly(1L, 9L);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, times(2)).query(sql.capture(), any(SqlParameterSource.class), any(RowMapper.class));
+        assertThat(sql.getAllValues()).allSatisfy(statement -> assertThat(statement)
+            .contains("@@ to_tsquery").doesNotContain("similarity"));
+        // The index lookup is cached
+        verify(jdbcTemplate, times(1)).queryForList(anyString(), anyMap(), eq(String.class));
+    }
+
+    @Test
+    void search_shouldFallBackToSubstringMatchingWithoutTheSearchIndexes() {
+        when(jdbcTemplate.queryForList(anyString(), anyMap(), eq(String.class))).thenReturn(List.of());
+        when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+            .thenReturn(List.of(hit(SearchType.SATELLITE, 1L, 0.5)));
+
+        searchService.search("Link_1", Set.of(SearchType.SATELLITE), 10);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<SqlParameterSource> params = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(jdbcTemplate).query(sql.capture(), params.capture(), any(RowMapper.class));
+        assertThat(sql.getValue())
+            .contains("lower(name) LIKE :contains OR lower(alternate_name) LIKE :contains")
+            .doesNotContain("to_tsquery");
+        assertThat(params.getValue().getValue("contains")).isEqualTo("%link\\_1%");
+    }
+
+    @Test
+    void search_shouldSkipTheDatabaseForQueriesWithoutWords() {
+        assertThat(searchService.search(" %% ", Set.of(), null)).isEmpty();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void inSearchOrder_shouldFollowRankAndDropMissingRows() {
+        List<Long> ids = List.of(3L, 1L, 2L);
+        Map<Long, String> rows = Map.of(1L, "one", 3L, "three");
+
+        List<String> ordered = SearchService.inSearchOrder(ids, rows.keySet(), id -> id).stream()
+            .map(rows::get).toList();
+
+        assertThat(ordered).containsExactly("three", "one");
+        assertThat(SearchType.fromString("launch-site")).isEqualTo(SearchType.LAUNCH_SITE);
+        assertThatThrownBy(() -> SearchType.fromString("rocket")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static SearchResultDto hit(SearchType type, Long id, double score) {
+        return new SearchResultDto(type, id, "name " + id, null, score);
+    }
+}